@@ -0,0 +1,149 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 로컬 HTTP API 서버(ScheduleApiServer) 부하 측정
+// 같은 JVM에서 빈 포트로 서버를 띄우고, 일정 1000개를 가진 사용자로 로그인한 뒤
+// 동시 연결 수만큼의 가상 스레드가 정해진 시간 동안 조회 요청(단건, 구간, 검색)을 번갈아 보낸다.
+// 초당 처리한 요청 수와 응답 시간 분포, 200이 아닌 응답 수를 보여 준다.
+// 실제 data 폴더 대신 임시 폴더를 쓴다.
+// 실행: java ApiServerLoadBenchmark [동시 연결 수 (기본 64)] [측정 초 (기본 10)]
+public class ApiServerLoadBenchmark {
+    private static final String USER_ID = "bench-user";
+    private static final String PASSWORD = "bench-password";
+    private static final int SCHEDULE_COUNT = 1000;
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        Path directory = Files.createTempDirectory("schedule-bench");
+        System.setProperty("schedule.data.dir", directory.resolve("data").toString());
+        System.setProperty("schedule.log.dir", directory.resolve("logs").toString());
+        System.setProperty("java.awt.headless", "true");
+
+        ScheduleManager scheduleManager = ScheduleManager.getInstance();
+        UserManager userManager = UserManager.getInstance();
+        userManager.registerUser(USER_ID, PASSWORD, "부하 측정");
+        List<Schedule> schedules = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2025, 3, 3, 9, 0);
+        for (int i = 0; i < SCHEDULE_COUNT; i++) {
+            LocalDateTime scheduleStart = start.plusHours(i);
+            schedules.add(new Schedule(IdGenerator.newId(), "회의 " + i, "주간 점검", scheduleStart,
+                scheduleStart.plusMinutes(30), "회의실", "업무", i % 5 == 0, USER_ID));
+        }
+        scheduleManager.applyReplicatedSnapshot(schedules);
+
+        ScheduleApiServer server = new ScheduleApiServer(new ScheduleService(scheduleManager, userManager), 0);
+        server.start();
+        String base = "http://127.0.0.1:" + server.getPort() + "/api";
+        HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        String token = login(client, base);
+
+        List<URI> targets = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            targets.add(URI.create(base + "/schedules/" + schedules.get(i * 20).getScheduleId()));
+        }
+        targets.add(URI.create(base + "/schedules?from=2025-03-10T00:00&to=2025-03-11T00:00"));
+        targets.add(URI.create(base + "/search?q=" + "%ED%9A%8C%EC%9D%98+99")); // "회의 99"
+
+        // 짧게 돌려 JIT와 연결을 준비한 뒤 측정한다
+        run(client, token, targets, concurrency, 2, null);
+        LatencyHistogram histogram = new LatencyHistogram();
+        long requests = run(client, token, targets, concurrency, seconds, histogram);
+        System.out.printf("동시 %d개, %d초: %d건, 초당 %.0f건, 중앙값 %.2f ms, p99 %.2f ms, 실패 %d건%n",
+            concurrency, seconds, requests, requests / (double) seconds,
+            histogram.percentile(0.5) / 1e6, histogram.percentile(0.99) / 1e6, histogram.failures.get());
+        server.stop();
+        System.exit(0);
+    }
+
+    private static String login(HttpClient client, String base) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(base + "/login"))
+            .POST(HttpRequest.BodyPublishers.ofString(Json.write(Map.of("userId", USER_ID, "password", PASSWORD))))
+            .header("Content-Type", "application/json")
+            .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("로그인 실패: " + response.statusCode() + " " + response.body());
+        }
+        return (String) Json.parseObject(response.body()).get("token");
+    }
+
+    // seconds초 동안 concurrency개의 가상 스레드가 요청을 보내고 처리한 요청 수를 돌려준다
+    private static long run(HttpClient client, String token, List<URI> targets, int concurrency, int seconds,
+            LatencyHistogram histogram) throws InterruptedException {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        AtomicLong completed = new AtomicLong();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < concurrency; w++) {
+                int offset = w;
+                workers.execute(() -> {
+                    int i = offset;
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = HttpRequest.newBuilder(targets.get(i++ % targets.size()))
+                            .header("Authorization", "Bearer " + token)
+                            .GET()
+                            .build();
+                        long startNanos = System.nanoTime();
+                        int status;
+                        try {
+                            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (IOException e) {
+                            status = -1;
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                        completed.incrementAndGet();
+                        if (histogram != null) {
+                            histogram.record(System.nanoTime() - startNanos, status == 200);
+                        }
+                    }
+                });
+            }
+        }
+        return completed.get();
+    }
+
+    // 응답 시간 분포 (마이크로초 단위 칸, 100ms 이상은 마지막 칸)
+    private static final class LatencyHistogram {
+        private final AtomicLongArray counts = new AtomicLongArray(100_001);
+        private final AtomicLong failures = new AtomicLong();
+
+        void record(long nanos, boolean ok) {
+            counts.incrementAndGet((int) Math.min(nanos / 1000, counts.length() - 1));
+            if (!ok) {
+                failures.incrementAndGet();
+            }
+        }
+
+        // 나노초
+        long percentile(double fraction) {
+            long total = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                total += counts.get(i);
+            }
+            long target = (long) Math.ceil(total * fraction);
+            long seen = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                seen += counts.get(i);
+                if (seen >= target) {
+                    return i * 1000L;
+                }
+            }
+            return (counts.length() - 1) * 1000L;
+        }
+    }
+}
@@ -0,0 +1,335 @@
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 할 일 자동 배치
+// 사용자의 바쁜 시간을 뺀 빈 시간에 미완료 할 일을 겹치지 않게 배치한다.
+// 1) 우선순위를 반영한 마감 순서(EDF)로 가장 이른 빈 시간에 하나씩 놓고
+// 2) 마감을 넘긴 할 일은 앞쪽의 덜 중요한 할 일과 자리를 바꿔 보는 지역 탐색으로 개선한다.
+// 할 일 하나가 바뀌면 순서상 그보다 앞선 할 일의 배치는 그대로 두고 뒤쪽만 다시 배치한다.
+public class AutoScheduler {
+    // 우선순위 한 단계마다 마감을 이만큼 앞당겨 순서를 정한다
+    private static final long PRIORITY_LEAD_SECONDS = 12 * 60 * 60L;
+    // 배치 시작 시각 단위 (5분)
+    private static final long ALIGN_SECONDS = 5 * 60L;
+    // 지역 탐색에 쓸 수 있는 최대 시간
+    private static final long IMPROVE_BUDGET_NANOS = 300_000_000L;
+
+    private final ScheduleManager scheduleManager;
+
+    public AutoScheduler(ScheduleManager scheduleManager) {
+        this.scheduleManager = scheduleManager;
+    }
+
+    // start~end 구간에 tasks를 배치한 계획 (완료된 할 일은 제외)
+    public Plan plan(String userId, Collection<Task> tasks, LocalDateTime start, LocalDateTime end,
+            AvailabilityIndex.WorkingHours workingHours) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID가 null입니다.");
+        }
+        if (start == null || end == null || !start.isBefore(end)) {
+            throw new IllegalArgumentException("계획 기간이 올바르지 않습니다.");
+        }
+        Plan plan = new Plan(scheduleManager, userId, start, end, workingHours);
+        for (Task task : tasks) {
+            Entry entry = plan.toEntry(task);
+            if (entry != null) {
+                plan.order.add(entry);
+                plan.entries.put(task.getTaskId(), entry);
+            }
+        }
+        plan.order.sort(ENTRY_ORDER);
+        plan.rebuild(0);
+        return plan;
+    }
+
+    // 배치 결과 한 건
+    public static class PlannedTask {
+        private final Task task;
+        private final LocalDateTime startTime;
+        private final LocalDateTime endTime;
+        private final boolean late;
+
+        PlannedTask(Task task, LocalDateTime startTime, LocalDateTime endTime, boolean late) {
+            this.task = task;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.late = late;
+        }
+
+        public Task getTask() { return task; }
+        public LocalDateTime getStartTime() { return startTime; }
+        public LocalDateTime getEndTime() { return endTime; }
+        public boolean isLate() { return late; } // 마감을 넘겨 배치됨
+    }
+
+    // 계획 대상 할 일 (시각은 모두 초 단위)
+    private static class Entry {
+        final Task task;
+        final long due;
+        final long duration;
+        final int weight;
+        final long key; // 우선순위를 반영한 마감 (작을수록 먼저)
+        long greedyStart = -1; // 1단계 배치 결과 (증분 재계획에 재사용)
+        long start = -1; // 최종 배치 결과
+
+        Entry(Task task, long due, long duration, int weight) {
+            this.task = task;
+            this.due = due;
+            this.duration = duration;
+            this.weight = weight;
+            this.key = due - (weight - 1) * PRIORITY_LEAD_SECONDS;
+        }
+
+        long lateness(long start) {
+            return start < 0 ? 0 : Math.max(0, start + duration - due);
+        }
+    }
+
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator.<Entry>comparingLong(e -> e.key)
+        .thenComparing(e -> -e.weight)
+        .thenComparing(e -> e.task.getTaskId());
+
+    public static class Plan {
+        private final ScheduleManager scheduleManager;
+        private final String userId;
+        private final long windowStart;
+        private final long windowEnd;
+        private final AvailabilityIndex.WorkingHours workingHours;
+        private final List<Entry> order = new ArrayList<>();
+        private final Map<String, Entry> entries = new HashMap<>();
+        private long[][] baseFree; // 근무 시간 중 비어 있는 구간 [시작초, 종료초]
+
+        private Plan(ScheduleManager scheduleManager, String userId, LocalDateTime start, LocalDateTime end,
+                AvailabilityIndex.WorkingHours workingHours) {
+            this.scheduleManager = scheduleManager;
+            this.userId = userId;
+            this.windowStart = AvailabilityIndex.toSeconds(start);
+            this.windowEnd = AvailabilityIndex.toSeconds(end);
+            this.workingHours = workingHours;
+            loadFreeTime();
+        }
+
+        // 할 일 하나가 추가/수정되었을 때 (완료되었으면 계획에서 빠짐)
+        public void update(Task task) {
+            Entry previous = entries.remove(task.getTaskId());
+            int from = previous != null ? removeFromOrder(previous) : order.size();
+            Entry entry = toEntry(task);
+            if (entry != null) {
+                entries.put(task.getTaskId(), entry);
+                int index = insertionPoint(entry);
+                order.add(index, entry);
+                from = Math.min(from, index);
+            }
+            rebuild(from);
+        }
+
+        public void remove(String taskId) {
+            Entry previous = entries.remove(taskId);
+            if (previous != null) {
+                rebuild(removeFromOrder(previous));
+            }
+        }
+
+        // 달력(바쁜 시간)이 바뀌었을 때 전체를 다시 배치
+        public void refreshCalendar() {
+            loadFreeTime();
+            rebuild(0);
+        }
+
+        // 배치된 할 일 (시작 시각 순)
+        public List<PlannedTask> getPlannedTasks() {
+            List<PlannedTask> planned = new ArrayList<>();
+            for (Entry entry : order) {
+                if (entry.start >= 0) {
+                    planned.add(new PlannedTask(entry.task,
+                        AvailabilityIndex.fromSeconds(entry.start),
+                        AvailabilityIndex.fromSeconds(entry.start + entry.duration),
+                        entry.lateness(entry.start) > 0));
+                }
+            }
+            planned.sort(Comparator.comparing(PlannedTask::getStartTime));
+            return planned;
+        }
+
+        // 빈 시간이 부족해 배치하지 못한 할 일
+        public List<Task> getUnscheduledTasks() {
+            List<Task> unscheduled = new ArrayList<>();
+            for (Entry entry : order) {
+                if (entry.start < 0) {
+                    unscheduled.add(entry.task);
+                }
+            }
+            return unscheduled;
+        }
+
+        private void loadFreeTime() {
+            List<ScheduleRecommender.TimeSlot> slots = scheduleManager.getAvailabilityIndex().findFreeSlots(userId,
+                AvailabilityIndex.fromSeconds(windowStart), AvailabilityIndex.fromSeconds(windowEnd),
+                Duration.ofMinutes(1), workingHours);
+            baseFree = new long[slots.size()][];
+            for (int i = 0; i < slots.size(); i++) {
+                baseFree[i] = new long[]{AvailabilityIndex.toSeconds(slots.get(i).start),
+                    AvailabilityIndex.toSeconds(slots.get(i).end)};
+            }
+        }
+
+        // 남은 작업량 = 예상 시간 x (1 - 체크리스트 진행률), 5분 단위로 올림
+        private Entry toEntry(Task task) {
+            if (task == null || task.isCompleted()) {
+                return null;
+            }
+            double remaining = task.getEstimatedMinutes() * 60.0 * (1.0 - task.getProgressPercentage() / 100.0);
+            long duration = (long) Math.ceil(remaining / ALIGN_SECONDS) * ALIGN_SECONDS;
+            if (duration <= 0) {
+                return null;
+            }
+            long due = task.getDueDate() != null ? AvailabilityIndex.toSeconds(task.getDueDate()) : windowEnd;
+            return new Entry(task, due, duration, task.getPriority().ordinal() + 1);
+        }
+
+        private int removeFromOrder(Entry entry) {
+            int index = Collections.binarySearch(order, entry, ENTRY_ORDER);
+            order.remove(index);
+            return index;
+        }
+
+        private int insertionPoint(Entry entry) {
+            int index = Collections.binarySearch(order, entry, ENTRY_ORDER);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        // from보다 앞선 할 일은 이전 1단계 배치를 그대로 쓰고 나머지만 다시 배치한 뒤 개선
+        private void rebuild(int from) {
+            FreeTimeline free = new FreeTimeline(baseFree);
+            for (int i = 0; i < from; i++) {
+                Entry entry = order.get(i);
+                if (entry.greedyStart >= 0) {
+                    free.occupy(entry.greedyStart, entry.greedyStart + entry.duration);
+                }
+            }
+            for (int i = from; i < order.size(); i++) {
+                Entry entry = order.get(i);
+                entry.greedyStart = free.findEarliest(entry.duration);
+                if (entry.greedyStart >= 0) {
+                    free.occupy(entry.greedyStart, entry.greedyStart + entry.duration);
+                }
+            }
+            for (Entry entry : order) {
+                entry.start = entry.greedyStart;
+            }
+            improve(free);
+        }
+
+        // 지역 탐색: 마감을 넘긴 할 일 A를 더 앞에 놓인 덜 중요한 할 일 B의 자리로 옮기고
+        // B는 남은 빈 시간 중 가장 이른 곳으로 보낸다. 가중 지연 합이 줄어들 때만 받아들인다.
+        private void improve(FreeTimeline free) {
+            long deadline = System.nanoTime() + IMPROVE_BUDGET_NANOS;
+            List<Entry> late = new ArrayList<>();
+            for (Entry entry : order) {
+                if (entry.start >= 0 && entry.lateness(entry.start) > 0) {
+                    late.add(entry);
+                }
+            }
+            late.sort(Comparator.comparingInt((Entry e) -> -e.weight).thenComparingLong(e -> e.key));
+
+            for (Entry a : late) {
+                for (Entry b : order) {
+                    if (System.nanoTime() > deadline) {
+                        return;
+                    }
+                    if (b == a || b.start < 0 || b.weight >= a.weight || b.start + a.duration > a.due) {
+                        continue;
+                    }
+                    if (trySwap(free, a, b)) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        private boolean trySwap(FreeTimeline free, Entry a, Entry b) {
+            long aStart = a.start;
+            long bStart = b.start;
+            long before = a.weight * a.lateness(aStart) + b.weight * b.lateness(bStart);
+
+            free.release(bStart, bStart + b.duration);
+            if (!free.fits(bStart, a.duration)) {
+                free.occupy(bStart, bStart + b.duration);
+                return false;
+            }
+            free.release(aStart, aStart + a.duration);
+            free.occupy(bStart, bStart + a.duration);
+            long newBStart = free.findEarliest(b.duration);
+            long after = newBStart < 0 ? Long.MAX_VALUE
+                : a.weight * a.lateness(bStart) + b.weight * b.lateness(newBStart);
+            if (after < before) {
+                free.occupy(newBStart, newBStart + b.duration);
+                a.start = bStart;
+                b.start = newBStart;
+                return true;
+            }
+            // 되돌리기
+            free.release(bStart, bStart + a.duration);
+            free.occupy(aStart, aStart + a.duration);
+            free.occupy(bStart, bStart + b.duration);
+            return false;
+        }
+    }
+
+    // 빈 시간 목록 (시작초 -> 종료초, 겹치지 않음)
+    private static class FreeTimeline {
+        private final TreeMap<Long, Long> intervals = new TreeMap<>();
+
+        FreeTimeline(long[][] free) {
+            for (long[] interval : free) {
+                intervals.put(interval[0], interval[1]);
+            }
+        }
+
+        // 5분 단위로 맞춘 가장 이른 시작 시각 (없으면 -1)
+        long findEarliest(long duration) {
+            for (Map.Entry<Long, Long> interval : intervals.entrySet()) {
+                long start = Math.floorDiv(interval.getKey() + ALIGN_SECONDS - 1, ALIGN_SECONDS) * ALIGN_SECONDS;
+                if (start + duration <= interval.getValue()) {
+                    return start;
+                }
+            }
+            return -1;
+        }
+
+        boolean fits(long start, long duration) {
+            Map.Entry<Long, Long> interval = intervals.floorEntry(start);
+            return interval != null && interval.getValue() >= start + duration;
+        }
+
+        // 빈 구간 안의 [start, end)를 사용 중으로 표시
+        void occupy(long start, long end) {
+            Map.Entry<Long, Long> interval = intervals.floorEntry(start);
+            if (interval == null || interval.getValue() < end) {
+                throw new IllegalStateException("빈 시간이 아닌 구간에 배치할 수 없습니다.");
+            }
+            intervals.remove(interval.getKey());
+            if (interval.getKey() < start) {
+                intervals.put(interval.getKey(), start);
+            }
+            if (end < interval.getValue()) {
+                intervals.put(end, interval.getValue());
+            }
+        }
+
+        // [start, end)를 다시 비우고 맞닿은 빈 구간과 합친다
+        void release(long start, long end) {
+            Map.Entry<Long, Long> lower = intervals.floorEntry(start);
+            if (lower != null && lower.getValue() == start) {
+                intervals.remove(lower.getKey());
+                start = lower.getKey();
+            }
+            Long higherEnd = intervals.remove(end);
+            if (higherEnd != null) {
+                end = higherEnd;
+            }
+            intervals.put(start, end);
+        }
+    }
+}
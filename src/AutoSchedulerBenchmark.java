@@ -0,0 +1,78 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 할 일 자동 배치(AutoScheduler) 시간 측정
+// 평일마다 일정이 3~5개 있는 사용자 한 명에게 15~90분짜리 할 일 500개를 한 달 안에 배치한다 (빈 시간이 거의 다 찬다).
+// 처음 전체 배치(plan)와, 할 일 하나의 마감/우선순위를 바꾼 뒤 다시 배치(Plan.update)하는 시간을 따로 잰다.
+// 목표는 전체 배치 1초 미만, 다시 배치는 그보다 훨씬 짧게.
+// 실제 data 폴더 대신 임시 폴더를 쓴다.
+// 실행: java AutoSchedulerBenchmark [할 일 수 (기본 500)] [다시 배치 횟수 (기본 200)]
+public class AutoSchedulerBenchmark {
+    private static final String USER_ID = "bench-user";
+
+    public static void main(String[] args) throws IOException {
+        int taskCount = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int updates = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        Path directory = Files.createTempDirectory("schedule-bench");
+        System.setProperty("schedule.data.dir", directory.resolve("data").toString());
+        System.setProperty("schedule.log.dir", directory.resolve("logs").toString());
+
+        ScheduleManager scheduleManager = ScheduleManager.getInstance();
+        LocalDateTime monthStart = LocalDateTime.of(2025, 3, 1, 0, 0);
+        LocalDateTime monthEnd = monthStart.plusMonths(1);
+        Random random = new Random(42);
+        List<Schedule> schedules = new ArrayList<>();
+        for (int day = 0; day < 31; day++) {
+            LocalDateTime date = monthStart.plusDays(day);
+            if (date.getDayOfWeek().getValue() > 5) {
+                continue;
+            }
+            int count = 3 + random.nextInt(3);
+            for (int i = 0; i < count; i++) {
+                LocalDateTime start = date.plusHours(9 + 2L * i);
+                schedules.add(new Schedule(IdGenerator.newId(), "일정", "", start, start.plusHours(1),
+                    "", "업무", false, USER_ID));
+            }
+        }
+        scheduleManager.applyReplicatedSnapshot(schedules);
+
+        List<Task> tasks = new ArrayList<>();
+        Task.Priority[] priorities = Task.Priority.values();
+        for (int i = 0; i < taskCount; i++) {
+            Task task = new Task("할 일 " + i, "", priorities[random.nextInt(priorities.length)],
+                monthStart.plusHours(12 + random.nextInt(30 * 24)), USER_ID);
+            task.setEstimatedMinutes(15 * (1 + random.nextInt(6)));
+            tasks.add(task);
+        }
+        System.out.println("일정 " + schedules.size() + "개, 할 일 " + taskCount + "개");
+
+        AutoScheduler scheduler = new AutoScheduler(scheduleManager);
+        // 처음 몇 번은 JIT 준비로 보고 버린다
+        for (int i = 0; i < 3; i++) {
+            scheduler.plan(USER_ID, tasks, monthStart, monthEnd, AvailabilityIndex.WorkingHours.DEFAULT);
+        }
+        long planStart = System.nanoTime();
+        AutoScheduler.Plan plan = scheduler.plan(USER_ID, tasks, monthStart, monthEnd,
+            AvailabilityIndex.WorkingHours.DEFAULT);
+        long planNanos = System.nanoTime() - planStart;
+        System.out.printf("전체 배치 %.1f ms (배치 %d개, 못 넣은 할 일 %d개)%n", planNanos / 1e6,
+            plan.getPlannedTasks().size(), plan.getUnscheduledTasks().size());
+
+        long[] nanos = new long[updates];
+        for (int i = 0; i < updates; i++) {
+            Task task = tasks.get(random.nextInt(tasks.size()));
+            task.setDueDate(monthStart.plusHours(12 + random.nextInt(30 * 24)));
+            task.setPriority(priorities[random.nextInt(priorities.length)]);
+            long startNanos = System.nanoTime();
+            plan.update(task);
+            nanos[i] = System.nanoTime() - startNanos;
+        }
+        Arrays.sort(nanos);
+        System.out.printf("할 일 하나 바꾼 뒤 다시 배치: 중앙값 %.2f ms, p95 %.2f ms, 최대 %.2f ms%n",
+            nanos[updates / 2] / 1e6, nanos[(int) (updates * 0.95)] / 1e6, nanos[updates - 1] / 1e6);
+        System.exit(0);
+    }
+}
@@ -0,0 +1,346 @@
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 사용자별 바쁜 시간 인덱스
+// 일반 일정은 시작 시각 순 TreeMap에, 반복 일정은 별도 목록에 두고
+// 조회 구간과 겹치는 일정만 꺼내 병합한 뒤 근무 시간 안의 빈 시간을 계산한다.
+// 조회는 읽기 잠금만 잡아 여러 스레드(추천 배치 등)가 동시에 하고, 일정 변경 반영만 쓰기 잠금을 잡는다.
+public class AvailabilityIndex implements ScheduleManager.ScheduleUpdateListener {
+    private final ScheduleManager scheduleManager;
+    private final Map<String, UserIndex> userIndexes;
+    private final Map<String, Placement> placements;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean built;
+
+    // 하루 중 일정을 잡을 수 있는 시간대
+    public static class WorkingHours {
+        public static final WorkingHours ALL_DAY = new WorkingHours(LocalTime.MIN, LocalTime.MAX, true);
+        public static final WorkingHours DEFAULT = new WorkingHours(LocalTime.of(8, 0), LocalTime.of(22, 0), true);
+
+        public final LocalTime dayStart;
+        public final LocalTime dayEnd;
+        public final boolean includeWeekends;
+
+        public WorkingHours(LocalTime dayStart, LocalTime dayEnd, boolean includeWeekends) {
+            if (!dayStart.isBefore(dayEnd)) {
+                throw new IllegalArgumentException("근무 시작 시간은 종료 시간보다 빨라야 합니다.");
+            }
+            this.dayStart = dayStart;
+            this.dayEnd = dayEnd;
+            this.includeWeekends = includeWeekends;
+        }
+
+        boolean isWorkingDay(LocalDate date) {
+            DayOfWeek day = date.getDayOfWeek();
+            return includeWeekends || (day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY);
+        }
+    }
+
+    private static class UserIndex {
+        final TreeMap<Long, List<Schedule>> byStart = new TreeMap<>();
+        final Map<String, Schedule> recurring = new HashMap<>();
+        long maxDurationSeconds;
+    }
+
+    // 일정이 어느 사용자 인덱스의 어느 키에 들어갔는지 기록
+    private static class Placement {
+        final Set<String> userIds;
+        final long startKey;
+        final boolean recurring;
+
+        Placement(Set<String> userIds, long startKey, boolean recurring) {
+            this.userIds = userIds;
+            this.startKey = startKey;
+            this.recurring = recurring;
+        }
+    }
+
+    public AvailabilityIndex(ScheduleManager scheduleManager) {
+        this.scheduleManager = scheduleManager;
+        this.userIndexes = new HashMap<>();
+        this.placements = new HashMap<>();
+    }
+
+    // start~end 구간에서 duration 이상 비어 있는 시간대 목록 (근무 시간 기준, 시간순)
+    // 계산 중인 스레드가 인터럽트되면 CancellationException
+    public List<ScheduleRecommender.TimeSlot> findFreeSlots(String userId, LocalDateTime start,
+            LocalDateTime end, Duration duration, WorkingHours workingHours) {
+        List<ScheduleRecommender.TimeSlot> freeSlots = new ArrayList<>();
+        if (userId == null || start == null || end == null || !start.isBefore(end)) {
+            return freeSlots;
+        }
+        ensureBuilt();
+
+        List<long[]> busy;
+        lock.readLock().lock();
+        try {
+            busy = mergeBusyIntervals(collectBusyIntervals(userId, start, end));
+        } finally {
+            lock.readLock().unlock();
+        }
+        long minSeconds = duration.getSeconds();
+        int busyIndex = 0;
+
+        // 날짜별 근무 시간에서 바쁜 구간을 빼고 남은 시간을 수집
+        for (LocalDate date = start.toLocalDate(); !date.isAfter(end.toLocalDate()); date = date.plusDays(1)) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("빈 시간 계산이 취소되었습니다.");
+            }
+            if (!workingHours.isWorkingDay(date)) {
+                continue;
+            }
+            LocalDateTime dayEnd = workingHours.dayEnd.equals(LocalTime.MAX)
+                ? date.plusDays(1).atStartOfDay() : date.atTime(workingHours.dayEnd);
+            long windowStart = toSeconds(max(start, date.atTime(workingHours.dayStart)));
+            long windowEnd = toSeconds(min(end, dayEnd));
+            if (windowStart >= windowEnd) {
+                continue;
+            }
+
+            while (busyIndex < busy.size() && busy.get(busyIndex)[1] <= windowStart) {
+                busyIndex++;
+            }
+            long current = windowStart;
+            for (int i = busyIndex; i < busy.size() && busy.get(i)[0] < windowEnd; i++) {
+                long[] interval = busy.get(i);
+                if (interval[0] - current >= minSeconds) {
+                    freeSlots.add(new ScheduleRecommender.TimeSlot(fromSeconds(current), fromSeconds(interval[0])));
+                }
+                current = Math.max(current, interval[1]);
+            }
+            if (windowEnd - current >= minSeconds) {
+                freeSlots.add(new ScheduleRecommender.TimeSlot(fromSeconds(current), fromSeconds(windowEnd)));
+            }
+        }
+        return freeSlots;
+    }
+
+    // start~end 구간과 겹치는 바쁜 구간 ([시작초, 종료초], 반복 일정 포함, 정렬되지 않음)
+    public List<long[]> getBusyIntervals(String userId, LocalDateTime start, LocalDateTime end) {
+        ensureBuilt();
+        lock.readLock().lock();
+        try {
+            return collectBusyIntervals(userId, start, end);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 읽기 잠금 안에서 호출
+    private List<long[]> collectBusyIntervals(String userId, LocalDateTime start, LocalDateTime end) {
+        List<long[]> intervals = new ArrayList<>();
+        UserIndex index = userIndexes.get(userId);
+        if (index == null) {
+            return intervals;
+        }
+        long from = toSeconds(start);
+        long to = toSeconds(end);
+
+        // 시작 시각이 (from - 가장 긴 일정 길이) 이후인 일정만 겹칠 수 있다
+        for (List<Schedule> schedules : index.byStart.subMap(from - index.maxDurationSeconds, true, to, false).values()) {
+            for (Schedule schedule : schedules) {
+                long scheduleStart = toSeconds(schedule.getStartTime());
+                long scheduleEnd = toSeconds(schedule.getEndTime());
+                if (scheduleEnd > from) {
+                    intervals.add(new long[]{scheduleStart, scheduleEnd});
+                }
+            }
+        }
+        for (Schedule schedule : index.recurring.values()) {
+            forEachOccurrence(schedule, start, end, (occurrenceStart, occurrenceEnd) ->
+                intervals.add(new long[]{toSeconds(occurrenceStart), toSeconds(occurrenceEnd)}));
+        }
+        return intervals;
+    }
+
+    public interface OccurrenceConsumer {
+        void accept(LocalDateTime start, LocalDateTime end);
+    }
+
+    // 반복 일정 중 start~end 구간과 겹치는 회차를 순서대로 전달
+    public static void forEachOccurrence(Schedule schedule, LocalDateTime start, LocalDateTime end,
+            OccurrenceConsumer consumer) {
+        Schedule.RecurrenceType type = schedule.getRecurrenceType();
+        if (type == null || type == Schedule.RecurrenceType.NONE) {
+            if (schedule.getStartTime().isBefore(end) && schedule.getEndTime().isAfter(start)) {
+                consumer.accept(schedule.getStartTime(), schedule.getEndTime());
+            }
+            return;
+        }
+
+        Duration length = Duration.between(schedule.getStartTime(), schedule.getEndTime());
+        LocalDateTime recurrenceEnd = earliest(schedule.getRecurrenceEnd(), schedule.getRecurrenceEndDate());
+        ChronoUnit unit = toChronoUnit(type);
+        long step = Math.max(1, schedule.getRecurrenceInterval());
+
+        // 일/주 단위 반복은 조회 구간 직전 회차로 바로 건너뛴다
+        long skip = 0;
+        LocalDateTime firstNeeded = start.minus(length);
+        if ((unit == ChronoUnit.DAYS || unit == ChronoUnit.WEEKS) && schedule.getStartTime().isBefore(firstNeeded)) {
+            skip = unit.between(schedule.getStartTime(), firstNeeded) / step;
+        }
+
+        for (long n = skip; ; n++) {
+            LocalDateTime occurrence = schedule.getStartTime().plus(n * step, unit);
+            if (!occurrence.isBefore(end) || (recurrenceEnd != null && occurrence.isAfter(recurrenceEnd))) {
+                break;
+            }
+            if (schedule.isExceptionDate(occurrence)) {
+                continue;
+            }
+            LocalDateTime occurrenceEnd = occurrence.plus(length);
+            if (occurrenceEnd.isAfter(start)) {
+                consumer.accept(occurrence, occurrenceEnd);
+            }
+        }
+    }
+
+    @Override
+    public void onScheduleUpdated(Schedule before, Schedule after) {
+        lock.writeLock().lock();
+        try {
+            if (!built) {
+                return;
+            }
+            if (before != null) {
+                removeFromIndex(before);
+            }
+            if (after != null) {
+                addToIndex(after);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureBuilt() {
+        if (built) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (built) {
+                return;
+            }
+            for (Schedule schedule : scheduleManager.getAllSchedules()) {
+                addToIndex(schedule);
+            }
+            built = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addToIndex(Schedule schedule) {
+        if (schedule.getStartTime() == null || schedule.getEndTime() == null) {
+            return;
+        }
+        long start = toSeconds(schedule.getStartTime());
+        Placement placement = new Placement(participantsOf(schedule), start, isRecurring(schedule));
+        for (String userId : placement.userIds) {
+            UserIndex index = userIndexes.computeIfAbsent(userId, _ -> new UserIndex());
+            if (placement.recurring) {
+                index.recurring.put(schedule.getScheduleId(), schedule);
+            } else {
+                index.byStart.computeIfAbsent(start, _ -> new ArrayList<>()).add(schedule);
+                index.maxDurationSeconds = Math.max(index.maxDurationSeconds,
+                    toSeconds(schedule.getEndTime()) - start);
+            }
+        }
+        placements.put(schedule.getScheduleId(), placement);
+    }
+
+    // 일정 객체가 이미 수정되었을 수 있으므로 색인할 때 기록한 위치에서 제거
+    private void removeFromIndex(Schedule schedule) {
+        String scheduleId = schedule.getScheduleId();
+        Placement placement = placements.remove(scheduleId);
+        if (placement == null) {
+            return;
+        }
+        for (String userId : placement.userIds) {
+            UserIndex index = userIndexes.get(userId);
+            if (index == null) {
+                continue;
+            }
+            if (placement.recurring) {
+                index.recurring.remove(scheduleId);
+                continue;
+            }
+            List<Schedule> atStart = index.byStart.get(placement.startKey);
+            if (atStart != null) {
+                atStart.removeIf(s -> s.getScheduleId().equals(scheduleId));
+                if (atStart.isEmpty()) {
+                    index.byStart.remove(placement.startKey);
+                }
+            }
+        }
+    }
+
+    // 일정 소유자와 공유받은 사용자 모두의 시간이 바쁜 것으로 본다
+    private Set<String> participantsOf(Schedule schedule) {
+        Set<String> participants = new HashSet<>();
+        participants.add(schedule.getUserId());
+        participants.addAll(schedule.getSharedUsers().keySet());
+        participants.addAll(schedule.getSharedWith());
+        return participants;
+    }
+
+    private static boolean isRecurring(Schedule schedule) {
+        return schedule.getRecurrenceType() != null && schedule.getRecurrenceType() != Schedule.RecurrenceType.NONE;
+    }
+
+    // 시작 시각 순으로 정렬한 뒤 겹치거나 맞닿은 구간을 하나로 합친다
+    private static List<long[]> mergeBusyIntervals(List<long[]> intervals) {
+        intervals.sort(Comparator.comparingLong(interval -> interval[0]));
+        List<long[]> merged = new ArrayList<>();
+        for (long[] interval : intervals) {
+            if (!merged.isEmpty() && merged.get(merged.size() - 1)[1] >= interval[0]) {
+                long[] last = merged.get(merged.size() - 1);
+                last[1] = Math.max(last[1], interval[1]);
+            } else {
+                merged.add(new long[]{interval[0], interval[1]});
+            }
+        }
+        return merged;
+    }
+
+    private static ChronoUnit toChronoUnit(Schedule.RecurrenceType type) {
+        switch (type) {
+            case DAILY: return ChronoUnit.DAYS;
+            case WEEKLY: return ChronoUnit.WEEKS;
+            case MONTHLY: return ChronoUnit.MONTHS;
+            case YEARLY: return ChronoUnit.YEARS;
+            default: throw new IllegalArgumentException("유효하지 않은 반복 유형입니다.");
+        }
+    }
+
+    private static LocalDateTime earliest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    static long toSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    static LocalDateTime fromSeconds(long seconds) {
+        return LocalDateTime.ofEpochSecond(seconds, 0, ZoneOffset.UTC);
+    }
+}
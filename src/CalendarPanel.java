@@ -1,10 +1,10 @@
 import javax.swing.*;
-import javax.swing.table.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.DayOfWeek;
+import java.time.YearMonth;
 import java.time.temporal.TemporalAdjusters;
 import java.util.*;
 import java.util.List;
@@ -13,8 +13,7 @@ public class CalendarPanel extends JPanel {
     private final ScheduleManager scheduleManager;
     private final UserManager userManager;
     private final ScheduleGUI parent;
-    private JTable calendarTable;
-    private DefaultTableModel tableModel;
+    private MonthCalendarView calendarView;
     private JComboBox<Integer> yearComboBox;
     private JComboBox<String> monthComboBox;
     private JComboBox<ViewType> viewComboBox;
@@ -24,7 +23,9 @@ public class CalendarPanel extends JPanel {
     private JTextField tagFilter;
     private LocalDate currentDate;
     private ViewType currentView;
-    private Map<LocalDate, List<Schedule>> scheduleMap;
+    private Map<LocalDate, List<Schedule>> scheduleMap; // 현재 화면의 날짜별 일정
+    private final CalendarPrefetcher prefetcher;
+    private final Map<String, Color> colorCache = new HashMap<>(); // 일정 색상 문자열 -> Color
 
     public enum ViewType {
         MONTH("월간"),
@@ -50,6 +51,7 @@ public class CalendarPanel extends JPanel {
         this.currentDate = LocalDate.now();
         this.currentView = ViewType.MONTH;
         this.scheduleMap = new HashMap<>();
+        this.prefetcher = new CalendarPrefetcher(scheduleManager, this::buildScheduleMap);
 
         setLayout(new BorderLayout());
         initializeComponents();
@@ -113,114 +115,71 @@ public class CalendarPanel extends JPanel {
         controlPanel.add(new JLabel("태그:"));
         controlPanel.add(tagFilter);
         
-        // 캘린더 테이블
-        String[] columnNames = {"일", "월", "화", "수", "목", "금", "토"};
-        tableModel = new DefaultTableModel(columnNames, 0) {
+        // 캘린더 (날짜 칸과 일정은 컴포넌트 하나가 직접 그림)
+        calendarView = new MonthCalendarView(this::getScheduleColor);
+        calendarView.addCalendarClickListener(new MonthCalendarView.CalendarClickListener() {
             @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
+            public void dateClicked(LocalDate date, MouseEvent e) {
+                showScheduleDialog(date);
             }
-        };
-        calendarTable = new JTable(tableModel);
-        calendarTable.setRowHeight(100);
-        calendarTable.setShowGrid(true);
-        calendarTable.setGridColor(Color.LIGHT_GRAY);
-        
-        // 테이블 셀 렌더러
-        calendarTable.setDefaultRenderer(Object.class, new DefaultTableCellRenderer() {
-            @Override
-            public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column) {
-                JPanel panel = new JPanel(new BorderLayout());
-                panel.setBackground(isSelected ? table.getSelectionBackground() : table.getBackground());
-                
-                if (value != null) {
-                    LocalDate date = (LocalDate) value;
-                    JLabel dateLabel = new JLabel(String.valueOf(date.getDayOfMonth()));
-                    dateLabel.setHorizontalAlignment(SwingConstants.LEFT);
-                    panel.add(dateLabel, BorderLayout.NORTH);
-                    
-                    List<Schedule> schedules = scheduleMap.getOrDefault(date, Collections.emptyList());
-                    JPanel schedulePanel = new JPanel();
-                    schedulePanel.setLayout(new BoxLayout(schedulePanel, BoxLayout.Y_AXIS));
-                    schedulePanel.setBackground(panel.getBackground());
-                    
-                    for (Schedule schedule : schedules) {
-                        JLabel scheduleLabel = new JLabel(schedule.getTitle());
-                        scheduleLabel.setForeground(Color.decode(schedule.getColor()));
-                        schedulePanel.add(scheduleLabel);
-                    }
-                    
-                    panel.add(schedulePanel, BorderLayout.CENTER);
-                }
-                
-                return panel;
-            }
-        });
-        
-        // 테이블 클릭 이벤트
-        calendarTable.addMouseListener(new MouseAdapter() {
+
             @Override
-            public void mouseClicked(MouseEvent e) {
-                int row = calendarTable.getSelectedRow();
-                int col = calendarTable.getSelectedColumn();
-                if (row >= 0 && col >= 0) {
-                    LocalDate date = (LocalDate) tableModel.getValueAt(row, col);
-                    if (date != null) {
-                        showScheduleDialog(date);
-                    }
-                }
+            public void scheduleClicked(Schedule schedule, MouseEvent e) {
+                // 누른 일정을 바로 수정
+                ScheduleDialog dialog = new ScheduleDialog(parent, scheduleManager, userManager,
+                    schedule, CalendarPanel.this::loadSchedules);
+                dialog.setVisible(true);
             }
         });
         
-        // 스크롤 패널
-        JScrollPane scrollPane = new JScrollPane(calendarTable);
-        
         // 패널에 컴포넌트 추가
         add(controlPanel, BorderLayout.NORTH);
-        add(scrollPane, BorderLayout.CENTER);
+        add(calendarView, BorderLayout.CENTER);
     }
 
     private void loadSchedules() {
-        scheduleMap.clear();
-        String userId = userManager.getCurrentUser().getUserId();
-        List<Schedule> schedules = scheduleManager.getSchedules();
+        // 일정이 바뀌었을 수 있으므로 만들어 둔 모델을 버리고 현재 화면을 다시 만든다
+        prefetcher.invalidate();
+        updateCalendar();
+    }
+
+    // from~to 기간의 현재 사용자 일정을 날짜별로 묶기 (반복 일정은 기간 안의 회차로 펼침)
+    private Map<LocalDate, List<Schedule>> buildScheduleMap(List<Schedule> schedules, LocalDate from, LocalDate to) {
+        Map<LocalDate, List<Schedule>> map = new HashMap<>();
+        String userId = userManager.getCurrentUserId();
+        LocalDateTime rangeStart = from.atStartOfDay();
+        LocalDateTime rangeEnd = to.plusDays(1).atStartOfDay().minusNanos(1);
         
         for (Schedule schedule : schedules) {
-            if (schedule.getUserId().equals(userId)) {
-            LocalDateTime start = schedule.getStartTime();
-            LocalDateTime end = schedule.getEndTime();
-            
-            // 반복 일정 처리
+            if (!schedule.getUserId().equals(userId)) {
+                continue;
+            }
             if (schedule.getRecurrenceType() != Schedule.RecurrenceType.NONE) {
-                List<Schedule> instances = schedule.getRecurringInstances(
-                    start,
-                    end.plusYears(1) // 1년치 반복 일정 생성
-                );
-                
-                for (Schedule instance : instances) {
-                    addScheduleToMap(instance);
+                for (Schedule instance : schedule.getRecurringInstances(rangeStart, rangeEnd)) {
+                    addScheduleToMap(map, instance, from, to);
                 }
             } else {
-                addScheduleToMap(schedule);
-                }
+                addScheduleToMap(map, schedule, from, to);
             }
         }
-        
-        updateCalendar();
+        return map;
     }
 
-    private void addScheduleToMap(Schedule schedule) {
+    private void addScheduleToMap(Map<LocalDate, List<Schedule>> map, Schedule schedule, LocalDate from, LocalDate to) {
         LocalDate date = schedule.getStartTime().toLocalDate();
-        scheduleMap.computeIfAbsent(date, _ -> new ArrayList<>()).add(schedule);
+        if (!date.isBefore(from) && !date.isAfter(to)) {
+            map.computeIfAbsent(date, _ -> new ArrayList<>()).add(schedule);
+        }
     }
 
     private void updateCalendar() {
-        tableModel.setRowCount(0);
-        
         int year = (Integer) yearComboBox.getSelectedItem();
         int month = monthComboBox.getSelectedIndex() + 1;
         currentDate = LocalDate.of(year, month, 1);
         
+        LocalDate[] range = getRange(currentView, currentDate);
+        scheduleMap = prefetcher.get(range[0], range[1]);
+        
         switch (currentView) {
             case MONTH:
                 updateMonthView();
@@ -232,43 +191,65 @@ public class CalendarPanel extends JPanel {
                 updateDayView();
                 break;
         }
+        
+        // 다음에 볼 가능성이 큰 화면 (이전/다음 달, 같은 달의 다른 보기)을 미리 만들어 둔다
+        List<LocalDate[]> nextRanges = new ArrayList<>();
+        nextRanges.add(getRange(currentView, currentDate.minusMonths(1)));
+        nextRanges.add(getRange(currentView, currentDate.plusMonths(1)));
+        for (ViewType view : ViewType.values()) {
+            if (view != currentView) {
+                nextRanges.add(getRange(view, currentDate));
+            }
+        }
+        prefetcher.prefetch(nextRanges);
+    }
+
+    // 보기 종류별로 화면에 표시되는 날짜 구간 [시작일, 종료일]
+    private static LocalDate[] getRange(ViewType view, LocalDate date) {
+        switch (view) {
+            case MONTH: {
+                LocalDate firstDay = date.withDayOfMonth(1);
+                LocalDate gridStart = firstDay.minusDays(firstDay.getDayOfWeek().getValue() % 7);
+                return new LocalDate[]{gridStart, gridStart.plusDays(6 * 7 - 1)};
+            }
+            case WEEK: {
+                LocalDate weekStart = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
+                return new LocalDate[]{weekStart, weekStart.plusDays(6)};
+            }
+            default:
+                return new LocalDate[]{date, date};
+        }
     }
 
     private void updateMonthView() {
         LocalDate firstDay = currentDate.withDayOfMonth(1);
-        LocalDate lastDay = currentDate.withDayOfMonth(currentDate.lengthOfMonth());
-        
         int firstDayOfWeek = firstDay.getDayOfWeek().getValue() % 7;
-        int totalDays = lastDay.getDayOfMonth();
         
-        for (int i = 0; i < 6; i++) {
-            Object[] row = new Object[7];
-            for (int j = 0; j < 7; j++) {
-                int day = i * 7 + j - firstDayOfWeek + 1;
-                if (day > 0 && day <= totalDays) {
-                    row[j] = currentDate.withDayOfMonth(day);
-                } else {
-                    row[j] = null;
-                }
-            }
-            tableModel.addRow(row);
-        }
+        calendarView.setView(firstDay.minusDays(firstDayOfWeek), 6, 7, YearMonth.from(currentDate), false, scheduleMap);
     }
 
     private void updateWeekView() {
         LocalDate weekStart = currentDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
         
-        Object[] row = new Object[7];
-        for (int i = 0; i < 7; i++) {
-            row[i] = weekStart.plusDays(i);
-        }
-        tableModel.addRow(row);
+        calendarView.setView(weekStart, 1, 7, YearMonth.from(currentDate), true, scheduleMap);
     }
 
     private void updateDayView() {
-        Object[] row = new Object[7];
-        row[0] = currentDate;
-        tableModel.addRow(row);
+        calendarView.setView(currentDate, 1, 1, YearMonth.from(currentDate), true, scheduleMap);
+    }
+
+    private Color getScheduleColor(Schedule schedule) {
+        String color = schedule.getColor();
+        if (color == null) {
+            return Color.BLACK;
+        }
+        return colorCache.computeIfAbsent(color, c -> {
+            try {
+                return Color.decode(c);
+            } catch (NumberFormatException e) {
+                return Color.BLACK;
+            }
+        });
     }
 
     private void showScheduleDialog(LocalDate date) {
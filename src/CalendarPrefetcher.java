@@ -0,0 +1,104 @@
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 달력 화면용 날짜별 일정 모델 캐시
+// 현재 화면의 모델은 요청 시 만들고, 이전/다음 달(주)은 백그라운드 스레드에서 미리 만들어
+// 작은 LRU에 보관한다. 일정이 바뀌면 캐시를 비워 오래된 모델이 보이지 않게 한다.
+public class CalendarPrefetcher implements ScheduleManager.ScheduleChangeListener {
+    private static final Log LOG = Log.get(CalendarPrefetcher.class);
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private final ScheduleManager scheduleManager;
+    private final ModelBuilder builder;
+    private final Map<List<LocalDate>, Map<LocalDate, List<Schedule>>> cache;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "calendar-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 캐시를 비울 때마다 증가 (비우기 전에 시작한 미리 읽기 결과는 버림)
+    private long generation;
+
+    // 일정 스냅샷에서 from~to 날짜의 모델을 만드는 방법 (백그라운드 스레드에서도 호출됨)
+    public interface ModelBuilder {
+        Map<LocalDate, List<Schedule>> build(List<Schedule> schedules, LocalDate from, LocalDate to);
+    }
+
+    public CalendarPrefetcher(ScheduleManager scheduleManager, ModelBuilder builder) {
+        this.scheduleManager = scheduleManager;
+        this.builder = builder;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<LocalDate>, Map<LocalDate, List<Schedule>>> eldest) {
+                return size() > DEFAULT_CAPACITY;
+            }
+        };
+        scheduleManager.addScheduleChangeListener(this);
+    }
+
+    // from~to 모델 (캐시에 없으면 바로 만든다, EDT에서 호출)
+    public Map<LocalDate, List<Schedule>> get(LocalDate from, LocalDate to) {
+        List<LocalDate> key = List.of(from, to);
+        synchronized (this) {
+            Map<LocalDate, List<Schedule>> model = cache.get(key);
+            if (model != null) {
+                return model;
+            }
+        }
+        Map<LocalDate, List<Schedule>> model = Collections.unmodifiableMap(
+            builder.build(scheduleManager.getAllSchedules(), from, to));
+        synchronized (this) {
+            cache.put(key, model);
+        }
+        return model;
+    }
+
+    // 주어진 구간들의 모델을 백그라운드에서 미리 만든다 ([from, to] 쌍의 목록, EDT에서 호출)
+    public void prefetch(List<LocalDate[]> ranges) {
+        List<LocalDate[]> missing = new ArrayList<>();
+        long requestedGeneration;
+        synchronized (this) {
+            for (LocalDate[] range : ranges) {
+                if (!cache.containsKey(List.of(range[0], range[1]))) {
+                    missing.add(range);
+                }
+            }
+            requestedGeneration = generation;
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        // 일정 목록은 EDT에서 복사해 두고 백그라운드에서는 복사본만 읽는다
+        List<Schedule> snapshot = scheduleManager.getAllSchedules();
+        executor.execute(() -> {
+            for (LocalDate[] range : missing) {
+                Map<LocalDate, List<Schedule>> model;
+                try {
+                    model = Collections.unmodifiableMap(builder.build(snapshot, range[0], range[1]));
+                } catch (RuntimeException e) {
+                    LOG.error("달력 미리 읽기 중 오류 발생: " + e.getMessage());
+                    return;
+                }
+                synchronized (this) {
+                    if (generation != requestedGeneration) {
+                        return;
+                    }
+                    cache.putIfAbsent(List.of(range[0], range[1]), model);
+                }
+            }
+        });
+    }
+
+    public synchronized void invalidate() {
+        generation++;
+        cache.clear();
+    }
+
+    @Override
+    public void onScheduleChanged() {
+        invalidate();
+    }
+}
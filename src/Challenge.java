@@ -1,10 +1,14 @@
 import java.time.LocalDateTime;
 
 public class Challenge {
+    private static final Log LOG = Log.get(Challenge.class);
+
     private String challengeId;
     private String title;
     private String description;
     private String target;
+    // target을 해석해 둔 조건 (완료 이벤트마다 다시 해석하지 않도록)
+    private ChallengeRule rule;
     private LocalDateTime startDate;
     private LocalDateTime endDate;
     private int progress;
@@ -19,6 +23,7 @@ public class Challenge {
         this.title = title;
         this.description = description;
         this.target = target;
+        this.rule = ChallengeRule.compile(target);
         this.startDate = startDate;
         this.endDate = endDate;
         this.progress = 0;
@@ -29,7 +34,7 @@ public class Challenge {
     }
 
     private String generateChallengeId() {
-        return "CHALLENGE" + System.currentTimeMillis();
+        return "CHALLENGE" + IdGenerator.newId();
     }
 
     private int calculateRewardPoints() {
@@ -48,8 +53,8 @@ public class Challenge {
     }
 
     private void notifyCompletion() {
-        System.out.println("축하합니다! 챌린지 '" + title + "'를 완료했습니다!");
-        System.out.println("보상 포인트: " + rewardPoints);
+        LOG.info("축하합니다! 챌린지 '" + title + "'를 완료했습니다!");
+        LOG.info("보상 포인트: " + rewardPoints);
     }
 
     public String getChallengeId() {
@@ -77,9 +82,33 @@ public class Challenge {
     }
 
     public void setTarget(String target) {
+        this.rule = ChallengeRule.compile(target);
         this.target = target;
     }
 
+    public ChallengeRule getRule() {
+        return rule;
+    }
+
+    // 이 챌린지의 진행도에 들어가는 일정인지 (본인 일정이 기간 안에 완료되었고 목표 조건에 맞는지)
+    // 완료 시각이 없는 예전 완료 일정은 기간 안에 끝냈는지 알 수 없으므로 세지 않는다
+    public boolean countsToward(Schedule schedule) {
+        if (!schedule.isCompleted() || userId == null || !userId.equals(schedule.getUserId())) {
+            return false;
+        }
+        LocalDateTime completedAt = schedule.getCompletedAt();
+        if (completedAt == null) {
+            return false;
+        }
+        if (startDate != null && completedAt.isBefore(startDate)) {
+            return false;
+        }
+        if (endDate != null && completedAt.isAfter(endDate)) {
+            return false;
+        }
+        return rule.matches(schedule);
+    }
+
     public LocalDateTime getStartDate() {
         return startDate;
     }
@@ -0,0 +1,208 @@
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 일정 완료 이벤트로 챌린지 진행도를 올리는 엔진과 보상 포인트 순위표
+// 챌린지를 등록할 때 목표 문장을 조건(ChallengeRule)으로 바꿔 두고, 그 사용자의 완료된 일정을 한 번만 훑어 진행도를 맞춘다.
+// 이후에는 ScheduleUpdateListener로 바뀐 일정 하나만 그 사용자의 진행 중인 챌린지 조건에 대어 보고
+// 챌린지마다 세어 둔 일정 ID 집합으로 진행도를 더하거나 뺀다 (완료를 풀거나 일정을 지우면 다시 빠진다).
+// 챌린지를 달성하면 보상 포인트가 순위표에 더해지고, 그 챌린지는 더 이상 이벤트를 보지 않는다.
+// 순위표는 (포인트 내림차순, 사용자 ID) 순 IndexedSkipList라서 상위 N명과 사용자 순위를 O(log n)에 구한다.
+// 등록된 챌린지의 진행도는 이 엔진이 정하므로 Challenge.updateProgress를 따로 부르지 않는다.
+public class ChallengeEngine implements ScheduleManager.ScheduleUpdateListener {
+    private static final Log LOG = Log.get(ChallengeEngine.class);
+
+    private final ScheduleManager scheduleManager;
+    // 챌린지 ID -> 등록된 챌린지
+    private final Map<String, Tracked> challenges = new HashMap<>();
+    // 사용자 ID -> 그 사용자의 챌린지 (등록 순)
+    private final Map<String, List<Tracked>> userChallenges = new HashMap<>();
+    // 사용자 ID -> 받은 보상 포인트 합계
+    private final Map<String, Integer> points = new HashMap<>();
+    private final IndexedSkipList<Standing> leaderboard = new IndexedSkipList<>(
+        Comparator.comparingInt(Standing::getPoints).reversed().thenComparing(Standing::getUserId));
+
+    private static class Tracked {
+        final Challenge challenge;
+        // 진행도에 들어간 일정 ID
+        final Set<String> counted = new HashSet<>();
+        // 달성했거나 기간이 끝나 더 이상 이벤트를 보지 않으면 false
+        boolean active = true;
+
+        Tracked(Challenge challenge) {
+            this.challenge = challenge;
+        }
+    }
+
+    // 순위표 한 줄
+    public static final class Standing {
+        private final String userId;
+        private final int points;
+
+        Standing(String userId, int points) {
+            this.userId = userId;
+            this.points = points;
+        }
+
+        public String getUserId() {
+            return userId;
+        }
+
+        public int getPoints() {
+            return points;
+        }
+
+        @Override
+        public String toString() {
+            return userId + " (" + points + " 포인트)";
+        }
+    }
+
+    public ChallengeEngine(ScheduleManager scheduleManager) {
+        this.scheduleManager = scheduleManager;
+    }
+
+    // 챌린지를 등록하고 이미 완료된 일정으로 진행도를 맞춘다
+    public synchronized void register(Challenge challenge) {
+        if (challenge.getUserId() == null) {
+            throw new IllegalArgumentException("사용자가 없는 챌린지는 등록할 수 없습니다.");
+        }
+        if (challenges.containsKey(challenge.getChallengeId())) {
+            throw new IllegalArgumentException("이미 등록된 챌린지입니다: " + challenge.getChallengeId());
+        }
+        Tracked tracked = new Tracked(challenge);
+        challenges.put(challenge.getChallengeId(), tracked);
+        userChallenges.computeIfAbsent(challenge.getUserId(), _ -> new ArrayList<>()).add(tracked);
+
+        boolean wasCompleted = challenge.isCompleted();
+        if (!wasCompleted) {
+            for (Schedule schedule : scheduleManager.getSchedulesByUserId(challenge.getUserId())) {
+                if (challenge.countsToward(schedule)) {
+                    tracked.counted.add(schedule.getScheduleId());
+                }
+            }
+            challenge.updateProgress(tracked.counted.size());
+        }
+        if (challenge.isCompleted()) {
+            tracked.active = false;
+            addPoints(challenge.getUserId(), challenge.getRewardPoints());
+        }
+        LOG.debug(() -> "챌린지 등록: " + challenge.getTitle() + " (진행도 " + challenge.getProgress() + ")");
+    }
+
+    // 등록을 풀어도 이미 받은 보상 포인트는 남는다
+    public synchronized void unregister(String challengeId) {
+        Tracked tracked = challenges.remove(challengeId);
+        if (tracked == null) {
+            return;
+        }
+        List<Tracked> owned = userChallenges.get(tracked.challenge.getUserId());
+        if (owned != null) {
+            owned.remove(tracked);
+            if (owned.isEmpty()) {
+                userChallenges.remove(tracked.challenge.getUserId());
+            }
+        }
+    }
+
+    public synchronized List<Challenge> getChallenges(String userId) {
+        List<Challenge> result = new ArrayList<>();
+        for (Tracked tracked : userChallenges.getOrDefault(userId, Collections.emptyList())) {
+            result.add(tracked.challenge);
+        }
+        return result;
+    }
+
+    public synchronized int getPoints(String userId) {
+        return points.getOrDefault(userId, 0);
+    }
+
+    // 포인트 순 상위 count명
+    public synchronized List<Standing> getTopUsers(int count) {
+        return leaderboard.range(0, count);
+    }
+
+    // 1등부터 센 순위 (포인트를 받은 적이 없으면 -1)
+    public synchronized int getRank(String userId) {
+        Integer userPoints = points.get(userId);
+        if (userPoints == null) {
+            return -1;
+        }
+        return leaderboard.rankOf(new Standing(userId, userPoints)) + 1;
+    }
+
+    public synchronized int getLeaderboardSize() {
+        return leaderboard.size();
+    }
+
+    @Override
+    public synchronized void onScheduleUpdated(Schedule before, Schedule after) {
+        if (before != null && (after == null
+                || !Objects.equals(before.getUserId(), after.getUserId())
+                || !before.getScheduleId().equals(after.getScheduleId()))) {
+            // 삭제되었거나 다른 사용자/ID로 바뀐 일정은 이전 챌린지에서 뺀다
+            for (Tracked tracked : activeChallenges(before.getUserId())) {
+                uncount(tracked, before.getScheduleId());
+            }
+        }
+        if (after != null) {
+            for (Tracked tracked : activeChallenges(after.getUserId())) {
+                if (tracked.challenge.countsToward(after)) {
+                    count(tracked, after.getScheduleId());
+                } else {
+                    uncount(tracked, after.getScheduleId());
+                }
+            }
+        }
+    }
+
+    // 진행 중인 챌린지 (기간이 끝난 챌린지는 여기서 걸러 다음부터 보지 않는다)
+    private List<Tracked> activeChallenges(String userId) {
+        List<Tracked> owned = userChallenges.get(userId);
+        if (owned == null) {
+            return Collections.emptyList();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Tracked> result = new ArrayList<>(owned.size());
+        for (Tracked tracked : owned) {
+            LocalDateTime endDate = tracked.challenge.getEndDate();
+            if (tracked.active && endDate != null && now.isAfter(endDate)) {
+                tracked.active = false;
+                tracked.counted.clear();
+            }
+            if (tracked.active) {
+                result.add(tracked);
+            }
+        }
+        return result;
+    }
+
+    private void count(Tracked tracked, String scheduleId) {
+        if (!tracked.counted.add(scheduleId)) {
+            return;
+        }
+        Challenge challenge = tracked.challenge;
+        challenge.updateProgress(challenge.getProgress() + 1);
+        if (challenge.isCompleted()) {
+            tracked.active = false;
+            tracked.counted.clear();
+            addPoints(challenge.getUserId(), challenge.getRewardPoints());
+        }
+    }
+
+    private void uncount(Tracked tracked, String scheduleId) {
+        if (tracked.counted.remove(scheduleId)) {
+            Challenge challenge = tracked.challenge;
+            challenge.updateProgress(Math.max(0, challenge.getProgress() - 1));
+        }
+    }
+
+    private void addPoints(String userId, int rewardPoints) {
+        Integer previous = points.get(userId);
+        if (previous != null) {
+            leaderboard.remove(new Standing(userId, previous));
+        }
+        int total = (previous != null ? previous : 0) + rewardPoints;
+        points.put(userId, total);
+        leaderboard.add(new Standing(userId, total));
+    }
+}
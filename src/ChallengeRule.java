@@ -0,0 +1,122 @@
+import java.util.*;
+import java.util.function.Predicate;
+
+// 챌린지 목표 문장(Challenge.target)을 일정 조건으로 바꾼 것
+// 예) "운동 일정 20개 완료", "complete 20 #독서 schedules", "카테고리:업무 중요 우선순위:3"
+// 공백으로 나눈 낱말마다 조건 하나를 만들고, 모든 조건을 만족하는 일정만 맞는 것으로 본다.
+// - #태그, 태그:값, tag:값          -> 그 태그가 붙은 일정
+// - 카테고리:값, category:값        -> 그 카테고리의 일정
+// - 우선순위:n, priority:n          -> 우선순위가 n 이상인 일정
+// - 중요, important                 -> 중요 표시된 일정
+// - 숫자, "일정", "완료" 같은 말    -> 무시 (목표 횟수는 Challenge.targetProgress로 정한다)
+// - 그 밖의 낱말 (모르는 키:값 포함) -> 카테고리가 그 값이거나 그 태그가 붙은 일정
+// 한 번 만들어 두고 완료 이벤트마다 matches만 부른다 (문장을 다시 해석하지 않는다).
+public class ChallengeRule {
+    private static final Set<String> IGNORED_WORDS = Set.of(
+        "일정", "일정을", "완료", "완료하기", "끝내기", "하기",
+        "complete", "completed", "finish", "schedule", "schedules");
+
+    private final String target;
+    private final List<Predicate<Schedule>> conditions;
+
+    private ChallengeRule(String target, List<Predicate<Schedule>> conditions) {
+        this.target = target;
+        this.conditions = conditions;
+    }
+
+    public static ChallengeRule compile(String target) {
+        List<Predicate<Schedule>> conditions = new ArrayList<>();
+        if (target != null) {
+            for (String token : target.trim().split("\\s+")) {
+                Predicate<Schedule> condition = compileToken(token.replace("\"", "").replace("'", ""));
+                if (condition != null) {
+                    conditions.add(condition);
+                }
+            }
+        }
+        return new ChallengeRule(target, List.copyOf(conditions));
+    }
+
+    public boolean matches(Schedule schedule) {
+        for (Predicate<Schedule> condition : conditions) {
+            if (!condition.test(schedule)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    private static Predicate<Schedule> compileToken(String token) {
+        if (token.isEmpty() || IGNORED_WORDS.contains(token.toLowerCase()) || isCount(token)) {
+            return null;
+        }
+        if (token.startsWith("#") && token.length() > 1) {
+            return tag(token.substring(1));
+        }
+        if (token.equals("중요") || token.equalsIgnoreCase("important")) {
+            return Schedule::isImportant;
+        }
+        int colon = token.indexOf(':');
+        if (colon > 0 && colon < token.length() - 1) {
+            String key = token.substring(0, colon).toLowerCase();
+            String value = token.substring(colon + 1);
+            switch (key) {
+                case "태그", "tag" -> {
+                    return tag(value);
+                }
+                case "카테고리", "category" -> {
+                    return category(value);
+                }
+                case "우선순위", "priority" -> {
+                    int minPriority = parsePriority(value);
+                    return schedule -> schedule.getPriority() >= minPriority;
+                }
+                default -> {
+                    // "시간:30분"처럼 모르는 키는 조건으로 보지 않고 낱말 그대로 맞춰 본다
+                }
+            }
+        }
+        Predicate<Schedule> byCategory = category(token);
+        Predicate<Schedule> byTag = tag(token);
+        return schedule -> byCategory.test(schedule) || byTag.test(schedule);
+    }
+
+    private static Predicate<Schedule> category(String name) {
+        return schedule -> name.equals(schedule.getCategory());
+    }
+
+    private static Predicate<Schedule> tag(String name) {
+        return schedule -> schedule.hasTag(name);
+    }
+
+    private static int parsePriority(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("우선순위는 숫자여야 합니다: " + value);
+        }
+    }
+
+    // "20", "20개", "20회", "20번", "20건"
+    private static boolean isCount(String token) {
+        String digits = token.replaceFirst("(개|회|번|건)$", "");
+        if (digits.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < digits.length(); i++) {
+            if (!Character.isDigit(digits.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "ChallengeRule[" + target + "]";
+    }
+}
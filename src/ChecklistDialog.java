@@ -11,6 +11,8 @@ public class ChecklistDialog extends JDialog {
     private JButton toggleButton;
     private JProgressBar progressBar;
     private JLabel progressLabel;
+    // 체크된 아이템 수 (추가/체크/삭제할 때마다 맞춘다)
+    private int completedCount;
     
     public ChecklistDialog(Frame owner, Schedule task) {
         super(owner, "체크리스트 관리 - " + task.getTitle(), true);
@@ -107,6 +109,7 @@ public class ChecklistDialog extends JDialog {
     
     private void loadChecklist() {
         listModel.clear();
+        completedCount = 0;
         // 실제로는 Task 객체의 체크리스트를 로드해야 함
         // 현재는 임시 데이터로 표시
         listModel.addElement("☐ 프로젝트 계획 수립");
@@ -131,8 +134,10 @@ public class ChecklistDialog extends JDialog {
             String item = listModel.getElementAt(selectedIndex);
             if (item.startsWith("☐ ")) {
                 listModel.set(selectedIndex, "☑ " + item.substring(2));
+                completedCount++;
             } else if (item.startsWith("☑ ")) {
                 listModel.set(selectedIndex, "☐ " + item.substring(2));
+                completedCount--;
             }
             updateProgress();
         }
@@ -141,22 +146,16 @@ public class ChecklistDialog extends JDialog {
     private void removeSelectedItem() {
         int selectedIndex = checklistList.getSelectedIndex();
         if (selectedIndex != -1) {
-            listModel.remove(selectedIndex);
+            if (listModel.remove(selectedIndex).startsWith("☑ ")) {
+                completedCount--;
+            }
             updateProgress();
         }
     }
     
     private void updateProgress() {
         int total = listModel.size();
-        int completed = 0;
-        
-        for (int i = 0; i < total; i++) {
-            String item = listModel.getElementAt(i);
-            if (item.startsWith("☑ ")) {
-                completed++;
-            }
-        }
-        
+        int completed = completedCount;
         double percentage = total > 0 ? (double) completed / total * 100 : 0;
         progressBar.setValue((int) percentage);
         progressLabel.setText(String.format("%d/%d 완료 (%.1f%%)", completed, total, percentage));
@@ -0,0 +1,74 @@
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+// 일관된 해시 링: 키(사용자 ID)를 노드에 배정한다
+// 노드마다 가상 노드 여러 개를 링에 흩어 두어 노드 사이 부하를 고르게 하고,
+// 노드가 추가/제거될 때 그 노드와 이웃한 구간의 키만 옮겨지도록 한다.
+public class ConsistentHashRing {
+    public static final int DEFAULT_VIRTUAL_NODES = 128;
+
+    private final int virtualNodes;
+    // 링 위치 -> 노드 ID
+    private final TreeMap<Long, String> ring = new TreeMap<>();
+    private final Set<String> nodes = new LinkedHashSet<>();
+
+    public ConsistentHashRing() {
+        this(DEFAULT_VIRTUAL_NODES);
+    }
+
+    public ConsistentHashRing(int virtualNodes) {
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("가상 노드 수는 1 이상이어야 합니다.");
+        }
+        this.virtualNodes = virtualNodes;
+    }
+
+    public void addNode(String nodeId) {
+        if (!nodes.add(nodeId)) {
+            throw new IllegalArgumentException("이미 등록된 노드입니다: " + nodeId);
+        }
+        for (int i = 0; i < virtualNodes; i++) {
+            // 해시가 겹치면 먼저 들어온 노드가 그 위치를 가진다
+            ring.putIfAbsent(hash(nodeId + "#" + i), nodeId);
+        }
+    }
+
+    public void removeNode(String nodeId) {
+        if (!nodes.remove(nodeId)) {
+            throw new IllegalArgumentException("등록되지 않은 노드입니다: " + nodeId);
+        }
+        ring.values().removeIf(nodeId::equals);
+    }
+
+    // key를 맡는 노드 (링에서 key 위치 이후 처음 만나는 가상 노드의 주인)
+    public String nodeFor(String key) {
+        if (ring.isEmpty()) {
+            throw new IllegalStateException("등록된 노드가 없습니다.");
+        }
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public Set<String> getNodes() {
+        return Collections.unmodifiableSet(nodes);
+    }
+
+    public boolean containsNode(String nodeId) {
+        return nodes.contains(nodeId);
+    }
+
+    // FNV-1a 64비트에 마무리 섞기를 더한 해시 (짧은 ID끼리도 링 위에 고르게 퍼지도록)
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -1,15 +1,28 @@
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import javax.swing.Timer;
 import java.util.List;
-import java.util.stream.Collectors;
 
-public class DashboardPanel extends JPanel {
+// 대시보드
+// 일정 변경 이벤트를 받아 오늘 일정과 완료 개수를 바뀐 일정만큼만 갱신하고,
+// 시계는 다음 초에 맞춰 한 번씩 예약하는 타이머로 표시한다 (날짜가 바뀌면 오늘 일정을 다시 만듦).
+public class DashboardPanel extends JPanel implements ScheduleManager.ScheduleUpdateListener {
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH:mm:ss");
 
     private final ScheduleManager scheduleManager;
     private final User currentUser;
+    private final Timer clockTimer;
+
+    // 오늘 일정 (시작 시각 순) 과 완료 개수 계산에 반영한 일정별 완료 여부
+    private LocalDate agendaDate;
+    private final Map<String, Schedule> todaySchedules = new HashMap<>();
+    private final Map<String, Boolean> countedSchedules = new HashMap<>();
+    private int completedCount;
 
     private JLabel welcomeLabel;
     private JLabel dateTimeLabel;
@@ -59,24 +72,49 @@ public class DashboardPanel extends JPanel {
         add(topPanel, BorderLayout.NORTH);
         add(centerPanel, BorderLayout.CENTER);
 
-        // 날짜/시간 실시간 업데이트 (1초마다)
-        new Timer(1000, _ -> updateDateTime()).start();
+        // 날짜/시간 실시간 업데이트 (다음 초가 시작될 때마다)
+        clockTimer = new Timer(1000, _ -> onClockTick());
+        clockTimer.setRepeats(false);
 
         // 데이터 로드
         updateDashboard();
+        scheduleManager.addScheduleUpdateListener(this);
+        scheduleNextTick();
+    }
+
+    private void onClockTick() {
+        // 자정이 지났으면 오늘 일정을 새 날짜 기준으로 다시 만든다
+        if (!LocalDate.now().equals(agendaDate)) {
+            rebuildTodaySchedules();
+        }
+        updateDateTime();
+        scheduleNextTick();
+    }
+
+    private void scheduleNextTick() {
+        int delay = (int) (1000 - System.currentTimeMillis() % 1000);
+        clockTimer.setInitialDelay(delay);
+        clockTimer.restart();
     }
 
     private void updateDateTime() {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy년 MM월 dd일 HH:mm:ss");
-        dateTimeLabel.setText(sdf.format(new Date()));
+        dateTimeLabel.setText(LocalDateTime.now().format(DATE_TIME_FORMATTER));
     }
 
+    // 전체를 다시 읽어 맞춘다 (처음 표시할 때와 대시보드 탭으로 돌아올 때)
     public void updateDashboard() {
         // 환영 메시지 업데이트
         welcomeLabel.setText(currentUser.getName() + "님, 안녕하세요!");
 
-        // 오늘 일정 업데이트
-        updateTodaySchedules();
+        countedSchedules.clear();
+        completedCount = 0;
+        for (Schedule schedule : scheduleManager.getUserSchedules()) {
+            countedSchedules.put(schedule.getScheduleId(), schedule.isCompleted());
+            if (schedule.isCompleted()) {
+                completedCount++;
+            }
+        }
+        rebuildTodaySchedules();
 
         // 할 일 현황 업데이트
         updateTaskStatus();
@@ -85,25 +123,78 @@ public class DashboardPanel extends JPanel {
         updateDateTime();
     }
 
+    @Override
+    public void onScheduleUpdated(Schedule before, Schedule after) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> onScheduleUpdated(before, after));
+            return;
+        }
+        // before와 after가 같은 객체일 수 있으므로 이전 상태는 기록해 둔 값으로 되돌린다
+        String scheduleId = before != null ? before.getScheduleId() : after.getScheduleId();
+        Boolean wasCompleted = countedSchedules.remove(scheduleId);
+        if (Boolean.TRUE.equals(wasCompleted)) {
+            completedCount--;
+        }
+        boolean todayChanged = todaySchedules.remove(scheduleId) != null;
+
+        if (after != null && isVisible(after)) {
+            countedSchedules.put(after.getScheduleId(), after.isCompleted());
+            if (after.isCompleted()) {
+                completedCount++;
+            }
+            if (isOnAgendaDate(after)) {
+                todaySchedules.put(after.getScheduleId(), after);
+                todayChanged = true;
+            }
+        }
+
+        if (todayChanged) {
+            updateTodaySchedules();
+        }
+        updateTaskStatus();
+    }
+
+    private boolean isVisible(Schedule schedule) {
+        String userId = currentUser.getUserId();
+        return userId.equals(schedule.getUserId()) || schedule.canUserView(userId);
+    }
+
+    private boolean isOnAgendaDate(Schedule schedule) {
+        return schedule.getStartTime() != null && schedule.getStartTime().toLocalDate().equals(agendaDate);
+    }
+
+    private void rebuildTodaySchedules() {
+        agendaDate = LocalDate.now();
+        todaySchedules.clear();
+        for (Schedule schedule : scheduleManager.getUserSchedules()) {
+            if (isOnAgendaDate(schedule)) {
+                todaySchedules.put(schedule.getScheduleId(), schedule);
+            }
+        }
+        updateTodaySchedules();
+    }
+
     private void updateTodaySchedules() {
-        List<Schedule> todaySchedules = scheduleManager.getSchedulesForToday();
         if (todaySchedules.isEmpty()) {
             todayScheduleArea.setText("오늘 예정된 일정이 없습니다.");
-        } else {
-            String schedulesText = todaySchedules.stream()
-                .map(s -> String.format("%s - %s: %s",
-                        s.getStartTime().toLocalTime(),
-                        s.getEndTime().toLocalTime(),
-                        s.getTitle()))
-                .collect(Collectors.joining("\n"));
-            todayScheduleArea.setText(schedulesText);
+            return;
+        }
+        List<Schedule> sorted = new ArrayList<>(todaySchedules.values());
+        sorted.sort(Comparator.comparing(Schedule::getStartTime));
+        StringBuilder schedulesText = new StringBuilder();
+        for (Schedule s : sorted) {
+            if (schedulesText.length() > 0) {
+                schedulesText.append('\n');
+            }
+            schedulesText.append(String.format("%s - %s: %s",
+                s.getStartTime().toLocalTime(),
+                s.getEndTime().toLocalTime(),
+                s.getTitle()));
         }
+        todayScheduleArea.setText(schedulesText.toString());
     }
 
     private void updateTaskStatus() {
-        List<Schedule> allSchedules = scheduleManager.getUserSchedules();
-        long completedSchedules = allSchedules.stream().filter(Schedule::isCompleted).count();
-        long totalSchedules = allSchedules.size();
-        taskStatusLabel.setText(String.format("총 %d개의 할 일 중 %d개 완료", totalSchedules, completedSchedules));
+        taskStatusLabel.setText(String.format("총 %d개의 할 일 중 %d개 완료", countedSchedules.size(), completedCount));
     }
-} 
\ No newline at end of file
+}
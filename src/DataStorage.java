@@ -3,38 +3,38 @@ import java.util.*;
 import java.nio.file.*;
 
 public class DataStorage {
+    private static final Log LOG = Log.get(DataStorage.class);
+
     private static final String DATA_DIR;
     private static final String USERS_FILE = "users.dat";
     private static final String SCHEDULES_FILE = "schedules.dat";
     private static final String TASKS_FILE = "tasks.dat";
+    private static final String RECOMMENDATIONS_DIR = "recommendations";
+    private static final int RECOMMENDATIONS_FORMAT_VERSION = 1;
 
     static {
-        // 현재 작업 디렉토리에 data 폴더 생성
+        // 현재 작업 디렉토리에 data 폴더 생성 (schedule.data.dir로 다른 폴더를 지정할 수 있다)
         String currentDir = System.getProperty("user.dir");
-        DATA_DIR = currentDir + File.separator + "data";
+        DATA_DIR = System.getProperty("schedule.data.dir", currentDir + File.separator + "data");
         File dataDir = new File(DATA_DIR);
         if (!dataDir.exists()) {
-            dataDir.mkdir();
+            dataDir.mkdirs();
         }
     }
 
     // 사용자 데이터 저장
     public static void saveUsers(Map<String, User> users) {
         if (users == null) {
-            System.err.println("저장할 사용자 데이터가 null입니다.");
+            LOG.warn("저장할 사용자 데이터가 null입니다.");
             return;
         }
         
         File file = new File(DATA_DIR + File.separator + USERS_FILE);
-        try (ObjectOutputStream oos = new ObjectOutputStream(
-                new BufferedOutputStream(
-                    new FileOutputStream(file)))) {
-            oos.writeObject(new HashMap<>(users)); // 새로운 HashMap으로 복사하여 저장
-            oos.flush();
-            System.out.println("사용자 데이터 저장 완료: " + users.size() + "명");
+        try {
+            writeObjectAtomically(file, new HashMap<>(users)); // 새로운 HashMap으로 복사하여 저장
+            LOG.debug(() -> "사용자 데이터 저장 완료: " + users.size() + "명");
         } catch (IOException e) {
-            System.err.println("사용자 데이터 저장 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("사용자 데이터 저장 중 오류 발생: " + e.getMessage(), e);
         }
     }
 
@@ -43,7 +43,7 @@ public class DataStorage {
     public static Map<String, User> loadUsers() {
         File file = new File(DATA_DIR + File.separator + USERS_FILE);
         if (!file.exists()) {
-            System.out.println("사용자 데이터 파일이 없습니다. 새로 생성합니다.");
+            LOG.info("사용자 데이터 파일이 없습니다. 새로 생성합니다.");
             return new HashMap<>();
         }
 
@@ -53,14 +53,13 @@ public class DataStorage {
             Object obj = ois.readObject();
             if (obj instanceof Map) {
                 Map<String, User> loadedUsers = (Map<String, User>) obj;
-                System.out.println("사용자 데이터 로드 완료: " + loadedUsers.size() + "명");
+                LOG.debug(() -> "사용자 데이터 로드 완료: " + loadedUsers.size() + "명");
                 return new HashMap<>(loadedUsers); // 새로운 HashMap으로 복사하여 반환
             } else {
-                System.err.println("잘못된 데이터 형식입니다.");
+                LOG.error("잘못된 데이터 형식입니다.");
             }
         } catch (IOException | ClassNotFoundException e) {
-            System.err.println("사용자 데이터 로드 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("사용자 데이터 로드 중 오류 발생: " + e.getMessage(), e);
         }
         return new HashMap<>();
     }
@@ -68,20 +67,16 @@ public class DataStorage {
     // 일정 데이터 저장
     public static void saveSchedules(Map<String, Schedule> schedules) {
         if (schedules == null) {
-            System.err.println("저장할 일정 데이터가 null입니다.");
+            LOG.warn("저장할 일정 데이터가 null입니다.");
             return;
         }
         
         File file = new File(DATA_DIR + File.separator + SCHEDULES_FILE);
-        try (ObjectOutputStream oos = new ObjectOutputStream(
-                new BufferedOutputStream(
-                    new FileOutputStream(file)))) {
-            oos.writeObject(new HashMap<>(schedules)); // 새로운 HashMap으로 복사하여 저장
-            oos.flush();
-            System.out.println("일정 데이터 저장 완료: " + schedules.size() + "개");
+        try {
+            writeObjectAtomically(file, new HashMap<>(schedules)); // 새로운 HashMap으로 복사하여 저장
+            LOG.debug(() -> "일정 데이터 저장 완료: " + schedules.size() + "개");
         } catch (IOException e) {
-            System.err.println("일정 데이터 저장 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("일정 데이터 저장 중 오류 발생: " + e.getMessage(), e);
         }
     }
 
@@ -90,7 +85,7 @@ public class DataStorage {
     public static Map<String, Schedule> loadSchedules() {
         File file = new File(DATA_DIR + File.separator + SCHEDULES_FILE);
         if (!file.exists()) {
-            System.out.println("일정 데이터 파일이 없습니다. 새로 생성합니다.");
+            LOG.info("일정 데이터 파일이 없습니다. 새로 생성합니다.");
             return new HashMap<>();
         }
 
@@ -100,18 +95,187 @@ public class DataStorage {
             Object obj = ois.readObject();
             if (obj instanceof Map) {
                 Map<String, Schedule> loadedSchedules = (Map<String, Schedule>) obj;
-                System.out.println("일정 데이터 로드 완료: " + loadedSchedules.size() + "개");
+                // 반복되는 문자열은 Schedule.readObject에서 StringDictionary로 합쳐진다
+                LOG.debug(() -> "일정 데이터 로드 완료: " + loadedSchedules.size() + "개 (사전 문자열 "
+                    + StringDictionary.size() + "개)");
                 return new HashMap<>(loadedSchedules); // 새로운 HashMap으로 복사하여 반환
             } else {
-                System.err.println("잘못된 데이터 형식입니다.");
+                LOG.error("잘못된 데이터 형식입니다.");
             }
         } catch (IOException | ClassNotFoundException e) {
-            System.err.println("일정 데이터 로드 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("일정 데이터 로드 중 오류 발생: " + e.getMessage(), e);
         }
         return new HashMap<>();
     }
 
+    // 할 일 데이터 저장
+    public static void saveTasks(Map<String, Task> tasks) {
+        if (tasks == null) {
+            LOG.warn("저장할 할 일 데이터가 null입니다.");
+            return;
+        }
+
+        File file = new File(DATA_DIR + File.separator + TASKS_FILE);
+        try {
+            writeObjectAtomically(file, new HashMap<>(tasks));
+            LOG.debug(() -> "할 일 데이터 저장 완료: " + tasks.size() + "개");
+        } catch (IOException e) {
+            LOG.error("할 일 데이터 저장 중 오류 발생: " + e.getMessage(), e);
+        }
+    }
+
+    // 할 일 데이터 불러오기
+    @SuppressWarnings("unchecked")
+    public static Map<String, Task> loadTasks() {
+        File file = new File(DATA_DIR + File.separator + TASKS_FILE);
+        if (!file.exists()) {
+            LOG.info("할 일 데이터 파일이 없습니다. 새로 생성합니다.");
+            return new HashMap<>();
+        }
+
+        try (ObjectInputStream ois = new ObjectInputStream(
+                new BufferedInputStream(
+                    new FileInputStream(file)))) {
+            Object obj = ois.readObject();
+            if (obj instanceof Map) {
+                Map<String, Task> loadedTasks = (Map<String, Task>) obj;
+                LOG.debug(() -> "할 일 데이터 로드 완료: " + loadedTasks.size() + "개");
+                return new HashMap<>(loadedTasks);
+            } else {
+                LOG.error("잘못된 할 일 데이터 형식입니다.");
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            LOG.error("할 일 데이터 로드 중 오류 발생: " + e.getMessage(), e);
+        }
+        return new HashMap<>();
+    }
+
+    // 사용자별 미리 계산한 추천 저장
+    // 형식: 버전, 생성 시각(ms), 카테고리, 개수, [시작(초), 길이(초), 점수] x 개수
+    public static void saveRecommendations(String userId, ScheduleRecommender.PrecomputedRecommendations precomputed) {
+        File dir = new File(DATA_DIR + File.separator + RECOMMENDATIONS_DIR);
+        if (!dir.exists()) {
+            dir.mkdirs();
+        }
+        File file = recommendationsFile(userId);
+        File tempFile = new File(file.getPath() + ".tmp");
+        List<ScheduleRecommender.ScheduleRecommendation> recommendations = precomputed.getRecommendations();
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(
+                    new FileOutputStream(tempFile)))) {
+            out.writeInt(RECOMMENDATIONS_FORMAT_VERSION);
+            out.writeLong(precomputed.getGeneratedAtMillis());
+            out.writeUTF(recommendations.isEmpty() ? "" : recommendations.get(0).getCategory());
+            out.writeInt(recommendations.size());
+            for (ScheduleRecommender.ScheduleRecommendation recommendation : recommendations) {
+                long start = AvailabilityIndex.toSeconds(recommendation.getTimeSlot().start);
+                long end = AvailabilityIndex.toSeconds(recommendation.getTimeSlot().end);
+                out.writeLong(start);
+                out.writeInt((int) (end - start));
+                out.writeFloat((float) recommendation.getScore());
+            }
+        } catch (IOException e) {
+            LOG.error("추천 데이터 저장 중 오류 발생: " + e.getMessage());
+            tempFile.delete();
+            return;
+        }
+        try {
+            // 읽는 쪽이 반쯤 쓰인 파일을 보지 않도록 다 쓴 뒤 교체
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOG.error("추천 데이터 저장 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    // 사용자별 미리 계산한 추천 불러오기 (없거나 읽을 수 없으면 null)
+    public static ScheduleRecommender.PrecomputedRecommendations loadRecommendations(String userId) {
+        File file = recommendationsFile(userId);
+        if (!file.exists()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(
+                    new FileInputStream(file)))) {
+            if (in.readInt() != RECOMMENDATIONS_FORMAT_VERSION) {
+                return null;
+            }
+            long generatedAtMillis = in.readLong();
+            String category = in.readUTF();
+            int count = in.readInt();
+            List<ScheduleRecommender.ScheduleRecommendation> recommendations = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long start = in.readLong();
+                int length = in.readInt();
+                double score = in.readFloat();
+                recommendations.add(new ScheduleRecommender.ScheduleRecommendation(
+                    new ScheduleRecommender.TimeSlot(AvailabilityIndex.fromSeconds(start),
+                        AvailabilityIndex.fromSeconds(start + length)),
+                    category, score));
+            }
+            return new ScheduleRecommender.PrecomputedRecommendations(generatedAtMillis, recommendations);
+        } catch (IOException e) {
+            LOG.error("추천 데이터 로드 중 오류 발생: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // 동기화 상태 저장 (클라이언트 복제본/서버 상태, 다 쓴 뒤 교체)
+    public static void saveSyncState(String fileName, Serializable state) {
+        File file = new File(DATA_DIR + File.separator + fileName);
+        try {
+            writeObjectAtomically(file, state);
+        } catch (IOException e) {
+            LOG.error("동기화 상태 저장 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    // 같은 폴더의 임시 파일에 다 쓴 뒤 한 번에 바꿔 끼운다
+    // 저장 도중에 꺼지거나 두 스레드가 동시에 저장해도 파일이 반쯤 쓰이거나 섞인 채로 남지 않는다 (나중에 바꾼 쪽이 남음).
+    // 임시 파일 이름은 저장할 때마다 다르다.
+    private static void writeObjectAtomically(File file, Object data) throws IOException {
+        Path target = file.toPath();
+        Path tempFile = Files.createTempFile(target.getParent(), file.getName(), ".tmp");
+        try {
+            try (ObjectOutputStream oos = new ObjectOutputStream(
+                    new BufferedOutputStream(
+                        Files.newOutputStream(tempFile)))) {
+                oos.writeObject(data);
+            }
+            try {
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    // 동기화 상태 불러오기 (없거나 읽을 수 없으면 null)
+    public static Object loadSyncState(String fileName) {
+        File file = new File(DATA_DIR + File.separator + fileName);
+        if (!file.exists()) {
+            return null;
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(
+                new BufferedInputStream(
+                    new FileInputStream(file)))) {
+            return ois.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            LOG.error("동기화 상태 로드 중 오류 발생: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // 사용자 ID를 파일 이름으로 쓸 수 있게 바꾼다 (바뀐 문자가 있으면 해시로 구분)
+    private static File recommendationsFile(String userId) {
+        String safeName = userId.replaceAll("[^A-Za-z0-9_-]", "_");
+        if (!safeName.equals(userId)) {
+            safeName += "_" + Integer.toHexString(userId.hashCode());
+        }
+        return new File(DATA_DIR + File.separator + RECOMMENDATIONS_DIR + File.separator + safeName + ".rec");
+    }
+
     // 데이터 백업
     public static void backupData() {
         String timestamp = new java.text.SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
@@ -135,12 +299,15 @@ public class DataStorage {
                     StandardCopyOption.REPLACE_EXISTING);
             }
 
-            // 할 일 데이터 백업 로직 제거
-            // File tasksFile = new File(DATA_DIR + File.separator + TASKS_FILE);
-            // if (tasksFile.exists()) { ... }
+            // 할 일 데이터 백업
+            File tasksFile = new File(DATA_DIR + File.separator + TASKS_FILE);
+            if (tasksFile.exists()) {
+                Files.copy(tasksFile.toPath(), 
+                    new File(backupDir + File.separator + TASKS_FILE).toPath(),
+                    StandardCopyOption.REPLACE_EXISTING);
+            }
         } catch (IOException e) {
-            System.err.println("데이터 백업 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("데이터 백업 중 오류 발생: " + e.getMessage(), e);
         }
     }
 
@@ -165,12 +332,15 @@ public class DataStorage {
                     StandardCopyOption.REPLACE_EXISTING);
             }
 
-            // 할 일 데이터 복원 로직 제거
-            // File tasksBackup = new File(backupDir + File.separator + TASKS_FILE);
-            // if (tasksBackup.exists()) { ... }
+            // 할 일 데이터 복원
+            File tasksBackup = new File(backupDir + File.separator + TASKS_FILE);
+            if (tasksBackup.exists()) {
+                Files.copy(tasksBackup.toPath(), 
+                    new File(DATA_DIR + File.separator + TASKS_FILE).toPath(),
+                    StandardCopyOption.REPLACE_EXISTING);
+            }
         } catch (IOException e) {
-            System.err.println("데이터 복원 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("데이터 복원 중 오류 발생: " + e.getMessage(), e);
         }
     }
 
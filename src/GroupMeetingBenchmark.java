@@ -0,0 +1,68 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 여러 사용자 공통 빈 시간 찾기(GroupMeetingFinder) 응답 시간 측정
+// 사용자마다 평일 하루 2~5개씩 한 달 치 일정을 만들어 두고, 50명 x 한 달 구간에서 1시간 회의 후보 상위 10개를 찾는다.
+// 첫 호출(빈 시간 색인을 만드는 시간 포함)과 색인이 만들어진 뒤의 호출을 따로 보여 준다. 목표는 100ms 미만.
+// 실제 data 폴더 대신 임시 폴더를 쓴다.
+// 실행: java GroupMeetingBenchmark [사용자 수 (기본 50)] [반복 횟수 (기본 200)]
+public class GroupMeetingBenchmark {
+    public static void main(String[] args) throws IOException {
+        int userCount = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        Path directory = Files.createTempDirectory("schedule-bench");
+        System.setProperty("schedule.data.dir", directory.resolve("data").toString());
+        System.setProperty("schedule.log.dir", directory.resolve("logs").toString());
+
+        ScheduleManager scheduleManager = ScheduleManager.getInstance();
+        LocalDateTime monthStart = LocalDateTime.of(2025, 3, 1, 0, 0);
+        List<String> userIds = new ArrayList<>();
+        List<Schedule> schedules = new ArrayList<>();
+        Random random = new Random(42);
+        for (int u = 0; u < userCount; u++) {
+            String userId = "bench-user" + u;
+            userIds.add(userId);
+            for (int day = 0; day < 31; day++) {
+                LocalDateTime date = monthStart.plusDays(day);
+                if (date.getDayOfWeek().getValue() > 5) {
+                    continue;
+                }
+                int count = 2 + random.nextInt(4);
+                for (int i = 0; i < count; i++) {
+                    // 9시~18시 사이 30분 단위, 30~90분짜리 (겹쳐도 바쁜 시간 계산에는 상관없다)
+                    LocalDateTime start = date.plusHours(9).plusMinutes(30L * random.nextInt(18));
+                    schedules.add(new Schedule(IdGenerator.newId(), "일정", "", start,
+                        start.plusMinutes(30L * (1 + random.nextInt(3))), "", "업무", false, userId));
+                }
+            }
+        }
+        scheduleManager.applyReplicatedSnapshot(schedules);
+        System.out.println("사용자 " + userCount + "명, 일정 " + schedules.size() + "개");
+
+        GroupMeetingFinder finder = new GroupMeetingFinder(scheduleManager);
+        LocalDateTime end = monthStart.plusMonths(1);
+        Duration duration = Duration.ofHours(1);
+
+        long coldStart = System.nanoTime();
+        int found = finder.findMeetingTimes(userIds, monthStart, end, duration,
+            AvailabilityIndex.WorkingHours.DEFAULT, 10).size();
+        long coldNanos = System.nanoTime() - coldStart;
+
+        long[] nanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long startNanos = System.nanoTime();
+            found = finder.findMeetingTimes(userIds, monthStart, end, duration,
+                AvailabilityIndex.WorkingHours.DEFAULT, 10).size();
+            nanos[i] = System.nanoTime() - startNanos;
+        }
+        Arrays.sort(nanos);
+        System.out.printf("후보 %d개, 첫 호출 %.2f ms, 중앙값 %.2f ms, p95 %.2f ms, 최대 %.2f ms%n",
+            found, coldNanos / 1e6, nanos[iterations / 2] / 1e6,
+            nanos[(int) (iterations * 0.95)] / 1e6, nanos[iterations - 1] / 1e6);
+        System.exit(0);
+    }
+}
@@ -0,0 +1,201 @@
+import javax.swing.*;
+import javax.swing.table.*;
+import java.awt.*;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+public class GroupMeetingDialog extends JDialog {
+    private static final int MAX_RESULTS = 10;
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd (E) HH:mm");
+
+    private final ScheduleManager scheduleManager;
+    private final UserManager userManager;
+    private final GroupMeetingFinder finder;
+    private JList<String> userList;
+    private JSpinner startDateSpinner;
+    private JSpinner endDateSpinner;
+    private JSpinner durationSpinner;
+    private JTable resultTable;
+    private DefaultTableModel tableModel;
+    private JLabel statusLabel;
+    private List<GroupMeetingFinder.MeetingCandidate> candidates;
+    private List<String> selectedUsers;
+
+    public GroupMeetingDialog(Frame owner, ScheduleManager scheduleManager, UserManager userManager) {
+        super(owner, "함께할 시간 찾기", true);
+        this.scheduleManager = scheduleManager;
+        this.userManager = userManager;
+        this.finder = new GroupMeetingFinder(scheduleManager);
+        this.candidates = new ArrayList<>();
+        this.selectedUsers = new ArrayList<>();
+
+        setLayout(new BorderLayout());
+        setSize(600, 500);
+        setLocationRelativeTo(owner);
+        initComponents();
+    }
+
+    private void initComponents() {
+        // 상단 패널 (참석자, 기간, 회의 시간)
+        JPanel topPanel = new JPanel(new GridBagLayout());
+        topPanel.setBorder(BorderFactory.createTitledBorder("검색 조건"));
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(5, 5, 5, 5);
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+
+        List<String> users = userManager.getAllUsers();
+        userList = new JList<>(users.toArray(new String[0]));
+        userList.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+        userList.setVisibleRowCount(5);
+        String currentUserId = userManager.getCurrentUserId();
+        if (currentUserId != null) {
+            userList.setSelectedValue(currentUserId, true);
+        }
+
+        gbc.gridx = 0; gbc.gridy = 0; gbc.gridheight = 3;
+        topPanel.add(new JLabel("참석자:"), gbc);
+        gbc.gridx = 1;
+        topPanel.add(new JScrollPane(userList), gbc);
+
+        LocalDate today = LocalDate.now();
+        startDateSpinner = createDateSpinner(today);
+        endDateSpinner = createDateSpinner(today.plusDays(7));
+        durationSpinner = new JSpinner(new SpinnerNumberModel(60, 5, 480, 5));
+
+        gbc.gridheight = 1;
+        gbc.gridx = 2; gbc.gridy = 0;
+        topPanel.add(new JLabel("시작일:"), gbc);
+        gbc.gridx = 3;
+        topPanel.add(startDateSpinner, gbc);
+
+        gbc.gridx = 2; gbc.gridy = 1;
+        topPanel.add(new JLabel("종료일:"), gbc);
+        gbc.gridx = 3;
+        topPanel.add(endDateSpinner, gbc);
+
+        gbc.gridx = 2; gbc.gridy = 2;
+        topPanel.add(new JLabel("회의 시간(분):"), gbc);
+        gbc.gridx = 3;
+        topPanel.add(durationSpinner, gbc);
+
+        JButton searchButton = new JButton("검색");
+        searchButton.addActionListener(_ -> searchMeetingTimes());
+        gbc.gridx = 4; gbc.gridy = 0; gbc.gridheight = 3;
+        topPanel.add(searchButton, gbc);
+
+        // 결과 테이블
+        String[] columnNames = {"시작 시간", "종료 시간", "점수"};
+        tableModel = new DefaultTableModel(columnNames, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        resultTable = new JTable(tableModel);
+        resultTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+
+        // 하단 패널 (상태, 버튼)
+        JPanel bottomPanel = new JPanel(new BorderLayout());
+        statusLabel = new JLabel(" ");
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        JButton createButton = new JButton("일정 만들기");
+        JButton closeButton = new JButton("닫기");
+        createButton.addActionListener(_ -> createMeeting());
+        closeButton.addActionListener(_ -> dispose());
+        buttonPanel.add(createButton);
+        buttonPanel.add(closeButton);
+        bottomPanel.add(statusLabel, BorderLayout.WEST);
+        bottomPanel.add(buttonPanel, BorderLayout.EAST);
+
+        add(topPanel, BorderLayout.NORTH);
+        add(new JScrollPane(resultTable), BorderLayout.CENTER);
+        add(bottomPanel, BorderLayout.SOUTH);
+    }
+
+    private JSpinner createDateSpinner(LocalDate date) {
+        JSpinner spinner = new JSpinner(new SpinnerDateModel());
+        spinner.setEditor(new JSpinner.DateEditor(spinner, "yyyy-MM-dd"));
+        spinner.setValue(Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        return spinner;
+    }
+
+    private LocalDate getDate(JSpinner spinner) {
+        return ((Date) spinner.getValue()).toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    private void searchMeetingTimes() {
+        List<String> users = userList.getSelectedValuesList();
+        if (users.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "참석자를 선택해주세요.", "알림", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        LocalDateTime start = getDate(startDateSpinner).atStartOfDay();
+        LocalDateTime end = getDate(endDateSpinner).plusDays(1).atStartOfDay();
+        if (start.isBefore(LocalDateTime.now())) {
+            start = LocalDateTime.now();
+        }
+        Duration duration = Duration.ofMinutes((Integer) durationSpinner.getValue());
+
+        try {
+            long startedAt = System.nanoTime();
+            candidates = finder.findMeetingTimes(users, start, end, duration,
+                AvailabilityIndex.WorkingHours.DEFAULT, MAX_RESULTS);
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            selectedUsers = new ArrayList<>(users);
+
+            tableModel.setRowCount(0);
+            for (GroupMeetingFinder.MeetingCandidate candidate : candidates) {
+                tableModel.addRow(new Object[]{
+                    candidate.getStartTime().format(DATE_TIME_FORMATTER),
+                    candidate.getEndTime().format(DATE_TIME_FORMATTER),
+                    String.format("%.2f", candidate.getScore())
+                });
+            }
+            statusLabel.setText(String.format("%d명, 후보 %d개 (%dms)", users.size(), candidates.size(), elapsedMillis));
+        } catch (IllegalArgumentException ex) {
+            JOptionPane.showMessageDialog(this, ex.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    // 선택한 시간으로 일정을 만들고 다른 참석자에게 공유
+    private void createMeeting() {
+        int selectedRow = resultTable.getSelectedRow();
+        if (selectedRow == -1) {
+            JOptionPane.showMessageDialog(this, "시간을 선택해주세요.", "알림", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        String currentUserId = userManager.getCurrentUserId();
+        if (currentUserId == null) {
+            JOptionPane.showMessageDialog(this, "일정을 만들려면 로그인이 필요합니다.", "오류", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        String title = JOptionPane.showInputDialog(this, "일정 제목을 입력하세요:", "회의");
+        if (title == null || title.trim().isEmpty()) {
+            return;
+        }
+
+        GroupMeetingFinder.MeetingCandidate candidate = candidates.get(selectedRow);
+        try {
+            Schedule schedule = new Schedule(IdGenerator.newId(), title.trim(), "",
+                candidate.getStartTime(), candidate.getEndTime(), "", "업무", false, currentUserId);
+            scheduleManager.addSchedule(schedule);
+            for (String userId : selectedUsers) {
+                if (!userId.equals(currentUserId)) {
+                    scheduleManager.shareSchedule(schedule.getScheduleId(), userId, "READ");
+                }
+            }
+            JOptionPane.showMessageDialog(this, "일정이 추가되었습니다.", "알림", JOptionPane.INFORMATION_MESSAGE);
+            dispose();
+        } catch (Exception ex) {
+            JOptionPane.showMessageDialog(this, "일정 추가 중 오류가 발생했습니다: " + ex.getMessage(),
+                "오류", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+// 여러 사용자가 모두 비어 있는 시간 찾기
+// 조회 구간을 5분 단위 칸으로 나눠 사용자별 바쁜 시간을 비트맵(long 배열)으로 만들고,
+// 워드 단위 OR 연산으로 합친 뒤 연속으로 비어 있는 칸에서 후보를 고른다.
+public class GroupMeetingFinder {
+    private static final int SLOT_MINUTES = 5;
+    private static final long SLOT_SECONDS = SLOT_MINUTES * 60L;
+    // 후보 시작 시각 간격 (30분)
+    private static final int CANDIDATE_STEP_SLOTS = 30 / SLOT_MINUTES;
+
+    private final ScheduleManager scheduleManager;
+
+    public static class MeetingCandidate {
+        private final LocalDateTime startTime;
+        private final LocalDateTime endTime;
+        private final double score;
+
+        public MeetingCandidate(LocalDateTime startTime, LocalDateTime endTime, double score) {
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.score = score;
+        }
+
+        public LocalDateTime getStartTime() { return startTime; }
+        public LocalDateTime getEndTime() { return endTime; }
+        public double getScore() { return score; }
+    }
+
+    public GroupMeetingFinder(ScheduleManager scheduleManager) {
+        this.scheduleManager = scheduleManager;
+    }
+
+    // 모든 사용자가 비어 있는 duration 길이의 시간 중 점수가 높은 상위 limit개 (점수 내림차순)
+    public List<MeetingCandidate> findMeetingTimes(Collection<String> userIds, LocalDateTime start, LocalDateTime end,
+            Duration duration, AvailabilityIndex.WorkingHours workingHours, int limit) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new IllegalArgumentException("참석자를 한 명 이상 선택해야 합니다.");
+        }
+        if (start == null || end == null || !start.isBefore(end)) {
+            throw new IllegalArgumentException("검색 기간이 올바르지 않습니다.");
+        }
+        if (duration == null || duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("회의 시간은 0분보다 길어야 합니다.");
+        }
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        // 칸 경계에 맞춘 조회 구간
+        long baseSeconds = Math.floorDiv(AvailabilityIndex.toSeconds(start), SLOT_SECONDS) * SLOT_SECONDS;
+        long endSeconds = AvailabilityIndex.toSeconds(end);
+        int slotCount = (int) ((endSeconds - baseSeconds + SLOT_SECONDS - 1) / SLOT_SECONDS);
+        int durationSlots = (int) ((duration.getSeconds() + SLOT_SECONDS - 1) / SLOT_SECONDS);
+        if (durationSlots > slotCount) {
+            return new ArrayList<>();
+        }
+
+        // 근무 시간 밖은 처음부터 막아 둔다
+        long[] unavailable = outsideWorkingHours(baseSeconds, slotCount, start, end, workingHours);
+        AvailabilityIndex index = scheduleManager.getAvailabilityIndex();
+        LocalDateTime windowStart = AvailabilityIndex.fromSeconds(baseSeconds);
+        for (String userId : userIds) {
+            long[] busy = new long[unavailable.length];
+            for (long[] interval : index.getBusyIntervals(userId, windowStart, end)) {
+                setRange(busy, toSlot(interval[0], baseSeconds, false), toSlot(interval[1], baseSeconds, true), slotCount);
+            }
+            for (int w = 0; w < unavailable.length; w++) {
+                unavailable[w] |= busy[w];
+            }
+        }
+
+        // 참석자 생산성 프로필 점수의 평균 (요일 x 시간)
+        double[][] groupScores = new double[7][24];
+        ProductivityProfileStore profileStore = scheduleManager.getProductivityProfiles();
+        for (String userId : userIds) {
+            double[][] scores = profileStore.getProfile(userId).getSlotScores();
+            for (int day = 0; day < 7; day++) {
+                for (int hour = 0; hour < 24; hour++) {
+                    groupScores[day][hour] += scores[day][hour] / userIds.size();
+                }
+            }
+        }
+
+        // 점수가 가장 낮은 후보가 맨 앞에 오는 크기 limit의 힙
+        PriorityQueue<MeetingCandidate> topCandidates = new PriorityQueue<>(
+            Comparator.comparingDouble(MeetingCandidate::getScore)
+                .thenComparing(MeetingCandidate::getStartTime, Comparator.reverseOrder()));
+
+        int slot = nextClear(unavailable, 0, slotCount);
+        while (slot < slotCount) {
+            int runEnd = nextSet(unavailable, slot, slotCount);
+            // 비어 있는 구간 안에서 30분 간격으로 후보 시작 시각을 고른다
+            int firstCandidate = alignUp(slot, baseSeconds);
+            for (int s = firstCandidate; s + durationSlots <= runEnd; s += CANDIDATE_STEP_SLOTS) {
+                LocalDateTime candidateStart = AvailabilityIndex.fromSeconds(baseSeconds + s * SLOT_SECONDS);
+                double score = groupScores[candidateStart.getDayOfWeek().getValue() - 1][candidateStart.getHour()];
+                if (topCandidates.size() < limit) {
+                    topCandidates.add(new MeetingCandidate(candidateStart, candidateStart.plus(duration), score));
+                } else if (score > topCandidates.peek().getScore()) {
+                    topCandidates.poll();
+                    topCandidates.add(new MeetingCandidate(candidateStart, candidateStart.plus(duration), score));
+                }
+            }
+            slot = nextClear(unavailable, runEnd, slotCount);
+        }
+
+        List<MeetingCandidate> result = new ArrayList<>(topCandidates);
+        result.sort(Comparator.comparingDouble(MeetingCandidate::getScore).reversed()
+            .thenComparing(MeetingCandidate::getStartTime));
+        return result;
+    }
+
+    // 후보 시작 칸을 정시/30분 경계에 맞춘다
+    private int alignUp(int slot, long baseSeconds) {
+        long slotOfDay = Math.floorMod(baseSeconds / SLOT_SECONDS + slot, (long) CANDIDATE_STEP_SLOTS);
+        return slotOfDay == 0 ? slot : slot + (int) (CANDIDATE_STEP_SLOTS - slotOfDay);
+    }
+
+    private long[] outsideWorkingHours(long baseSeconds, int slotCount, LocalDateTime start, LocalDateTime end,
+            AvailabilityIndex.WorkingHours workingHours) {
+        long[] bits = new long[(slotCount + 63) / 64];
+        setRange(bits, 0, slotCount, slotCount);
+        for (LocalDate date = start.toLocalDate(); !date.isAfter(end.toLocalDate()); date = date.plusDays(1)) {
+            if (!workingHours.isWorkingDay(date)) {
+                continue;
+            }
+            LocalDateTime dayEnd = workingHours.dayEnd.equals(LocalTime.MAX)
+                ? date.plusDays(1).atStartOfDay() : date.atTime(workingHours.dayEnd);
+            long openFrom = Math.max(AvailabilityIndex.toSeconds(date.atTime(workingHours.dayStart)),
+                AvailabilityIndex.toSeconds(start));
+            long openTo = Math.min(AvailabilityIndex.toSeconds(dayEnd), AvailabilityIndex.toSeconds(end));
+            if (openFrom < openTo) {
+                clearRange(bits, toSlot(openFrom, baseSeconds, true), toSlot(openTo, baseSeconds, false), slotCount);
+            }
+        }
+        return bits;
+    }
+
+    // 초 단위 시각을 칸 번호로 (roundUp이면 걸친 칸을 포함)
+    private static int toSlot(long seconds, long baseSeconds, boolean roundUp) {
+        long offset = seconds - baseSeconds;
+        long slot = roundUp ? Math.floorDiv(offset + SLOT_SECONDS - 1, SLOT_SECONDS) : Math.floorDiv(offset, SLOT_SECONDS);
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, slot));
+    }
+
+    // [from, to) 칸을 1로 설정 (워드 단위)
+    private static void setRange(long[] bits, int from, int to, int slotCount) {
+        from = Math.max(0, from);
+        to = Math.min(slotCount, to);
+        if (from >= to) {
+            return;
+        }
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (firstWord == lastWord) {
+            bits[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        bits[firstWord] |= firstMask;
+        for (int w = firstWord + 1; w < lastWord; w++) {
+            bits[w] = -1L;
+        }
+        bits[lastWord] |= lastMask;
+    }
+
+    // [from, to) 칸을 0으로 설정 (워드 단위)
+    private static void clearRange(long[] bits, int from, int to, int slotCount) {
+        from = Math.max(0, from);
+        to = Math.min(slotCount, to);
+        if (from >= to) {
+            return;
+        }
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (firstWord == lastWord) {
+            bits[firstWord] &= ~(firstMask & lastMask);
+            return;
+        }
+        bits[firstWord] &= ~firstMask;
+        for (int w = firstWord + 1; w < lastWord; w++) {
+            bits[w] = 0L;
+        }
+        bits[lastWord] &= ~lastMask;
+    }
+
+    // from 이후 처음으로 0인 칸 (없으면 slotCount)
+    private static int nextClear(long[] bits, int from, int slotCount) {
+        if (from >= slotCount) {
+            return slotCount;
+        }
+        int w = from >>> 6;
+        long word = ~bits[w] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return Math.min(slotCount, (w << 6) + Long.numberOfTrailingZeros(word));
+            }
+            if (++w >= bits.length) {
+                return slotCount;
+            }
+            word = ~bits[w];
+        }
+    }
+
+    // from 이후 처음으로 1인 칸 (없으면 slotCount)
+    private static int nextSet(long[] bits, int from, int slotCount) {
+        if (from >= slotCount) {
+            return slotCount;
+        }
+        int w = from >>> 6;
+        long word = bits[w] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return Math.min(slotCount, (w << 6) + Long.numberOfTrailingZeros(word));
+            }
+            if (++w >= bits.length) {
+                return slotCount;
+            }
+            word = bits[w];
+        }
+    }
+}
@@ -0,0 +1,100 @@
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 시각 순으로 정렬되는 128비트 ID (ULID 형식, Crockford base32 26자)
+// 앞 10자는 생성 시각(ms, 48비트), 뒤 16자는 난수(80비트)라서 문자열 비교만으로 생성 순서대로 정렬된다.
+// 난수는 스레드마다 따로 뽑고(ThreadLocalRandom, 잠금 없음), 같은 스레드에서 같은 ms에 또 만들면
+// 난수 부분을 1 올려 그 스레드 안에서는 항상 증가한다. 스레드 사이의 충돌은 80비트 난수로 막는다.
+public final class IdGenerator {
+    public static final int LENGTH = 26;
+
+    private static final char[] ENCODING = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int[] DECODING = new int[128];
+    private static final long MAX_MILLIS = (1L << 48) - 1;
+
+    static {
+        Arrays.fill(DECODING, -1);
+        for (int i = 0; i < ENCODING.length; i++) {
+            DECODING[ENCODING[i]] = i;
+        }
+    }
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    // 스레드별 마지막 ID (시각 + 80비트 난수 = 상위 16비트 + 하위 64비트)
+    private static final class State {
+        long lastMillis = -1;
+        long randomHigh;
+        long randomLow;
+    }
+
+    private IdGenerator() {
+    }
+
+    public static String newId() {
+        State state = STATE.get();
+        long now = System.currentTimeMillis();
+        if (now > state.lastMillis) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            state.lastMillis = now;
+            state.randomHigh = random.nextInt() & 0xFFFF;
+            state.randomLow = random.nextLong();
+        } else {
+            // 같은 ms이거나 시계가 뒤로 갔으면 마지막 값에서 1 올린다 (넘치면 다음 ms로)
+            state.randomLow++;
+            if (state.randomLow == 0) {
+                state.randomHigh = (state.randomHigh + 1) & 0xFFFF;
+                if (state.randomHigh == 0) {
+                    state.lastMillis++;
+                }
+            }
+        }
+        return encode(state.lastMillis, state.randomHigh, state.randomLow);
+    }
+
+    // millis에 만들어진 ID보다 작거나 같은 가장 작은 ID (시각 범위 검색의 경계로 사용)
+    public static String lowerBound(long millis) {
+        return encode(Math.max(0, Math.min(millis, MAX_MILLIS)), 0, 0);
+    }
+
+    // IdGenerator가 만든 형식인지 (예전 UUID 등은 false)
+    public static boolean isId(String id) {
+        if (id == null || id.length() != LENGTH || id.charAt(0) > '7') {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            char c = id.charAt(i);
+            if (c >= 128 || DECODING[c] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ID의 생성 시각 (epoch ms)
+    public static long timestampOf(String id) {
+        if (!isId(id)) {
+            throw new IllegalArgumentException("올바른 ID가 아닙니다: " + id);
+        }
+        long millis = 0;
+        for (int i = 0; i < 10; i++) {
+            millis = (millis << 5) | DECODING[id.charAt(i)];
+        }
+        return millis;
+    }
+
+    private static String encode(long millis, long randomHigh, long randomLow) {
+        char[] chars = new char[LENGTH];
+        for (int i = 9; i >= 0; i--) {
+            chars[i] = ENCODING[(int) (millis & 31)];
+            millis >>>= 5;
+        }
+        // 80비트 난수를 뒤에서부터 5비트씩
+        for (int i = LENGTH - 1; i >= 10; i--) {
+            chars[i] = ENCODING[(int) (randomLow & 31)];
+            randomLow = (randomLow >>> 5) | (randomHigh << 59);
+            randomHigh >>>= 5;
+        }
+        return new String(chars);
+    }
+}
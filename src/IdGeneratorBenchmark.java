@@ -0,0 +1,90 @@
+import java.util.*;
+import java.util.concurrent.*;
+
+// ID 생성기(IdGenerator) 처리량과 중복 검사
+// 스레드 32개가 동시에 ID를 만들어 초당 생성 수를 UUID.randomUUID().toString()과 비교하고,
+// 만든 ID를 모두 모아 정렬해 중복이 없는지, 스레드마다 만든 순서대로 커지는지 확인한다.
+// 실행: java IdGeneratorBenchmark [스레드 수 (기본 32)] [스레드당 ID 수 (기본 50000)]
+public class IdGeneratorBenchmark {
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 32;
+        int perThread = args.length > 1 ? Integer.parseInt(args[1]) : 50_000;
+
+        // 처음 한 번은 JIT 준비로 보고 버린다
+        generate(threads, perThread, IdGeneratorBenchmark::ulid);
+        generate(threads, perThread, IdGeneratorBenchmark::uuid);
+
+        long start = System.nanoTime();
+        String[][] ids = generate(threads, perThread, IdGeneratorBenchmark::ulid);
+        long idNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        generate(threads, perThread, IdGeneratorBenchmark::uuid);
+        long uuidNanos = System.nanoTime() - start;
+
+        long total = (long) threads * perThread;
+        System.out.printf("스레드 %d개 x %d개: IdGenerator 초당 %.0f만 개, UUID 초당 %.0f만 개%n",
+            threads, perThread, total / (idNanos / 1e9) / 10_000, total / (uuidNanos / 1e9) / 10_000);
+
+        int outOfOrder = 0;
+        List<String> all = new ArrayList<>((int) total);
+        for (String[] threadIds : ids) {
+            for (int i = 1; i < threadIds.length; i++) {
+                if (threadIds[i - 1].compareTo(threadIds[i]) >= 0) {
+                    outOfOrder++;
+                }
+            }
+            all.addAll(Arrays.asList(threadIds));
+        }
+        Collections.sort(all);
+        int duplicates = 0;
+        for (int i = 1; i < all.size(); i++) {
+            if (all.get(i - 1).equals(all.get(i))) {
+                duplicates++;
+            }
+        }
+        System.out.println("중복 " + duplicates + "개, 스레드 안에서 순서가 어긋난 ID " + outOfOrder + "개 (둘 다 0이어야 함)");
+        System.exit(duplicates == 0 && outOfOrder == 0 ? 0 : 1);
+    }
+
+    private interface Generator {
+        String next();
+    }
+
+    private static String ulid() {
+        return IdGenerator.newId();
+    }
+
+    private static String uuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    // 모든 스레드가 한꺼번에 시작해 perThread개씩 만든 결과 (스레드별 배열)
+    private static String[][] generate(int threads, int perThread, Generator generator) throws Exception {
+        String[][] result = new String[threads][];
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<String[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    String[] ids = new String[perThread];
+                    ready.countDown();
+                    go.await();
+                    for (int i = 0; i < perThread; i++) {
+                        ids[i] = generator.next();
+                    }
+                    return ids;
+                }));
+            }
+            ready.await();
+            go.countDown();
+            for (int t = 0; t < threads; t++) {
+                result[t] = futures.get(t).get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return result;
+    }
+}
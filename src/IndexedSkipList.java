@@ -0,0 +1,180 @@
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 순위를 셀 수 있는 스킵 리스트 (정렬된 집합)
+// 각 층의 다음 노드 링크마다 건너뛰는 원소 수(span)를 함께 두어서
+// 추가/삭제뿐 아니라 "몇 번째인지"(rankOf)와 "n번째 원소"(get)도 O(log n)에 구한다.
+// 같은 값(comparator가 0)은 한 번만 들어간다. 스레드 안전하지 않으므로 호출하는 쪽에서 잠가야 한다.
+public class IndexedSkipList<E> {
+    private static final int MAX_LEVEL = 32;
+
+    private final Comparator<? super E> comparator;
+    private final Node<E> head = new Node<>(null, MAX_LEVEL);
+    private int level = 1;
+    private int size;
+
+    private static final class Node<E> {
+        final E value;
+        final Node<E>[] next;
+        // next[i]까지 가면서 지나는 원소 수 (next[i] 자신 포함)
+        final int[] span;
+
+        Node(E value, int level) {
+            this.value = value;
+            this.next = newNodeArray(level);
+            this.span = new int[level];
+        }
+    }
+
+    // 제네릭 배열은 new로 바로 만들 수 없어 원시 타입 배열을 만들어 형 변환한다
+    // 배열은 밖으로 내보내지 않고 Node<E>만 넣으므로 형 변환은 안전하다
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <E> Node<E>[] newNodeArray(int length) {
+        return (Node<E>[]) new Node[length];
+    }
+
+    public IndexedSkipList(Comparator<? super E> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // 이미 같은 값이 있으면 false
+    public boolean add(E value) {
+        Node<E>[] update = newNodeArray(MAX_LEVEL);
+        int[] rank = new int[MAX_LEVEL];
+        Node<E> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && comparator.compare(x.next[i].value, value) < 0) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        if (x.next[0] != null && comparator.compare(x.next[0].value, value) == 0) {
+            return false;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = nodeLevel;
+        }
+        Node<E> node = new Node<>(value, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            // 앞 노드가 건너뛰던 구간을 새 노드 앞뒤로 나눈다
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        // 새 노드보다 높은 층은 한 칸씩 더 건너뛴다
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+        return true;
+    }
+
+    // 없는 값이면 false
+    public boolean remove(E value) {
+        Node<E>[] update = newNodeArray(MAX_LEVEL);
+        Node<E> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && comparator.compare(x.next[i].value, value) < 0) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        Node<E> target = x.next[0];
+        if (target == null || comparator.compare(target.value, value) != 0) {
+            return false;
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == target) {
+                update[i].span[i] += target.span[i] - 1;
+                update[i].next[i] = target.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return true;
+    }
+
+    // 0부터 센 순서 (없으면 -1)
+    public int rankOf(E value) {
+        Node<E> x = head;
+        int rank = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && comparator.compare(x.next[i].value, value) <= 0) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+            if (x != head && comparator.compare(x.value, value) == 0) {
+                return rank - 1;
+            }
+        }
+        return -1;
+    }
+
+    // 0부터 센 index번째 원소
+    public E get(int index) {
+        return nodeAt(index).value;
+    }
+
+    // fromIndex번째부터 최대 count개 (순서대로)
+    public List<E> range(int fromIndex, int count) {
+        List<E> result = new ArrayList<>();
+        if (fromIndex < 0 || fromIndex >= size || count <= 0) {
+            return result;
+        }
+        for (Node<E> x = nodeAt(fromIndex); x != null && result.size() < count; x = x.next[0]) {
+            result.add(x.value);
+        }
+        return result;
+    }
+
+    private Node<E> nodeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("범위를 벗어난 순위입니다: " + index);
+        }
+        int target = index + 1;
+        int traversed = 0;
+        Node<E> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= target) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if (traversed == target) {
+                return x;
+            }
+        }
+        throw new IllegalStateException("스킵 리스트 순위 정보가 맞지 않습니다.");
+    }
+
+    // 한 층 올라갈 확률 1/4
+    private static int randomLevel() {
+        int nodeLevel = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (nodeLevel < MAX_LEVEL && random.nextInt(4) == 0) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+}
@@ -0,0 +1,352 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+// 비동기 로그
+// 호출한 스레드(EDT 포함)는 기록 하나를 잠금 없는 링 버퍼에 넣기만 하고,
+// 백그라운드 스레드가 버퍼를 비우며 logs/schedule.log(JSON 한 줄씩, 크기별로 교체)와 콘솔에 쓴다.
+// 꺼진 레벨은 volatile 읽기 한 번으로 끝나고, Supplier로 넘긴 메시지는 만들지도 않는다.
+// 설정 (시스템 속성):
+//   schedule.log.level    파일/콘솔에 남길 최소 레벨 (기본 INFO)
+//   schedule.log.console  콘솔에 함께 찍을 최소 레벨 (기본 INFO, OFF면 콘솔 출력 없음)
+//   schedule.log.dir      로그 폴더 (기본 logs)
+public final class Log {
+    public enum Level { DEBUG, INFO, WARN, ERROR, OFF }
+
+    private static final int BUFFER_CAPACITY = 8192; // 2의 거듭제곱
+    private static final long MAX_FILE_BYTES = 5L * 1024 * 1024;
+    private static final int MAX_ROTATED_FILES = 3;
+    private static final String FILE_NAME = "schedule.log";
+    private static final DateTimeFormatter CONSOLE_TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
+    private static volatile int minLevel = parseLevel("schedule.log.level", Level.INFO).ordinal();
+    private static final int consoleLevel = parseLevel("schedule.log.console", Level.INFO).ordinal();
+    private static final RingBuffer buffer = new RingBuffer(BUFFER_CAPACITY);
+    private static final AtomicLong dropped = new AtomicLong();
+    private static volatile Thread writerThread;
+
+    private final String name;
+
+    private Log(String name) {
+        this.name = name;
+    }
+
+    public static Log get(Class<?> owner) {
+        return new Log(owner.getSimpleName());
+    }
+
+    public static void setLevel(Level level) {
+        minLevel = level.ordinal();
+    }
+
+    public boolean isEnabled(Level level) {
+        return level.ordinal() >= minLevel;
+    }
+
+    public void debug(String message) {
+        log(Level.DEBUG, message, null);
+    }
+
+    public void debug(Supplier<String> message) {
+        if (isEnabled(Level.DEBUG)) {
+            log(Level.DEBUG, message.get(), null);
+        }
+    }
+
+    public void info(String message) {
+        log(Level.INFO, message, null);
+    }
+
+    public void info(Supplier<String> message) {
+        if (isEnabled(Level.INFO)) {
+            log(Level.INFO, message.get(), null);
+        }
+    }
+
+    public void warn(String message) {
+        log(Level.WARN, message, null);
+    }
+
+    public void warn(String message, Throwable error) {
+        log(Level.WARN, message, error);
+    }
+
+    public void error(String message) {
+        log(Level.ERROR, message, null);
+    }
+
+    public void error(String message, Throwable error) {
+        log(Level.ERROR, message, error);
+    }
+
+    private void log(Level level, String message, Throwable error) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        Entry entry = new Entry(System.currentTimeMillis(), level, name,
+            Thread.currentThread().getName(), message, error);
+        if (!buffer.offer(entry)) {
+            // 버퍼가 가득 차면 호출한 스레드를 막지 않고 버린다 (버린 수는 나중에 남김)
+            dropped.incrementAndGet();
+        }
+        Thread writer = writerThread;
+        if (writer == null) {
+            writer = startWriter();
+        }
+        if (level.ordinal() >= Level.WARN.ordinal()) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private static synchronized Thread startWriter() {
+        if (writerThread == null) {
+            Writer writer = new Writer();
+            Thread thread = new Thread(writer, "log-writer");
+            thread.setDaemon(true);
+            thread.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(writer::shutdown, "log-shutdown"));
+            writerThread = thread;
+        }
+        return writerThread;
+    }
+
+    private static Level parseLevel(String property, Level defaultLevel) {
+        String value = System.getProperty(property);
+        if (value == null) {
+            return defaultLevel;
+        }
+        try {
+            return Level.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return defaultLevel;
+        }
+    }
+
+    // 기록 하나 (문자열 변환은 쓰기 스레드에서 한다)
+    private static final class Entry {
+        final long timestampMillis;
+        final Level level;
+        final String logger;
+        final String thread;
+        final String message;
+        final Throwable error;
+
+        Entry(long timestampMillis, Level level, String logger, String thread, String message, Throwable error) {
+            this.timestampMillis = timestampMillis;
+            this.level = level;
+            this.logger = logger;
+            this.thread = thread;
+            this.message = message;
+            this.error = error;
+        }
+    }
+
+    // 여러 스레드가 넣고 쓰기 스레드 하나가 빼는 고정 크기 링 버퍼
+    // 칸마다 순번을 두어 넣는 쪽은 CAS 한 번, 빼는 쪽은 잠금 없이 읽는다
+    private static final class RingBuffer {
+        private final int mask;
+        private final AtomicReferenceArray<Entry> entries;
+        private final AtomicLongArray sequences;
+        private final AtomicLong tail = new AtomicLong();
+        private long head; // 쓰기 스레드만 사용
+
+        RingBuffer(int capacity) {
+            this.mask = capacity - 1;
+            this.entries = new AtomicReferenceArray<>(capacity);
+            this.sequences = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                sequences.set(i, i);
+            }
+        }
+
+        boolean offer(Entry entry) {
+            while (true) {
+                long position = tail.get();
+                int index = (int) (position & mask);
+                long difference = sequences.get(index) - position;
+                if (difference == 0) {
+                    if (tail.compareAndSet(position, position + 1)) {
+                        entries.set(index, entry);
+                        sequences.set(index, position + 1);
+                        return true;
+                    }
+                } else if (difference < 0) {
+                    return false; // 가득 참
+                }
+                // 다른 스레드가 먼저 가져감, 다시 시도
+            }
+        }
+
+        Entry poll() {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) {
+                return null;
+            }
+            Entry entry = entries.get(index);
+            entries.set(index, null);
+            sequences.set(index, head + mask + 1);
+            head++;
+            return entry;
+        }
+    }
+
+    // 버퍼를 비워 파일과 콘솔에 쓰는 스레드
+    private static final class Writer implements Runnable {
+        private static final long IDLE_PARK_NANOS = 20_000_000L;
+
+        private final Path directory = Paths.get(System.getProperty("schedule.log.dir", "logs"));
+        private final Path file = directory.resolve(FILE_NAME);
+        private BufferedWriter out;
+        private long fileBytes;
+        private volatile boolean stopping;
+        private volatile boolean stopped;
+
+        @Override
+        public void run() {
+            while (!stopping) {
+                if (!drain()) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+            drain();
+            close();
+            stopped = true;
+        }
+
+        // 종료 시 남은 기록을 모두 쓴다
+        void shutdown() {
+            stopping = true;
+            Thread thread = writerThread;
+            if (thread == null) {
+                return;
+            }
+            LockSupport.unpark(thread);
+            long deadline = System.currentTimeMillis() + 2000;
+            while (!stopped && System.currentTimeMillis() < deadline) {
+                try {
+                    thread.join(100);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        // 하나라도 썼으면 true
+        private boolean drain() {
+            boolean wrote = false;
+            Entry entry;
+            while ((entry = buffer.poll()) != null) {
+                write(entry);
+                wrote = true;
+            }
+            long lost = dropped.getAndSet(0);
+            if (lost > 0) {
+                write(new Entry(System.currentTimeMillis(), Level.WARN, "Log", "log-writer",
+                    "로그 버퍼가 가득 차 " + lost + "건을 버렸습니다.", null));
+                wrote = true;
+            }
+            if (wrote) {
+                flush();
+            }
+            return wrote;
+        }
+
+        private void write(Entry entry) {
+            String stackTrace = entry.error != null ? stackTrace(entry.error) : null;
+            if (entry.level.ordinal() >= consoleLevel) {
+                PrintStream console = entry.level.ordinal() >= Level.WARN.ordinal() ? System.err : System.out;
+                console.println(LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.timestampMillis), ZoneId.systemDefault())
+                    .format(CONSOLE_TIME) + " " + entry.level + " [" + entry.logger + "] " + entry.message);
+                if (stackTrace != null) {
+                    console.print(stackTrace);
+                }
+            }
+
+            Map<String, Object> fields = new LinkedHashMap<>();
+            fields.put("time", Instant.ofEpochMilli(entry.timestampMillis).toString());
+            fields.put("level", entry.level.name());
+            fields.put("logger", entry.logger);
+            fields.put("thread", entry.thread);
+            fields.put("message", entry.message);
+            if (stackTrace != null) {
+                fields.put("error", stackTrace);
+            }
+            String line = Json.write(fields) + "\n";
+            try {
+                int length = line.getBytes(StandardCharsets.UTF_8).length;
+                if (out == null) {
+                    open();
+                }
+                if (fileBytes > 0 && fileBytes + length > MAX_FILE_BYTES) {
+                    rotate();
+                }
+                out.write(line);
+                fileBytes += length;
+            } catch (IOException e) {
+                // 파일에 못 쓰면 콘솔 출력만 남는다
+                close();
+            }
+        }
+
+        private void open() throws IOException {
+            Files.createDirectories(directory);
+            fileBytes = Files.exists(file) ? Files.size(file) : 0;
+            out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+
+        // 현재 파일을 schedule.log.1 로, 기존 .1, .2 는 하나씩 뒤로 밀고 새 파일을 연다
+        private void rotate() throws IOException {
+            close();
+            Files.deleteIfExists(directory.resolve(FILE_NAME + "." + MAX_ROTATED_FILES));
+            for (int i = MAX_ROTATED_FILES - 1; i >= 1; i--) {
+                Path rotated = directory.resolve(FILE_NAME + "." + i);
+                if (Files.exists(rotated)) {
+                    Files.move(rotated, directory.resolve(FILE_NAME + "." + (i + 1)), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(file, directory.resolve(FILE_NAME + ".1"), StandardCopyOption.REPLACE_EXISTING);
+            open();
+        }
+
+        private void flush() {
+            if (out == null) {
+                return;
+            }
+            try {
+                out.flush();
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        private void close() {
+            if (out == null) {
+                return;
+            }
+            try {
+                out.close();
+            } catch (IOException e) {
+                // 닫는 중 오류는 무시
+            }
+            out = null;
+        }
+
+        private static String stackTrace(Throwable error) {
+            StringWriter text = new StringWriter();
+            error.printStackTrace(new PrintWriter(text));
+            return text.toString();
+        }
+    }
+}
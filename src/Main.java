@@ -1,5 +1,25 @@
 public class Main {
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--batch-recommendations")) {
+            RecommendationBatchJob.main(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--sync-server")) {
+            SyncServer.main(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--replica-leader")) {
+            ReplicationLeader.main(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--replica-follower")) {
+            ReplicationFollower.main(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--server")) {
+            ScheduleApiServer.main(args);
+            return;
+        }
         ScheduleGUI.main(args);
     }
 }
\ No newline at end of file
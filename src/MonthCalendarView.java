@@ -0,0 +1,314 @@
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.*;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.List;
+import java.util.function.Function;
+
+// 달력 격자를 직접 그리는 컴포넌트
+// 날짜마다 패널/레이블을 만들지 않고 한 컴포넌트가 보이는 칸만 그린다.
+// 날짜별 요약(표시할 제목과 색)과 칸 너비에 맞춰 자른 제목을 캐시하고,
+// 클릭 위치는 직접 계산해 날짜나 일정을 찾는다. 데이터가 바뀌면 내용이 달라진 칸만 다시 그린다.
+public class MonthCalendarView extends JComponent {
+    private static final int HEADER_HEIGHT = 24;
+    private static final int CELL_PADDING = 3;
+    private static final Color GRID_COLOR = Color.LIGHT_GRAY;
+    private static final Color TODAY_BACKGROUND = new Color(255, 255, 200);
+    private static final String[] DAY_NAMES = {"일", "월", "화", "수", "목", "금", "토"}; // [요일 % 7]
+
+    private final Function<Schedule, Color> colorOf;
+    private final List<CalendarClickListener> listeners = new ArrayList<>();
+    private final Map<LocalDate, DaySummary> summaries = new HashMap<>();
+    // 칸 너비에 맞춰 자른 제목 (너비나 글꼴이 바뀌면 비움)
+    private final Map<String, String> fittedTitles = new HashMap<>();
+    private int fittedWidth = -1;
+    private Font fittedFont;
+
+    private LocalDate gridStart;
+    private int rows;
+    private int columns;
+    private YearMonth focusMonth;
+    private boolean showAdjacentDays;
+
+    public interface CalendarClickListener {
+        void dateClicked(LocalDate date, MouseEvent e);
+        void scheduleClicked(Schedule schedule, MouseEvent e);
+    }
+
+    // 하루치 표시 내용
+    private static class DaySummary {
+        final List<Schedule> schedules;
+        final String[] titles;
+        final Color[] colors;
+
+        DaySummary(List<Schedule> schedules, Function<Schedule, Color> colorOf) {
+            this.schedules = schedules;
+            this.titles = new String[schedules.size()];
+            this.colors = new Color[schedules.size()];
+            for (int i = 0; i < titles.length; i++) {
+                Schedule schedule = schedules.get(i);
+                titles[i] = schedule.getTitle() != null ? schedule.getTitle() : "";
+                colors[i] = colorOf.apply(schedule);
+            }
+        }
+
+        boolean looksLike(DaySummary other) {
+            return other != null && Arrays.equals(titles, other.titles) && Arrays.equals(colors, other.colors);
+        }
+    }
+
+    public MonthCalendarView(Function<Schedule, Color> colorOf) {
+        this.colorOf = colorOf;
+        this.gridStart = LocalDate.now();
+        this.rows = 1;
+        this.columns = 7;
+        this.focusMonth = YearMonth.now();
+        setOpaque(true);
+        setBackground(Color.WHITE);
+        setPreferredSize(new Dimension(700, 600));
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                LocalDate date = dateAt(e.getPoint());
+                if (date == null) {
+                    return;
+                }
+                Schedule schedule = scheduleAt(e.getPoint());
+                for (CalendarClickListener listener : new ArrayList<>(listeners)) {
+                    if (schedule != null) {
+                        listener.scheduleClicked(schedule, e);
+                    } else {
+                        listener.dateClicked(date, e);
+                    }
+                }
+            }
+        });
+    }
+
+    public void addCalendarClickListener(CalendarClickListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeCalendarClickListener(CalendarClickListener listener) {
+        listeners.remove(listener);
+    }
+
+    // 표시할 격자와 날짜별 일정 지정
+    // 격자가 그대로면 내용이 달라진 칸만 다시 그리고, 격자가 바뀌면 전체를 다시 그린다.
+    public void setView(LocalDate gridStart, int rows, int columns, YearMonth focusMonth, boolean showAdjacentDays,
+            Map<LocalDate, List<Schedule>> schedulesByDate) {
+        boolean sameGrid = gridStart.equals(this.gridStart) && rows == this.rows && columns == this.columns
+            && focusMonth.equals(this.focusMonth) && showAdjacentDays == this.showAdjacentDays;
+        this.gridStart = gridStart;
+        this.rows = rows;
+        this.columns = columns;
+        this.focusMonth = focusMonth;
+        this.showAdjacentDays = showAdjacentDays;
+
+        Map<LocalDate, DaySummary> previous = sameGrid ? new HashMap<>(summaries) : Collections.emptyMap();
+        summaries.clear();
+        for (int i = 0; i < rows * columns; i++) {
+            LocalDate date = gridStart.plusDays(i);
+            List<Schedule> schedules = schedulesByDate.get(date);
+            if (schedules != null && !schedules.isEmpty() && isVisibleDate(date)) {
+                summaries.put(date, new DaySummary(new ArrayList<>(schedules), colorOf));
+            }
+        }
+
+        if (!sameGrid) {
+            repaint();
+            return;
+        }
+        for (int i = 0; i < rows * columns; i++) {
+            LocalDate date = gridStart.plusDays(i);
+            DaySummary before = previous.get(date);
+            DaySummary after = summaries.get(date);
+            boolean unchanged = before == null ? after == null : before.looksLike(after);
+            if (!unchanged) {
+                repaint(cellBounds(i));
+            }
+        }
+    }
+
+    // 좌표에 해당하는 날짜 (격자 밖이거나 표시하지 않는 날짜면 null)
+    public LocalDate dateAt(Point point) {
+        int index = cellIndexAt(point);
+        if (index < 0) {
+            return null;
+        }
+        LocalDate date = gridStart.plusDays(index);
+        return isVisibleDate(date) ? date : null;
+    }
+
+    // 좌표에 표시된 일정 (일정 줄이 아니면 null)
+    public Schedule scheduleAt(Point point) {
+        int index = cellIndexAt(point);
+        if (index < 0) {
+            return null;
+        }
+        DaySummary summary = summaries.get(gridStart.plusDays(index));
+        if (summary == null) {
+            return null;
+        }
+        Rectangle cell = cellBounds(index);
+        int lineHeight = getFontMetrics(getFont()).getHeight();
+        // 첫 줄은 날짜 숫자
+        int offset = point.y - cell.y - CELL_PADDING - lineHeight;
+        if (offset < 0) {
+            return null;
+        }
+        int line = offset / lineHeight;
+        int visible = visibleLineCount(cell.height, lineHeight, summary.titles.length);
+        return line < visible ? summary.schedules.get(line) : null;
+    }
+
+    @Override
+    public Font getFont() {
+        Font font = super.getFont();
+        return font != null ? font : new Font("Malgun Gothic", Font.PLAIN, 12);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g.create();
+        try {
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g2.setFont(getFont());
+            Rectangle clip = g2.getClipBounds() != null ? g2.getClipBounds() : new Rectangle(getSize());
+            g2.setColor(getBackground());
+            g2.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+            FontMetrics metrics = g2.getFontMetrics();
+            if (clip.y < HEADER_HEIGHT) {
+                paintHeader(g2, metrics);
+            }
+            // 다시 그릴 영역과 겹치는 칸만 그린다
+            for (int i = 0; i < rows * columns; i++) {
+                Rectangle cell = cellBounds(i);
+                if (cell.intersects(clip)) {
+                    paintCell(g2, metrics, i, cell);
+                }
+            }
+        } finally {
+            g2.dispose();
+        }
+    }
+
+    private void paintHeader(Graphics2D g2, FontMetrics metrics) {
+        for (int column = 0; column < columns; column++) {
+            Rectangle cell = cellBounds(column);
+            DayOfWeek dayOfWeek = gridStart.plusDays(column).getDayOfWeek();
+            String name = DAY_NAMES[dayOfWeek.getValue() % 7];
+            g2.setColor(dayColor(dayOfWeek, Color.BLACK));
+            int x = cell.x + (cell.width - metrics.stringWidth(name)) / 2;
+            int y = (HEADER_HEIGHT - metrics.getHeight()) / 2 + metrics.getAscent();
+            g2.drawString(name, x, y);
+        }
+    }
+
+    private void paintCell(Graphics2D g2, FontMetrics metrics, int index, Rectangle cell) {
+        LocalDate date = gridStart.plusDays(index);
+        g2.setColor(GRID_COLOR);
+        g2.drawRect(cell.x, cell.y, cell.width - 1, cell.height - 1);
+        if (!isVisibleDate(date)) {
+            return;
+        }
+
+        // 오늘 날짜는 배경색 표시
+        if (date.equals(LocalDate.now())) {
+            g2.setColor(TODAY_BACKGROUND);
+            g2.fillRect(cell.x + 1, cell.y + 1, cell.width - 2, cell.height - 2);
+        }
+
+        // 이전/다음 달의 날짜는 회색, 주말은 색상 표시
+        Color dateColor = YearMonth.from(date).equals(focusMonth) ? Color.BLACK : Color.GRAY;
+        g2.setColor(dayColor(date.getDayOfWeek(), dateColor));
+        int lineHeight = metrics.getHeight();
+        int textX = cell.x + CELL_PADDING;
+        int baseline = cell.y + CELL_PADDING + metrics.getAscent();
+        g2.drawString(String.valueOf(date.getDayOfMonth()), textX, baseline);
+
+        DaySummary summary = summaries.get(date);
+        if (summary == null) {
+            return;
+        }
+        int textWidth = cell.width - CELL_PADDING * 2;
+        int visible = visibleLineCount(cell.height, lineHeight, summary.titles.length);
+        for (int i = 0; i < visible; i++) {
+            baseline += lineHeight;
+            g2.setColor(summary.colors[i]);
+            g2.drawString(fitTitle(summary.titles[i], textWidth, metrics), textX, baseline);
+        }
+        if (visible < summary.titles.length) {
+            baseline += lineHeight;
+            g2.setColor(Color.GRAY);
+            g2.drawString("+" + (summary.titles.length - visible) + "개 더", textX, baseline);
+        }
+    }
+
+    // 칸 높이에 들어가는 일정 줄 수 (다 들어가지 않으면 마지막 줄은 "+N개 더")
+    private static int visibleLineCount(int cellHeight, int lineHeight, int count) {
+        int lines = Math.max(0, (cellHeight - CELL_PADDING * 2) / lineHeight - 1);
+        return count <= lines ? count : Math.max(0, lines - 1);
+    }
+
+    private String fitTitle(String title, int width, FontMetrics metrics) {
+        if (width != fittedWidth || !metrics.getFont().equals(fittedFont)) {
+            fittedTitles.clear();
+            fittedWidth = width;
+            fittedFont = metrics.getFont();
+        }
+        return fittedTitles.computeIfAbsent(title, t -> {
+            if (metrics.stringWidth(t) <= width) {
+                return t;
+            }
+            int ellipsisWidth = metrics.stringWidth("…");
+            int end = t.length();
+            while (end > 0 && metrics.stringWidth(t.substring(0, end)) + ellipsisWidth > width) {
+                end--;
+            }
+            return t.substring(0, end) + "…";
+        });
+    }
+
+    private static Color dayColor(DayOfWeek dayOfWeek, Color weekdayColor) {
+        if (dayOfWeek == DayOfWeek.SUNDAY) {
+            return Color.RED;
+        } else if (dayOfWeek == DayOfWeek.SATURDAY) {
+            return Color.BLUE;
+        }
+        return weekdayColor;
+    }
+
+    private boolean isVisibleDate(LocalDate date) {
+        return showAdjacentDays || YearMonth.from(date).equals(focusMonth);
+    }
+
+    private int cellIndexAt(Point point) {
+        if (point.y < HEADER_HEIGHT || getWidth() <= 0) {
+            return -1;
+        }
+        int column = (int) ((long) point.x * columns / getWidth());
+        int row = (int) ((long) (point.y - HEADER_HEIGHT) * rows / Math.max(1, getHeight() - HEADER_HEIGHT));
+        if (column < 0 || column >= columns || row < 0 || row >= rows) {
+            return -1;
+        }
+        return row * columns + column;
+    }
+
+    // index번째 칸의 영역 (0번째 줄은 요일 머리글 아래부터)
+    private Rectangle cellBounds(int index) {
+        int row = index / columns;
+        int column = index % columns;
+        int bodyHeight = Math.max(0, getHeight() - HEADER_HEIGHT);
+        int x = column * getWidth() / columns;
+        int nextX = (column + 1) * getWidth() / columns;
+        int y = HEADER_HEIGHT + row * bodyHeight / rows;
+        int nextY = HEADER_HEIGHT + (row + 1) * bodyHeight / rows;
+        return new Rectangle(x, y, nextX - x, nextY - y);
+    }
+}
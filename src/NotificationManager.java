@@ -5,6 +5,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -62,12 +63,15 @@ public class NotificationManager {
         scheduler = Executors.newScheduledThreadPool(1);
         notificationTasks = new ConcurrentHashMap<>();
         listeners = new ArrayList<>();
-        notifications = new HashMap<>();
-        initializeNotificationFrame();
+        notifications = new ConcurrentHashMap<>();
+        // 서버 모드처럼 화면이 없으면 알림 창 없이 리스너로만 알린다
+        if (!GraphicsEnvironment.isHeadless()) {
+            initializeNotificationFrame();
+        }
         startCheckTimer();
     }
 
-    public static NotificationManager getInstance() {
+    public static synchronized NotificationManager getInstance() {
         if (instance == null) {
             instance = new NotificationManager();
         }
@@ -118,6 +122,9 @@ public class NotificationManager {
     }
 
     public void showNotificationPopup(String title, String message) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return;
+        }
         SwingUtilities.invokeLater(() -> {
             JOptionPane.showMessageDialog(null,
                 message,
@@ -166,15 +173,16 @@ public class NotificationManager {
     }
 
     public void checkNotifications(ScheduleManager scheduleManager) {
+        checkNotifications(UserManager.getInstance().getCurrentSession(), scheduleManager);
+    }
+
+    public void checkNotifications(UserSession session, ScheduleManager scheduleManager) {
         if (scheduleManager == null) return;
-        
-        User currentUser = UserManager.getInstance().getCurrentUser();
-        if (currentUser == null) {
+        if (session == null) {
             return; // 사용자가 로그인하지 않았으면 알림을 체크하지 않음
         }
         
-        String userId = currentUser.getUserId();
-        if (userId == null) return;
+        String userId = session.getUserId();
 
         LocalDateTime now = LocalDateTime.now();
         
@@ -184,7 +192,7 @@ public class NotificationManager {
             long minutesUntilStart = ChronoUnit.MINUTES.between(now, schedule.getStartTime());
             if (minutesUntilStart <= 30 && minutesUntilStart > 0) {
                 addNotification(userId, new Notification(
-                    UUID.randomUUID().toString(),
+                    IdGenerator.newId(),
                     "다가오는 일정",
                     schedule.getTitle() + "이(가) " + minutesUntilStart + "분 후에 시작됩니다.",
                     now,
@@ -197,7 +205,7 @@ public class NotificationManager {
         java.util.List<Schedule> overdueSchedules = scheduleManager.getOverdueSchedules(userId);
         for (Schedule schedule : overdueSchedules) {
             addNotification(userId, new Notification(
-                UUID.randomUUID().toString(),
+                IdGenerator.newId(),
                 "마감 임박",
                 schedule.getTitle() + "의 마감 시간이 지났습니다.",
                 now,
@@ -209,7 +217,7 @@ public class NotificationManager {
         java.util.List<Schedule> sharedSchedules = scheduleManager.getSharedSchedules(userId);
         for (Schedule schedule : sharedSchedules) {
             addNotification(userId, new Notification(
-                UUID.randomUUID().toString(),
+                IdGenerator.newId(),
                 "공유된 일정",
                 schedule.getTitle() + "이(가) 공유되었습니다.",
                 now,
@@ -219,11 +227,14 @@ public class NotificationManager {
     }
 
     public void addNotification(String userId, Notification notification) {
-        notifications.computeIfAbsent(userId, _ -> new ArrayList<>()).add(notification);
+        notifications.computeIfAbsent(userId, _ -> new CopyOnWriteArrayList<>()).add(notification);
         showNotification(notification);
     }
 
     private void showNotification(Notification notification) {
+        if (notificationFrame == null) {
+            return;
+        }
         JPanel notificationCard = new JPanel();
         notificationCard.setLayout(new BorderLayout());
         notificationCard.setBorder(BorderFactory.createCompoundBorder(
@@ -259,6 +270,26 @@ public class NotificationManager {
         timer.start();
     }
 
+    public java.util.List<Notification> getNotifications(UserSession session) {
+        return getNotifications(session.getUserId());
+    }
+
+    public java.util.List<Notification> getUnreadNotifications(UserSession session) {
+        return getUnreadNotifications(session.getUserId());
+    }
+
+    public void markAsRead(UserSession session, String notificationId) {
+        markAsRead(session.getUserId(), notificationId);
+    }
+
+    public void markAllAsRead(UserSession session) {
+        markAllAsRead(session.getUserId());
+    }
+
+    public void clearNotifications(UserSession session) {
+        clearNotifications(session.getUserId());
+    }
+
     public java.util.List<Notification> getNotifications(String userId) {
         return notifications.getOrDefault(userId, new ArrayList<>());
     }
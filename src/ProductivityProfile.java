@@ -0,0 +1,194 @@
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+
+// 사용자별 생산성 프로필
+// 완료된 일정을 요일 x 시간(7x24) 행렬과 카테고리 가중치로 누적한다.
+// 오래된 기록일수록 가중치가 지수적으로 줄어든다 (반감기 HALF_LIFE_DAYS).
+public class ProductivityProfile {
+    private static final double HALF_LIFE_DAYS = 30.0;
+    private static final double DECAY_PER_MILLI = Math.log(2) / (HALF_LIFE_DAYS * 24 * 60 * 60 * 1000);
+    // 가중치가 너무 커지기 전에 기준 시각을 옮겨 다시 스케일링
+    private static final double REBASE_THRESHOLD = 1e100;
+    private static final double EPSILON = 1e-9;
+
+    private final String userId;
+    private final double[][] matrix = new double[7][24]; // [요일-1][시간]
+    private final double[] hourTotals = new double[24];
+    private final double[] dayTotals = new double[7];
+    private final Map<String, Double> categoryWeights = new HashMap<>();
+    private final Map<String, Contribution> contributions = new HashMap<>();
+    private long baseMillis; // 가중치 계산의 기준 시각
+
+    // 일정 하나가 프로필에 기여한 값 (수정/삭제 시 되돌리기 위해 보관)
+    private static class Contribution {
+        final int day;
+        final int hour;
+        final String category;
+        double weight;
+
+        Contribution(int day, int hour, String category, double weight) {
+            this.day = day;
+            this.hour = hour;
+            this.category = category;
+            this.weight = weight;
+        }
+    }
+
+    public ProductivityProfile(String userId) {
+        this.userId = userId;
+        this.baseMillis = System.currentTimeMillis();
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    // 일정의 현재 상태를 반영 (완료되지 않은 일정이면 기존 기여만 제거)
+    public synchronized void update(Schedule schedule) {
+        if (schedule == null) {
+            return;
+        }
+        remove(schedule.getScheduleId());
+        if (!schedule.isCompleted() || schedule.getStartTime() == null) {
+            return;
+        }
+
+        LocalDateTime start = schedule.getStartTime();
+        LocalDateTime doneAt = schedule.getCompletedAt() != null ? schedule.getCompletedAt()
+            : schedule.getEndTime() != null ? schedule.getEndTime() : start;
+        long eventMillis = doneAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        double weight = weightAt(eventMillis);
+        if (weight > REBASE_THRESHOLD) {
+            rebase(eventMillis);
+            weight = weightAt(eventMillis);
+        }
+
+        int day = start.getDayOfWeek().getValue() - 1;
+        int hour = start.getHour();
+        String category = schedule.getCategory();
+
+        matrix[day][hour] += weight;
+        hourTotals[hour] += weight;
+        dayTotals[day] += weight;
+        if (category != null) {
+            categoryWeights.merge(category, weight, Double::sum);
+        }
+        contributions.put(schedule.getScheduleId(), new Contribution(day, hour, category, weight));
+    }
+
+    public synchronized void remove(String scheduleId) {
+        Contribution contribution = contributions.remove(scheduleId);
+        if (contribution == null) {
+            return;
+        }
+        int day = contribution.day;
+        int hour = contribution.hour;
+        matrix[day][hour] = Math.max(0.0, matrix[day][hour] - contribution.weight);
+        hourTotals[hour] = Math.max(0.0, hourTotals[hour] - contribution.weight);
+        dayTotals[day] = Math.max(0.0, dayTotals[day] - contribution.weight);
+        if (contribution.category != null) {
+            double remaining = categoryWeights.getOrDefault(contribution.category, 0.0) - contribution.weight;
+            if (remaining > contribution.weight * EPSILON) {
+                categoryWeights.put(contribution.category, remaining);
+            } else {
+                categoryWeights.remove(contribution.category);
+            }
+        }
+    }
+
+    // 시간대 점수 (0~1, 기록이 없는 시간대는 0.5)
+    public synchronized double getHourScore(int hour) {
+        return normalize(hourTotals[hour], max(hourTotals));
+    }
+
+    // 요일 점수 (dayOfWeek: 1=월요일 ~ 7=일요일)
+    public synchronized double getDayScore(int dayOfWeek) {
+        return normalize(dayTotals[dayOfWeek - 1], max(dayTotals));
+    }
+
+    // 특정 요일/시간 칸의 점수
+    public synchronized double getSlotScore(int dayOfWeek, int hour) {
+        double max = 0.0;
+        for (double[] row : matrix) {
+            max = Math.max(max, max(row));
+        }
+        return normalize(matrix[dayOfWeek - 1][hour], max);
+    }
+
+    // 요일 x 시간 칸 점수 전체 ([요일-1][시간], 여러 칸을 반복 조회할 때 사용)
+    public synchronized double[][] getSlotScores() {
+        double max = 0.0;
+        for (double[] row : matrix) {
+            max = Math.max(max, max(row));
+        }
+        double[][] scores = new double[7][24];
+        for (int day = 0; day < 7; day++) {
+            for (int hour = 0; hour < 24; hour++) {
+                scores[day][hour] = normalize(matrix[day][hour], max);
+            }
+        }
+        return scores;
+    }
+
+    // 가장 선호하는 카테고리 (기록이 없으면 "기타")
+    public synchronized String getPreferredCategory() {
+        return categoryWeights.entrySet().stream()
+            .max(Map.Entry.comparingByValue())
+            .map(Map.Entry::getKey)
+            .orElse("기타");
+    }
+
+    public synchronized Map<String, Double> getCategoryPreference() {
+        Map<String, Double> preference = new HashMap<>();
+        double max = categoryWeights.values().stream().mapToDouble(Double::doubleValue).max().orElse(1.0);
+        categoryWeights.forEach((category, weight) -> preference.put(category, weight / max));
+        return preference;
+    }
+
+    public synchronized int getRecordedCount() {
+        return contributions.size();
+    }
+
+    private double weightAt(long eventMillis) {
+        return Math.exp((eventMillis - baseMillis) * DECAY_PER_MILLI);
+    }
+
+    // 기준 시각을 옮기고 누적값 전체를 같은 비율로 줄인다 (정규화된 점수는 변하지 않음)
+    private void rebase(long newBaseMillis) {
+        double factor = Math.exp((baseMillis - newBaseMillis) * DECAY_PER_MILLI);
+        for (double[] row : matrix) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] *= factor;
+            }
+        }
+        for (int i = 0; i < hourTotals.length; i++) {
+            hourTotals[i] *= factor;
+        }
+        for (int i = 0; i < dayTotals.length; i++) {
+            dayTotals[i] *= factor;
+        }
+        categoryWeights.replaceAll((_, v) -> v * factor);
+        for (Contribution contribution : contributions.values()) {
+            contribution.weight *= factor;
+        }
+        baseMillis = newBaseMillis;
+    }
+
+    private static double max(double[] values) {
+        double max = 0.0;
+        for (double value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    private static double normalize(double value, double max) {
+        if (max <= 0.0 || value <= max * EPSILON) {
+            return 0.5;
+        }
+        return value / max;
+    }
+}
@@ -0,0 +1,58 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 사용자별 생산성 프로필 캐시
+// 처음 요청될 때 해당 사용자의 일정으로 한 번 만들고, 이후에는 일정 변경 이벤트로 갱신한다.
+// 만드는 동안 들어온 변경 이벤트가 빠지지 않도록 프로필 생성과 이벤트 반영은 같은 잠금(this) 안에서 한다.
+// (만들기 전에 저장되고 뒤늦게 도착한 이벤트는 한 번 더 반영되지만 update/remove는 같은 일정을 바꿔 끼우므로 결과가 같다)
+public class ProductivityProfileStore implements ScheduleManager.ScheduleUpdateListener {
+    private final ScheduleManager scheduleManager;
+    private final Map<String, ProductivityProfile> profiles;
+
+    public ProductivityProfileStore(ScheduleManager scheduleManager) {
+        this.scheduleManager = scheduleManager;
+        this.profiles = new ConcurrentHashMap<>();
+    }
+
+    public ProductivityProfile getProfile(String userId) {
+        if (userId == null) {
+            return new ProductivityProfile(null);
+        }
+        ProductivityProfile profile = profiles.get(userId);
+        return profile != null ? profile : buildProfile(userId);
+    }
+
+    public void invalidate(String userId) {
+        profiles.remove(userId);
+    }
+
+    private synchronized ProductivityProfile buildProfile(String userId) {
+        ProductivityProfile profile = profiles.get(userId);
+        if (profile != null) {
+            return profile;
+        }
+        profile = new ProductivityProfile(userId);
+        for (Schedule schedule : scheduleManager.getSchedulesByUserId(userId)) {
+            profile.update(schedule);
+        }
+        profiles.put(userId, profile);
+        return profile;
+    }
+
+    @Override
+    public synchronized void onScheduleUpdated(Schedule before, Schedule after) {
+        // 아직 만들어지지 않은 프로필은 나중에 전체를 읽어 만들므로 무시
+        if (before != null) {
+            ProductivityProfile profile = profiles.get(before.getUserId());
+            if (profile != null) {
+                profile.remove(before.getScheduleId());
+            }
+        }
+        if (after != null) {
+            ProductivityProfile profile = profiles.get(after.getUserId());
+            if (profile != null) {
+                profile.update(after);
+            }
+        }
+    }
+}
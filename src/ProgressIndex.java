@@ -0,0 +1,110 @@
+import java.util.*;
+
+// 사용자별 일정 진행률 색인
+// 일정을 진행률(완료한 하위 작업 / 전체 하위 작업) 순 TreeMap에 두어
+// 진행률 순 목록과 "거의 끝난 일정" 조회를 전체 일정을 훑지 않고 해당 구간만 꺼내 답한다.
+// 진행률은 Schedule이 하위 작업이 바뀔 때마다 맞춰 둔 완료 수로 바로 구하고,
+// 일정이 바뀌면 ScheduleUpdateListener로 그 일정의 자리만 옮긴다.
+public class ProgressIndex implements ScheduleManager.ScheduleUpdateListener {
+    private final ScheduleManager scheduleManager;
+    // 사용자 ID -> 진행률 -> 일정
+    private final Map<String, TreeMap<Double, Map<String, Schedule>>> userIndexes = new HashMap<>();
+    // 일정 ID -> 색인에 넣을 때의 (소유자, 진행률)
+    private final Map<String, Placement> placements = new HashMap<>();
+    private boolean built;
+
+    private static class Placement {
+        final String userId;
+        final double progress;
+
+        Placement(String userId, double progress) {
+            this.userId = userId;
+            this.progress = progress;
+        }
+    }
+
+    public ProgressIndex(ScheduleManager scheduleManager) {
+        this.scheduleManager = scheduleManager;
+    }
+
+    // 사용자 일정을 진행률 순으로 (descending이면 높은 것부터)
+    public synchronized List<Schedule> getSchedulesByProgress(String userId, boolean descending) {
+        ensureBuilt();
+        TreeMap<Double, Map<String, Schedule>> index = userIndexes.get(userId);
+        if (index == null) {
+            return new ArrayList<>();
+        }
+        return collect(descending ? index.descendingMap() : index);
+    }
+
+    // 진행률이 minProgress 이상이지만 아직 100%가 아닌 일정 (진행률 높은 것부터)
+    public synchronized List<Schedule> getNearlyDoneSchedules(String userId, double minProgress) {
+        ensureBuilt();
+        TreeMap<Double, Map<String, Schedule>> index = userIndexes.get(userId);
+        if (index == null || minProgress >= 100.0) {
+            return new ArrayList<>();
+        }
+        return collect(index.subMap(minProgress, true, 100.0, false).descendingMap());
+    }
+
+    @Override
+    public synchronized void onScheduleUpdated(Schedule before, Schedule after) {
+        if (!built) {
+            return;
+        }
+        if (before != null) {
+            removeFromIndex(before.getScheduleId());
+        }
+        if (after != null) {
+            addToIndex(after);
+        }
+    }
+
+    private void ensureBuilt() {
+        if (built) {
+            return;
+        }
+        for (Schedule schedule : scheduleManager.getAllSchedules()) {
+            addToIndex(schedule);
+        }
+        built = true;
+    }
+
+    private static List<Schedule> collect(Map<Double, Map<String, Schedule>> buckets) {
+        List<Schedule> result = new ArrayList<>();
+        for (Map<String, Schedule> schedules : buckets.values()) {
+            result.addAll(schedules.values());
+        }
+        return result;
+    }
+
+    private void addToIndex(Schedule schedule) {
+        if (schedule.getUserId() == null) {
+            return;
+        }
+        Placement placement = new Placement(schedule.getUserId(), schedule.getProgress());
+        userIndexes.computeIfAbsent(placement.userId, _ -> new TreeMap<>())
+            .computeIfAbsent(placement.progress, _ -> new LinkedHashMap<>())
+            .put(schedule.getScheduleId(), schedule);
+        placements.put(schedule.getScheduleId(), placement);
+    }
+
+    // 일정 객체가 이미 수정되었을 수 있으므로 색인할 때 기록한 위치에서 제거
+    private void removeFromIndex(String scheduleId) {
+        Placement placement = placements.remove(scheduleId);
+        if (placement == null) {
+            return;
+        }
+        TreeMap<Double, Map<String, Schedule>> index = userIndexes.get(placement.userId);
+        if (index == null) {
+            return;
+        }
+        Map<String, Schedule> atProgress = index.get(placement.progress);
+        if (atProgress != null) {
+            atProgress.remove(scheduleId);
+            if (atProgress.isEmpty()) {
+                index.remove(placement.progress);
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+import java.time.LocalDateTime;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 모든 사용자의 다음 1주일 추천을 미리 계산해 사용자별 파일로 저장하는 배치 작업
+// 화면 없이 실행한다: java Main --batch-recommendations (매일 밤 cron 등으로 실행)
+// 사용자마다 제한 시간을 두고, 시간을 넘긴 사용자는 저장하지 않아 창을 열 때 바로 계산하게 된다.
+public class RecommendationBatchJob {
+    private static final Log LOG = Log.get(RecommendationBatchJob.class);
+
+    // 사용자별로 저장할 추천 개수
+    private static final int STORED_COUNT = 50;
+    private static final long DEFAULT_USER_BUDGET_MILLIS = 2000;
+
+    private final ScheduleManager scheduleManager;
+    private final UserManager userManager;
+    private final int threadCount;
+    private final long userBudgetMillis;
+
+    public RecommendationBatchJob(ScheduleManager scheduleManager, UserManager userManager,
+            int threadCount, long userBudgetMillis) {
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException("스레드 수는 1 이상이어야 합니다.");
+        }
+        this.scheduleManager = scheduleManager;
+        this.userManager = userManager;
+        this.threadCount = threadCount;
+        this.userBudgetMillis = userBudgetMillis;
+    }
+
+    // 배치 실행 결과
+    public static class Result {
+        private final int succeeded;
+        private final int timedOut;
+        private final int failed;
+        private final long elapsedMillis;
+
+        Result(int succeeded, int timedOut, int failed, long elapsedMillis) {
+            this.succeeded = succeeded;
+            this.timedOut = timedOut;
+            this.failed = failed;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public int getSucceeded() { return succeeded; }
+        public int getTimedOut() { return timedOut; }
+        public int getFailed() { return failed; }
+        public long getElapsedMillis() { return elapsedMillis; }
+    }
+
+    public Result run() throws InterruptedException {
+        long startedAt = System.currentTimeMillis();
+        List<String> userIds = userManager.getAllUsers();
+        ScheduleRecommender recommender = new ScheduleRecommender(scheduleManager);
+        // 색인은 여기서 한 번 만들어 둔다. 작업 스레드는 빈 시간 색인의 읽기 잠금만 잡으므로 동시에 계산하고,
+        // 제한 시간이 지나면 인터럽트로 멈춘다 (점수 계산 반복문이 인터럽트를 확인한다)
+        scheduleManager.getAvailabilityIndex();
+        scheduleManager.getProductivityProfiles();
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger timedOut = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threadCount, daemonThreads("recommendation-batch"));
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(daemonThreads("recommendation-timer"));
+        CountDownLatch finished = new CountDownLatch(userIds.size());
+
+        try {
+            for (String userId : userIds) {
+                FutureTask<ScheduleRecommender.PrecomputedRecommendations> task = new FutureTask<>(() -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    List<ScheduleRecommender.ScheduleRecommendation> recommendations = recommender
+                        .streamRecommendations(userId, now, now.plusDays(7), Duration.ofHours(1))
+                        .nextPage(STORED_COUNT);
+                    return new ScheduleRecommender.PrecomputedRecommendations(System.currentTimeMillis(), recommendations);
+                });
+                pool.execute(() -> {
+                    // 제한 시간은 실제로 계산을 시작한 시점부터 잰다
+                    ScheduledFuture<?> timeout = timer.schedule(() -> task.cancel(true), userBudgetMillis, TimeUnit.MILLISECONDS);
+                    try {
+                        task.run();
+                        DataStorage.saveRecommendations(userId, task.get());
+                        succeeded.incrementAndGet();
+                    } catch (CancellationException e) {
+                        timedOut.incrementAndGet();
+                        LOG.warn("추천 계산 시간 초과: " + userId);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        failed.incrementAndGet();
+                    } catch (ExecutionException e) {
+                        failed.incrementAndGet();
+                        LOG.error("추천 계산 중 오류 발생 (" + userId + "): " + e.getCause().getMessage(), e.getCause());
+                    } finally {
+                        timeout.cancel(false);
+                        finished.countDown();
+                    }
+                });
+            }
+            finished.await();
+        } finally {
+            pool.shutdownNow();
+            timer.shutdownNow();
+        }
+
+        Result result = new Result(succeeded.get(), timedOut.get(), failed.get(),
+            System.currentTimeMillis() - startedAt);
+        LOG.info(String.format("추천 배치 완료: 사용자 %d명 (성공 %d, 시간 초과 %d, 실패 %d), %dms",
+            userIds.size(), result.getSucceeded(), result.getTimedOut(), result.getFailed(), result.getElapsedMillis()));
+        return result;
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public static void main(String[] args) {
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        RecommendationBatchJob job = new RecommendationBatchJob(
+            ScheduleManager.getInstance(), UserManager.getInstance(), threads, DEFAULT_USER_BUDGET_MILLIS);
+        try {
+            Result result = job.run();
+            System.exit(result.getFailed() == 0 ? 0 : 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.exit(1);
+        }
+    }
+}
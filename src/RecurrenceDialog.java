@@ -222,7 +222,7 @@ public class RecurrenceDialog extends JDialog {
         }
 
         // 예외 날짜 업데이트
-        schedule.getExceptionDates().clear();
+        schedule.clearExceptionDates();
         for (int i = 0; i < exceptionDatesModel.size(); i++) {
             schedule.addExceptionDate(exceptionDatesModel.get(i));
         }
@@ -0,0 +1,334 @@
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// 복제 팔로워: 리더의 변경 기록을 받아 자기 ScheduleManager에 반영하는 읽기 전용 노드
+// 연결할 때 마지막으로 반영한 (epoch, 순번)을 보내 그 뒤의 기록만 받고,
+// 리더가 바뀌었거나 로그가 이미 밀려났으면 리더가 보내는 스냅샷으로 전체를 맞춘다.
+// 연결이 끊기면 점점 늘어나는 간격으로 다시 연결한다. promote()로 리더가 될 수 있다.
+// 실행: java Main --replica-follower 호스트:포트 [API 포트] (표준 입력으로 status, promote [복제 포트])
+public class ReplicationFollower {
+    private static final Log LOG = Log.get(ReplicationFollower.class);
+
+    private static final String STATE_FILE = "replica.dat";
+    // 기록이 계속 밀려 들어올 때도 이 개수마다 한 번은 schedules.dat에 저장
+    private static final int SAVE_EVERY_RECORDS = 500;
+    private static final int CONNECT_TIMEOUT_MILLIS = 5000;
+    private static final long MAX_RETRY_MILLIS = 10000;
+    // 일정 하나를 직렬화한 크기의 상한 (깨진 길이 값으로 큰 배열을 잡지 않도록)
+    private static final int MAX_RECORD_BYTES = 16 * 1024 * 1024;
+
+    private final ScheduleManager scheduleManager;
+    private final String host;
+    private final int port;
+    private final boolean persistent;
+    private final State state;
+    // 리더 기록 반영과 저장을 다른 변경(runExclusive)과 겹치지 않게 하는 잠금
+    private final Object applyLock = new Object();
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private volatile long leaderSequence;
+    private volatile long leaderTimestampMillis;
+    private volatile long appliedTimestampMillis;
+    private Thread worker;
+    private Socket socket;
+
+    // 팔로워 상태 (파일로 저장)
+    private static class State implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        String epoch = "";
+        long appliedSequence;
+    }
+
+    // persistent가 false면 반영 위치를 파일로 저장하지 않는다 (테스트, 같은 JVM 안의 복제본용)
+    public ReplicationFollower(ScheduleManager scheduleManager, String host, int port, boolean persistent) {
+        this.scheduleManager = scheduleManager;
+        this.host = host;
+        this.port = port;
+        this.persistent = persistent;
+        Object loaded = persistent ? DataStorage.loadSyncState(STATE_FILE) : null;
+        this.state = loaded instanceof State loadedState ? loadedState : new State();
+        this.leaderSequence = state.appliedSequence;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        scheduleManager.setReadOnly(true);
+        worker = new Thread(this::followLoop, "replication-follower");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public void stop() {
+        Thread current;
+        synchronized (this) {
+            running = false;
+            current = worker;
+            worker = null;
+            closeSocket();
+        }
+        if (current != null) {
+            current.interrupt();
+            try {
+                current.join(CONNECT_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // 팔로워를 멈추고 이 노드를 새 리더로 만든다 (새 epoch이므로 다른 팔로워는 스냅샷부터 다시 받는다)
+    public ReplicationLeader promote(int replicationPort) throws IOException {
+        stop();
+        ReplicationLeader leader = new ReplicationLeader(scheduleManager, getAppliedSequence());
+        leader.listen(replicationPort);
+        LOG.info("복제 팔로워를 리더로 승격했습니다. (순번 " + getAppliedSequence() + ")");
+        return leader;
+    }
+
+    // 리더 기록 반영과 겹치지 않게 task를 실행한다 (ScheduleManager.startLifecycle의 writer로 쓴다)
+    public void runExclusive(Runnable task) {
+        synchronized (applyLock) {
+            task.run();
+        }
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    public synchronized long getAppliedSequence() {
+        return state.appliedSequence;
+    }
+
+    // 아직 반영하지 못한 리더 기록 수
+    public long getLagRecords() {
+        return Math.max(0, leaderSequence - getAppliedSequence());
+    }
+
+    // 리더가 가장 최근에 기록한 시각과 마지막으로 반영한 기록 시각의 차이 (다 따라잡았으면 0)
+    public long getLagMillis() {
+        if (getLagRecords() == 0) {
+            return 0;
+        }
+        return Math.max(0, leaderTimestampMillis - appliedTimestampMillis);
+    }
+
+    private void followLoop() {
+        long retryMillis = 500;
+        while (running) {
+            try {
+                follow();
+                retryMillis = 500;
+            } catch (IOException e) {
+                if (running) {
+                    LOG.warn("복제 리더 연결 끊김 (" + host + ":" + port + "): " + e.getMessage());
+                }
+            } catch (RuntimeException e) {
+                // 기록을 반영하다 난 오류로 스레드가 죽지 않도록 연결을 끊고 같은 간격으로 다시 시도한다
+                if (running) {
+                    LOG.error("복제 기록 반영 중 오류 발생 (" + host + ":" + port + ")", e);
+                }
+            } finally {
+                connected = false;
+                closeSocket();
+            }
+            if (!running) {
+                return;
+            }
+            try {
+                Thread.sleep(retryMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            retryMillis = Math.min(retryMillis * 2, MAX_RETRY_MILLIS);
+        }
+    }
+
+    private void follow() throws IOException {
+        Socket current = new Socket();
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            socket = current;
+        }
+        current.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MILLIS);
+        // 하트비트가 여러 번 오지 않으면 끊긴 것으로 본다
+        current.setSoTimeout((int) (ReplicationLeader.HEARTBEAT_MILLIS * 5));
+        DataInputStream in = new DataInputStream(new BufferedInputStream(current.getInputStream()));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(current.getOutputStream()));
+        synchronized (this) {
+            out.writeInt(ReplicationLeader.MAGIC);
+            out.writeUTF(state.epoch);
+            out.writeLong(state.appliedSequence);
+        }
+        out.flush();
+        connected = true;
+
+        int unsaved = 0;
+        while (running) {
+            byte type = in.readByte();
+            switch (type) {
+                case ReplicationLeader.SNAPSHOT -> {
+                    applySnapshot(in);
+                    unsaved = 0;
+                }
+                case ReplicationLeader.RECORD -> {
+                    applyRecord(in);
+                    unsaved++;
+                }
+                case ReplicationLeader.HEARTBEAT -> {
+                    leaderSequence = in.readLong();
+                    leaderTimestampMillis = in.readLong();
+                }
+                default -> throw new IOException("알 수 없는 복제 메시지입니다: " + type);
+            }
+            // 밀려온 기록을 다 반영했거나 충분히 쌓였을 때만 파일에 쓴다
+            if (unsaved > 0 && (in.available() == 0 || unsaved >= SAVE_EVERY_RECORDS)) {
+                runExclusive(scheduleManager::saveSchedules);
+                saveState();
+                unsaved = 0;
+            }
+        }
+    }
+
+    private void applySnapshot(DataInputStream in) throws IOException {
+        String epoch = in.readUTF();
+        long sequence = in.readLong();
+        long timestampMillis = in.readLong();
+        int count = in.readInt();
+        List<Schedule> schedules = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            schedules.add(ReplicationLeader.deserialize(readBytes(in)));
+        }
+        runExclusive(() -> scheduleManager.applyReplicatedSnapshot(schedules));
+        synchronized (this) {
+            state.epoch = epoch;
+            state.appliedSequence = sequence;
+        }
+        appliedTimestampMillis = timestampMillis;
+        // 새 리더는 순번을 다르게 이어 갈 수 있으므로 스냅샷 값으로 다시 맞춘다
+        leaderSequence = sequence;
+        leaderTimestampMillis = timestampMillis;
+        saveState();
+        LOG.info("복제 스냅샷 반영: 일정 " + count + "개 (순번 " + sequence + ")");
+    }
+
+    private void applyRecord(DataInputStream in) throws IOException {
+        long sequence = in.readLong();
+        long timestampMillis = in.readLong();
+        byte operation = in.readByte();
+        String scheduleId = in.readUTF();
+        if (operation == ReplicationLeader.PUT) {
+            Schedule schedule = ReplicationLeader.deserialize(readBytes(in));
+            runExclusive(() -> scheduleManager.applyReplicatedPut(schedule));
+        } else if (operation == ReplicationLeader.DELETE) {
+            runExclusive(() -> scheduleManager.applyReplicatedDelete(scheduleId));
+        } else {
+            throw new IOException("알 수 없는 복제 기록입니다: " + operation);
+        }
+        synchronized (this) {
+            state.appliedSequence = sequence;
+        }
+        appliedTimestampMillis = timestampMillis;
+        if (sequence > leaderSequence) {
+            leaderSequence = sequence;
+            leaderTimestampMillis = timestampMillis;
+        }
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_RECORD_BYTES) {
+            throw new IOException("복제 데이터 크기가 올바르지 않습니다: " + length);
+        }
+        byte[] data = new byte[length];
+        in.readFully(data);
+        return data;
+    }
+
+    private synchronized void saveState() {
+        if (persistent) {
+            DataStorage.saveSyncState(STATE_FILE, state);
+        }
+    }
+
+    private synchronized void closeSocket() {
+        if (socket == null) {
+            return;
+        }
+        try {
+            socket.close();
+        } catch (IOException e) {
+            LOG.error("복제 연결 종료 중 오류 발생: " + e.getMessage());
+        }
+        socket = null;
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        if (args.length < 2) {
+            System.err.println("사용법: --replica-follower 호스트:포트 [API 포트]");
+            System.exit(1);
+        }
+        String host;
+        int port;
+        int apiPort = ScheduleApiServer.DEFAULT_PORT;
+        try {
+            int colon = args[1].lastIndexOf(':');
+            host = args[1].substring(0, colon);
+            port = Integer.parseInt(args[1].substring(colon + 1));
+            if (args.length > 2) {
+                apiPort = Integer.parseInt(args[2]);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("복제 리더 주소 또는 포트가 올바르지 않습니다: " + String.join(" ", args));
+            System.exit(1);
+            return;
+        }
+
+        ScheduleManager scheduleManager = ScheduleManager.getInstance();
+        ReplicationFollower follower = new ReplicationFollower(scheduleManager, host, port, true);
+        // 서비스가 쓰는 색인이 리스너로 먼저 등록되어 있어야 첫 스냅샷/기록부터 따라간다
+        ScheduleService service = new ScheduleService(scheduleManager, UserManager.getInstance());
+        // 승격한 뒤에는 API 변경과도 겹치지 않도록 서비스 쓰기 잠금도 잡는다
+        scheduleManager.startLifecycle(task -> follower.runExclusive(() -> service.runExclusive(task)));
+        try {
+            follower.start();
+            // 팔로워도 조회 요청은 그대로 받는다 (변경 요청은 403)
+            new ScheduleApiServer(service, apiPort).start();
+        } catch (IOException e) {
+            LOG.error("API 서버 시작 중 오류 발생: " + e.getMessage());
+            System.exit(1);
+        }
+
+        BufferedReader console = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        try {
+            String line;
+            while ((line = console.readLine()) != null) {
+                String[] command = line.trim().split("\\s+");
+                if (command[0].equals("status")) {
+                    System.out.println("연결: " + follower.isConnected()
+                        + ", 반영 순번: " + follower.getAppliedSequence()
+                        + ", 지연: " + follower.getLagRecords() + "건 / " + follower.getLagMillis() + "ms");
+                } else if (command[0].equals("promote")) {
+                    int replicationPort = command.length > 1
+                        ? Integer.parseInt(command[1]) : ReplicationLeader.DEFAULT_PORT;
+                    follower.promote(replicationPort);
+                    return;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            LOG.error("명령 처리 중 오류 발생: " + e.getMessage());
+        }
+    }
+}
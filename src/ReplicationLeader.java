@@ -0,0 +1,308 @@
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 복제 리더: 쓰기를 받는 노드
+// ScheduleManager의 변경마다 순번을 매긴 기록(일정 전체 상태 또는 삭제)을 메모리 로그에 남기고,
+// TCP로 연결한 팔로워에게 차례로 보낸다. 팔로워가 마지막으로 받은 순번이 로그에 남아 있으면 그 뒤부터,
+// 리더가 바뀌었거나(epoch 불일치) 너무 뒤처졌으면 스냅샷을 먼저 보내고 이어서 로그를 보낸다.
+// 기록은 일정 전체 상태라 같은 기록을 두 번 반영해도 결과가 같다.
+// 실행: java Main --replica-leader [복제 포트] [API 포트] (기본 9190, 8080)
+public class ReplicationLeader implements ScheduleManager.ScheduleUpdateListener {
+    private static final Log LOG = Log.get(ReplicationLeader.class);
+
+    public static final int DEFAULT_PORT = 9190;
+    static final int MAGIC = 0x5245504c; // "REPL"
+    static final byte SNAPSHOT = 'S';
+    static final byte RECORD = 'R';
+    static final byte HEARTBEAT = 'H';
+    static final byte PUT = 'P';
+    static final byte DELETE = 'D';
+    // 변경이 없을 때 팔로워가 지연을 계산할 수 있도록 보내는 하트비트 간격
+    static final long HEARTBEAT_MILLIS = 1000;
+    private static final int DEFAULT_LOG_CAPACITY = 10000;
+
+    private final ScheduleManager scheduleManager;
+    private final String epoch;
+    private final int logCapacity;
+    // 최근 기록 (순번 오름차순, logCapacity개까지)
+    private final ArrayDeque<Record> log = new ArrayDeque<>();
+    private long sequence;
+    private long lastTimestampMillis;
+    private ServerSocket serverSocket;
+    private ExecutorService followers;
+    private final Set<String> connectedFollowers = Collections.synchronizedSet(new LinkedHashSet<>());
+
+    // 로그 기록 하나 (data는 직렬화한 일정, 삭제면 null)
+    static final class Record {
+        final long sequence;
+        final long timestampMillis;
+        final byte operation;
+        final String scheduleId;
+        final byte[] data;
+
+        Record(long sequence, long timestampMillis, byte operation, String scheduleId, byte[] data) {
+            this.sequence = sequence;
+            this.timestampMillis = timestampMillis;
+            this.operation = operation;
+            this.scheduleId = scheduleId;
+            this.data = data;
+        }
+    }
+
+    // startSequence: 이 리더가 이어 갈 순번 (승격된 팔로워는 자신이 반영한 순번)
+    public ReplicationLeader(ScheduleManager scheduleManager, long startSequence) {
+        this(scheduleManager, startSequence, DEFAULT_LOG_CAPACITY);
+    }
+
+    public ReplicationLeader(ScheduleManager scheduleManager, long startSequence, int logCapacity) {
+        if (logCapacity <= 0) {
+            throw new IllegalArgumentException("로그 크기는 1 이상이어야 합니다.");
+        }
+        this.scheduleManager = scheduleManager;
+        this.epoch = UUID.randomUUID().toString();
+        this.sequence = startSequence;
+        this.lastTimestampMillis = System.currentTimeMillis();
+        this.logCapacity = logCapacity;
+        scheduleManager.setReadOnly(false);
+        scheduleManager.addScheduleUpdateListener(this);
+    }
+
+    public String getEpoch() {
+        return epoch;
+    }
+
+    public synchronized long getSequence() {
+        return sequence;
+    }
+
+    public List<String> getConnectedFollowers() {
+        synchronized (connectedFollowers) {
+            return new ArrayList<>(connectedFollowers);
+        }
+    }
+
+    @Override
+    public void onScheduleUpdated(Schedule before, Schedule after) {
+        Record record;
+        if (after != null) {
+            record = new Record(0, 0, PUT, after.getScheduleId(), serialize(after));
+        } else if (before != null) {
+            record = new Record(0, 0, DELETE, before.getScheduleId(), null);
+        } else {
+            return;
+        }
+        append(record);
+    }
+
+    private synchronized void append(Record pending) {
+        sequence++;
+        lastTimestampMillis = System.currentTimeMillis();
+        log.addLast(new Record(sequence, lastTimestampMillis, pending.operation, pending.scheduleId, pending.data));
+        while (log.size() > logCapacity) {
+            log.removeFirst();
+        }
+        notifyAll();
+    }
+
+    // afterSequence 다음 기록들 (로그에서 이미 밀려났으면 null -> 스냅샷 필요)
+    // 새 기록이 없으면 waitMillis 동안 기다린다
+    private synchronized List<Record> recordsAfter(long afterSequence, long waitMillis) throws InterruptedException {
+        if (afterSequence >= sequence && waitMillis > 0) {
+            wait(waitMillis);
+        }
+        if (afterSequence >= sequence) {
+            return Collections.emptyList();
+        }
+        Record first = log.peekFirst();
+        if (first == null || first.sequence > afterSequence + 1) {
+            return null;
+        }
+        List<Record> records = new ArrayList<>();
+        for (Record record : log) {
+            if (record.sequence > afterSequence) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    // 로컬 TCP 포트에서 팔로워 연결을 받기 시작 (팔로워마다 가상 스레드 하나)
+    public synchronized void listen(int port) throws IOException {
+        if (serverSocket != null) {
+            throw new IllegalStateException("이미 실행 중인 복제 리더입니다.");
+        }
+        serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        followers = Executors.newVirtualThreadPerTaskExecutor();
+        ServerSocket socket = serverSocket;
+        Thread acceptor = new Thread(() -> acceptLoop(socket), "replication-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        LOG.info("복제 리더 시작: 127.0.0.1:" + socket.getLocalPort());
+    }
+
+    public synchronized int getPort() {
+        return serverSocket != null ? serverSocket.getLocalPort() : -1;
+    }
+
+    public synchronized void close() {
+        scheduleManager.removeScheduleUpdateListener(this);
+        if (serverSocket == null) {
+            return;
+        }
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            LOG.error("복제 리더 종료 중 오류 발생: " + e.getMessage());
+        }
+        followers.shutdownNow();
+        serverSocket = null;
+    }
+
+    private void acceptLoop(ServerSocket socket) {
+        while (!socket.isClosed()) {
+            try {
+                Socket follower = socket.accept();
+                followers.execute(() -> serve(follower));
+            } catch (SocketException e) {
+                return; // close()로 닫힘
+            } catch (IOException e) {
+                LOG.error("복제 연결 수락 중 오류 발생: " + e.getMessage());
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        String name = socket.getRemoteSocketAddress().toString();
+        connectedFollowers.add(name);
+        try (socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("알 수 없는 복제 요청입니다.");
+            }
+            String followerEpoch = in.readUTF();
+            long sent = in.readLong();
+            boolean needsSnapshot = !epoch.equals(followerEpoch);
+
+            while (!Thread.currentThread().isInterrupted()) {
+                List<Record> records = needsSnapshot ? null : recordsAfter(sent, HEARTBEAT_MILLIS);
+                if (records == null) {
+                    sent = writeSnapshot(out);
+                    needsSnapshot = false;
+                    continue;
+                }
+                // 기록 앞에도 리더의 현재 순번을 알려 팔로워가 밀린 양을 계산할 수 있게 한다
+                writeHeartbeat(out);
+                for (Record record : records) {
+                    writeRecord(out, record);
+                    sent = record.sequence;
+                }
+                out.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            LOG.warn("팔로워 연결 종료 (" + name + "): " + e.getMessage());
+        } finally {
+            connectedFollowers.remove(name);
+        }
+    }
+
+    // 스냅샷 순번 이후의 변경은 로그로 이어서 보낸다 (스냅샷에 이미 들어간 변경이 다시 와도 결과는 같음)
+    private long writeSnapshot(DataOutputStream out) throws IOException {
+        long snapshotSequence;
+        long timestampMillis;
+        synchronized (this) {
+            snapshotSequence = sequence;
+            timestampMillis = lastTimestampMillis;
+        }
+        List<Schedule> schedules = scheduleManager.getAllSchedules();
+        out.writeByte(SNAPSHOT);
+        out.writeUTF(epoch);
+        out.writeLong(snapshotSequence);
+        out.writeLong(timestampMillis);
+        out.writeInt(schedules.size());
+        for (Schedule schedule : schedules) {
+            byte[] data = serialize(schedule);
+            out.writeInt(data.length);
+            out.write(data);
+        }
+        out.flush();
+        return snapshotSequence;
+    }
+
+    private void writeHeartbeat(DataOutputStream out) throws IOException {
+        long currentSequence;
+        long timestampMillis;
+        synchronized (this) {
+            currentSequence = sequence;
+            timestampMillis = lastTimestampMillis;
+        }
+        out.writeByte(HEARTBEAT);
+        out.writeLong(currentSequence);
+        out.writeLong(timestampMillis);
+    }
+
+    private static void writeRecord(DataOutputStream out, Record record) throws IOException {
+        out.writeByte(RECORD);
+        out.writeLong(record.sequence);
+        out.writeLong(record.timestampMillis);
+        out.writeByte(record.operation);
+        out.writeUTF(record.scheduleId);
+        if (record.operation == PUT) {
+            out.writeInt(record.data.length);
+            out.write(record.data);
+        }
+    }
+
+    static byte[] serialize(Schedule schedule) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(schedule);
+        } catch (IOException e) {
+            throw new UncheckedIOException("일정 직렬화 중 오류 발생", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Schedule deserialize(byte[] data) throws IOException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            return (Schedule) in.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("일정 복원 중 오류 발생: " + e.getMessage(), e);
+        }
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        int replicationPort = DEFAULT_PORT;
+        int apiPort = ScheduleApiServer.DEFAULT_PORT;
+        try {
+            if (args.length > 1) {
+                replicationPort = Integer.parseInt(args[1]);
+            }
+            if (args.length > 2) {
+                apiPort = Integer.parseInt(args[2]);
+            }
+        } catch (NumberFormatException e) {
+            System.err.println("포트 값이 올바른 숫자가 아닙니다: " + e.getMessage());
+            System.exit(1);
+        }
+        try {
+            ScheduleManager scheduleManager = ScheduleManager.getInstance();
+            new ReplicationLeader(scheduleManager, 0).listen(replicationPort);
+            ScheduleService service = new ScheduleService(scheduleManager, UserManager.getInstance());
+            scheduleManager.startLifecycle(service::runExclusive);
+            new ScheduleApiServer(service, apiPort).start();
+        } catch (IOException e) {
+            LOG.error("복제 리더 시작 중 오류 발생: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
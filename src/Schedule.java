@@ -1,47 +1,98 @@
 import java.time.LocalDateTime;
-import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 import java.util.HashMap;
 import java.util.Map;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.util.Set;
 import java.util.HashSet;
 import java.util.Collections;
-
-public class Schedule implements Serializable {
+import java.util.Iterator;
+
+// 일정 하나
+// 일정이 많을 때 메모리를 줄이기 위해
+// - 시각은 LocalDateTime(객체 3개) 대신 밀리초 long으로 둔다
+//   (시작/종료/반복 종료는 벽시계 시각 그대로, 생성/수정/완료 시각은 실제 시점)
+// - 상태와 반복 유형은 enum 하나씩만 두고, 완료 여부는 상태에서 구한다
+// - 태그, 공유, 예외 날짜, 하위 작업은 처음 쓸 때 만든다 (비었으면 공용 빈 컬렉션, 하나면 singleton)
+// - 여러 일정에 반복되는 문자열은 StringDictionary로 한 벌만 둔다
+// 파일(schedules.dat)에는 예전 필드 구성 그대로 쓰고 읽으므로 기존 데이터와 호환된다.
+public class Schedule implements Serializable, Cloneable {
     private static final long serialVersionUID = 1L;
+    // 값이 없는 시각 (반복 종료, 완료 시각)
+    static final long NONE = Long.MIN_VALUE;
 
     private String scheduleId;
     private String title;
     private String description;
-    private LocalDateTime startTime;
-    private LocalDateTime endTime;
+    private long startMillis;
+    private long endMillis;
     private String location;
     private String category;
     private boolean isImportant;
-    private String status; // "SCHEDULED", "IN_PROGRESS", "COMPLETED", "CANCELLED"
+    private boolean isRecurring; // 반복 여부
+    private byte priority;
+    private Status status;
+    private RecurrenceType recurrence;
     private String userId;
-    private LocalDateTime createdAt;
-    private LocalDateTime updatedAt;
+    private long createdAtMillis;
+    private long updatedAtMillis;
+    private long completedAtMillis;
     private int reminderMinutes;
+    private int recurrenceInterval; // 반복 간격
+    private long recurrenceEndMillis; // 반복 종료일
+    // 시작/종료 시각이 지났는지 (ScheduleLifecycle이 시각에 맞춰 켠다, 파일에는 저장하지 않음)
+    private volatile boolean started;
+    private volatile boolean pastEnd;
     private String color; // 일정 색상 (UI에서 구분용)
+    // 아래 컬렉션은 바꿀 때마다 새로 만들어 바꾼다 (밖으로 그대로 내줘도 안전)
     private Map<String, String> sharedUsers; // 공유된 사용자 목록
-    private boolean isRecurring; // 반복 여부
-    private String recurrenceType; // 반복 유형 (DAILY, WEEKLY, MONTHLY, YEARLY)
-    private int recurrenceInterval; // 반복 간격
-    private LocalDateTime recurrenceEndDate; // 반복 종료일
     private Set<LocalDateTime> exceptionDates; // 반복 예외 날짜
     private Set<String> tags;
     private Set<String> sharedWith;
-    private RecurrenceType recurrenceTypeEnum;
-    private LocalDateTime recurrenceEnd;
-    private int priority;
-    private boolean isCompleted;
-    private LocalDateTime completedAt;
     private List<SubTask> subTasks;
+    // 완료된 하위 작업 수 (하위 작업이 추가/삭제/완료될 때마다 맞춘다, 파일에는 저장하지 않음)
+    private int completedSubTaskCount;
+
+    // 예전 버전과 같은 직렬화 형식 (writeObject/readObject에서 변환)
+    private static final ObjectStreamField[] serialPersistentFields = {
+        new ObjectStreamField("scheduleId", String.class),
+        new ObjectStreamField("title", String.class),
+        new ObjectStreamField("description", String.class),
+        new ObjectStreamField("startTime", LocalDateTime.class),
+        new ObjectStreamField("endTime", LocalDateTime.class),
+        new ObjectStreamField("location", String.class),
+        new ObjectStreamField("category", String.class),
+        new ObjectStreamField("isImportant", boolean.class),
+        new ObjectStreamField("status", String.class),
+        new ObjectStreamField("userId", String.class),
+        new ObjectStreamField("createdAt", LocalDateTime.class),
+        new ObjectStreamField("updatedAt", LocalDateTime.class),
+        new ObjectStreamField("reminderMinutes", int.class),
+        new ObjectStreamField("color", String.class),
+        new ObjectStreamField("sharedUsers", Map.class),
+        new ObjectStreamField("isRecurring", boolean.class),
+        new ObjectStreamField("recurrenceType", String.class),
+        new ObjectStreamField("recurrenceInterval", int.class),
+        new ObjectStreamField("recurrenceEndDate", LocalDateTime.class),
+        new ObjectStreamField("exceptionDates", Set.class),
+        new ObjectStreamField("tags", Set.class),
+        new ObjectStreamField("sharedWith", Set.class),
+        new ObjectStreamField("recurrenceTypeEnum", RecurrenceType.class),
+        new ObjectStreamField("recurrenceEnd", LocalDateTime.class),
+        new ObjectStreamField("priority", int.class),
+        new ObjectStreamField("isCompleted", boolean.class),
+        new ObjectStreamField("completedAt", LocalDateTime.class),
+        new ObjectStreamField("subTasks", List.class)
+    };
 
     public enum RecurrenceType {
         NONE,
@@ -51,11 +102,44 @@ public class Schedule implements Serializable {
         YEARLY
     }
 
-    public static class SubTask {
+    // 일정 상태 (code는 getStatus()/setStatus()로 주고받는 문자열)
+    public enum Status {
+        PLANNED("예정"),
+        SCHEDULED("SCHEDULED"),
+        IN_PROGRESS("IN_PROGRESS"),
+        COMPLETED("COMPLETED"),
+        CANCELLED("CANCELLED");
+
+        private final String code;
+
+        Status(String code) {
+            this.code = code;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        // 알 수 없는 문자열이면 null
+        public static Status fromCode(String code) {
+            for (Status status : values()) {
+                if (status.code.equals(code)) {
+                    return status;
+                }
+            }
+            return null;
+        }
+    }
+
+    public static class SubTask implements Serializable {
+        private static final long serialVersionUID = 1L;
+
         private String id;
         private String title;
         private boolean isCompleted;
         private LocalDateTime completedAt;
+        // 이 하위 작업이 들어 있는 일정 (완료 수를 맞추는 데 사용, 저장하지 않음)
+        private transient Schedule owner;
 
         public SubTask(String id, String title) {
             this.id = id;
@@ -68,10 +152,21 @@ public class Schedule implements Serializable {
         public String getTitle() { return title; }
         public boolean isCompleted() { return isCompleted; }
         public void setCompleted(boolean completed) { 
+            boolean changed = this.isCompleted != completed;
             this.isCompleted = completed;
             this.completedAt = completed ? LocalDateTime.now() : null;
+            if (changed && owner != null) {
+                owner.completedSubTaskCount += completed ? 1 : -1;
+            }
         }
         public LocalDateTime getCompletedAt() { return completedAt; }
+
+        private SubTask copy() {
+            SubTask copy = new SubTask(id, title);
+            copy.isCompleted = isCompleted;
+            copy.completedAt = completedAt;
+            return copy;
+        }
     }
 
     public Schedule(String scheduleId, String title, String description, LocalDateTime startTime, 
@@ -80,33 +175,49 @@ public class Schedule implements Serializable {
         this.scheduleId = scheduleId;
         this.title = title;
         this.description = description;
-        this.startTime = startTime;
-        this.endTime = endTime;
-        this.location = location;
-        this.category = category;
+        this.startMillis = toLocalMillis(startTime);
+        this.endMillis = toLocalMillis(endTime);
+        this.location = StringDictionary.intern(location);
+        this.category = StringDictionary.intern(category);
         this.isImportant = isImportant;
-        this.status = "예정";
-        this.userId = userId;
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        this.status = Status.PLANNED;
+        this.userId = StringDictionary.intern(userId);
+        this.createdAtMillis = System.currentTimeMillis();
+        this.updatedAtMillis = createdAtMillis;
+        this.completedAtMillis = NONE;
         this.reminderMinutes = 30; // 기본 알림 시간 30분
-        this.color = "#4A90E2"; // 기본 색상
-        this.sharedUsers = new HashMap<>();
+        this.color = StringDictionary.intern("#4A90E2"); // 기본 색상
+        this.sharedUsers = Collections.emptyMap();
         this.isRecurring = false;
-        this.recurrenceType = null;
+        this.recurrence = RecurrenceType.NONE;
         this.recurrenceInterval = 1;
-        this.recurrenceEndDate = null;
-        this.exceptionDates = new HashSet<>();
-        this.tags = new HashSet<>();
-        this.sharedWith = new HashSet<>();
-        this.recurrenceTypeEnum = RecurrenceType.NONE;
+        this.recurrenceEndMillis = NONE;
+        this.exceptionDates = Collections.emptySet();
+        this.tags = Collections.emptySet();
+        this.sharedWith = Collections.emptySet();
         this.priority = 0;
-        this.isCompleted = false;
-        this.subTasks = new ArrayList<>();
+        this.subTasks = Collections.emptyList();
+    }
+
+    // 같은 내용의 새 일정 (고쳐 본 뒤 문제가 없을 때만 updateSchedule로 바꿔 끼우는 데 사용)
+    // 컬렉션은 바꿀 때마다 새로 만들므로 그대로 나눠 쓰고, 하위 작업만 복사한다
+    public Schedule copy() {
+        Schedule copy;
+        try {
+            copy = (Schedule) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+        copy.subTasks = Collections.emptyList();
+        copy.completedSubTaskCount = 0;
+        for (SubTask subTask : subTasks) {
+            copy.addSubTask(subTask);
+        }
+        return copy;
     }
 
     private String generateScheduleId() {
-        return "SCH" + UUID.randomUUID().toString().substring(0, 8);
+        return "SCH" + IdGenerator.newId();
     }
 
     // Getters and Setters
@@ -124,7 +235,7 @@ public class Schedule implements Serializable {
     
     public void setTitle(String title) {
         this.title = title;
-        this.updatedAt = LocalDateTime.now();
+        touch();
     }
     
     public String getDescription() {
@@ -133,25 +244,25 @@ public class Schedule implements Serializable {
     
     public void setDescription(String description) {
         this.description = description;
-        this.updatedAt = LocalDateTime.now();
+        touch();
     }
     
     public LocalDateTime getStartTime() {
-        return startTime;
+        return fromLocalMillis(startMillis);
     }
     
     public void setStartTime(LocalDateTime startTime) {
-        this.startTime = startTime;
-        this.updatedAt = LocalDateTime.now();
+        this.startMillis = toLocalMillis(startTime);
+        touch();
     }
     
     public LocalDateTime getEndTime() {
-        return endTime;
+        return fromLocalMillis(endMillis);
     }
     
     public void setEndTime(LocalDateTime endTime) {
-        this.endTime = endTime;
-        this.updatedAt = LocalDateTime.now();
+        this.endMillis = toLocalMillis(endTime);
+        touch();
     }
     
     public String getLocation() {
@@ -159,8 +270,8 @@ public class Schedule implements Serializable {
     }
     
     public void setLocation(String location) {
-        this.location = location;
-        this.updatedAt = LocalDateTime.now();
+        this.location = StringDictionary.intern(location);
+        touch();
     }
     
     public String getCategory() {
@@ -168,8 +279,8 @@ public class Schedule implements Serializable {
     }
     
     public void setCategory(String category) {
-        this.category = category;
-        this.updatedAt = LocalDateTime.now();
+        this.category = StringDictionary.intern(category);
+        touch();
     }
     
     public boolean isImportant() {
@@ -178,24 +289,57 @@ public class Schedule implements Serializable {
     
     public void setImportant(boolean important) {
         this.isImportant = important;
-        this.updatedAt = LocalDateTime.now();
+        touch();
     }
     
-    public String getStatus() { return status; }
+    public String getStatus() { return getStatusEnum().getCode(); }
+    // 문자열로는 예전처럼 SCHEDULED, IN_PROGRESS, COMPLETED, CANCELLED만 받는다 (예정은 처음 상태로만 쓴다)
     public void setStatus(String status) {
-        if (isValidStatus(status)) {
-            this.status = status;
-            this.updatedAt = LocalDateTime.now();
-        } else {
+        Status parsed = status != null ? Status.fromCode(status) : null;
+        if (parsed == null || parsed == Status.PLANNED) {
+            throw new IllegalArgumentException("유효하지 않은 상태입니다.");
+        }
+        setStatus(parsed);
+    }
+
+    // 시작 시각이 지난 예정 일정은 진행 중으로 보인다 (저장하거나 수정으로 기록하지 않고 볼 때만 바꾼다)
+    public Status getStatusEnum() {
+        Status current = status;
+        if (started && (current == Status.PLANNED || current == Status.SCHEDULED)) {
+            return Status.IN_PROGRESS;
+        }
+        return current;
+    }
+
+    // 사용자가 정한 상태 (파일과 동기화에는 이 값을 쓴다)
+    Status getEditedStatus() {
+        return status;
+    }
+
+    // 완료 여부는 상태로 정하므로 COMPLETED로 바꾸면 완료 시각을 기록하고, 다른 상태로 바꾸면 지운다
+    public void setStatus(Status status) {
+        if (status == null) {
             throw new IllegalArgumentException("유효하지 않은 상태입니다.");
         }
+        if (status == Status.COMPLETED) {
+            if (completedAtMillis == NONE) {
+                completedAtMillis = System.currentTimeMillis();
+            }
+        } else {
+            completedAtMillis = NONE;
+        }
+        this.status = status;
+        touch();
     }
     
     public String getUserId() { return userId; }
     
-    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getCreatedAt() { return fromInstantMillis(createdAtMillis); }
     
-    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public LocalDateTime getUpdatedAt() { return fromInstantMillis(updatedAtMillis); }
+
+    // 마지막 수정 시점 (epoch 밀리초)
+    public long getUpdatedAtMillis() { return updatedAtMillis; }
     
     public int getReminderMinutes() { return reminderMinutes; }
     public void setReminderMinutes(int reminderMinutes) {
@@ -203,36 +347,60 @@ public class Schedule implements Serializable {
             throw new IllegalArgumentException("알림 시간은 0분 이상이어야 합니다.");
         }
         this.reminderMinutes = reminderMinutes;
-        this.updatedAt = LocalDateTime.now();
+        touch();
     }
     
     public String getColor() { return color; }
     public void setColor(String color) {
-        this.color = color;
-        this.updatedAt = LocalDateTime.now();
+        this.color = StringDictionary.intern(color);
+        touch();
+    }
+
+    private void touch() {
+        this.updatedAtMillis = System.currentTimeMillis();
+    }
+
+    // 시작/종료 시각 (벽시계 기준 ms, ScheduleLifecycle에서 사용)
+    long getStartMillis() {
+        return startMillis;
+    }
+
+    long getEndMillis() {
+        return endMillis;
     }
 
-    private boolean isValidStatus(String status) {
-        return status.equals("SCHEDULED") || 
-               status.equals("IN_PROGRESS") || 
-               status.equals("COMPLETED") || 
-               status.equals("CANCELLED");
+    // 시작/종료 시각이 지났는지를 nowMillis에 맞춘다 (바뀌었으면 true)
+    boolean updateTimeState(long nowMillis) {
+        if (startMillis == NONE || endMillis == NONE) {
+            return false;
+        }
+        boolean nowStarted = nowMillis >= startMillis;
+        boolean nowPastEnd = nowMillis >= endMillis;
+        boolean changed = nowStarted != started || nowPastEnd != pastEnd;
+        started = nowStarted;
+        pastEnd = nowPastEnd;
+        return changed;
+    }
+
+    // 종료 시각이 지났는데 완료되지 않은 일정 (현재 시각과 비교하지 않고 ScheduleLifecycle이 켠 값을 읽는다)
+    public boolean isOverdue() {
+        return pastEnd && status != Status.COMPLETED;
     }
 
     public long getDuration() {
-        return Duration.between(startTime, endTime).toMinutes();
+        return (endMillis - startMillis) / 60_000;
     }
 
     public boolean isOverlapping(Schedule other) {
-        return !(this.endTime.isBefore(other.startTime) || 
-                this.startTime.isAfter(other.endTime));
+        return !(this.endMillis < other.startMillis || 
+                this.startMillis > other.endMillis);
     }
 
     public void scheduleReminder() {
         NotificationManager.getInstance().scheduleNotification(
             scheduleId,
             title,
-            startTime,
+            getStartTime(),
             reminderMinutes
         );
     }
@@ -244,29 +412,30 @@ public class Schedule implements Serializable {
     @Override
     public String toString() {
         return String.format("[%s] %s (%s - %s) %s",
-            scheduleId, title, startTime, endTime, 
+            scheduleId, title, getStartTime(), getEndTime(), 
             isImportant ? "(중요)" : "");
     }
 
     // 공유 관련 메서드
     public Map<String, String> getSharedUsers() {
-        return new HashMap<>(sharedUsers);
+        return sharedUsers;
     }
 
     public void shareWithUser(String userId, String permission) {
         if (!isValidPermission(permission)) {
             throw new IllegalArgumentException("유효하지 않은 권한입니다.");
         }
-        sharedUsers.put(userId, permission);
-        this.updatedAt = LocalDateTime.now();
+        sharedUsers = with(sharedUsers, StringDictionary.intern(userId), StringDictionary.intern(permission));
+        touch();
     }
 
     public void removeSharedUser(String userId) {
         if (userId == null || userId.trim().isEmpty()) {
             throw new IllegalArgumentException("사용자 ID가 유효하지 않습니다.");
         }
-        sharedWith.remove(userId);
-        this.updatedAt = LocalDateTime.now();
+        sharedUsers = without(sharedUsers, userId);
+        sharedWith = without(sharedWith, userId);
+        touch();
     }
 
     public String getUserPermission(String userId) {
@@ -274,15 +443,19 @@ public class Schedule implements Serializable {
     }
 
     public boolean canUserEdit(String userId) {
-        return this.userId.equals(userId) || 
+        return isOwner(userId) || 
                "WRITE".equals(sharedUsers.get(userId));
     }
 
     public boolean canUserView(String userId) {
-        return this.userId.equals(userId) || 
+        return isOwner(userId) || 
                sharedUsers.containsKey(userId);
     }
 
+    private boolean isOwner(String userId) {
+        return this.userId != null && this.userId.equals(userId);
+    }
+
     private boolean isValidPermission(String permission) {
         return permission.equals("READ") || permission.equals("WRITE");
     }
@@ -294,16 +467,15 @@ public class Schedule implements Serializable {
 
     public void setRecurring(boolean recurring) {
         this.isRecurring = recurring;
-        this.updatedAt = LocalDateTime.now();
+        touch();
     }
 
     public void setRecurrenceType(String type) {
         if (!isValidRecurrenceType(type)) {
             throw new IllegalArgumentException("유효하지 않은 반복 유형입니다.");
         }
-        this.recurrenceType = type;
-        this.recurrenceTypeEnum = RecurrenceType.valueOf(type);
-        this.updatedAt = LocalDateTime.now();
+        this.recurrence = RecurrenceType.valueOf(type);
+        touch();
     }
 
     public int getRecurrenceInterval() {
@@ -315,35 +487,48 @@ public class Schedule implements Serializable {
             throw new IllegalArgumentException("반복 간격은 1 이상이어야 합니다.");
         }
         this.recurrenceInterval = interval;
-        this.updatedAt = LocalDateTime.now();
+        touch();
     }
 
     public LocalDateTime getRecurrenceEndDate() {
-        return recurrenceEndDate;
+        return fromLocalMillis(recurrenceEndMillis);
     }
 
     public void setRecurrenceEndDate(LocalDateTime endDate) {
-        if (endDate != null && endDate.isBefore(startTime)) {
+        long endDateMillis = toLocalMillis(endDate);
+        if (endDate != null && endDateMillis < startMillis) {
             throw new IllegalArgumentException("반복 종료일은 시작일 이후여야 합니다.");
         }
-        this.recurrenceEndDate = endDate;
-        this.updatedAt = LocalDateTime.now();
+        this.recurrenceEndMillis = endDateMillis;
+        touch();
     }
 
+    // 바꿀 수 없는 집합 (바꾸려면 add/remove/clearExceptionDates 사용)
     public Set<LocalDateTime> getExceptionDates() {
         return exceptionDates;
     }
 
     public void addExceptionDate(LocalDateTime date) {
         if (date != null) {
-            exceptionDates.add(date);
-            this.updatedAt = LocalDateTime.now();
+            exceptionDates = with(exceptionDates, date);
+            touch();
         }
     }
 
     public void removeExceptionDate(LocalDateTime date) {
-        exceptionDates.remove(date);
-        this.updatedAt = LocalDateTime.now();
+        exceptionDates = without(exceptionDates, date);
+        touch();
+    }
+
+    public void clearExceptionDates() {
+        exceptionDates = Collections.emptySet();
+        touch();
+    }
+
+    // 동기화로 받은 예외 날짜를 통째로 바꾼다
+    void setExceptionDates(Set<LocalDateTime> dates) {
+        exceptionDates = compact(dates);
+        touch();
     }
 
     public boolean isExceptionDate(LocalDateTime date) {
@@ -351,13 +536,14 @@ public class Schedule implements Serializable {
     }
 
     public List<LocalDateTime> getRecurrenceDates() {
-        if (!isRecurring || recurrenceTypeEnum == RecurrenceType.NONE) {
+        if (!isRecurring || recurrence == RecurrenceType.NONE) {
             return new ArrayList<>();
         }
 
         List<LocalDateTime> dates = new ArrayList<>();
-        LocalDateTime current = startTime;
-        ChronoUnit unit = getChronoUnit(recurrenceTypeEnum);
+        LocalDateTime current = getStartTime();
+        LocalDateTime recurrenceEndDate = getRecurrenceEndDate();
+        ChronoUnit unit = getChronoUnit(recurrence);
 
         while (current.isBefore(recurrenceEndDate) || current.isEqual(recurrenceEndDate)) {
             if (!exceptionDates.contains(current)) {
@@ -380,13 +566,13 @@ public class Schedule implements Serializable {
     }
 
     public LocalDateTime getNextRecurrenceDate() {
-        if (!isRecurring || recurrenceTypeEnum == RecurrenceType.NONE) {
+        if (!isRecurring || recurrence == RecurrenceType.NONE) {
             return null;
         }
 
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime next = startTime;
-        ChronoUnit unit = getChronoUnit(recurrenceTypeEnum);
+        LocalDateTime next = getStartTime();
+        ChronoUnit unit = getChronoUnit(recurrence);
 
         while (next.isBefore(now)) {
             next = next.plus(recurrenceInterval, unit);
@@ -396,78 +582,123 @@ public class Schedule implements Serializable {
             next = next.plus(recurrenceInterval, unit);
         }
 
-        return next.isAfter(recurrenceEndDate) ? null : next;
+        return next.isAfter(getRecurrenceEndDate()) ? null : next;
     }
 
     private boolean isValidRecurrenceType(String type) {
         try {
             RecurrenceType.valueOf(type);
             return true;
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | NullPointerException e) {
             return false;
         }
     }
 
+    // 바꿀 수 없는 집합 (바꾸려면 setTags/addTag/removeTag 사용)
     public Set<String> getTags() {
         return tags;
     }
 
     public void setTags(Set<String> tags) {
-        this.tags = tags;
+        this.tags = compact(interned(tags));
     }
 
     public void addTag(String tag) {
-        this.tags.add(tag);
+        this.tags = with(this.tags, StringDictionary.intern(tag));
     }
 
     public void removeTag(String tag) {
-        this.tags.remove(tag);
+        this.tags = without(this.tags, tag);
     }
 
     public boolean hasTag(String tag) {
         return this.tags.contains(tag);
     }
 
+    // 반복 종료일은 setRecurrenceEndDate와 같은 값이다
     public void setRecurrence(RecurrenceType type, LocalDateTime end) {
-        this.recurrenceTypeEnum = type;
-        this.recurrenceEnd = end;
+        this.recurrence = type != null ? type : RecurrenceType.NONE;
+        this.recurrenceEndMillis = toLocalMillis(end);
     }
 
     public RecurrenceType getRecurrenceType() {
-        return recurrenceTypeEnum;
+        return recurrence;
     }
 
     public LocalDateTime getRecurrenceEnd() {
-        return recurrenceEnd;
+        return fromLocalMillis(recurrenceEndMillis);
     }
 
     public void setPriority(int priority) {
-        this.priority = Math.max(0, Math.min(5, priority)); // 0-5 사이의 값으로 제한
+        this.priority = (byte) Math.max(0, Math.min(5, priority)); // 0-5 사이의 값으로 제한
     }
 
     public int getPriority() {
         return priority;
     }
 
+    // 완료 여부는 상태가 COMPLETED인지로 정한다
+    // 완료를 풀면 완료 전 상태가 아니라 예정으로 돌아간다 (시작 시각이 지났으면 진행 중으로 보인다)
     public void setCompleted(boolean completed) {
-        this.isCompleted = completed;
-        this.completedAt = completed ? LocalDateTime.now() : null;
+        if (completed) {
+            this.status = Status.COMPLETED;
+            this.completedAtMillis = System.currentTimeMillis();
+        } else {
+            if (status == Status.COMPLETED) {
+                this.status = Status.PLANNED;
+            }
+            this.completedAtMillis = NONE;
+        }
     }
 
     public boolean isCompleted() {
-        return isCompleted;
+        return status == Status.COMPLETED;
     }
 
     public LocalDateTime getCompletedAt() {
-        return completedAt;
+        return completedAtMillis == NONE ? null : fromInstantMillis(completedAtMillis);
     }
 
+    // 같은 ID의 하위 작업이 이미 있으면 무시하고, 다른 일정에 들어 있는 하위 작업이면 복사해서 넣는다
     public void addSubTask(SubTask subTask) {
+        for (SubTask existing : subTasks) {
+            if (existing.getId().equals(subTask.getId())) {
+                return;
+            }
+        }
+        if (subTask.owner != null && subTask.owner != this) {
+            subTask = subTask.copy();
+        }
+        if (subTasks.isEmpty()) {
+            subTasks = new ArrayList<>(2);
+        }
+        subTask.owner = this;
         this.subTasks.add(subTask);
+        if (subTask.isCompleted()) {
+            completedSubTaskCount++;
+        }
     }
 
     public void removeSubTask(String subTaskId) {
-        this.subTasks.removeIf(st -> st.getId().equals(subTaskId));
+        Iterator<SubTask> iterator = subTasks.iterator();
+        while (iterator.hasNext()) {
+            SubTask subTask = iterator.next();
+            if (subTask.getId().equals(subTaskId)) {
+                iterator.remove();
+                subTask.owner = null;
+                if (subTask.isCompleted()) {
+                    completedSubTaskCount--;
+                }
+            }
+        }
+    }
+
+    public int getSubTaskCount() {
+        return subTasks.size();
+    }
+
+    public int getCompletedSubTaskCount() {
+        return completedSubTaskCount;
     }
 
     public List<SubTask> getSubTasks() {
@@ -476,19 +707,20 @@ public class Schedule implements Serializable {
 
     public double getProgress() {
         if (subTasks.isEmpty()) {
-            return isCompleted ? 100.0 : 0.0;
+            return isCompleted() ? 100.0 : 0.0;
         }
-        long completedCount = subTasks.stream().filter(SubTask::isCompleted).count();
-        return (double) completedCount / subTasks.size() * 100;
+        return (double) completedSubTaskCount / subTasks.size() * 100;
     }
 
     public List<Schedule> getRecurringInstances(LocalDateTime start, LocalDateTime end) {
-        if (recurrenceTypeEnum == RecurrenceType.NONE) {
+        if (recurrence == RecurrenceType.NONE) {
             return Collections.singletonList(this);
         }
 
         List<Schedule> instances = new ArrayList<>();
-        LocalDateTime current = startTime;
+        LocalDateTime current = getStartTime();
+        LocalDateTime recurrenceEnd = getRecurrenceEnd();
+        long lengthMillis = endMillis - startMillis;
         
         while (!current.isAfter(end) && (recurrenceEnd == null || !current.isAfter(recurrenceEnd))) {
             if (!current.isBefore(start)) {
@@ -497,22 +729,22 @@ public class Schedule implements Serializable {
                     title,
                     description,
                     current,
-                    current.plus(endTime.toEpochSecond(java.time.ZoneOffset.UTC) - startTime.toEpochSecond(java.time.ZoneOffset.UTC), java.time.temporal.ChronoUnit.SECONDS),
-                    location,
-                    category,
+                    current.plus(lengthMillis, ChronoUnit.MILLIS),
+                    getLocation(),
+                    getCategory(),
                     isImportant,
-                    userId
+                    getUserId()
                 );
-                instance.setColor(color);
-                instance.tags.addAll(tags);
+                instance.color = color;
+                instance.tags = tags; // 바꿀 수 없는 집합이므로 공유
                 instance.setPriority(priority);
                 instance.setRecurring(true);
-                instance.setRecurrenceType(recurrenceType);
+                instance.recurrence = recurrence;
                 instance.setRecurrenceEndDate(recurrenceEnd);
                 instances.add(instance);
             }
 
-            switch (recurrenceTypeEnum) {
+            switch (recurrence) {
                 case DAILY:
                     current = current.plusDays(1);
                     break;
@@ -525,6 +757,8 @@ public class Schedule implements Serializable {
                 case YEARLY:
                     current = current.plusYears(1);
                     break;
+                default:
+                    break;
             }
         }
 
@@ -535,15 +769,223 @@ public class Schedule implements Serializable {
         if (userId == null || userId.trim().isEmpty()) {
             throw new IllegalArgumentException("사용자 ID가 유효하지 않습니다.");
         }
-        sharedWith.add(userId);
-        this.updatedAt = LocalDateTime.now();
+        sharedWith = with(sharedWith, StringDictionary.intern(userId));
+        touch();
     }
 
     public Set<String> getSharedWith() {
-        return new HashSet<>(sharedWith);
+        return sharedWith;
+    }
+
+    // 동기화로 받은 공유 목록을 통째로 바꾼다 (권한 확인은 보낸 쪽에서 이미 했다)
+    void setSharedUsers(Map<String, String> users) {
+        sharedUsers = compact(interned(users));
+        touch();
+    }
+
+    void setSharedWith(Set<String> userIds) {
+        sharedWith = compact(interned(userIds));
+        touch();
     }
 
     public List<String> getSharedWithUsers() {
         return new ArrayList<>(sharedWith);
     }
-} 
\ No newline at end of file
+
+    // 시각 변환: 벽시계 시각은 UTC 기준 밀리초로 (시간대와 무관하게 그대로 복원), 시점은 epoch 밀리초로
+
+    static long toLocalMillis(LocalDateTime time) {
+        if (time == null) {
+            return NONE;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1000 + time.getNano() / 1_000_000;
+    }
+
+    private static LocalDateTime fromLocalMillis(long millis) {
+        if (millis == NONE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000),
+            Math.floorMod(millis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    private static long toInstantMillis(LocalDateTime time) {
+        return time == null ? NONE : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime fromInstantMillis(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+    // 작은 컬렉션: 비었으면 공용 빈 컬렉션, 하나면 singleton, 그 이상이면 읽기 전용 HashSet/HashMap
+
+    private static <T> Set<T> compact(Set<T> values) {
+        if (values == null || values.isEmpty()) {
+            return Collections.emptySet();
+        }
+        if (values.size() == 1) {
+            return Collections.singleton(values.iterator().next());
+        }
+        return Collections.unmodifiableSet(new HashSet<>(values));
+    }
+
+    private static <T> Set<T> with(Set<T> values, T value) {
+        if (values.contains(value)) {
+            return values;
+        }
+        if (values.isEmpty()) {
+            return Collections.singleton(value);
+        }
+        Set<T> copy = new HashSet<>(values);
+        copy.add(value);
+        return Collections.unmodifiableSet(copy);
+    }
+
+    private static <T> Set<T> without(Set<T> values, T value) {
+        if (!values.contains(value)) {
+            return values;
+        }
+        Set<T> copy = new HashSet<>(values);
+        copy.remove(value);
+        return compact(copy);
+    }
+
+    private static <K, V> Map<K, V> compact(Map<K, V> values) {
+        if (values == null || values.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        if (values.size() == 1) {
+            Map.Entry<K, V> entry = values.entrySet().iterator().next();
+            return Collections.singletonMap(entry.getKey(), entry.getValue());
+        }
+        return Collections.unmodifiableMap(new HashMap<>(values));
+    }
+
+    private static <K, V> Map<K, V> with(Map<K, V> values, K key, V value) {
+        if (values.isEmpty()) {
+            return Collections.singletonMap(key, value);
+        }
+        Map<K, V> copy = new HashMap<>(values);
+        copy.put(key, value);
+        return Collections.unmodifiableMap(copy);
+    }
+
+    private static <K, V> Map<K, V> without(Map<K, V> values, K key) {
+        if (!values.containsKey(key)) {
+            return values;
+        }
+        Map<K, V> copy = new HashMap<>(values);
+        copy.remove(key);
+        return compact(copy);
+    }
+
+    private static Set<String> interned(Set<String> values) {
+        if (values == null || values.isEmpty()) {
+            return values;
+        }
+        Set<String> result = new HashSet<>();
+        for (String value : values) {
+            result.add(StringDictionary.intern(value));
+        }
+        return result;
+    }
+
+    private static Map<String, String> interned(Map<String, String> values) {
+        if (values == null || values.isEmpty()) {
+            return values;
+        }
+        Map<String, String> result = new HashMap<>();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            result.put(StringDictionary.intern(entry.getKey()), StringDictionary.intern(entry.getValue()));
+        }
+        return result;
+    }
+
+    // 직렬화: 예전 필드 구성으로 변환해서 쓴다
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        LocalDateTime recurrenceEnd = getRecurrenceEnd();
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("scheduleId", scheduleId);
+        fields.put("title", title);
+        fields.put("description", description);
+        fields.put("startTime", getStartTime());
+        fields.put("endTime", getEndTime());
+        fields.put("location", getLocation());
+        fields.put("category", getCategory());
+        fields.put("isImportant", isImportant);
+        fields.put("status", status.getCode());
+        fields.put("userId", getUserId());
+        fields.put("createdAt", getCreatedAt());
+        fields.put("updatedAt", getUpdatedAt());
+        fields.put("reminderMinutes", reminderMinutes);
+        fields.put("color", getColor());
+        fields.put("sharedUsers", new HashMap<>(sharedUsers));
+        fields.put("isRecurring", isRecurring);
+        fields.put("recurrenceType", recurrence == RecurrenceType.NONE ? null : recurrence.name());
+        fields.put("recurrenceInterval", recurrenceInterval);
+        fields.put("recurrenceEndDate", recurrenceEnd);
+        fields.put("exceptionDates", new HashSet<>(exceptionDates));
+        fields.put("tags", new HashSet<>(tags));
+        fields.put("sharedWith", new HashSet<>(sharedWith));
+        fields.put("recurrenceTypeEnum", recurrence);
+        fields.put("recurrenceEnd", recurrenceEnd);
+        fields.put("priority", (int) priority);
+        fields.put("isCompleted", isCompleted());
+        fields.put("completedAt", getCompletedAt());
+        fields.put("subTasks", new ArrayList<>(subTasks));
+        out.writeFields();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        scheduleId = (String) fields.get("scheduleId", null);
+        title = (String) fields.get("title", null);
+        description = (String) fields.get("description", null);
+        startMillis = toLocalMillis((LocalDateTime) fields.get("startTime", null));
+        endMillis = toLocalMillis((LocalDateTime) fields.get("endTime", null));
+        location = StringDictionary.intern((String) fields.get("location", null));
+        category = StringDictionary.intern((String) fields.get("category", null));
+        isImportant = fields.get("isImportant", false);
+        userId = StringDictionary.intern((String) fields.get("userId", null));
+        reminderMinutes = fields.get("reminderMinutes", 30);
+        color = StringDictionary.intern((String) fields.get("color", null));
+        isRecurring = fields.get("isRecurring", false);
+        recurrenceInterval = fields.get("recurrenceInterval", 1);
+        priority = (byte) Math.max(0, Math.min(5, fields.get("priority", 0)));
+
+        LocalDateTime createdAt = (LocalDateTime) fields.get("createdAt", null);
+        LocalDateTime updatedAt = (LocalDateTime) fields.get("updatedAt", null);
+        createdAtMillis = createdAt != null ? toInstantMillis(createdAt) : System.currentTimeMillis();
+        updatedAtMillis = updatedAt != null ? toInstantMillis(updatedAt) : createdAtMillis;
+
+        // 예전 형식에서 둘씩 있던 값은 하나로 합친다
+        Status parsedStatus = Status.fromCode((String) fields.get("status", null));
+        boolean completed = fields.get("isCompleted", false) || parsedStatus == Status.COMPLETED;
+        status = completed ? Status.COMPLETED : (parsedStatus != null ? parsedStatus : Status.PLANNED);
+        LocalDateTime completedAt = (LocalDateTime) fields.get("completedAt", null);
+        completedAtMillis = completed && completedAt != null ? toInstantMillis(completedAt) : NONE;
+
+        RecurrenceType typeEnum = (RecurrenceType) fields.get("recurrenceTypeEnum", null);
+        String typeName = (String) fields.get("recurrenceType", null);
+        if (typeEnum == null || typeEnum == RecurrenceType.NONE) {
+            typeEnum = isValidRecurrenceType(typeName) ? RecurrenceType.valueOf(typeName) : RecurrenceType.NONE;
+        }
+        recurrence = typeEnum;
+        LocalDateTime endDate = (LocalDateTime) fields.get("recurrenceEndDate", null);
+        LocalDateTime end = (LocalDateTime) fields.get("recurrenceEnd", null);
+        recurrenceEndMillis = toLocalMillis(endDate == null ? end : end == null || endDate.isBefore(end) ? endDate : end);
+
+        sharedUsers = compact(interned((Map<String, String>) fields.get("sharedUsers", null)));
+        exceptionDates = compact((Set<LocalDateTime>) fields.get("exceptionDates", null));
+        tags = compact(interned((Set<String>) fields.get("tags", null)));
+        sharedWith = compact(interned((Set<String>) fields.get("sharedWith", null)));
+        List<SubTask> loadedSubTasks = (List<SubTask>) fields.get("subTasks", null);
+        subTasks = Collections.emptyList();
+        if (loadedSubTasks != null) {
+            for (SubTask subTask : loadedSubTasks) {
+                addSubTask(subTask);
+            }
+        }
+    }
+}
@@ -0,0 +1,672 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 화면 없이 실행하는 로컬 JSON HTTP API 서버
+// 실행: java Main --server [포트] (기본 8080, 127.0.0.1에서만 받음)
+// 요청마다 가상 스레드 하나에서 처리하고, 일정/할 일 작업은 ScheduleService에 맡긴다.
+//
+//   POST   /api/login                    {"userId", "password"} -> {"token"}
+//   POST   /api/logout
+//   GET    /api/schedules[?from=&to=]    전체 또는 구간 (ISO 날짜시간, 예: 2025-01-01T09:00)
+//   POST   /api/schedules                일정 추가
+//   GET    /api/schedules/{id}
+//   PUT    /api/schedules/{id}           보낸 필드만 수정
+//   DELETE /api/schedules/{id}
+//   GET    /api/search?q=키워드
+//   GET    /api/statistics
+//   GET    /api/recommendations[?limit=5]
+//   GET    /api/tasks[?sort=progress|-progress][?nearlyDone=80]
+//                                        할 일 (기본은 마감일 순, progress는 진행률 낮은 순, -progress는 높은 순,
+//                                        nearlyDone은 진행률이 그 값 이상인 끝나지 않은 할 일)
+//   POST   /api/tasks                    할 일 추가 {"title", "dueDate", "priority": "LOW|MEDIUM|HIGH|URGENT", ...}
+//   GET    /api/tasks/{id}
+//   PUT    /api/tasks/{id}               보낸 필드만 수정
+//   DELETE /api/tasks/{id}
+//   GET    /api/challenges               내 챌린지와 진행도
+//   POST   /api/challenges               챌린지 등록 {"title", "target", "targetProgress", "startDate", "endDate"}
+//   GET    /api/leaderboard[?limit=10]   보상 포인트 상위 사용자와 내 순위
+//
+// 로그인 외의 요청은 "Authorization: Bearer <token>" 헤더가 필요하다.
+// 토큰은 30분 동안 쓰이지 않거나 로그인한 지 12시간이 지나면 만료되고 (401, 다시 로그인),
+// 한 사용자가 동시에 가질 수 있는 토큰은 5개까지로 넘으면 가장 오래된 토큰부터 끊는다.
+public class ScheduleApiServer {
+    private static final Log LOG = Log.get(ScheduleApiServer.class);
+
+    public static final int DEFAULT_PORT = 8080;
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+    private static final int DEFAULT_RECOMMENDATION_LIMIT = 5;
+    private static final int DEFAULT_LEADERBOARD_LIMIT = 10;
+    private static final long SESSION_IDLE_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    private static final long SESSION_MAX_AGE_MILLIS = 12 * 60 * 60 * 1000L;
+    private static final int MAX_SESSIONS_PER_USER = 5;
+
+    private final ScheduleService service;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    // 로그인 토큰 -> 세션 (요청은 락 없이 조회하고, 로그인은 sessionLock 안에서 만료 정리와 사용자별 상한을 맞춘다)
+    private final Map<String, SessionEntry> sessions = new ConcurrentHashMap<>();
+    private final Object sessionLock = new Object();
+    private final SecureRandom random = new SecureRandom();
+
+    public ScheduleApiServer(ScheduleService service, int port) throws IOException {
+        this.service = service;
+        // 헤더와 본문을 따로 쓰는 응답이 지연 ACK에 걸려 요청마다 수십 ms씩 멈추지 않도록
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/api/", this::handle);
+    }
+
+    public void start() {
+        server.start();
+        LOG.info("일정 API 서버 시작: http://127.0.0.1:" + getPort() + "/api/");
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    // 토큰 하나의 세션과 마지막으로 쓰인 시각
+    private static final class SessionEntry {
+        final UserSession session;
+        volatile long lastUsedMillis;
+
+        SessionEntry(UserSession session, long now) {
+            this.session = session;
+            this.lastUsedMillis = now;
+        }
+
+        boolean isExpired(long now) {
+            return now - lastUsedMillis > SESSION_IDLE_TIMEOUT_MILLIS
+                || now - session.getCreatedAtMillis() > SESSION_MAX_AGE_MILLIS;
+        }
+    }
+
+    // 요청 처리 중 응답 상태를 정해 빠져나오기 위한 예외
+    private static class ApiException extends RuntimeException {
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int status = 200;
+        Object body;
+        try {
+            body = route(exchange);
+        } catch (ApiException e) {
+            status = e.status;
+            body = error(e.getMessage());
+        } catch (NoSuchElementException e) {
+            status = 404;
+            body = error(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            status = 400;
+            body = error(e.getMessage());
+        } catch (UnsupportedOperationException e) {
+            // 읽기 전용 복제본에 변경 요청
+            status = 403;
+            body = error(e.getMessage());
+        } catch (SecurityException e) {
+            // 공유받은 일정처럼 볼 수는 있지만 바꿀 권한이 없는 일정
+            status = 403;
+            body = error(e.getMessage());
+        } catch (RuntimeException e) {
+            status = 500;
+            body = error("서버 오류가 발생했습니다.");
+            LOG.error("API 요청 처리 중 오류 발생: " + e.getMessage(), e);
+        }
+        byte[] bytes = Json.write(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private Object route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+        if (path.equals("/api/login")) {
+            requireMethod(method, "POST");
+            return login(readBody(exchange));
+        }
+
+        UserSession session = authenticate(exchange);
+        switch (path) {
+            case "/api/logout" -> {
+                requireMethod(method, "POST");
+                sessions.remove(bearerToken(exchange));
+                return Map.of("loggedOut", true);
+            }
+            case "/api/schedules" -> {
+                if (method.equals("POST")) {
+                    Schedule schedule = newSchedule(session.getUserId(), readBody(exchange));
+                    return toJson(service.createSchedule(session, schedule));
+                }
+                requireMethod(method, "GET");
+                if (query.containsKey("from") || query.containsKey("to")) {
+                    LocalDateTime from = parseDateTime(required(query, "from"), "from");
+                    LocalDateTime to = parseDateTime(required(query, "to"), "to");
+                    return toJson(service.getSchedulesInRange(session, from, to));
+                }
+                return toJson(service.getSchedules(session));
+            }
+            case "/api/search" -> {
+                requireMethod(method, "GET");
+                return toJson(service.searchSchedules(session, required(query, "q")));
+            }
+            case "/api/statistics" -> {
+                requireMethod(method, "GET");
+                return service.getStatistics(session);
+            }
+            case "/api/recommendations" -> {
+                requireMethod(method, "GET");
+                int limit = query.containsKey("limit")
+                    ? parseInt(query.get("limit"), "limit") : DEFAULT_RECOMMENDATION_LIMIT;
+                List<Map<String, Object>> result = new ArrayList<>();
+                for (ScheduleRecommender.ScheduleRecommendation recommendation : service.getRecommendations(session, limit)) {
+                    Map<String, Object> json = new LinkedHashMap<>();
+                    json.put("startTime", recommendation.getTimeSlot().start);
+                    json.put("endTime", recommendation.getTimeSlot().end);
+                    json.put("category", recommendation.getCategory());
+                    json.put("score", recommendation.getScore());
+                    result.add(json);
+                }
+                return result;
+            }
+            case "/api/tasks" -> {
+                if (method.equals("POST")) {
+                    Task task = newTask(session.getUserId(), readBody(exchange));
+                    return toJson(service.createTask(session, task));
+                }
+                requireMethod(method, "GET");
+                List<Task> tasks;
+                if (query.containsKey("nearlyDone")) {
+                    tasks = service.getNearlyDoneTasks(session, parseDouble(query.get("nearlyDone"), "nearlyDone"));
+                } else if (query.containsKey("sort")) {
+                    tasks = switch (query.get("sort")) {
+                        case "progress" -> service.getTasksByProgress(session, false);
+                        case "-progress" -> service.getTasksByProgress(session, true);
+                        default -> throw new IllegalArgumentException("sort 값이 올바르지 않습니다: " + query.get("sort"));
+                    };
+                } else {
+                    tasks = service.getTasks(session);
+                }
+                List<Map<String, Object>> result = new ArrayList<>();
+                for (Task task : tasks) {
+                    result.add(toJson(task));
+                }
+                return result;
+            }
+            case "/api/challenges" -> {
+                if (method.equals("POST")) {
+                    Challenge challenge = newChallenge(session.getUserId(), readBody(exchange));
+                    return toJson(service.createChallenge(session, challenge));
+                }
+                requireMethod(method, "GET");
+                List<Map<String, Object>> result = new ArrayList<>();
+                for (Challenge challenge : service.getChallenges(session)) {
+                    result.add(toJson(challenge));
+                }
+                return result;
+            }
+            case "/api/leaderboard" -> {
+                requireMethod(method, "GET");
+                int limit = query.containsKey("limit")
+                    ? parseInt(query.get("limit"), "limit") : DEFAULT_LEADERBOARD_LIMIT;
+                List<Map<String, Object>> top = new ArrayList<>();
+                for (ChallengeEngine.Standing standing : service.getLeaderboard(limit)) {
+                    Map<String, Object> json = new LinkedHashMap<>();
+                    json.put("userId", standing.getUserId());
+                    json.put("points", standing.getPoints());
+                    top.add(json);
+                }
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("top", top);
+                result.put("rank", service.getRank(session));
+                result.put("points", service.getPoints(session));
+                return result;
+            }
+            default -> {
+                if (path.startsWith("/api/tasks/") && path.length() > "/api/tasks/".length()) {
+                    return routeTask(exchange, method, session, path.substring("/api/tasks/".length()));
+                }
+                String prefix = "/api/schedules/";
+                if (!path.startsWith(prefix) || path.length() == prefix.length()) {
+                    throw new ApiException(404, "알 수 없는 경로입니다: " + path);
+                }
+                String scheduleId = path.substring(prefix.length());
+                switch (method) {
+                    case "GET" -> {
+                        return toJson(service.getSchedule(session, scheduleId));
+                    }
+                    case "PUT" -> {
+                        Map<String, Object> fields = readBody(exchange);
+                        return toJson(service.updateSchedule(session, scheduleId, schedule -> applyFields(schedule, fields)));
+                    }
+                    case "DELETE" -> {
+                        service.deleteSchedule(session, scheduleId);
+                        return Map.of("deleted", scheduleId);
+                    }
+                    default -> throw new ApiException(405, "지원하지 않는 메서드입니다: " + method);
+                }
+            }
+        }
+    }
+
+    private Object routeTask(HttpExchange exchange, String method, UserSession session, String taskId)
+            throws IOException {
+        switch (method) {
+            case "GET" -> {
+                return toJson(service.getTask(session, taskId));
+            }
+            case "PUT" -> {
+                Map<String, Object> fields = readBody(exchange);
+                return toJson(service.updateTask(session, taskId, task -> applyTaskFields(task, fields)));
+            }
+            case "DELETE" -> {
+                service.deleteTask(session, taskId);
+                return Map.of("deleted", taskId);
+            }
+            default -> throw new ApiException(405, "지원하지 않는 메서드입니다: " + method);
+        }
+    }
+
+    private Map<String, Object> login(Map<String, Object> body) {
+        UserSession session = service.openSession(stringField(body, "userId"), stringField(body, "password"));
+        if (session == null) {
+            throw new ApiException(401, "아이디 또는 비밀번호가 올바르지 않습니다.");
+        }
+        byte[] bytes = new byte[24];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        long now = System.currentTimeMillis();
+        synchronized (sessionLock) {
+            List<Map.Entry<String, SessionEntry>> userSessions = sweepSessions(session.getUserId(), now);
+            // 상한을 넘으면 가장 먼저 로그인한 토큰부터 끊는다
+            userSessions.sort(Comparator.comparingLong(e -> e.getValue().session.getCreatedAtMillis()));
+            for (int i = 0; i <= userSessions.size() - MAX_SESSIONS_PER_USER; i++) {
+                sessions.remove(userSessions.get(i).getKey());
+            }
+            sessions.put(token, new SessionEntry(session, now));
+        }
+        return Map.of("token", token);
+    }
+
+    // 만료된 토큰을 모두 지우고 userId의 남은 토큰을 돌려준다
+    // (로그인할 때마다 부르므로 다시 쓰이지 않고 버려진 토큰도 쌓이지 않는다)
+    private List<Map.Entry<String, SessionEntry>> sweepSessions(String userId, long now) {
+        List<Map.Entry<String, SessionEntry>> userSessions = new ArrayList<>();
+        int expired = 0;
+        Iterator<Map.Entry<String, SessionEntry>> it = sessions.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, SessionEntry> entry = it.next();
+            if (entry.getValue().isExpired(now)) {
+                it.remove();
+                expired++;
+            } else if (entry.getValue().session.getUserId().equals(userId)) {
+                userSessions.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        if (expired > 0) {
+            LOG.debug("만료된 API 토큰 " + expired + "개 정리, 남은 토큰 " + sessions.size() + "개");
+        }
+        return userSessions;
+    }
+
+    private UserSession authenticate(HttpExchange exchange) {
+        String token = bearerToken(exchange);
+        SessionEntry entry = token != null ? sessions.get(token) : null;
+        if (entry == null) {
+            throw new ApiException(401, "로그인이 필요합니다.");
+        }
+        long now = System.currentTimeMillis();
+        if (entry.isExpired(now)) {
+            sessions.remove(token, entry);
+            throw new ApiException(401, "로그인이 만료되었습니다. 다시 로그인해 주세요.");
+        }
+        entry.lastUsedMillis = now;
+        return entry.session;
+    }
+
+    private static String bearerToken(HttpExchange exchange) {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        if (header == null || !header.startsWith("Bearer ")) {
+            return null;
+        }
+        return header.substring("Bearer ".length()).trim();
+    }
+
+    private static Schedule newSchedule(String userId, Map<String, Object> body) {
+        String title = stringField(body, "title");
+        if (title == null || title.trim().isEmpty()) {
+            throw new IllegalArgumentException("제목을 입력해주세요.");
+        }
+        LocalDateTime startTime = parseDateTime(stringField(body, "startTime"), "startTime");
+        LocalDateTime endTime = parseDateTime(stringField(body, "endTime"), "endTime");
+        Schedule schedule = new Schedule(IdGenerator.newId(), title.trim(),
+            Objects.requireNonNullElse(stringField(body, "description"), ""), startTime, endTime,
+            Objects.requireNonNullElse(stringField(body, "location"), ""),
+            Objects.requireNonNullElse(stringField(body, "category"), "기타"),
+            Boolean.TRUE.equals(body.get("important")), userId);
+        applyFields(schedule, body);
+        return schedule;
+    }
+
+    // 요청 본문에 있는 필드만 일정에 반영 (수정 요청이면 ScheduleService가 넘긴 복사본에 반영한다)
+    private static void applyFields(Schedule schedule, Map<String, Object> body) {
+        LocalDateTime startTime = body.containsKey("startTime")
+            ? parseDateTime(stringField(body, "startTime"), "startTime") : schedule.getStartTime();
+        LocalDateTime endTime = body.containsKey("endTime")
+            ? parseDateTime(stringField(body, "endTime"), "endTime") : schedule.getEndTime();
+        if (!endTime.isAfter(startTime)) {
+            throw new IllegalArgumentException("종료 시간은 시작 시간보다 늦어야 합니다.");
+        }
+        String status = stringField(body, "status");
+        if (status != null) {
+            schedule.setStatus(status);
+        }
+        schedule.setStartTime(startTime);
+        schedule.setEndTime(endTime);
+        if (body.containsKey("title")) {
+            schedule.setTitle(stringField(body, "title"));
+        }
+        if (body.containsKey("description")) {
+            schedule.setDescription(stringField(body, "description"));
+        }
+        if (body.containsKey("location")) {
+            schedule.setLocation(stringField(body, "location"));
+        }
+        if (body.containsKey("category")) {
+            schedule.setCategory(stringField(body, "category"));
+        }
+        if (body.get("important") instanceof Boolean important) {
+            schedule.setImportant(important);
+        }
+        if (body.get("priority") instanceof Number priority) {
+            schedule.setPriority(priority.intValue());
+        }
+        if (body.get("completed") instanceof Boolean completed) {
+            schedule.setCompleted(completed);
+        }
+        if (body.get("tags") instanceof List<?> tags) {
+            Set<String> tagSet = new HashSet<>();
+            for (Object tag : tags) {
+                tagSet.add(String.valueOf(tag));
+            }
+            schedule.setTags(tagSet);
+        }
+    }
+
+    private static Task newTask(String userId, Map<String, Object> body) {
+        String title = stringField(body, "title");
+        if (title == null || title.trim().isEmpty()) {
+            throw new IllegalArgumentException("제목을 입력해주세요.");
+        }
+        Task task = new Task(title.trim(), Objects.requireNonNullElse(stringField(body, "description"), ""),
+            Task.Priority.MEDIUM, null, userId);
+        applyTaskFields(task, body);
+        return task;
+    }
+
+    // 할 일은 그 자리에서 고치므로 값을 모두 확인한 뒤에 바꾼다
+    private static void applyTaskFields(Task task, Map<String, Object> body) {
+        String title = stringField(body, "title");
+        if (title != null && title.trim().isEmpty()) {
+            throw new IllegalArgumentException("제목을 입력해주세요.");
+        }
+        String description = stringField(body, "description");
+        Task.Priority priority = body.containsKey("priority")
+            ? parseEnum(Task.Priority.class, stringField(body, "priority"), "priority") : task.getPriority();
+        Task.Status status = body.containsKey("status")
+            ? parseEnum(Task.Status.class, stringField(body, "status"), "status") : task.getStatus();
+        String dueDate = stringField(body, "dueDate");
+        LocalDateTime due = dueDate != null ? parseDateTime(dueDate, "dueDate") : task.getDueDate();
+        int estimatedMinutes = task.getEstimatedMinutes();
+        if (body.containsKey("estimatedMinutes")) {
+            if (!(body.get("estimatedMinutes") instanceof Number minutes) || minutes.intValue() <= 0) {
+                throw new IllegalArgumentException("estimatedMinutes 값은 1 이상의 숫자여야 합니다.");
+            }
+            estimatedMinutes = minutes.intValue();
+        }
+
+        if (title != null) {
+            task.setTitle(title.trim());
+        }
+        if (description != null) {
+            task.setDescription(description);
+        }
+        task.setPriority(priority);
+        task.setStatus(status);
+        task.setDueDate(due);
+        task.setEstimatedMinutes(estimatedMinutes);
+        if (body.get("important") instanceof Boolean important) {
+            task.setImportant(important);
+        }
+        if (body.get("tags") instanceof List<?> tags) {
+            for (String tag : new ArrayList<>(task.getTags())) {
+                task.removeTag(tag);
+            }
+            for (Object tag : tags) {
+                task.addTag(String.valueOf(tag));
+            }
+        }
+    }
+
+    private static Challenge newChallenge(String userId, Map<String, Object> body) {
+        String title = stringField(body, "title");
+        if (title == null || title.trim().isEmpty()) {
+            throw new IllegalArgumentException("제목을 입력해주세요.");
+        }
+        String target = stringField(body, "target");
+        if (target == null || target.trim().isEmpty()) {
+            throw new IllegalArgumentException("목표를 입력해주세요.");
+        }
+        if (!(body.get("targetProgress") instanceof Number targetProgress) || targetProgress.intValue() <= 0) {
+            throw new IllegalArgumentException("targetProgress 값은 1 이상의 숫자여야 합니다.");
+        }
+        String startDate = stringField(body, "startDate");
+        String endDate = stringField(body, "endDate");
+        LocalDateTime start = startDate != null ? parseDateTime(startDate, "startDate") : null;
+        LocalDateTime end = endDate != null ? parseDateTime(endDate, "endDate") : null;
+        if (start != null && end != null && !start.isBefore(end)) {
+            throw new IllegalArgumentException("종료 시간은 시작 시간보다 늦어야 합니다.");
+        }
+        return new Challenge(title.trim(), Objects.requireNonNullElse(stringField(body, "description"), ""),
+            target.trim(), start, end, targetProgress.intValue(), userId);
+    }
+
+    private static Map<String, Object> toJson(Challenge challenge) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", challenge.getChallengeId());
+        json.put("title", challenge.getTitle());
+        json.put("description", challenge.getDescription());
+        json.put("target", challenge.getTarget());
+        json.put("startDate", challenge.getStartDate());
+        json.put("endDate", challenge.getEndDate());
+        json.put("progress", challenge.getProgress());
+        json.put("targetProgress", challenge.getTargetProgress());
+        json.put("completed", challenge.isCompleted());
+        json.put("rewardPoints", challenge.getRewardPoints());
+        return json;
+    }
+
+    private static Map<String, Object> toJson(Task task) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", task.getTaskId());
+        json.put("userId", task.getUserId());
+        json.put("title", task.getTitle());
+        json.put("description", task.getDescription());
+        json.put("priority", task.getPriority());
+        json.put("status", task.getStatus());
+        json.put("dueDate", task.getDueDate());
+        json.put("important", task.isImportant());
+        json.put("estimatedMinutes", task.getEstimatedMinutes());
+        json.put("progress", task.getProgressPercentage());
+        json.put("tags", task.getTags());
+        json.put("updatedAt", task.getUpdatedAt());
+        return json;
+    }
+
+    private static Object toJson(List<Schedule> schedules) {
+        List<Map<String, Object>> result = new ArrayList<>(schedules.size());
+        for (Schedule schedule : schedules) {
+            result.add(toJson(schedule));
+        }
+        return result;
+    }
+
+    private static Map<String, Object> toJson(Schedule schedule) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", schedule.getScheduleId());
+        json.put("userId", schedule.getUserId());
+        json.put("title", schedule.getTitle());
+        json.put("description", schedule.getDescription());
+        json.put("startTime", schedule.getStartTime());
+        json.put("endTime", schedule.getEndTime());
+        json.put("location", schedule.getLocation());
+        json.put("category", schedule.getCategory());
+        json.put("important", schedule.isImportant());
+        json.put("priority", schedule.getPriority());
+        json.put("status", schedule.getStatus());
+        json.put("completed", schedule.isCompleted());
+        json.put("recurring", schedule.isRecurring());
+        json.put("tags", schedule.getTags());
+        json.put("updatedAt", schedule.getUpdatedAt());
+        return json;
+    }
+
+    private static Map<String, Object> error(String message) {
+        return Map.of("error", message != null ? message : "");
+    }
+
+    private static void requireMethod(String method, String expected) {
+        if (!method.equals(expected)) {
+            throw new ApiException(405, "지원하지 않는 메서드입니다: " + method);
+        }
+    }
+
+    private static Map<String, Object> readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readNBytes(MAX_BODY_BYTES + 1);
+            if (bytes.length > MAX_BODY_BYTES) {
+                throw new ApiException(413, "요청 본문이 너무 큽니다.");
+            }
+            return Json.parseObject(new String(bytes, StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String stringField(Map<String, Object> body, String name) {
+        Object value = body.get(name);
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof String text)) {
+            throw new IllegalArgumentException(name + " 값은 문자열이어야 합니다.");
+        }
+        return text;
+    }
+
+    private static String required(Map<String, String> query, String name) {
+        String value = query.get(name);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException(name + " 값이 필요합니다.");
+        }
+        return value;
+    }
+
+    private static LocalDateTime parseDateTime(String value, String name) {
+        if (value == null) {
+            throw new IllegalArgumentException(name + " 값이 필요합니다.");
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(name + " 값이 올바른 날짜시간이 아닙니다: " + value);
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String name) {
+        if (value == null) {
+            throw new IllegalArgumentException(name + " 값이 필요합니다.");
+        }
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(name + " 값이 올바르지 않습니다: " + value);
+        }
+    }
+
+    private static double parseDouble(String value, String name) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " 값이 올바른 숫자가 아닙니다: " + value);
+        }
+    }
+
+    private static int parseInt(String value, String name) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " 값이 올바른 숫자가 아닙니다: " + value);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq >= 0 ? pair.substring(0, eq) : pair;
+            String value = eq >= 0 ? pair.substring(eq + 1) : "";
+            query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        int port = DEFAULT_PORT;
+        if (args.length > 1) {
+            port = parseInt(args[1], "포트");
+        }
+        try {
+            ScheduleManager scheduleManager = ScheduleManager.getInstance();
+            ScheduleService service = new ScheduleService(scheduleManager, UserManager.getInstance());
+            scheduleManager.startLifecycle(service::runExclusive);
+            new ScheduleApiServer(service, port).start();
+        } catch (IOException e) {
+            LOG.error("API 서버 시작 중 오류 발생: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
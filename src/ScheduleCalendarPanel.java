@@ -9,18 +9,18 @@ import java.util.List;
 
 public class ScheduleCalendarPanel extends JPanel {
     private ScheduleManager scheduleManager;
-    private JPanel calendarPanel;
+    private MonthCalendarView calendarView;
     private JPanel headerPanel;
     private JLabel monthLabel;
     private LocalDate currentDate;
     private Font koreanFont;
-    private Map<LocalDate, JPanel> datePanels;
+    private final CalendarPrefetcher prefetcher;
 
     public ScheduleCalendarPanel(ScheduleManager scheduleManager) {
         this.scheduleManager = scheduleManager;
+        this.prefetcher = new CalendarPrefetcher(scheduleManager, ScheduleCalendarPanel::groupByStartDate);
         this.currentDate = LocalDate.now();
         this.koreanFont = new Font("Malgun Gothic", Font.PLAIN, 14);
-        this.datePanels = new HashMap<>();
         
         setLayout(new BorderLayout());
         setupUI();
@@ -49,20 +49,25 @@ public class ScheduleCalendarPanel extends JPanel {
         headerPanel.add(buttonPanel, BorderLayout.CENTER);
         add(headerPanel, BorderLayout.NORTH);
         
-        // 캘린더 패널
-        calendarPanel = new JPanel(new GridLayout(0, 7, 1, 1));
-        calendarPanel.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
-        add(calendarPanel, BorderLayout.CENTER);
-        
-        // 요일 헤더 추가
-        String[] weekDays = {"일", "월", "화", "수", "목", "금", "토"};
-        for (String day : weekDays) {
-            JLabel dayLabel = new JLabel(day, SwingConstants.CENTER);
-            dayLabel.setFont(koreanFont);
-            if (day.equals("일")) dayLabel.setForeground(Color.RED);
-            if (day.equals("토")) dayLabel.setForeground(Color.BLUE);
-            calendarPanel.add(dayLabel);
-        }
+        // 캘린더 (날짜 칸과 일정은 컴포넌트 하나가 직접 그림)
+        calendarView = new MonthCalendarView(schedule -> schedule.isImportant() ? Color.RED : Color.BLACK);
+        calendarView.setFont(koreanFont);
+        calendarView.addCalendarClickListener(new MonthCalendarView.CalendarClickListener() {
+            @Override
+            public void dateClicked(LocalDate date, MouseEvent e) {
+                if (e.getClickCount() == 2) {
+                    showAddScheduleDialog(date);
+                }
+            }
+
+            @Override
+            public void scheduleClicked(Schedule schedule, MouseEvent e) {
+                if (e.getClickCount() == 2) {
+                    showScheduleDetail(schedule);
+                }
+            }
+        });
+        add(calendarView, BorderLayout.CENTER);
         
         updateCalendar();
     }
@@ -71,20 +76,6 @@ public class ScheduleCalendarPanel extends JPanel {
         // 월 표시 업데이트
         monthLabel.setText(currentDate.format(DateTimeFormatter.ofPattern("yyyy년 MM월")));
         
-        // 기존 날짜 패널 제거
-        calendarPanel.removeAll();
-        datePanels.clear();
-        
-        // 요일 헤더 다시 추가
-        String[] weekDays = {"일", "월", "화", "수", "목", "금", "토"};
-        for (String day : weekDays) {
-            JLabel dayLabel = new JLabel(day, SwingConstants.CENTER);
-            dayLabel.setFont(koreanFont);
-            if (day.equals("일")) dayLabel.setForeground(Color.RED);
-            if (day.equals("토")) dayLabel.setForeground(Color.BLUE);
-            calendarPanel.add(dayLabel);
-        }
-        
         // 이전 달의 날짜들
         LocalDate firstOfMonth = currentDate.withDayOfMonth(1);
         int dayOfWeek = firstOfMonth.getDayOfWeek().getValue() % 7;
@@ -94,99 +85,32 @@ public class ScheduleCalendarPanel extends JPanel {
         LocalDate lastOfMonth = currentDate.withDayOfMonth(currentDate.lengthOfMonth());
         int remainingDays = 7 - (lastOfMonth.getDayOfWeek().getValue() % 7) - 1;
         LocalDate nextMonth = lastOfMonth.plusDays(remainingDays);
+        int weeks = (int) (ChronoUnit.DAYS.between(prevMonth, nextMonth) + 1) / 7;
         
-        // 날짜 패널 생성
-        LocalDate current = prevMonth;
-        while (!current.isAfter(nextMonth)) {
-            JPanel datePanel = createDatePanel(current);
-            datePanels.put(current, datePanel);
-            calendarPanel.add(datePanel);
-            current = current.plusDays(1);
-        }
-        
-        // 일정 표시
-        displaySchedules();
+        calendarView.setView(prevMonth, weeks, 7, YearMonth.from(currentDate), true,
+            prefetcher.get(firstOfMonth, lastOfMonth));
         
-        // 레이아웃 업데이트
-        calendarPanel.revalidate();
-        calendarPanel.repaint();
-    }
-
-    private JPanel createDatePanel(LocalDate date) {
-        JPanel panel = new JPanel(new BorderLayout());
-        panel.setBorder(BorderFactory.createLineBorder(Color.LIGHT_GRAY));
-        
-        // 날짜 레이블
-        JLabel dateLabel = new JLabel(String.valueOf(date.getDayOfMonth()), SwingConstants.CENTER);
-        dateLabel.setFont(koreanFont);
-        
-        // 이전/다음 달의 날짜는 회색으로 표시
-        if (date.getMonth() != currentDate.getMonth()) {
-            dateLabel.setForeground(Color.GRAY);
-        }
-        
-        // 주말은 색상 표시
-        if (date.getDayOfWeek() == DayOfWeek.SUNDAY) {
-            dateLabel.setForeground(Color.RED);
-        } else if (date.getDayOfWeek() == DayOfWeek.SATURDAY) {
-            dateLabel.setForeground(Color.BLUE);
+        // 이전/다음 달은 백그라운드에서 미리 만들어 둔다
+        List<LocalDate[]> adjacentMonths = new ArrayList<>();
+        for (int offset : new int[]{-1, 1}) {
+            YearMonth month = YearMonth.from(currentDate).plusMonths(offset);
+            adjacentMonths.add(new LocalDate[]{month.atDay(1), month.atEndOfMonth()});
         }
-        
-        // 오늘 날짜는 배경색 표시
-        if (date.equals(LocalDate.now())) {
-            panel.setBackground(new Color(255, 255, 200));
-        }
-        
-        panel.add(dateLabel, BorderLayout.NORTH);
-        
-        // 일정 목록을 표시할 패널
-        JPanel schedulePanel = new JPanel();
-        schedulePanel.setLayout(new BoxLayout(schedulePanel, BoxLayout.Y_AXIS));
-        panel.add(schedulePanel, BorderLayout.CENTER);
-        
-        // 클릭 이벤트 처리
-        panel.addMouseListener(new MouseAdapter() {
-            @Override
-            public void mouseClicked(MouseEvent e) {
-                if (e.getClickCount() == 2) {
-                    showAddScheduleDialog(date);
-                }
-            }
-        });
-        
-        return panel;
+        prefetcher.prefetch(adjacentMonths);
     }
 
-    private void displaySchedules() {
-        // 해당 월의 일정 가져오기
-        LocalDateTime startOfMonth = currentDate.withDayOfMonth(1).atStartOfDay();
-        LocalDateTime endOfMonth = currentDate.withDayOfMonth(currentDate.lengthOfMonth())
-            .atTime(23, 59, 59);
-        
-        List<Schedule> schedules = scheduleManager.getSchedulesByDateRange(startOfMonth, endOfMonth);
+    // 해당 기간과 겹치는 일정을 시작 날짜별로 묶기
+    private static Map<LocalDate, List<Schedule>> groupByStartDate(List<Schedule> schedules, LocalDate from, LocalDate to) {
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.atTime(23, 59, 59);
         
-        // 각 날짜 패널에 일정 표시
+        Map<LocalDate, List<Schedule>> schedulesByDate = new HashMap<>();
         for (Schedule schedule : schedules) {
-            LocalDate scheduleDate = schedule.getStartTime().toLocalDate();
-            JPanel datePanel = datePanels.get(scheduleDate);
-            if (datePanel != null) {
-                JPanel schedulePanel = (JPanel) datePanel.getComponent(1);
-                JLabel scheduleLabel = new JLabel(schedule.getTitle());
-                scheduleLabel.setFont(koreanFont);
-                scheduleLabel.setForeground(schedule.isImportant() ? Color.RED : Color.BLACK);
-                schedulePanel.add(scheduleLabel);
-                
-                // 클릭 이벤트 처리
-                scheduleLabel.addMouseListener(new MouseAdapter() {
-                    @Override
-                    public void mouseClicked(MouseEvent e) {
-                        if (e.getClickCount() == 2) {
-                            showScheduleDetail(schedule);
-                        }
-                    }
-                });
+            if (!schedule.getStartTime().isAfter(end) && !schedule.getEndTime().isBefore(start)) {
+                schedulesByDate.computeIfAbsent(schedule.getStartTime().toLocalDate(), _ -> new ArrayList<>()).add(schedule);
             }
         }
+        return schedulesByDate;
     }
 
     private void changeMonth(int months) {
@@ -220,6 +144,7 @@ public class ScheduleCalendarPanel extends JPanel {
         dialog.setVisible(true);
         
         // 일정이 수정되거나 삭제된 경우 캘린더 업데이트
+        prefetcher.invalidate();
         updateCalendar();
     }
 } 
\ No newline at end of file
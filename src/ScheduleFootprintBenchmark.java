@@ -0,0 +1,99 @@
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 일정 하나가 차지하는 힙 크기 측정
+// JOL 같은 도구 없이, 일정을 많이 만들어 붙잡아 둔 채 GC 전후 사용 중인 힙 차이를 일정 수로 나눈다.
+// 모양별로 따로 잰다: 기본 일정, 태그/공유가 있는 일정, 하위 작업과 반복 예외 날짜가 있는 일정.
+// 문자열 내용(제목, 설명)은 일정끼리 나눠 쓰게 해서 일정 객체와 컬렉션 크기만 보이도록 한다.
+// 실행: java ScheduleFootprintBenchmark [모양별 일정 수 (기본 200000)]
+// -XX:+UseSerialGC로 돌리면 값이 덜 흔들린다.
+public class ScheduleFootprintBenchmark {
+    private static final String[] CATEGORIES = {"업무", "개인", "운동", "공부", "기타"};
+    private static final String[] LOCATIONS = {"회의실 A", "회의실 B", "카페", "집", ""};
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        System.out.println("일정 " + count + "개씩 측정");
+        measure("기본", count, ScheduleFootprintBenchmark::plain);
+        measure("태그 2개 + 공유 1명", count, ScheduleFootprintBenchmark::tagged);
+        measure("하위 작업 3개 + 예외 날짜 2개", count, ScheduleFootprintBenchmark::detailed);
+        System.exit(0);
+    }
+
+    private interface Factory {
+        Schedule create(int index);
+    }
+
+    private static void measure(String name, int count, Factory factory) {
+        // 클래스 로딩과 사전 항목이 측정에 섞이지 않도록 먼저 조금 만들어 본다
+        for (int i = 0; i < 1000; i++) {
+            factory.create(i);
+        }
+        long before = usedHeap();
+        Schedule[] schedules = new Schedule[count];
+        for (int i = 0; i < count; i++) {
+            schedules[i] = factory.create(i);
+        }
+        long after = usedHeap();
+        // 배열 칸(참조 하나)은 일정 크기에서 뺀다
+        long arrayBytes = (long) count * referenceBytes();
+        double perSchedule = (double) (after - before - arrayBytes) / count;
+        System.out.printf("%-24s %8.1f bytes/일정 (100만 개면 약 %.0f MB)%n",
+            name, perSchedule, perSchedule * 1_000_000 / (1024 * 1024));
+        // 측정이 끝날 때까지 배열이 살아 있어야 한다
+        if (schedules[count - 1] == null) {
+            throw new IllegalStateException();
+        }
+    }
+
+    private static Schedule plain(int index) {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0).plusHours(index);
+        return new Schedule("SCH" + index, "주간 회의", "", start, start.plusHours(1),
+            LOCATIONS[index % LOCATIONS.length], CATEGORIES[index % CATEGORIES.length], index % 7 == 0, "user" + (index % 100));
+    }
+
+    private static Schedule tagged(int index) {
+        Schedule schedule = plain(index);
+        schedule.setTags(new HashSet<>(Arrays.asList("팀", "정기")));
+        schedule.shareWithUser("user" + ((index + 1) % 100), "READ");
+        return schedule;
+    }
+
+    private static Schedule detailed(int index) {
+        Schedule schedule = plain(index);
+        for (int i = 0; i < 3; i++) {
+            schedule.addSubTask(new Schedule.SubTask("ST" + index + "-" + i, "준비"));
+        }
+        schedule.setRecurrence(Schedule.RecurrenceType.WEEKLY, schedule.getStartTime().plusWeeks(10));
+        schedule.addExceptionDate(schedule.getStartTime().plusWeeks(1));
+        schedule.addExceptionDate(schedule.getStartTime().plusWeeks(2));
+        return schedule;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        // 한 번의 GC로는 다 치워지지 않을 수 있으므로 더 줄지 않을 때까지 반복
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long current = runtime.totalMemory() - runtime.freeMemory();
+            if (current >= used) {
+                return current;
+            }
+            used = current;
+        }
+        return used;
+    }
+
+    // 압축 참조를 쓰는 보통 크기의 힙이면 4바이트
+    private static int referenceBytes() {
+        String model = System.getProperty("sun.arch.data.model", "64");
+        return model.equals("32") || Runtime.getRuntime().maxMemory() < 32L * 1024 * 1024 * 1024 ? 4 : 8;
+    }
+}
@@ -5,6 +5,8 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 public class ScheduleGUI extends JFrame {
+    private static final Log LOG = Log.get(ScheduleGUI.class);
+
     private final ScheduleManager scheduleManager;
     private final UserManager userManager;
     private JPanel mainPanel;
@@ -19,6 +21,8 @@ public class ScheduleGUI extends JFrame {
     private JPanel loginPanel;
     private JTextField usernameField;
     private JPasswordField passwordField;
+    // 처음 동기화할 때 만든다 (그 전의 로컬 변경은 생성 시 한꺼번에 기록됨)
+    private SyncClient syncClient;
 
     public ScheduleGUI() {
         setTitle("일정 관리 시스템");
@@ -27,6 +31,8 @@ public class ScheduleGUI extends JFrame {
         // 매니저 초기화
         userManager = UserManager.getInstance();
         scheduleManager = ScheduleManager.getInstance();
+        // 시각에 따른 상태 전환도 다른 화면 변경처럼 EDT에서 반영한다
+        scheduleManager.startLifecycle(SwingUtilities::invokeLater);
         
         // 메인 패널 설정
         mainPanel = new JPanel(new BorderLayout());
@@ -67,10 +73,9 @@ public class ScheduleGUI extends JFrame {
             // 설정 패널
             settingsPanel = new SettingsPanel();
             
-            System.out.println("모든 패널이 성공적으로 초기화되었습니다.");
+            LOG.debug("모든 패널이 성공적으로 초기화되었습니다.");
         } catch (Exception e) {
-            System.err.println("패널 초기화 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("패널 초기화 중 오류 발생: " + e.getMessage(), e);
         }
     }
 
@@ -84,10 +89,9 @@ public class ScheduleGUI extends JFrame {
             setSize(400, 300);
             setLocationRelativeTo(null);
             setJMenuBar(null); // 로그인 화면에서는 메뉴바 제거
-            System.out.println("로그인 패널이 표시되었습니다.");
+            LOG.debug("로그인 패널이 표시되었습니다.");
         } catch (Exception e) {
-            System.err.println("로그인 패널 표시 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("로그인 패널 표시 중 오류 발생: " + e.getMessage(), e);
         }
     }
 
@@ -147,10 +151,9 @@ public class ScheduleGUI extends JFrame {
             setSize(1000, 700);
             setLocationRelativeTo(null);
             
-            System.out.println("메인 패널이 표시되었습니다.");
+            LOG.debug("메인 패널이 표시되었습니다.");
         } catch (Exception e) {
-            System.err.println("메인 패널 표시 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("메인 패널 표시 중 오류 발생: " + e.getMessage(), e);
             JOptionPane.showMessageDialog(this, "화면 전환 중 오류가 발생했습니다. 다시 로그인해주세요.");
             showLoginPanel();
         }
@@ -234,7 +237,7 @@ public class ScheduleGUI extends JFrame {
             }
             
             if (userManager.login(username, password)) {
-                System.out.println("로그인 성공 - 사용자: " + username);
+                LOG.info("로그인 성공 - 사용자: " + username);
                 currentUser = userManager.getCurrentUser();
                 showMainPanel();
             } else {
@@ -278,7 +281,13 @@ public class ScheduleGUI extends JFrame {
             }
         });
         scheduleMenu.add(addItem);
-        
+        JMenuItem meetingItem = new JMenuItem("함께할 시간 찾기");
+        meetingItem.addActionListener(_ -> new GroupMeetingDialog(this, scheduleManager, userManager).setVisible(true));
+        scheduleMenu.add(meetingItem);
+        JMenuItem syncItem = new JMenuItem("서버와 동기화");
+        syncItem.addActionListener(_ -> synchronizeSchedules(syncItem));
+        scheduleMenu.add(syncItem);
+
         // 도움말 메뉴
         JMenu helpMenu = new JMenu("도움말");
         JMenuItem aboutItem = new JMenuItem("정보");
@@ -299,6 +308,52 @@ public class ScheduleGUI extends JFrame {
         return menuBar;
     }
     
+    // 동기화 서버 주소는 -Dschedule.sync.server=호스트:포트 (기본 127.0.0.1:9090)
+    private void synchronizeSchedules(JMenuItem syncItem) {
+        String address = System.getProperty("schedule.sync.server", "127.0.0.1:" + SyncServer.DEFAULT_PORT);
+        int colon = address.lastIndexOf(':');
+        String host;
+        int port;
+        try {
+            host = address.substring(0, colon);
+            port = Integer.parseInt(address.substring(colon + 1));
+        } catch (RuntimeException e) {
+            JOptionPane.showMessageDialog(this, "동기화 서버 주소가 올바르지 않습니다: " + address,
+                "오류", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        if (syncClient == null) {
+            syncClient = new SyncClient(scheduleManager, SwingUtilities::invokeLater, true);
+        }
+        SyncClient client = syncClient;
+        SyncClient.SocketTransport transport = new SyncClient.SocketTransport(host, port);
+        syncItem.setEnabled(false);
+        new SwingWorker<SyncClient.SyncResult, Void>() {
+            @Override
+            protected SyncClient.SyncResult doInBackground() throws Exception {
+                return client.sync(transport);
+            }
+
+            @Override
+            protected void done() {
+                syncItem.setEnabled(true);
+                try {
+                    SyncClient.SyncResult result = get();
+                    JOptionPane.showMessageDialog(ScheduleGUI.this,
+                        String.format("동기화 완료: 보낸 일정 %d개, 받은 일정 %d개",
+                            result.getSentDocuments(), result.getReceivedDocuments()),
+                        "동기화", JOptionPane.INFORMATION_MESSAGE);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (java.util.concurrent.ExecutionException e) {
+                    JOptionPane.showMessageDialog(ScheduleGUI.this,
+                        "동기화 중 오류가 발생했습니다: " + e.getCause().getMessage(),
+                        "오류", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
     private void showAboutDialog() {
         JOptionPane.showMessageDialog(this,
             "일정 관리 시스템 v1.0\n\n" +
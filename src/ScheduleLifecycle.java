@@ -0,0 +1,161 @@
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executor;
+
+// 시각에 따라 일정 상태를 바꾸는 엔진
+// 일정마다 다음 전환 시각(시작 -> 진행 중, 종료 -> 기한 지남) 하나만 시각 순 TreeMap에 두고,
+// 가장 이른 전환 시각까지 잠들었다가 그때까지 도래한 전환을 모아 ScheduleManager에 한 번에 반영한다.
+// 그래서 조회 쪽(Schedule.isOverdue(), 상태 문자열)은 필드만 읽고 현재 시각과 비교하지 않는다.
+// 반영은 일정을 바꾸는 다른 작업과 겹치지 않도록 writer에 맡긴다 (화면에서는 EDT, 서버에서는 서비스 쓰기 잠금).
+// 일정이 추가/수정/삭제되면 ScheduleUpdateListener로 알림을 받아 그 일정의 전환 시각만 다시 계산한다.
+public class ScheduleLifecycle implements ScheduleManager.ScheduleUpdateListener {
+    private static final Log LOG = Log.get(ScheduleLifecycle.class);
+
+    // 시계가 바뀌어도(서머타임, 수동 변경) 이 간격마다는 한 번 깨어나 다시 확인
+    private static final long MAX_SLEEP_MILLIS = 60_000;
+    private static final long NONE = Schedule.NONE;
+
+    private final ScheduleManager scheduleManager;
+    private final Executor writer;
+    // 전환 시각(벽시계 ms) -> 그 시각에 전환할 일정 ID
+    private final TreeMap<Long, Set<String>> dueTimes = new TreeMap<>();
+    // 일정 ID -> 등록된 전환 시각
+    private final Map<String, Long> pending = new HashMap<>();
+    private volatile boolean running;
+    private Thread worker;
+
+    public ScheduleLifecycle(ScheduleManager scheduleManager, Executor writer) {
+        this.scheduleManager = scheduleManager;
+        this.writer = writer;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        long now = nowMillis();
+        for (Schedule schedule : scheduleManager.getAllSchedules()) {
+            track(schedule, now);
+        }
+        running = true;
+        worker = new Thread(this::runLoop, "schedule-lifecycle");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public synchronized void stop() {
+        running = false;
+        notifyAll();
+    }
+
+    // 등록된 전환 수 (상태 확인용)
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public synchronized void onScheduleUpdated(Schedule before, Schedule after) {
+        if (before != null) {
+            untrack(before.getScheduleId());
+        }
+        if (after != null) {
+            track(after, nowMillis());
+        }
+    }
+
+    private void runLoop() {
+        while (running) {
+            List<String> due;
+            synchronized (this) {
+                long now = nowMillis();
+                Map.Entry<Long, Set<String>> first = dueTimes.firstEntry();
+                if (first == null || first.getKey() > now) {
+                    long sleepMillis = first == null ? MAX_SLEEP_MILLIS : Math.min(first.getKey() - now, MAX_SLEEP_MILLIS);
+                    try {
+                        wait(Math.max(1, sleepMillis));
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    continue;
+                }
+                due = takeDue(now);
+            }
+            // 꺼낸 일정은 반영이 끝나 다시 등록될 때까지 pending에 없으므로 기다리지 않아도 두 번 꺼내지 않는다
+            writer.execute(() -> apply(due));
+        }
+    }
+
+    // 도래한 전환을 반영하고 다음 전환 시각을 등록한다 (writer에서 실행)
+    private void apply(List<String> due) {
+        long now = nowMillis();
+        try {
+            scheduleManager.applyLifecycleTransitions(due, now);
+        } catch (RuntimeException e) {
+            LOG.error("일정 상태 전환 중 오류 발생: " + e.getMessage(), e);
+        }
+        synchronized (this) {
+            for (String scheduleId : due) {
+                Schedule schedule = scheduleManager.findScheduleById(scheduleId);
+                if (schedule != null) {
+                    track(schedule, now);
+                }
+            }
+        }
+        LOG.debug(() -> "일정 상태 전환 " + due.size() + "건 반영");
+    }
+
+    // now까지 도래한 전환을 모두 꺼낸다
+    private List<String> takeDue(long now) {
+        List<String> due = new ArrayList<>();
+        SortedMap<Long, Set<String>> head = dueTimes.headMap(now + 1);
+        for (Set<String> scheduleIds : head.values()) {
+            for (String scheduleId : scheduleIds) {
+                pending.remove(scheduleId);
+                due.add(scheduleId);
+            }
+        }
+        head.clear();
+        return due;
+    }
+
+    // 진행 중/기한 지남 표시를 현재 시각에 맞추고 다음 전환 시각을 등록한다
+    private void track(Schedule schedule, long now) {
+        String scheduleId = schedule.getScheduleId();
+        untrack(scheduleId);
+        long start = schedule.getStartMillis();
+        long end = schedule.getEndMillis();
+        if (start == NONE || end == NONE) {
+            return;
+        }
+        schedule.updateTimeState(now);
+        long next = now < start ? start : (now < end ? end : NONE);
+        if (next == NONE) {
+            return;
+        }
+        Map.Entry<Long, Set<String>> first = dueTimes.firstEntry();
+        dueTimes.computeIfAbsent(next, _ -> new HashSet<>()).add(scheduleId);
+        pending.put(scheduleId, next);
+        if (first == null || next < first.getKey()) {
+            // 잠든 스레드가 더 이른 시각에 깨도록
+            notifyAll();
+        }
+    }
+
+    private void untrack(String scheduleId) {
+        Long registered = pending.remove(scheduleId);
+        if (registered == null) {
+            return;
+        }
+        Set<String> scheduleIds = dueTimes.get(registered);
+        if (scheduleIds != null) {
+            scheduleIds.remove(scheduleId);
+            if (scheduleIds.isEmpty()) {
+                dueTimes.remove(registered);
+            }
+        }
+    }
+
+    static long nowMillis() {
+        return Schedule.toLocalMillis(LocalDateTime.now());
+    }
+}
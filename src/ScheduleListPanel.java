@@ -2,16 +2,22 @@ import javax.swing.*;
 import javax.swing.table.*;
 import java.awt.*;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class ScheduleListPanel extends JPanel {
+    private static final Log LOG = Log.get(ScheduleListPanel.class);
+
     private final ScheduleGUI parent;
     private final ScheduleManager scheduleManager;
     private final UserManager userManager;
     private JTable scheduleTable;
-    private DefaultTableModel tableModel;
+    private ScheduleTableModel tableModel;
     private JButton addButton;
     private JButton editButton;
     private JButton deleteButton;
@@ -25,10 +31,29 @@ public class ScheduleListPanel extends JPanel {
     private JButton clearFilterButton;
     private List<Schedule> allSchedules; // 전체 일정 데이터
     
+    // 검색은 입력이 멈춘 뒤 EDT 밖의 전용 스레드에서 수행
+    private static final int SEARCH_DEBOUNCE_MILLIS = 200;
+    private final ExecutorService searchExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "schedule-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Timer searchDebounceTimer;
+    private SearchWorker currentSearch;
+    private SearchQuery lastQuery; // 마지막으로 표시한 검색 조건과 결과 (점진적 검색에 사용)
+    private List<Schedule> lastResult;
+    private long firstPendingKeystroke; // 아직 반영되지 않은 첫 입력 시각 (지연 시간 측정용)
+    
     public ScheduleListPanel(ScheduleGUI parent, ScheduleManager scheduleManager, UserManager userManager) {
         this.parent = parent;
         this.scheduleManager = scheduleManager;
         this.userManager = userManager;
+        this.searchDebounceTimer = new Timer(SEARCH_DEBOUNCE_MILLIS, _ -> {
+            long requestedAt = firstPendingKeystroke;
+            firstPendingKeystroke = 0;
+            startSearch(requestedAt);
+        });
+        searchDebounceTimer.setRepeats(false);
         
         setLayout(new BorderLayout());
         initComponents();
@@ -57,13 +82,14 @@ public class ScheduleListPanel extends JPanel {
         northPanel.add(topPanel, BorderLayout.CENTER);
         
         // 테이블 모델 설정
-        String[] columnNames = {"제목", "시작 시간", "종료 시간", "장소", "카테고리", "중요"};
-        tableModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        tableModel = new ScheduleTableModel(List.of(
+            new ScheduleTableModel.Column("제목", Schedule::getTitle),
+            new ScheduleTableModel.Column("시작 시간", schedule -> ScheduleTableModel.formatDateTime(schedule.getStartTime())),
+            new ScheduleTableModel.Column("종료 시간", schedule -> ScheduleTableModel.formatDateTime(schedule.getEndTime())),
+            new ScheduleTableModel.Column("장소", Schedule::getLocation),
+            new ScheduleTableModel.Column("카테고리", Schedule::getCategory),
+            new ScheduleTableModel.Column("중요", schedule -> schedule.isImportant() ? "★" : "")
+        ));
         
         scheduleTable = new JTable(tableModel);
         scheduleTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
@@ -95,9 +121,9 @@ public class ScheduleListPanel extends JPanel {
         searchField = new JTextField(20);
         searchField.setToolTipText("제목, 설명, 장소로 검색");
         searchField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
-            public void changedUpdate(javax.swing.event.DocumentEvent e) { filterSchedules(); }
-            public void removeUpdate(javax.swing.event.DocumentEvent e) { filterSchedules(); }
-            public void insertUpdate(javax.swing.event.DocumentEvent e) { filterSchedules(); }
+            public void changedUpdate(javax.swing.event.DocumentEvent e) { onSearchTextChanged(); }
+            public void removeUpdate(javax.swing.event.DocumentEvent e) { onSearchTextChanged(); }
+            public void insertUpdate(javax.swing.event.DocumentEvent e) { onSearchTextChanged(); }
         });
         panel.add(searchField, gbc);
         
@@ -145,66 +171,161 @@ public class ScheduleListPanel extends JPanel {
         filterSchedules();
     }
     
+    // 검색어 입력 중에는 실행하지 않고, 마지막 입력 후 잠시 기다렸다가 한 번만 검색
+    private void onSearchTextChanged() {
+        if (firstPendingKeystroke == 0) {
+            firstPendingKeystroke = System.nanoTime();
+        }
+        searchDebounceTimer.restart();
+    }
+    
+    // 카테고리/날짜 변경은 바로 검색
     private void filterSchedules() {
-        tableModel.setRowCount(0);
-        
-        if (allSchedules == null) return;
-        
-        String searchText = searchField.getText().toLowerCase().trim();
-        String selectedCategory = (String) categoryFilter.getSelectedItem();
-        java.util.Date startDate = (java.util.Date) startDateSpinner.getValue();
-        java.util.Date endDate = (java.util.Date) endDateSpinner.getValue();
-        
-        List<Schedule> filteredSchedules = allSchedules.stream()
-            .filter(schedule -> {
-                // 검색어 필터링
-                if (!searchText.isEmpty()) {
-                    boolean matchesSearch = schedule.getTitle().toLowerCase().contains(searchText) ||
-                                          (schedule.getDescription() != null && schedule.getDescription().toLowerCase().contains(searchText)) ||
-                                          (schedule.getLocation() != null && schedule.getLocation().toLowerCase().contains(searchText));
-                    if (!matchesSearch) return false;
+        searchDebounceTimer.stop();
+        firstPendingKeystroke = 0;
+        startSearch(System.nanoTime());
+    }
+    
+    private void startSearch(long requestedAt) {
+        // 이전 검색이 진행 중이면 취소 (오래된 결과가 그려지지 않도록)
+        if (currentSearch != null) {
+            currentSearch.cancel(true);
+            currentSearch = null;
+        }
+        if (allSchedules == null) {
+            tableModel.setSchedules(null);
+            updateSearchResultCount(0);
+            return;
+        }
+        
+        // 입력값은 EDT에서 한 번만 읽어 변환해 둔다
+        SearchQuery query = new SearchQuery(
+            allSchedules,
+            searchField.getText().toLowerCase().trim(),
+            (String) categoryFilter.getSelectedItem(),
+            toLocalDate((java.util.Date) startDateSpinner.getValue()),
+            toLocalDate((java.util.Date) endDateSpinner.getValue()));
+        
+        // 검색어가 이전 검색어를 포함하면 이전 결과 안에서만 다시 거른다
+        List<Schedule> candidates = query.narrows(lastQuery) ? lastResult : allSchedules;
+        currentSearch = new SearchWorker(query, candidates, requestedAt);
+        searchExecutor.execute(currentSearch);
+    }
+    
+    private static LocalDate toLocalDate(java.util.Date date) {
+        return date != null ? date.toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDate() : null;
+    }
+    
+    // 검색 조건 (EDT에서 만든 뒤 변경하지 않음)
+    private static class SearchQuery {
+        private final List<Schedule> source;
+        private final String text;
+        private final String category;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        
+        SearchQuery(List<Schedule> source, String text, String category, LocalDate startDate, LocalDate endDate) {
+            this.source = source;
+            this.text = text;
+            this.category = category;
+            this.startDate = startDate;
+            this.endDate = endDate;
+        }
+        
+        // previous의 결과가 이번 결과를 모두 포함하는지 (같은 원본, 같은 필터, 더 긴 검색어)
+        boolean narrows(SearchQuery previous) {
+            return previous != null
+                && source == previous.source
+                && Objects.equals(category, previous.category)
+                && Objects.equals(startDate, previous.startDate)
+                && Objects.equals(endDate, previous.endDate)
+                && text.contains(previous.text);
+        }
+        
+        boolean matches(Schedule schedule) {
+            // 검색어 필터링
+            if (!text.isEmpty()) {
+                boolean matchesSearch = (schedule.getTitle() != null && schedule.getTitle().toLowerCase().contains(text)) ||
+                                      (schedule.getDescription() != null && schedule.getDescription().toLowerCase().contains(text)) ||
+                                      (schedule.getLocation() != null && schedule.getLocation().toLowerCase().contains(text));
+                if (!matchesSearch) return false;
+            }
+            
+            // 카테고리 필터링
+            if (!"전체".equals(category)) {
+                if (!category.equals(schedule.getCategory())) return false;
+            }
+            
+            // 날짜 필터링
+            if (startDate != null && endDate != null) {
+                if (schedule.getStartTime() == null) {
+                    return false;
                 }
-                
-                // 카테고리 필터링
-                if (!"전체".equals(selectedCategory)) {
-                    if (!selectedCategory.equals(schedule.getCategory())) return false;
+                LocalDate scheduleDate = schedule.getStartTime().toLocalDate();
+                if (scheduleDate.isBefore(startDate) || scheduleDate.isAfter(endDate)) {
+                    return false;
                 }
-                
-                // 날짜 필터링
-                if (startDate != null && endDate != null) {
-                    try {
-                        LocalDate scheduleDate = schedule.getStartTime().toLocalDate();
-                        LocalDate startLocalDate = startDate.toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDate();
-                        LocalDate endLocalDate = endDate.toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDate();
-                        
-                        if (scheduleDate.isBefore(startLocalDate) || scheduleDate.isAfter(endLocalDate)) {
-                            return false;
-                        }
-                    } catch (Exception e) {
-                        // 날짜 변환 오류 시 해당 일정 제외
-                        return false;
-                    }
+            }
+            
+            return true;
+        }
+    }
+    
+    // 백그라운드에서 필터링하고 마지막 검색의 결과만 EDT에서 테이블에 반영
+    private class SearchWorker extends SwingWorker<List<Schedule>, Void> {
+        private final SearchQuery query;
+        private final List<Schedule> candidates;
+        private final long requestedAt;
+        
+        SearchWorker(SearchQuery query, List<Schedule> candidates, long requestedAt) {
+            this.query = query;
+            this.candidates = candidates;
+            this.requestedAt = requestedAt;
+        }
+        
+        @Override
+        protected List<Schedule> doInBackground() {
+            List<Schedule> result = new ArrayList<>();
+            int checked = 0;
+            for (Schedule schedule : candidates) {
+                // 새 검색으로 대체되었으면 중단
+                if ((++checked & 1023) == 0 && isCancelled()) {
+                    return result;
                 }
-                
-                return true;
-            })
-            .collect(Collectors.toList());
-        
-        // 필터링된 결과를 테이블에 표시
-        for (Schedule schedule : filteredSchedules) {
-            Object[] row = {
-                schedule.getTitle(),
-                schedule.getStartTime(),
-                schedule.getEndTime(),
-                schedule.getLocation(),
-                schedule.getCategory(),
-                schedule.isImportant() ? "★" : ""
-            };
-            tableModel.addRow(row);
+                if (schedule != null && query.matches(schedule)) {
+                    result.add(schedule);
+                }
+            }
+            return result;
         }
         
-        // 검색 결과 개수 표시
-        updateSearchResultCount(filteredSchedules.size());
+        @Override
+        protected void done() {
+            if (isCancelled() || currentSearch != this) {
+                return;
+            }
+            currentSearch = null;
+            try {
+                List<Schedule> result = get();
+                lastQuery = query;
+                lastResult = result;
+                
+                // 필터링된 결과를 테이블에 표시 (셀 값은 보이는 행만 그릴 때 계산)
+                tableModel.setSchedules(result);
+                
+                // 검색 결과 개수 표시
+                updateSearchResultCount(result.size());
+                
+                long elapsedMillis = (System.nanoTime() - requestedAt) / 1_000_000;
+                boolean narrowed = candidates != query.source;
+                LOG.debug(() -> "검색 결과 표시까지 걸린 시간: " + elapsedMillis + "ms (" + result.size() + "개"
+                    + (narrowed ? ", 이전 결과에서 검색" : "") + ")");
+            } catch (InterruptedException | CancellationException e) {
+                // 새 검색으로 대체되어 취소된 경우
+            } catch (ExecutionException e) {
+                LOG.error("일정 검색 중 오류 발생: " + e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
     
     private void clearFilters() {
@@ -241,8 +362,7 @@ public class ScheduleListPanel extends JPanel {
             return;
         }
         
-        String title = (String) tableModel.getValueAt(selectedRow, 0);
-        Schedule schedule = scheduleManager.getScheduleByTitle(title);
+        Schedule schedule = tableModel.getScheduleAt(selectedRow);
         
         if (schedule != null) {
             ScheduleDialog dialog = new ScheduleDialog(parent, scheduleManager, userManager, schedule, () -> loadSchedules());
@@ -272,8 +392,7 @@ public class ScheduleListPanel extends JPanel {
             JOptionPane.YES_NO_OPTION);
             
         if (confirm == JOptionPane.YES_OPTION) {
-            String title = (String) tableModel.getValueAt(selectedRow, 0);
-            Schedule schedule = scheduleManager.getScheduleByTitle(title);
+            Schedule schedule = tableModel.getScheduleAt(selectedRow);
             if (schedule != null) {
                 scheduleManager.deleteSchedule(schedule.getScheduleId());
                 loadSchedules();
@@ -1,19 +1,34 @@
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+// 일정 저장소
+// 사용자에 따라 결과가 달라지는 메서드는 UserSession을 받는 버전이 기본이고, 인자 없는 버전은
+// 데스크톱 화면에서 로그인한 세션(setCurrentSession)으로 실행한다.
+// 조회는 잠금 없이 여러 스레드에서 동시에 해도 되지만, 변경은 한 번에 하나씩 해야 한다.
 public class ScheduleManager {
-    private Map<String, Schedule> schedules;
-    private String currentUserId;
+    // 일정 ID 순으로 정렬 (IdGenerator ID는 생성 시각 순이므로 생성 시각 범위를 구간으로 찾을 수 있다)
+    private ConcurrentSkipListMap<String, Schedule> schedules;
+    // 데스크톱 화면의 로그인 세션 (서버 모드에서는 쓰지 않음)
+    private volatile UserSession currentSession;
+    // 일정이 추가/수정/삭제될 때마다 증가 (세션별 캐시가 아직 유효한지 확인하는 데 사용)
+    private final AtomicLong version = new AtomicLong();
+    private volatile boolean readOnly;
+    // 시각에 맞춰 일정 상태를 바꾸는 엔진 (데이터 파일을 맡은 실행 방식에서만 startLifecycle로 시작)
+    private ScheduleLifecycle lifecycle;
     private static ScheduleManager instance;
 
     private ScheduleManager() {
-        schedules = new HashMap<>();
+        schedules = new ConcurrentSkipListMap<>();
         loadSchedules();
     }
 
-    public static ScheduleManager getInstance() {
+    public static synchronized ScheduleManager getInstance() {
         if (instance == null) {
             instance = new ScheduleManager();
         }
@@ -23,7 +38,16 @@ public class ScheduleManager {
     private void loadSchedules() {
         Map<String, Schedule> loadedSchedules = DataStorage.loadSchedules();
         if (loadedSchedules != null) {
-            schedules = loadedSchedules;
+            ConcurrentSkipListMap<String, Schedule> concurrentSchedules = new ConcurrentSkipListMap<>();
+            // 엔진 없이 읽기만 하는 실행 방식에서도 기한 지남/진행 중 표시는 읽은 시점에 맞춰 둔다
+            long now = ScheduleLifecycle.nowMillis();
+            loadedSchedules.forEach((scheduleId, schedule) -> {
+                if (scheduleId != null && schedule != null) {
+                    schedule.updateTimeState(now);
+                    concurrentSchedules.put(scheduleId, schedule);
+                }
+            });
+            schedules = concurrentSchedules;
         }
     }
 
@@ -31,20 +55,65 @@ public class ScheduleManager {
         DataStorage.saveSchedules(schedules);
     }
 
-    public void setCurrentUser(String userId) {
-        this.currentUserId = userId;
+    // 시각에 맞춰 일정 상태를 바꾸는 엔진을 시작한다 (두 번째 호출부터는 무시)
+    // writer: 일정을 바꾸는 다른 작업과 겹치지 않게 전환을 반영할 곳 (화면에서는 EDT, 서버에서는 서비스 쓰기 잠금)
+    public synchronized void startLifecycle(Executor writer) {
+        if (lifecycle != null) {
+            return;
+        }
+        lifecycle = new ScheduleLifecycle(this, writer);
+        addScheduleUpdateListener(lifecycle);
+        lifecycle.start();
     }
 
-    public void addSchedule(Schedule schedule) {
-        if (currentUserId == null) {
+    public void setCurrentSession(UserSession session) {
+        this.currentSession = session;
+    }
+
+    public UserSession getCurrentSession() {
+        return currentSession;
+    }
+
+    // 일정 변경 번호 (변경될 때마다 증가)
+    public long getVersion() {
+        return version.get();
+    }
+
+    // 복제 팔로워에서는 읽기 전용 (리더에서 받은 변경만 applyReplicated* 로 반영)
+    public void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("읽기 전용 복제본에서는 일정을 변경할 수 없습니다.");
+        }
+    }
+
+    private static String requireUserId(UserSession session) {
+        if (session == null) {
             throw new IllegalStateException("로그인이 필요합니다.");
         }
-        if (!schedule.getUserId().equals(currentUserId)) {
+        return session.getUserId();
+    }
+
+    public void addSchedule(Schedule schedule) {
+        addSchedule(currentSession, schedule);
+    }
+
+    public void addSchedule(UserSession session, Schedule schedule) {
+        checkWritable();
+        String userId = requireUserId(session);
+        if (!schedule.getUserId().equals(userId)) {
             throw new IllegalArgumentException("다른 사용자의 일정을 추가할 수 없습니다.");
         }
 
         // 일정 중복 체크
-        for (Schedule existingSchedule : getUserSchedules()) {
+        for (Schedule existingSchedule : getUserSchedules(session)) {
             if (schedule.isOverlapping(existingSchedule)) {
                 throw new IllegalArgumentException("이미 예약된 시간과 겹칩니다.");
             }
@@ -53,24 +122,28 @@ public class ScheduleManager {
         schedules.put(schedule.getScheduleId(), schedule);
         schedule.scheduleReminder();
         saveSchedules();
+        notifyScheduleUpdated(null, schedule);
         notifyScheduleChanged();
     }
 
     public void updateSchedule(String scheduleId, Schedule updatedSchedule) {
-        if (currentUserId == null) {
-            throw new IllegalStateException("로그인이 필요합니다.");
-        }
+        updateSchedule(currentSession, scheduleId, updatedSchedule);
+    }
+
+    public void updateSchedule(UserSession session, String scheduleId, Schedule updatedSchedule) {
+        checkWritable();
+        String userId = requireUserId(session);
 
         Schedule existingSchedule = schedules.get(scheduleId);
         if (existingSchedule == null) {
             throw new IllegalArgumentException("존재하지 않는 일정입니다.");
         }
-        if (!existingSchedule.getUserId().equals(currentUserId)) {
+        if (!existingSchedule.getUserId().equals(userId)) {
             throw new IllegalArgumentException("다른 사용자의 일정을 수정할 수 없습니다.");
         }
 
         // 일정 중복 체크 (자기 자신은 제외)
-        for (Schedule schedule : getUserSchedules()) {
+        for (Schedule schedule : getUserSchedules(session)) {
             if (!schedule.getScheduleId().equals(scheduleId) && 
                 updatedSchedule.isOverlapping(schedule)) {
                 throw new IllegalArgumentException("이미 예약된 시간과 겹칩니다.");
@@ -81,36 +154,48 @@ public class ScheduleManager {
         schedules.put(scheduleId, updatedSchedule);
         updatedSchedule.scheduleReminder();
         saveSchedules();
+        notifyScheduleUpdated(existingSchedule, updatedSchedule);
         notifyScheduleChanged();
     }
 
     public void deleteSchedule(String scheduleId) {
-        if (currentUserId == null) {
-            throw new IllegalStateException("로그인이 필요합니다.");
-        }
+        deleteSchedule(currentSession, scheduleId);
+    }
+
+    public void deleteSchedule(UserSession session, String scheduleId) {
+        checkWritable();
+        String userId = requireUserId(session);
 
         Schedule schedule = schedules.get(scheduleId);
         if (schedule == null) {
             throw new IllegalArgumentException("존재하지 않는 일정입니다.");
         }
-        if (!schedule.getUserId().equals(currentUserId)) {
+        if (!schedule.getUserId().equals(userId)) {
             throw new IllegalArgumentException("다른 사용자의 일정을 삭제할 수 없습니다.");
         }
 
         schedule.cancelReminder();
         schedules.remove(scheduleId);
         saveSchedules();
+        notifyScheduleUpdated(schedule, null);
         notifyScheduleChanged();
     }
 
     public List<Schedule> getUserSchedules() {
-        if (currentUserId == null) {
-            throw new IllegalStateException("로그인이 필요합니다.");
-        }
-        return schedules.values().stream()
-            .filter(schedule -> schedule.getUserId().equals(currentUserId) || 
-                              schedule.canUserView(currentUserId))
-            .collect(Collectors.toList());
+        return getUserSchedules(currentSession);
+    }
+
+    // 사용자가 볼 수 있는 일정 (본인 일정과 공유받은 일정)
+    // 전체 일정을 훑은 결과를 세션에 캐시해 두고, 일정이 바뀌기 전까지는 복사본만 돌려준다
+    public List<Schedule> getUserSchedules(UserSession session) {
+        String userId = requireUserId(session);
+        long currentVersion = version.get();
+        List<Schedule> visible = session.cached("visibleSchedules", currentVersion, () ->
+            Collections.unmodifiableList(schedules.values().stream()
+                .filter(schedule -> schedule.getUserId().equals(userId) || 
+                                  schedule.canUserView(userId))
+                .collect(Collectors.toList())));
+        return new ArrayList<>(visible);
     }
 
     public List<Schedule> getSchedulesByDate(LocalDate date) {
@@ -167,79 +252,104 @@ public class ScheduleManager {
     }
 
     public Schedule getSchedule(String scheduleId) {
+        return getSchedule(currentSession, scheduleId);
+    }
+
+    public Schedule getSchedule(UserSession session, String scheduleId) {
+        String userId = session != null ? session.getUserId() : null;
         Schedule schedule = schedules.get(scheduleId);
         if (schedule == null) {
             throw new IllegalArgumentException("존재하지 않는 일정입니다.");
         }
-        if (!schedule.getUserId().equals(currentUserId)) {
+        if (!schedule.getUserId().equals(userId)) {
             throw new IllegalArgumentException("다른 사용자의 일정을 조회할 수 없습니다.");
         }
         return schedule;
     }
 
     public void shareSchedule(String scheduleId, String targetUserId, String permission) {
-        if (currentUserId == null) {
-            throw new IllegalStateException("로그인이 필요합니다.");
-        }
+        shareSchedule(currentSession, scheduleId, targetUserId, permission);
+    }
+
+    public void shareSchedule(UserSession session, String scheduleId, String targetUserId, String permission) {
+        checkWritable();
+        String userId = requireUserId(session);
 
         Schedule schedule = schedules.get(scheduleId);
         if (schedule == null) {
             throw new IllegalArgumentException("존재하지 않는 일정입니다.");
         }
-        if (!schedule.getUserId().equals(currentUserId)) {
+        if (!schedule.getUserId().equals(userId)) {
             throw new IllegalArgumentException("다른 사용자의 일정을 공유할 수 없습니다.");
         }
 
         schedule.shareWithUser(targetUserId, permission);
         saveSchedules();
+        notifyScheduleUpdated(schedule, schedule);
         notifyScheduleChanged();
     }
 
     public void removeSharedUser(String scheduleId, String targetUserId) {
-        if (currentUserId == null) {
-            throw new IllegalStateException("로그인이 필요합니다.");
-        }
+        removeSharedUser(currentSession, scheduleId, targetUserId);
+    }
+
+    public void removeSharedUser(UserSession session, String scheduleId, String targetUserId) {
+        checkWritable();
+        String userId = requireUserId(session);
 
         Schedule schedule = schedules.get(scheduleId);
         if (schedule == null) {
             throw new IllegalArgumentException("존재하지 않는 일정입니다.");
         }
-        if (!schedule.getUserId().equals(currentUserId)) {
+        if (!schedule.getUserId().equals(userId)) {
             throw new IllegalArgumentException("다른 사용자의 일정 공유를 수정할 수 없습니다.");
         }
 
         schedule.removeSharedUser(targetUserId);
         saveSchedules();
+        notifyScheduleUpdated(schedule, schedule);
         notifyScheduleChanged();
     }
 
     public List<Schedule> getSharedSchedules() {
-        if (currentUserId == null) {
-            throw new IllegalStateException("로그인이 필요합니다.");
-        }
-        return schedules.values().stream()
-            .filter(schedule -> !schedule.getUserId().equals(currentUserId) && 
-                              schedule.canUserView(currentUserId))
+        return getSharedSchedules(currentSession);
+    }
+
+    // 다른 사용자가 나에게 공유한 일정
+    public List<Schedule> getSharedSchedules(UserSession session) {
+        String userId = requireUserId(session);
+        return getUserSchedules(session).stream()
+            .filter(schedule -> !schedule.getUserId().equals(userId))
             .collect(Collectors.toList());
     }
 
     public List<Schedule> getSharedSchedulesByUser(String userId) {
-        if (currentUserId == null) {
-            throw new IllegalStateException("로그인이 필요합니다.");
-        }
-        return schedules.values().stream()
-            .filter(schedule -> schedule.getUserId().equals(currentUserId) && 
+        return getSharedSchedulesByUser(currentSession, userId);
+    }
+
+    // 내 일정 중 userId에게 공유한 일정
+    public List<Schedule> getSharedSchedulesByUser(UserSession session, String userId) {
+        String ownerId = requireUserId(session);
+        return getUserSchedules(session).stream()
+            .filter(schedule -> schedule.getUserId().equals(ownerId) && 
                               schedule.canUserView(userId))
             .collect(Collectors.toList());
     }
 
     public String createSchedule(String title, String description, LocalDateTime startTime,
             LocalDateTime endTime, String location, String category, boolean isImportant) {
-        String scheduleId = UUID.randomUUID().toString();
+        return createSchedule(currentSession, title, description, startTime, endTime, location, category, isImportant);
+    }
+
+    public String createSchedule(UserSession session, String title, String description, LocalDateTime startTime,
+            LocalDateTime endTime, String location, String category, boolean isImportant) {
+        checkWritable();
+        String scheduleId = IdGenerator.newId();
         Schedule schedule = new Schedule(scheduleId, title, description, startTime, endTime,
-                location, category, isImportant, currentUserId);
+                location, category, isImportant, requireUserId(session));
         schedules.put(scheduleId, schedule);
         saveSchedules();
+        notifyScheduleUpdated(null, schedule);
         notifyScheduleChanged();
         return scheduleId;
     }
@@ -248,15 +358,33 @@ public class ScheduleManager {
         return new ArrayList<>(schedules.values());
     }
 
+    // 생성 시각이 [from, to) 인 일정을 ID 색인의 해당 구간만 훑어 찾는다
+    // IdGenerator 이전에 만든 ID(UUID 등)의 일정은 생성 순서와 무관하게 정렬돼 있어 포함하지 않는다
+    public List<Schedule> getSchedulesCreatedBetween(long fromMillis, long toMillis) {
+        if (fromMillis >= toMillis) {
+            return new ArrayList<>();
+        }
+        List<Schedule> result = new ArrayList<>();
+        for (Map.Entry<String, Schedule> entry : schedules.subMap(
+                IdGenerator.lowerBound(fromMillis), IdGenerator.lowerBound(toMillis)).entrySet()) {
+            if (IdGenerator.isId(entry.getKey())) {
+                result.add(entry.getValue());
+            }
+        }
+        return result;
+    }
+
     public List<Schedule> getSchedulesByCategory(String category) {
         return schedules.values().stream()
-                .filter(schedule -> schedule.getCategory().equals(category))
+                .filter(schedule -> Objects.equals(schedule.getCategory(), category))
                 .collect(Collectors.toList());
     }
 
     public void createSchedule(Schedule schedule) {
-        schedules.put(schedule.getScheduleId(), schedule);
+        checkWritable();
+        Schedule previous = schedules.put(schedule.getScheduleId(), schedule);
         saveSchedules();
+        notifyScheduleUpdated(previous, schedule);
         notifyScheduleChanged();
     }
 
@@ -264,6 +392,81 @@ public class ScheduleManager {
         return new ArrayList<>(schedules.values());
     }
 
+    // ID로 일정 찾기 (권한 확인 없음, 없으면 null, 동기화처럼 이미 확인된 변경을 반영할 때 사용)
+    public Schedule findScheduleById(String scheduleId) {
+        return schedules.get(scheduleId);
+    }
+
+    // 권한 확인 없이 일정 삭제 (다른 기기에서 이미 삭제된 일정을 반영할 때 사용)
+    public void removeSchedule(String scheduleId) {
+        checkWritable();
+        Schedule schedule = schedules.remove(scheduleId);
+        if (schedule == null) {
+            return;
+        }
+        schedule.cancelReminder();
+        saveSchedules();
+        notifyScheduleUpdated(schedule, null);
+        notifyScheduleChanged();
+    }
+
+    // 리더에서 받은 일정 상태를 그대로 반영 (읽기 전용이어도 허용, 저장은 호출하는 쪽에서 모아서 한다)
+    public void applyReplicatedPut(Schedule schedule) {
+        Schedule previous = schedules.put(schedule.getScheduleId(), schedule);
+        if (previous != null && previous != schedule) {
+            previous.cancelReminder();
+        }
+        notifyScheduleUpdated(previous, schedule);
+        notifyScheduleChanged();
+    }
+
+    public void applyReplicatedDelete(String scheduleId) {
+        Schedule previous = schedules.remove(scheduleId);
+        if (previous != null) {
+            previous.cancelReminder();
+            notifyScheduleUpdated(previous, null);
+            notifyScheduleChanged();
+        }
+    }
+
+    // 리더의 스냅샷으로 전체 교체 (스냅샷에 없는 일정은 삭제)
+    public void applyReplicatedSnapshot(Collection<Schedule> snapshot) {
+        Set<String> snapshotIds = new HashSet<>();
+        for (Schedule schedule : snapshot) {
+            snapshotIds.add(schedule.getScheduleId());
+            Schedule previous = schedules.put(schedule.getScheduleId(), schedule);
+            if (previous != null) {
+                previous.cancelReminder();
+            }
+            notifyScheduleUpdated(previous, schedule);
+        }
+        for (Schedule schedule : new ArrayList<>(schedules.values())) {
+            if (!snapshotIds.contains(schedule.getScheduleId())) {
+                schedules.remove(schedule.getScheduleId());
+                schedule.cancelReminder();
+                notifyScheduleUpdated(schedule, null);
+            }
+        }
+        saveSchedules();
+        notifyScheduleChanged();
+    }
+
+    // 시각이 된 상태 전환을 한 번에 반영 (ScheduleLifecycle의 writer에서 호출)
+    // 시작 시각이 지난 예정 일정은 진행 중으로, 종료 시각이 지난 일정은 기한 지남으로 보이게 한다.
+    // 사용자가 고친 것이 아니므로 수정 시각을 바꾸거나 저장하지 않고, 동기화/복제로 보내지도 않는다 (노드마다 스스로 정함).
+    void applyLifecycleTransitions(Collection<String> scheduleIds, long nowMillis) {
+        boolean changed = false;
+        for (String scheduleId : scheduleIds) {
+            Schedule schedule = schedules.get(scheduleId);
+            if (schedule != null && schedule.updateTimeState(nowMillis)) {
+                changed = true;
+            }
+        }
+        if (changed) {
+            notifyScheduleChanged();
+        }
+    }
+
     public Schedule getScheduleByTitle(String title) {
         return schedules.values().stream()
             .filter(schedule -> schedule.getTitle().equals(title))
@@ -272,8 +475,10 @@ public class ScheduleManager {
     }
 
     public void updateSchedule(Schedule schedule) {
-        schedules.put(schedule.getScheduleId(), schedule);
+        checkWritable();
+        Schedule previous = schedules.put(schedule.getScheduleId(), schedule);
         saveSchedules();
+        notifyScheduleUpdated(previous, schedule);
         notifyScheduleChanged();
     }
 
@@ -340,12 +545,10 @@ public class ScheduleManager {
     }
 
     public List<Schedule> getOverdueSchedules(String userId) {
-        LocalDateTime now = LocalDateTime.now();
         return schedules.values().stream()
             .filter(schedule -> 
-                schedule.getUserId().equals(userId) &&
-                schedule.getEndTime().isBefore(now) &&
-                !schedule.isCompleted()
+                schedule.isOverdue() &&
+                schedule.getUserId().equals(userId)
             )
             .sorted(Comparator.comparing(Schedule::getEndTime))
             .collect(Collectors.toList());
@@ -389,19 +592,23 @@ public class ScheduleManager {
     }
 
     public void shareSchedule(String scheduleId, String targetUserId) {
+        checkWritable();
         Schedule schedule = schedules.get(scheduleId);
         if (schedule != null) {
             schedule.addSharedUser(targetUserId);
             DataStorage.saveSchedules(schedules);
+            notifyScheduleUpdated(schedule, schedule);
             notifyScheduleChanged();
         }
     }
 
     public void unshareSchedule(String scheduleId, String targetUserId) {
+        checkWritable();
         Schedule schedule = schedules.get(scheduleId);
         if (schedule != null) {
             schedule.removeSharedUser(targetUserId);
             DataStorage.saveSchedules(schedules);
+            notifyScheduleUpdated(schedule, schedule);
             notifyScheduleChanged();
         }
     }
@@ -413,21 +620,27 @@ public class ScheduleManager {
     }
 
     public void completeSchedule(String scheduleId) {
+        checkWritable();
         Schedule schedule = schedules.get(scheduleId);
         if (schedule != null) {
             schedule.setStatus("COMPLETED");
             schedule.setCompleted(true);
             saveSchedules();
+            notifyScheduleUpdated(schedule, schedule);
             notifyScheduleChanged();
         }
     }
 
     public List<Schedule> getSchedulesForToday() {
-        if (currentUserId == null) {
+        return getSchedulesForToday(currentSession);
+    }
+
+    public List<Schedule> getSchedulesForToday(UserSession session) {
+        if (session == null) {
             return Collections.emptyList();
         }
         LocalDate today = LocalDate.now();
-        return getUserSchedules().stream()
+        return getUserSchedules(session).stream()
                 .filter(schedule -> schedule.getStartTime().toLocalDate().equals(today))
             .collect(Collectors.toList());
     }
@@ -436,7 +649,8 @@ public class ScheduleManager {
         void onScheduleChanged();
     }
 
-    private final List<ScheduleChangeListener> listeners = new ArrayList<>();
+    // 다른 스레드에서 알림을 보내는 중에도 등록/해제할 수 있도록 복사본을 돌며 알린다
+    private final List<ScheduleChangeListener> listeners = new CopyOnWriteArrayList<>();
 
     public void addScheduleChangeListener(ScheduleChangeListener listener) {
         listeners.add(listener);
@@ -451,4 +665,72 @@ public class ScheduleManager {
             listener.onScheduleChanged();
         }
     }
+
+    // 어떤 일정이 바뀌었는지 알아야 하는 캐시/인덱스용 리스너
+    // before: 변경 전 일정 (추가 시 null), after: 변경 후 일정 (삭제 시 null)
+    // 일정 객체를 직접 수정한 뒤 갱신하는 경우 before와 after가 같은 객체일 수 있다
+    public interface ScheduleUpdateListener {
+        void onScheduleUpdated(Schedule before, Schedule after);
+    }
+
+    private final List<ScheduleUpdateListener> updateListeners = new CopyOnWriteArrayList<>();
+
+    public void addScheduleUpdateListener(ScheduleUpdateListener listener) {
+        updateListeners.add(listener);
+    }
+
+    public void removeScheduleUpdateListener(ScheduleUpdateListener listener) {
+        updateListeners.remove(listener);
+    }
+
+    private void notifyScheduleUpdated(Schedule before, Schedule after) {
+        version.incrementAndGet();
+        for (ScheduleUpdateListener listener : updateListeners) {
+            listener.onScheduleUpdated(before, after);
+        }
+    }
+
+    // 사용자별 생산성 프로필 (추천에서 사용, 처음 요청될 때 생성)
+    private ProductivityProfileStore productivityProfiles;
+
+    public synchronized ProductivityProfileStore getProductivityProfiles() {
+        if (productivityProfiles == null) {
+            productivityProfiles = new ProductivityProfileStore(this);
+            addScheduleUpdateListener(productivityProfiles);
+        }
+        return productivityProfiles;
+    }
+
+    // 사용자별 바쁜 시간 인덱스 (빈 시간 검색에서 사용, 처음 요청될 때 생성)
+    private AvailabilityIndex availabilityIndex;
+
+    public synchronized AvailabilityIndex getAvailabilityIndex() {
+        if (availabilityIndex == null) {
+            availabilityIndex = new AvailabilityIndex(this);
+            addScheduleUpdateListener(availabilityIndex);
+        }
+        return availabilityIndex;
+    }
+
+    // 사용자별 진행률 색인 (진행률 순 목록, 거의 끝난 일정 조회에서 사용, 처음 요청될 때 생성)
+    private ProgressIndex progressIndex;
+
+    public synchronized ProgressIndex getProgressIndex() {
+        if (progressIndex == null) {
+            progressIndex = new ProgressIndex(this);
+            addScheduleUpdateListener(progressIndex);
+        }
+        return progressIndex;
+    }
+
+    // 일정 완료로 진행되는 챌린지와 보상 포인트 순위표 (처음 요청될 때 생성)
+    private ChallengeEngine challengeEngine;
+
+    public synchronized ChallengeEngine getChallengeEngine() {
+        if (challengeEngine == null) {
+            challengeEngine = new ChallengeEngine(this);
+            addScheduleUpdateListener(challengeEngine);
+        }
+        return challengeEngine;
+    }
 } 
\ No newline at end of file
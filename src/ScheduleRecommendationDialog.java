@@ -4,13 +4,16 @@ import java.awt.*;
 import java.util.List;
 
 public class ScheduleRecommendationDialog extends JDialog {
+    private static final int PAGE_SIZE = 5;
+
     private final ScheduleRecommender recommender;
     private final String userId;
     private JTable recommendationTable;
     private DefaultTableModel tableModel;
     private JButton applyButton;
     private JButton closeButton;
-    private List<ScheduleRecommender.ScheduleRecommendation> recommendations;
+    private JButton moreButton;
+    private ScheduleRecommender.RecommendationStream recommendations;
     private ScheduleRecommender.ScheduleRecommendation selectedRecommendation;
     private boolean confirmed;
 
@@ -42,13 +45,14 @@ public class ScheduleRecommendationDialog extends JDialog {
 
         // 버튼 패널
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        moreButton = new JButton("더 보기");
         JButton selectButton = new JButton("선택");
         JButton cancelButton = new JButton("취소");
 
         selectButton.addActionListener(_ -> {
             int selectedRow = recommendationTable.getSelectedRow();
             if (selectedRow != -1) {
-                selectedRecommendation = (ScheduleRecommender.ScheduleRecommendation) tableModel.getValueAt(selectedRow, 0);
+                selectedRecommendation = recommendations.getLoaded().get(selectedRow);
                 confirmed = true;
                 dispose();
             } else {
@@ -59,11 +63,14 @@ public class ScheduleRecommendationDialog extends JDialog {
             }
         });
 
+        moreButton.addActionListener(_ -> loadNextPage());
+
         cancelButton.addActionListener(_ -> {
             confirmed = false;
             dispose();
         });
 
+        buttonPanel.add(moreButton);
         buttonPanel.add(selectButton);
         buttonPanel.add(cancelButton);
 
@@ -73,9 +80,15 @@ public class ScheduleRecommendationDialog extends JDialog {
 
     private void loadRecommendations() {
         tableModel.setRowCount(0);
-        List<ScheduleRecommender.ScheduleRecommendation> recommendations = recommender.getRecommendations(userId);
+        recommendations = recommender.openRecommendations(userId);
+        loadNextPage();
+    }
+
+    // 이미 표시한 행은 그대로 두고 다음 페이지만 추가
+    private void loadNextPage() {
+        List<ScheduleRecommender.ScheduleRecommendation> page = recommendations.nextPage(PAGE_SIZE);
         
-        for (ScheduleRecommender.ScheduleRecommendation recommendation : recommendations) {
+        for (ScheduleRecommender.ScheduleRecommendation recommendation : page) {
             Object[] row = {
                 recommendation.getTimeSlot().start,
                 recommendation.getTimeSlot().end,
@@ -85,6 +98,7 @@ public class ScheduleRecommendationDialog extends JDialog {
             };
             tableModel.addRow(row);
         }
+        moreButton.setEnabled(recommendations.hasMore());
     }
 
     public boolean isConfirmed() {
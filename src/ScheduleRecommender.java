@@ -1,156 +1,281 @@
 import java.time.LocalDateTime;
 import java.time.Duration;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CancellationException;
 
 public class ScheduleRecommender {
+    private static final int DEFAULT_PAGE_SIZE = 5;
+    // 미리 계산한 추천을 믿고 쓰는 기간
+    private static final long PRECOMPUTED_MAX_AGE_MILLIS = 24 * 60 * 60 * 1000L;
+    // 후보 시작 시각 간격 (30분)
+    private static final long CANDIDATE_STEP_SECONDS = 30 * 60L;
+    
     private ScheduleManager scheduleManager;
     
     public ScheduleRecommender(ScheduleManager scheduleManager) {
         this.scheduleManager = scheduleManager;
     }
     
-    // 시간대별 생산성 분석
-    private Map<Integer, Double> analyzeProductivityByHour(String userId) {
-        Map<Integer, Double> productivityByHour = new HashMap<>();
-        List<Schedule> completedSchedules = scheduleManager.getAllSchedules().stream()
-            .filter(s -> s.getStatus().equals("완료"))
-            .collect(Collectors.toList());
-            
-        // 각 시간대별 완료된 일정 수 계산
-        for (Schedule schedule : completedSchedules) {
-            int hour = schedule.getStartTime().getHour();
-            productivityByHour.merge(hour, 1.0, Double::sum);
-        }
-        
-        // 정규화
-        double max = productivityByHour.values().stream().mapToDouble(Double::doubleValue).max().orElse(1.0);
-        productivityByHour.replaceAll((_, v) -> v / max);
-        
-        return productivityByHour;
+    // 사용자의 생산성 프로필 (요일 x 시간 행렬과 카테고리 가중치, 일정 변경 시 갱신됨)
+    private ProductivityProfile getProfile(String userId) {
+        return scheduleManager.getProductivityProfiles().getProfile(userId);
     }
     
-    // 요일별 생산성 분석
-    private Map<Integer, Double> analyzeProductivityByDay(String userId) {
-        Map<Integer, Double> productivityByDay = new HashMap<>();
-        List<Schedule> completedSchedules = scheduleManager.getAllSchedules().stream()
-            .filter(s -> s.getStatus().equals("완료"))
-            .collect(Collectors.toList());
-            
-        // 각 요일별 완료된 일정 수 계산
-        for (Schedule schedule : completedSchedules) {
-            int dayOfWeek = schedule.getStartTime().getDayOfWeek().getValue();
-            productivityByDay.merge(dayOfWeek, 1.0, Double::sum);
-        }
-        
-        // 정규화
-        double max = productivityByDay.values().stream().mapToDouble(Double::doubleValue).max().orElse(1.0);
-        productivityByDay.replaceAll((_, v) -> v / max);
-        
-        return productivityByDay;
+    // 사용 가능한 시간대 찾기 (여러 날에 걸친 구간, 반복 일정 포함, 활동 시간 기준)
+    private List<TimeSlot> findAvailableTimeSlots(String userId, LocalDateTime start, LocalDateTime end, Duration duration) {
+        return scheduleManager.getAvailabilityIndex().findFreeSlots(
+            userId, start, end, duration, AvailabilityIndex.WorkingHours.DEFAULT);
     }
     
-    // 카테고리별 선호도 분석
-    private Map<String, Double> analyzeCategoryPreference(String userId) {
-        Map<String, Double> categoryPreference = new HashMap<>();
-        List<Schedule> completedSchedules = scheduleManager.getAllSchedules().stream()
-            .filter(s -> s.getStatus().equals("완료"))
-            .collect(Collectors.toList());
-            
-        // 각 카테고리별 완료된 일정 수 계산
-        for (Schedule schedule : completedSchedules) {
-            String category = schedule.getCategory();
-            categoryPreference.merge(category, 1.0, Double::sum);
-        }
-        
-        // 정규화
-        double max = categoryPreference.values().stream().mapToDouble(Double::doubleValue).max().orElse(1.0);
-        categoryPreference.replaceAll((_, v) -> v / max);
-        
-        return categoryPreference;
+    // 일정 추천 (간단한 버전, 첫 페이지만)
+    public List<ScheduleRecommendation> getRecommendations(String userId) {
+        return streamRecommendations(userId).nextPage(DEFAULT_PAGE_SIZE);
     }
     
-    // 사용 가능한 시간대 찾기
-    private List<TimeSlot> findAvailableTimeSlots(LocalDateTime start, LocalDateTime end, Duration duration) {
-        List<TimeSlot> availableSlots = new ArrayList<>();
-        List<Schedule> existingSchedules = scheduleManager.getSchedulesByDate(start.toLocalDate());
-        
-        // 기존 일정을 시간순으로 정렬
-        existingSchedules.sort(Comparator.comparing(Schedule::getStartTime));
-        
-        LocalDateTime current = start;
-        for (Schedule schedule : existingSchedules) {
-            if (current.isBefore(schedule.getStartTime())) {
-                Duration gap = Duration.between(current, schedule.getStartTime());
-                if (gap.compareTo(duration) >= 0) {
-                    availableSlots.add(new TimeSlot(current, schedule.getStartTime()));
-                }
+    // 추천 창을 열 때 사용: 야간 배치로 미리 계산한 추천이 아직 유효하면 그것을 쓰고,
+    // 없거나 오래되었으면 바로 계산한다
+    public RecommendationStream openRecommendations(String userId) {
+        PrecomputedRecommendations precomputed = DataStorage.loadRecommendations(userId);
+        if (precomputed != null
+                && System.currentTimeMillis() - precomputed.getGeneratedAtMillis() <= PRECOMPUTED_MAX_AGE_MILLIS) {
+            List<ScheduleRecommendation> valid = stillAvailable(userId, precomputed.getRecommendations());
+            if (valid.size() >= DEFAULT_PAGE_SIZE) {
+                return new RecommendationStream(valid);
             }
-            current = schedule.getEndTime();
         }
-        
-        // 마지막 일정 이후의 시간도 확인
-        if (current.isBefore(end)) {
-            Duration gap = Duration.between(current, end);
-            if (gap.compareTo(duration) >= 0) {
-                availableSlots.add(new TimeSlot(current, end));
+        return streamRecommendations(userId);
+    }
+    
+    // 이미 지났거나 그 뒤에 생긴 일정과 겹치는 추천은 뺀다
+    private List<ScheduleRecommendation> stillAvailable(String userId, List<ScheduleRecommendation> recommendations) {
+        List<ScheduleRecommendation> valid = new ArrayList<>();
+        if (recommendations.isEmpty()) {
+            return valid;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now;
+        for (ScheduleRecommendation recommendation : recommendations) {
+            if (recommendation.getTimeSlot().end.isAfter(until)) {
+                until = recommendation.getTimeSlot().end;
             }
         }
-        
-        return availableSlots;
+        List<long[]> busy = scheduleManager.getAvailabilityIndex().getBusyIntervals(userId, now, until);
+        for (ScheduleRecommendation recommendation : recommendations) {
+            if (!recommendation.getTimeSlot().start.isAfter(now)) {
+                continue;
+            }
+            long start = AvailabilityIndex.toSeconds(recommendation.getTimeSlot().start);
+            long end = AvailabilityIndex.toSeconds(recommendation.getTimeSlot().end);
+            boolean overlaps = false;
+            for (long[] interval : busy) {
+                if (interval[0] < end && start < interval[1]) {
+                    overlaps = true;
+                    break;
+                }
+            }
+            if (!overlaps) {
+                valid.add(recommendation);
+            }
+        }
+        return valid;
     }
     
-    // 일정 추천 (간단한 버전)
-    public List<ScheduleRecommendation> getRecommendations(String userId) {
+    // 앞으로 1주일간의 추천을 페이지 단위로 꺼내는 스트림
+    public RecommendationStream streamRecommendations(String userId) {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime end = now.plusDays(7); // 1주일 이내 추천
         
-        return recommendSchedules(userId, now, end);
+        return streamRecommendations(userId, now, end, Duration.ofHours(1));
     }
     
-    // 일정 추천
-    public List<ScheduleRecommendation> recommendSchedules(String userId, LocalDateTime start, LocalDateTime end) {
-        Map<Integer, Double> productivityByHour = analyzeProductivityByHour(userId);
-        Map<Integer, Double> productivityByDay = analyzeProductivityByDay(userId);
-        Map<String, Double> categoryPreference = analyzeCategoryPreference(userId);
-        
-        List<ScheduleRecommendation> recommendations = new ArrayList<>();
-        List<TimeSlot> availableSlots = findAvailableTimeSlots(start, end, Duration.ofHours(1));
-        
-        for (TimeSlot slot : availableSlots) {
-            double score = calculateTimeSlotScore(slot, productivityByHour, productivityByDay);
-            String recommendedCategory = recommendCategory(categoryPreference);
-            
-            recommendations.add(new ScheduleRecommendation(
-                slot,
-                recommendedCategory,
-                score
-            ));
-        }
-        
-        // 점수 기준으로 정렬
-        recommendations.sort(Comparator.comparing(ScheduleRecommendation::getScore).reversed());
-        
-        return recommendations;
+    // 일정 추천 (점수 상위 limit개)
+    public List<ScheduleRecommendation> recommendSchedules(String userId, LocalDateTime start, LocalDateTime end, int limit) {
+        return streamRecommendations(userId, start, end, Duration.ofHours(1)).nextPage(limit);
     }
     
-    // 시간대 점수 계산
-    private double calculateTimeSlotScore(TimeSlot slot, 
-                                        Map<Integer, Double> productivityByHour,
-                                        Map<Integer, Double> productivityByDay) {
-        double hourScore = productivityByHour.getOrDefault(slot.start.getHour(), 0.5);
-        double dayScore = productivityByDay.getOrDefault(slot.start.getDayOfWeek().getValue(), 0.5);
-        
-        // 시간대와 요일 점수의 가중 평균
-        return (hourScore * 0.7 + dayScore * 0.3);
+    public RecommendationStream streamRecommendations(String userId, LocalDateTime start, LocalDateTime end, Duration duration) {
+        ProductivityProfile profile = getProfile(userId);
+        List<TimeSlot> freeSlots = findAvailableTimeSlots(userId, start, end, duration);
+        return new RecommendationStream(freeSlots, duration, profile);
     }
     
-    // 카테고리 추천
-    private String recommendCategory(Map<String, Double> categoryPreference) {
-        return categoryPreference.entrySet().stream()
-            .max(Map.Entry.comparingByValue())
-            .map(Map.Entry::getKey)
-            .orElse("기타");
+    // 추천 스트림
+    // 처음 페이지를 꺼낼 때 빈 시간대 안의 후보 시간(30분 간격)마다 점수를 한 번만 매겨
+    // 순위 순 이진 힙(기본형 배열)에 넣어 두고, 페이지마다 힙에서 size개만 꺼낸다.
+    // 다음 페이지는 남은 힙에서 이어서 꺼내므로 후보를 다시 만들거나 점수를 다시 매기지 않는다.
+    public static class RecommendationStream {
+        private final long[][] freeSlots; // [시작초, 종료초]
+        private final long durationSeconds;
+        private final double[] hourScores = new double[24];
+        private final double[] dayScores = new double[7]; // [요일-1]
+        private final String category;
+        private final List<ScheduleRecommendation> loaded = new ArrayList<>();
+        private final List<ScheduleRecommendation> precomputed; // 미리 계산한 추천 (순위 순, 없으면 null)
+        // 아직 보여주지 않은 후보 (힙 순서, 맨 앞이 순위가 가장 높은 후보), 처음 꺼낼 때 만든다
+        private long[] heapStarts;
+        private double[] heapScores;
+        private int heapSize;
+        private boolean exhausted;
+        
+        private RecommendationStream(List<TimeSlot> slots, Duration duration, ProductivityProfile profile) {
+            this.freeSlots = new long[slots.size()][];
+            for (int i = 0; i < slots.size(); i++) {
+                TimeSlot slot = slots.get(i);
+                freeSlots[i] = new long[]{AvailabilityIndex.toSeconds(slot.start), AvailabilityIndex.toSeconds(slot.end)};
+            }
+            this.durationSeconds = duration.getSeconds();
+            // 후보마다 프로필을 조회하지 않도록 점수표를 한 번만 만든다
+            for (int hour = 0; hour < 24; hour++) {
+                hourScores[hour] = profile.getHourScore(hour);
+            }
+            for (int day = 1; day <= 7; day++) {
+                dayScores[day - 1] = profile.getDayScore(day);
+            }
+            this.category = profile.getPreferredCategory();
+            this.precomputed = null;
+        }
+        
+        // 미리 계산한 추천을 순서대로 나눠 보여주는 스트림
+        private RecommendationStream(List<ScheduleRecommendation> precomputed) {
+            this.freeSlots = new long[0][];
+            this.durationSeconds = 0;
+            this.category = null;
+            this.precomputed = precomputed;
+        }
+        
+        // 다음 size개 (점수 내림차순, 같은 점수는 이른 시간 먼저)
+        public List<ScheduleRecommendation> nextPage(int size) {
+            List<ScheduleRecommendation> page = new ArrayList<>();
+            if (exhausted || size <= 0) {
+                return page;
+            }
+            if (precomputed != null) {
+                int from = loaded.size();
+                int to = Math.min(precomputed.size(), from + size);
+                page.addAll(precomputed.subList(from, to));
+                exhausted = to == precomputed.size();
+                loaded.addAll(page);
+                return page;
+            }
+            if (heapStarts == null) {
+                buildHeap();
+            }
+            while (page.size() < size && heapSize > 0) {
+                page.add(toRecommendation(heapStarts[0], heapScores[0]));
+                heapSize--;
+                if (heapSize > 0) {
+                    heapStarts[0] = heapStarts[heapSize];
+                    heapScores[0] = heapScores[heapSize];
+                    siftDown(0);
+                }
+            }
+            exhausted = heapSize == 0;
+            loaded.addAll(page);
+            return page;
+        }
+        
+        // 후보를 모두 한 번씩 점수 매겨 배열에 넣고 아래에서부터 힙으로 만든다 (O(n))
+        // 계산 중인 스레드가 인터럽트되면(추천 배치의 사용자별 제한 시간) CancellationException으로 멈춘다
+        private void buildHeap() {
+            int count = 0;
+            for (long[] slot : freeSlots) {
+                for (long candidate = slot[0]; candidate + durationSeconds <= slot[1]; candidate = nextCandidate(candidate)) {
+                    count++;
+                }
+            }
+            heapStarts = new long[count];
+            heapScores = new double[count];
+            for (long[] slot : freeSlots) {
+                for (long candidate = slot[0]; candidate + durationSeconds <= slot[1]; candidate = nextCandidate(candidate)) {
+                    if ((heapSize & 1023) == 0 && Thread.currentThread().isInterrupted()) {
+                        heapStarts = null;
+                        heapSize = 0;
+                        throw new CancellationException("추천 계산이 취소되었습니다.");
+                    }
+                    heapStarts[heapSize] = candidate;
+                    heapScores[heapSize] = score(candidate);
+                    heapSize++;
+                }
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+        
+        private void siftDown(int index) {
+            long start = heapStarts[index];
+            double score = heapScores[index];
+            while (true) {
+                int child = index * 2 + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                if (child + 1 < heapSize && ranksBefore(heapScores[child + 1], heapStarts[child + 1],
+                        heapScores[child], heapStarts[child])) {
+                    child++;
+                }
+                if (!ranksBefore(heapScores[child], heapStarts[child], score, start)) {
+                    break;
+                }
+                heapStarts[index] = heapStarts[child];
+                heapScores[index] = heapScores[child];
+                index = child;
+            }
+            heapStarts[index] = start;
+            heapScores[index] = score;
+        }
+        
+        // 다음 30분 경계
+        private static long nextCandidate(long candidate) {
+            return (Math.floorDiv(candidate, CANDIDATE_STEP_SECONDS) + 1) * CANDIDATE_STEP_SECONDS;
+        }
+        
+        public boolean hasMore() {
+            return !exhausted;
+        }
+        
+        public boolean isPrecomputed() {
+            return precomputed != null;
+        }
+        
+        // 지금까지 꺼낸 추천 전체
+        public List<ScheduleRecommendation> getLoaded() {
+            return Collections.unmodifiableList(loaded);
+        }
+        
+        // 시간대와 요일 점수의 가중 평균 (LocalDateTime을 만들지 않고 초 단위 값에서 바로 계산)
+        private double score(long startSeconds) {
+            int hour = (int) (Math.floorMod(startSeconds, 86400L) / 3600);
+            int day = (int) Math.floorMod(Math.floorDiv(startSeconds, 86400L) + 3, 7L); // 1970-01-01은 목요일
+            return hourScores[hour] * 0.7 + dayScores[day] * 0.3;
+        }
+        
+        private ScheduleRecommendation toRecommendation(long startSeconds, double score) {
+            TimeSlot slot = new TimeSlot(AvailabilityIndex.fromSeconds(startSeconds),
+                AvailabilityIndex.fromSeconds(startSeconds + durationSeconds));
+            return new ScheduleRecommendation(slot, category, score);
+        }
+        
+        private static boolean ranksBefore(double score, long startSeconds, double otherScore, long otherStartSeconds) {
+            if (score != otherScore) {
+                return score > otherScore;
+            }
+            return startSeconds < otherStartSeconds;
+        }
+    }
+    
+    // 야간 배치가 저장한 사용자별 추천
+    public static class PrecomputedRecommendations {
+        private final long generatedAtMillis;
+        private final List<ScheduleRecommendation> recommendations;
+        
+        public PrecomputedRecommendations(long generatedAtMillis, List<ScheduleRecommendation> recommendations) {
+            this.generatedAtMillis = generatedAtMillis;
+            this.recommendations = recommendations;
+        }
+        
+        public long getGeneratedAtMillis() { return generatedAtMillis; }
+        public List<ScheduleRecommendation> getRecommendations() { return recommendations; }
     }
     
     // 시간대 클래스
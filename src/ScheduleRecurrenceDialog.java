@@ -6,6 +6,8 @@ import java.time.DayOfWeek;
 import java.util.List;
 
 public class ScheduleRecurrenceDialog extends JDialog {
+    private static final Log LOG = Log.get(ScheduleRecurrenceDialog.class);
+
     private Schedule schedule;
     private boolean confirmed = false;
     
@@ -109,7 +111,7 @@ public class ScheduleRecurrenceDialog extends JDialog {
     
     private void loadScheduleData() {
         if (schedule == null) {
-            System.err.println("일정이 null입니다.");
+            LOG.error("일정이 null입니다.");
             return;
         }
         
@@ -131,7 +133,7 @@ public class ScheduleRecurrenceDialog extends JDialog {
                 try {
                     endDateSpinner.setValue(java.sql.Timestamp.valueOf(schedule.getRecurrenceEndDate()));
                 } catch (Exception e) {
-                    System.err.println("반복 종료일 설정 중 오류: " + e.getMessage());
+                    LOG.error("반복 종료일 설정 중 오류: " + e.getMessage());
                 }
             }
             
@@ -147,7 +149,7 @@ public class ScheduleRecurrenceDialog extends JDialog {
     
     private void saveScheduleData() {
         if (schedule == null) {
-            System.err.println("일정이 null입니다.");
+            LOG.error("일정이 null입니다.");
             return;
         }
         
@@ -170,7 +172,7 @@ public class ScheduleRecurrenceDialog extends JDialog {
         }
         
         if (schedule.getExceptionDates() != null) {
-            schedule.getExceptionDates().clear();
+            schedule.clearExceptionDates();
             for (int i = 0; i < exceptionDatesModel.getSize(); i++) {
                 LocalDateTime date = exceptionDatesModel.getElementAt(i);
                 if (date != null) {
@@ -195,7 +197,7 @@ public class ScheduleRecurrenceDialog extends JDialog {
                     LocalDateTime dateTime = date.toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime();
                     exceptionDatesModel.addElement(dateTime);
                 } catch (Exception e) {
-                    System.err.println("예외 날짜 추가 중 오류: " + e.getMessage());
+                    LOG.error("예외 날짜 추가 중 오류: " + e.getMessage());
                     JOptionPane.showMessageDialog(this, "예외 날짜 추가 중 오류가 발생했습니다.", "오류", JOptionPane.ERROR_MESSAGE);
                 }
             }
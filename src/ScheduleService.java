@@ -0,0 +1,264 @@
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+// 화면 없이 쓰는 일정/할 일 서비스 계층
+// 모든 호출에 세션을 직접 넘기므로 데스크톱 화면의 로그인 사용자와 무관하게 동작한다.
+// 할 일은 이 서비스가 가진 TaskManager(data/tasks.dat)에 저장한다.
+// 챌린지는 ScheduleManager의 ChallengeEngine에 등록하며 저장하지 않는다 (프로세스가 떠 있는 동안만 유지).
+// 조회는 잠금 없이 동시에 실행하고, 변경(중복 확인 후 저장)만 한 번에 하나씩 실행한다.
+public class ScheduleService {
+    private final ScheduleManager scheduleManager;
+    private final UserManager userManager;
+    private final ScheduleRecommender recommender;
+    private final ScheduleStatistics statistics;
+    private final TaskManager taskManager;
+    private final ChallengeEngine challengeEngine;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public ScheduleService(ScheduleManager scheduleManager, UserManager userManager) {
+        this.scheduleManager = scheduleManager;
+        this.userManager = userManager;
+        this.recommender = new ScheduleRecommender(scheduleManager);
+        this.statistics = new ScheduleStatistics(scheduleManager, userManager);
+        this.taskManager = new TaskManager();
+        // 색인은 미리 만들어 두고 이후 변경은 리스너로 반영된다
+        scheduleManager.getAvailabilityIndex();
+        scheduleManager.getProductivityProfiles();
+        this.challengeEngine = scheduleManager.getChallengeEngine();
+    }
+
+    // 일정 변경과 겹치지 않게 task를 실행한다 (ScheduleManager.startLifecycle의 writer로 쓴다)
+    public void runExclusive(Runnable task) {
+        writeLock.lock();
+        try {
+            task.run();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 아이디/비밀번호를 확인하고 새 세션을 연다 (UserManager의 로그인 상태는 바꾸지 않음, 실패 시 null)
+    public UserSession openSession(String userId, String password) {
+        return userManager.openSession(userId, password);
+    }
+
+    public List<Schedule> getSchedules(UserSession session) {
+        return sortByStart(scheduleManager.getUserSchedules(session));
+    }
+
+    // 본인 일정 또는 볼 권한이 있는 공유 일정
+    public Schedule getSchedule(UserSession session, String scheduleId) {
+        return findViewable(session, scheduleId);
+    }
+
+    // start~end와 겹치는 일정 (반복 일정은 구간 안의 회차로 펼침)
+    public List<Schedule> getSchedulesInRange(UserSession session, LocalDateTime start, LocalDateTime end) {
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("종료 시간은 시작 시간보다 늦어야 합니다.");
+        }
+        List<Schedule> result = new ArrayList<>();
+        for (Schedule schedule : scheduleManager.getUserSchedules(session)) {
+            if (schedule.isRecurring()) {
+                result.addAll(schedule.getRecurringInstances(start, end));
+            } else if (schedule.getStartTime().isBefore(end) && schedule.getEndTime().isAfter(start)) {
+                result.add(schedule);
+            }
+        }
+        return sortByStart(result);
+    }
+
+    public List<Schedule> searchSchedules(UserSession session, String keyword) {
+        String lowerKeyword = keyword.toLowerCase();
+        return sortByStart(scheduleManager.getUserSchedules(session).stream()
+            .filter(schedule -> contains(schedule.getTitle(), lowerKeyword)
+                || contains(schedule.getDescription(), lowerKeyword)
+                || contains(schedule.getLocation(), lowerKeyword)
+                || schedule.getTags().stream().anyMatch(tag -> contains(tag, lowerKeyword)))
+            .collect(Collectors.toList()));
+    }
+
+    public Map<String, Object> getStatistics(UserSession session) {
+        return statistics.getStatistics(session.getUserId());
+    }
+
+    public List<ScheduleRecommender.ScheduleRecommendation> getRecommendations(UserSession session, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("추천 개수는 1 이상이어야 합니다.");
+        }
+        return recommender.openRecommendations(session.getUserId()).nextPage(limit);
+    }
+
+    public Schedule createSchedule(UserSession session, Schedule schedule) {
+        writeLock.lock();
+        try {
+            scheduleManager.addSchedule(session, schedule);
+            return schedule;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 기존 일정의 복사본을 고치고, 겹침 확인까지 통과한 경우에만 복사본으로 바꿔 끼운다 (본인 일정만)
+    // 도중에 실패해도 공유 중인 일정 객체와 색인은 그대로이고, 잠금 없이 읽는 쪽은 고치다 만 일정을 보지 않는다
+    public Schedule updateSchedule(UserSession session, String scheduleId, Consumer<Schedule> changes) {
+        writeLock.lock();
+        try {
+            Schedule updated = findOwned(session, scheduleId).copy();
+            changes.accept(updated);
+            scheduleManager.updateSchedule(session, scheduleId, updated);
+            return updated;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void deleteSchedule(UserSession session, String scheduleId) {
+        writeLock.lock();
+        try {
+            findOwned(session, scheduleId);
+            scheduleManager.deleteSchedule(session, scheduleId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public List<Challenge> getChallenges(UserSession session) {
+        return challengeEngine.getChallenges(session.getUserId());
+    }
+
+    // 등록하면서 이미 완료된 일정으로 진행도를 맞춘다 (본인 챌린지만)
+    public Challenge createChallenge(UserSession session, Challenge challenge) {
+        if (!session.getUserId().equals(challenge.getUserId())) {
+            throw new SecurityException("다른 사용자의 챌린지를 등록할 수 없습니다.");
+        }
+        challengeEngine.register(challenge);
+        return challenge;
+    }
+
+    public List<ChallengeEngine.Standing> getLeaderboard(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("순위 개수는 1 이상이어야 합니다.");
+        }
+        return challengeEngine.getTopUsers(limit);
+    }
+
+    // 1등부터 센 순위 (포인트를 받은 적이 없으면 -1)
+    public int getRank(UserSession session) {
+        return challengeEngine.getRank(session.getUserId());
+    }
+
+    public int getPoints(UserSession session) {
+        return challengeEngine.getPoints(session.getUserId());
+    }
+
+    // 마감일 순 (마감 없는 할 일은 맨 뒤)
+    public List<Task> getTasks(UserSession session) {
+        List<Task> tasks = taskManager.getUserTasks(session);
+        tasks.sort(Comparator.comparing(Task::getDueDate, Comparator.nullsLast(Comparator.naturalOrder())));
+        return tasks;
+    }
+
+    // 진행률 순 (descending이면 높은 것부터)
+    public List<Task> getTasksByProgress(UserSession session, boolean descending) {
+        return taskManager.getTasksByProgress(session, descending);
+    }
+
+    // 진행률이 minProgress 이상이지만 아직 끝나지 않은 할 일 (진행률 높은 것부터)
+    public List<Task> getNearlyDoneTasks(UserSession session, double minProgress) {
+        if (!(minProgress >= 0 && minProgress <= 100)) {
+            throw new IllegalArgumentException("진행률은 0에서 100 사이여야 합니다.");
+        }
+        return taskManager.getNearlyDoneTasks(session, minProgress);
+    }
+
+    public Task getTask(UserSession session, String taskId) {
+        return findTask(session, taskId);
+    }
+
+    public Task createTask(UserSession session, Task task) {
+        writeLock.lock();
+        try {
+            checkTasksWritable();
+            taskManager.addTask(session, task);
+            return task;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 할 일은 복사본이 없으므로 changes는 값을 모두 확인한 뒤에 고쳐야 한다 (도중에 실패하면 고친 만큼 남는다)
+    public Task updateTask(UserSession session, String taskId, Consumer<Task> changes) {
+        writeLock.lock();
+        try {
+            checkTasksWritable();
+            Task task = findTask(session, taskId);
+            changes.accept(task);
+            taskManager.updateTask(session, taskId, task);
+            return task;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void deleteTask(UserSession session, String taskId) {
+        writeLock.lock();
+        try {
+            checkTasksWritable();
+            findTask(session, taskId);
+            taskManager.deleteTask(session, taskId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 할 일은 복제하지 않으므로 읽기 전용 복제본에서 바꾸면 리더와 달라진다
+    private void checkTasksWritable() {
+        if (scheduleManager.isReadOnly()) {
+            throw new UnsupportedOperationException("읽기 전용 복제본에서는 할 일을 변경할 수 없습니다.");
+        }
+    }
+
+    // 다른 사용자의 할 일은 없는 것과 같이 다룬다
+    private Task findTask(UserSession session, String taskId) {
+        for (Task task : taskManager.getUserTasks(session)) {
+            if (task.getTaskId().equals(taskId)) {
+                return task;
+            }
+        }
+        throw new NoSuchElementException("존재하지 않는 할 일입니다.");
+    }
+
+    // 없거나 볼 수 없는 일정은 NoSuchElementException, 볼 수는 있지만 본인 일정이 아니면 SecurityException
+    private Schedule findOwned(UserSession session, String scheduleId) {
+        Schedule schedule = scheduleManager.findScheduleById(scheduleId);
+        String userId = session.getUserId();
+        if (schedule == null || !(schedule.getUserId().equals(userId) || schedule.canUserView(userId))) {
+            throw new NoSuchElementException("존재하지 않는 일정입니다.");
+        }
+        if (!schedule.getUserId().equals(userId)) {
+            throw new SecurityException("다른 사용자의 일정은 변경할 수 없습니다.");
+        }
+        return schedule;
+    }
+
+    private Schedule findViewable(UserSession session, String scheduleId) {
+        for (Schedule schedule : scheduleManager.getUserSchedules(session)) {
+            if (schedule.getScheduleId().equals(scheduleId)) {
+                return schedule;
+            }
+        }
+        throw new NoSuchElementException("존재하지 않는 일정입니다.");
+    }
+
+    private static boolean contains(String text, String lowerKeyword) {
+        return text != null && text.toLowerCase().contains(lowerKeyword);
+    }
+
+    private static List<Schedule> sortByStart(List<Schedule> schedules) {
+        schedules.sort(Comparator.comparing(Schedule::getStartTime));
+        return schedules;
+    }
+}
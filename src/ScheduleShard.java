@@ -0,0 +1,156 @@
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 샤드 노드 하나가 맡은 일정 저장소
+// 사용자 단위 파티션(그 사용자의 일정 + 다른 샤드에 있는 공유받은 일정의 참조)으로 나눠 두고,
+// 노드가 추가/제거될 때는 파티션을 통째로 다른 노드로 옮긴다.
+// 규칙 검사(소유자, 시간 겹침)는 ShardedScheduleManager가 하고, 여기서는 저장만 한다.
+public class ScheduleShard {
+    private final String nodeId;
+    // 사용자 ID -> 파티션
+    private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+
+    // 다른 샤드에 있을 수 있는 공유 일정 참조 (일정 본문은 소유자 샤드에만 있다)
+    public static final class SharedRef implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String ownerUserId;
+        private final String scheduleId;
+
+        public SharedRef(String ownerUserId, String scheduleId) {
+            this.ownerUserId = ownerUserId;
+            this.scheduleId = scheduleId;
+        }
+
+        public String getOwnerUserId() {
+            return ownerUserId;
+        }
+
+        public String getScheduleId() {
+            return scheduleId;
+        }
+    }
+
+    // 사용자 한 명의 데이터 (노드 사이에서 옮기는 단위)
+    static final class Partition implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final Map<String, Schedule> schedules = new LinkedHashMap<>();
+        // 일정 ID -> 공유받은 일정 참조
+        final Map<String, SharedRef> sharedRefs = new LinkedHashMap<>();
+
+        boolean isEmpty() {
+            return schedules.isEmpty() && sharedRefs.isEmpty();
+        }
+    }
+
+    public ScheduleShard(String nodeId) {
+        if (nodeId == null || nodeId.trim().isEmpty()) {
+            throw new IllegalArgumentException("노드 ID가 올바르지 않습니다.");
+        }
+        this.nodeId = nodeId;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void putSchedule(Schedule schedule) {
+        Partition partition = partitions.computeIfAbsent(schedule.getUserId(), _ -> new Partition());
+        synchronized (partition) {
+            partition.schedules.put(schedule.getScheduleId(), schedule);
+        }
+    }
+
+    public Schedule getSchedule(String userId, String scheduleId) {
+        Partition partition = partitions.get(userId);
+        if (partition == null) {
+            return null;
+        }
+        synchronized (partition) {
+            return partition.schedules.get(scheduleId);
+        }
+    }
+
+    public Schedule removeSchedule(String userId, String scheduleId) {
+        Partition partition = partitions.get(userId);
+        if (partition == null) {
+            return null;
+        }
+        synchronized (partition) {
+            return partition.schedules.remove(scheduleId);
+        }
+    }
+
+    // userId가 소유한 일정
+    public List<Schedule> getSchedules(String userId) {
+        Partition partition = partitions.get(userId);
+        if (partition == null) {
+            return new ArrayList<>();
+        }
+        synchronized (partition) {
+            return new ArrayList<>(partition.schedules.values());
+        }
+    }
+
+    public void addSharedRef(String userId, SharedRef ref) {
+        Partition partition = partitions.computeIfAbsent(userId, _ -> new Partition());
+        synchronized (partition) {
+            partition.sharedRefs.put(ref.getScheduleId(), ref);
+        }
+    }
+
+    public void removeSharedRef(String userId, String scheduleId) {
+        Partition partition = partitions.get(userId);
+        if (partition == null) {
+            return;
+        }
+        synchronized (partition) {
+            partition.sharedRefs.remove(scheduleId);
+        }
+    }
+
+    // userId가 공유받은 일정 참조
+    public List<SharedRef> getSharedRefs(String userId) {
+        Partition partition = partitions.get(userId);
+        if (partition == null) {
+            return new ArrayList<>();
+        }
+        synchronized (partition) {
+            return new ArrayList<>(partition.sharedRefs.values());
+        }
+    }
+
+    public Set<String> getUserIds() {
+        return new HashSet<>(partitions.keySet());
+    }
+
+    public int getScheduleCount() {
+        int count = 0;
+        for (Partition partition : partitions.values()) {
+            synchronized (partition) {
+                count += partition.schedules.size();
+            }
+        }
+        return count;
+    }
+
+    // 재배치용: 파티션을 떼어 내 다른 노드로 넘긴다
+    Partition removePartition(String userId) {
+        return partitions.remove(userId);
+    }
+
+    void putPartition(String userId, Partition partition) {
+        if (partition.isEmpty()) {
+            return;
+        }
+        Partition existing = partitions.putIfAbsent(userId, partition);
+        if (existing != null && existing != partition) {
+            synchronized (existing) {
+                existing.schedules.putAll(partition.schedules);
+                existing.sharedRefs.putAll(partition.sharedRefs);
+            }
+        }
+    }
+}
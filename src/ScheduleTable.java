@@ -9,6 +9,8 @@ import java.time.Duration;
 import java.time.format.DateTimeFormatter;
 
 public class ScheduleTable extends JTable {
+    private static final Log LOG = Log.get(ScheduleTable.class);
+
     private ScheduleManager scheduleManager;
     private Font koreanFont;
     private DateTimeFormatter formatter;
@@ -100,7 +102,7 @@ public class ScheduleTable extends JTable {
                         }
                     }
                 } catch (Exception e) {
-                    e.printStackTrace();
+                    LOG.error("일정 끌어서 옮기기 중 오류 발생: " + e.getMessage(), e);
                 }
                 return false;
             }
@@ -0,0 +1,104 @@
+import javax.swing.table.AbstractTableModel;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// 일정 목록 테이블 모델
+// 행마다 Object[]를 미리 만들지 않고 일정 목록을 그대로 들고 있다가, JTable이 그리는 (화면에 보이는) 행의
+// 값만 그때 계산한다. 계산한 행은 최근 것만 캐시하고, 목록 교체 시 테이블 이벤트는 한 번만 보낸다.
+public class ScheduleTableModel extends AbstractTableModel {
+    public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    // 캐시할 행 수 (화면 몇 개 분량)
+    private static final int ROW_CACHE_SIZE = 512;
+
+    private final List<Column> columns;
+    private List<Schedule> schedules;
+    private final Map<Integer, Object[]> rowCache;
+
+    // 테이블 열 (이름과 일정에서 값을 꺼내는 방법)
+    public static class Column {
+        private final String name;
+        private final Function<Schedule, Object> value;
+
+        public Column(String name, Function<Schedule, Object> value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        public String getName() { return name; }
+    }
+
+    public ScheduleTableModel(List<Column> columns) {
+        this.columns = new ArrayList<>(columns);
+        this.schedules = new ArrayList<>();
+        this.rowCache = new LinkedHashMap<>(ROW_CACHE_SIZE * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Object[]> eldest) {
+                return size() > ROW_CACHE_SIZE;
+            }
+        };
+    }
+
+    // 목록 전체 교체 (복사하지 않으므로 넘긴 목록을 이후에 수정하지 말 것)
+    public void setSchedules(List<Schedule> schedules) {
+        this.schedules = schedules != null ? schedules : new ArrayList<>();
+        rowCache.clear();
+        fireTableDataChanged();
+    }
+
+    public List<Schedule> getSchedules() {
+        return schedules;
+    }
+
+    public Schedule getScheduleAt(int row) {
+        return schedules.get(row);
+    }
+
+    // 일정 내용이 바뀐 행만 다시 그리기
+    public void scheduleChanged(int row) {
+        rowCache.remove(row);
+        fireTableRowsUpdated(row, row);
+    }
+
+    @Override
+    public int getRowCount() {
+        return schedules.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.size();
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columns.get(column).getName();
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Object[] values = rowCache.get(row);
+        if (values == null) {
+            Schedule schedule = schedules.get(row);
+            values = new Object[columns.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = columns.get(i).value.apply(schedule);
+            }
+            rowCache.put(row, values);
+        }
+        return values[column];
+    }
+
+    public static String formatDateTime(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.format(DATE_TIME_FORMATTER) : "";
+    }
+}
@@ -4,6 +4,8 @@ import java.io.*;
 import java.util.Properties;
 
 public class SettingsPanel extends JPanel {
+    private static final Log LOG = Log.get(SettingsPanel.class);
+
     private JCheckBox notificationCheckBox;
     private JSpinner reminderTimeSpinner;
     private static final String SETTINGS_FILE = "data/settings.properties";
@@ -72,16 +74,16 @@ public class SettingsPanel extends JPanel {
                     // UI에 적용
                     notificationCheckBox.setSelected(notifications);
                     reminderTimeSpinner.setValue(reminderTime);
-                    System.out.println("설정을 로드했습니다: " + SETTINGS_FILE);
+                    LOG.info("설정을 로드했습니다: " + SETTINGS_FILE);
                 }
             } else {
                 // 기본값 설정
                 notificationCheckBox.setSelected(true);
                 reminderTimeSpinner.setValue(30);
-                System.out.println("설정 파일이 없어 기본값을 사용합니다.");
+                LOG.info("설정 파일이 없어 기본값을 사용합니다.");
             }
         } catch (Exception e) {
-            System.err.println("설정 로드 중 오류 발생: " + e.getMessage());
+            LOG.error("설정 로드 중 오류 발생: " + e.getMessage());
             // 오류 발생 시 기본값 설정
             notificationCheckBox.setSelected(true);
             reminderTimeSpinner.setValue(30);
@@ -106,7 +108,7 @@ public class SettingsPanel extends JPanel {
             File settingsFile = new File(SETTINGS_FILE);
             try (FileOutputStream fos = new FileOutputStream(settingsFile)) {
                 props.store(fos, "일정 관리 시스템 설정");
-                System.out.println("설정을 저장했습니다: " + SETTINGS_FILE);
+                LOG.info("설정을 저장했습니다: " + SETTINGS_FILE);
             }
             
             JOptionPane.showMessageDialog(this,
@@ -115,7 +117,7 @@ public class SettingsPanel extends JPanel {
                 JOptionPane.INFORMATION_MESSAGE);
                 
         } catch (Exception e) {
-            System.err.println("설정 저장 중 오류 발생: " + e.getMessage());
+            LOG.error("설정 저장 중 오류 발생: " + e.getMessage());
                 JOptionPane.showMessageDialog(this,
                 "설정 저장 중 오류가 발생했습니다: " + e.getMessage(),
                     "오류",
@@ -0,0 +1,335 @@
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 사용자 ID로 일정을 여러 샤드 노드에 나눠 두는 ScheduleManager
+// 일관된 해시 링이 사용자마다 담당 노드를 정하고, 모든 호출은 그 사용자의 노드로 보낸다.
+// 공유받은 일정은 받는 사람의 노드에 참조(SharedRef)만 두고, 읽을 때 소유자의 노드에서 본문을 가져온다.
+// 노드가 추가/제거되면 담당 노드가 바뀐 사용자의 파티션만 옮긴다.
+// 규칙(소유자 확인, 시간 겹침, 오류 메시지)은 ScheduleManager와 같다.
+public class ShardedScheduleManager {
+    private final ConsistentHashRing ring;
+    private final Map<String, ScheduleShard> shards = new HashMap<>();
+    // 일반 호출은 읽기 잠금, 노드 추가/제거(파티션 이동)는 쓰기 잠금
+    private final ReentrantReadWriteLock routingLock = new ReentrantReadWriteLock();
+    // 겹침 검사와 저장 사이에 같은 사용자의 다른 추가/수정이 끼어들지 않도록 사용자 ID로 나눠 잡는 잠금
+    // (파티션은 노드 사이를 옮겨 다니므로 파티션 객체 대신 여기서 잡는다. 읽기 잠금 안에서 잡는다)
+    private final Object[] userLocks = new Object[64];
+
+    public ShardedScheduleManager() {
+        this(ConsistentHashRing.DEFAULT_VIRTUAL_NODES);
+    }
+
+    public ShardedScheduleManager(int virtualNodes) {
+        this.ring = new ConsistentHashRing(virtualNodes);
+        for (int i = 0; i < userLocks.length; i++) {
+            userLocks[i] = new Object();
+        }
+    }
+
+    // 노드를 추가하고 새 노드가 맡게 된 사용자의 파티션을 옮긴다 (옮긴 사용자 수를 돌려줌)
+    public int addShard(ScheduleShard shard) {
+        routingLock.writeLock().lock();
+        try {
+            ring.addNode(shard.getNodeId());
+            shards.put(shard.getNodeId(), shard);
+            int moved = 0;
+            for (ScheduleShard source : shards.values()) {
+                if (source != shard) {
+                    moved += rebalance(source);
+                }
+            }
+            return moved;
+        } finally {
+            routingLock.writeLock().unlock();
+        }
+    }
+
+    // 노드를 빼고 그 노드의 파티션을 남은 노드로 옮긴다 (옮긴 사용자 수를 돌려줌)
+    public int removeShard(String nodeId) {
+        routingLock.writeLock().lock();
+        try {
+            ScheduleShard removed = shards.get(nodeId);
+            if (removed == null) {
+                throw new IllegalArgumentException("등록되지 않은 노드입니다: " + nodeId);
+            }
+            if (shards.size() == 1 && removed.getScheduleCount() > 0) {
+                throw new IllegalStateException("데이터가 있는 마지막 노드는 뺄 수 없습니다.");
+            }
+            ring.removeNode(nodeId);
+            shards.remove(nodeId);
+            return rebalance(removed);
+        } finally {
+            routingLock.writeLock().unlock();
+        }
+    }
+
+    // source에 있지만 이제 다른 노드가 맡는 사용자의 파티션을 옮긴다 (쓰기 잠금 안에서 호출)
+    private int rebalance(ScheduleShard source) {
+        int moved = 0;
+        for (String userId : source.getUserIds()) {
+            ScheduleShard owner = shards.get(ring.nodeFor(userId));
+            if (owner != source) {
+                ScheduleShard.Partition partition = source.removePartition(userId);
+                if (partition != null) {
+                    owner.putPartition(userId, partition);
+                    moved++;
+                }
+            }
+        }
+        return moved;
+    }
+
+    public String getNodeFor(String userId) {
+        routingLock.readLock().lock();
+        try {
+            return ring.nodeFor(userId);
+        } finally {
+            routingLock.readLock().unlock();
+        }
+    }
+
+    // 노드별 일정 수
+    public Map<String, Integer> getScheduleCounts() {
+        routingLock.readLock().lock();
+        try {
+            Map<String, Integer> counts = new TreeMap<>();
+            for (ScheduleShard shard : shards.values()) {
+                counts.put(shard.getNodeId(), shard.getScheduleCount());
+            }
+            return counts;
+        } finally {
+            routingLock.readLock().unlock();
+        }
+    }
+
+    // 단일 노드 ScheduleManager의 일정을 샤드로 옮겨 담는다 (공유 참조도 함께 만든다)
+    public void importSchedules(Collection<Schedule> schedules) {
+        routingLock.readLock().lock();
+        try {
+            for (Schedule schedule : schedules) {
+                shardFor(schedule.getUserId()).putSchedule(schedule);
+                for (String targetUserId : schedule.getSharedUsers().keySet()) {
+                    shardFor(targetUserId).addSharedRef(targetUserId,
+                        new ScheduleShard.SharedRef(schedule.getUserId(), schedule.getScheduleId()));
+                }
+            }
+        } finally {
+            routingLock.readLock().unlock();
+        }
+    }
+
+    public void addSchedule(UserSession session, Schedule schedule) {
+        String userId = requireUserId(session);
+        if (!schedule.getUserId().equals(userId)) {
+            throw new IllegalArgumentException("다른 사용자의 일정을 추가할 수 없습니다.");
+        }
+        routingLock.readLock().lock();
+        try {
+            synchronized (lockFor(userId)) {
+                // 일정 중복 체크
+                for (Schedule existingSchedule : visibleSchedules(userId)) {
+                    if (schedule.isOverlapping(existingSchedule)) {
+                        throw new IllegalArgumentException("이미 예약된 시간과 겹칩니다.");
+                    }
+                }
+                shardFor(userId).putSchedule(schedule);
+            }
+            // 이미 공유 대상이 있는 일정이면 받는 사람 노드에 참조를 만든다
+            syncSharedRefs(Collections.emptySet(), schedule);
+        } finally {
+            routingLock.readLock().unlock();
+        }
+    }
+
+    public String createSchedule(UserSession session, String title, String description, LocalDateTime startTime,
+            LocalDateTime endTime, String location, String category, boolean isImportant) {
+        String scheduleId = IdGenerator.newId();
+        Schedule schedule = new Schedule(scheduleId, title, description, startTime, endTime,
+                location, category, isImportant, requireUserId(session));
+        routingLock.readLock().lock();
+        try {
+            shardFor(schedule.getUserId()).putSchedule(schedule);
+        } finally {
+            routingLock.readLock().unlock();
+        }
+        return scheduleId;
+    }
+
+    public void updateSchedule(UserSession session, String scheduleId, Schedule updatedSchedule) {
+        String userId = requireUserId(session);
+        routingLock.readLock().lock();
+        try {
+            ScheduleShard shard = shardFor(userId);
+            Schedule previous = shard.getSchedule(userId, scheduleId);
+            if (previous == null) {
+                throw new IllegalArgumentException(isSharedWith(userId, scheduleId)
+                    ? "다른 사용자의 일정을 수정할 수 없습니다." : "존재하지 않는 일정입니다.");
+            }
+            // 같은 객체를 고쳐서 넘겼을 수도 있으므로 바꾸기 전 공유 대상을 먼저 복사해 둔다
+            Set<String> previousTargets = new HashSet<>(previous.getSharedUsers().keySet());
+            if (!updatedSchedule.getUserId().equals(userId) || !updatedSchedule.getScheduleId().equals(scheduleId)) {
+                throw new IllegalArgumentException("다른 사용자의 일정을 수정할 수 없습니다.");
+            }
+
+            synchronized (lockFor(userId)) {
+                // 일정 중복 체크 (자기 자신은 제외)
+                for (Schedule schedule : visibleSchedules(userId)) {
+                    if (!schedule.getScheduleId().equals(scheduleId) &&
+                        updatedSchedule.isOverlapping(schedule)) {
+                        throw new IllegalArgumentException("이미 예약된 시간과 겹칩니다.");
+                    }
+                }
+                shard.putSchedule(updatedSchedule);
+            }
+            syncSharedRefs(previousTargets, updatedSchedule);
+        } finally {
+            routingLock.readLock().unlock();
+        }
+    }
+
+    public void deleteSchedule(UserSession session, String scheduleId) {
+        String userId = requireUserId(session);
+        routingLock.readLock().lock();
+        try {
+            Schedule schedule = shardFor(userId).removeSchedule(userId, scheduleId);
+            if (schedule == null) {
+                throw new IllegalArgumentException(isSharedWith(userId, scheduleId)
+                    ? "다른 사용자의 일정을 삭제할 수 없습니다." : "존재하지 않는 일정입니다.");
+            }
+            // 공유받은 사람들의 노드에 남은 참조도 지운다
+            for (String targetUserId : schedule.getSharedUsers().keySet()) {
+                shardFor(targetUserId).removeSharedRef(targetUserId, scheduleId);
+            }
+        } finally {
+            routingLock.readLock().unlock();
+        }
+    }
+
+    public Schedule getSchedule(UserSession session, String scheduleId) {
+        String userId = requireUserId(session);
+        routingLock.readLock().lock();
+        try {
+            Schedule schedule = shardFor(userId).getSchedule(userId, scheduleId);
+            if (schedule == null) {
+                throw new IllegalArgumentException(isSharedWith(userId, scheduleId)
+                    ? "다른 사용자의 일정을 조회할 수 없습니다." : "존재하지 않는 일정입니다.");
+            }
+            return schedule;
+        } finally {
+            routingLock.readLock().unlock();
+        }
+    }
+
+    // 사용자가 볼 수 있는 일정 (본인 일정과 공유받은 일정)
+    public List<Schedule> getUserSchedules(UserSession session) {
+        String userId = requireUserId(session);
+        routingLock.readLock().lock();
+        try {
+            return visibleSchedules(userId);
+        } finally {
+            routingLock.readLock().unlock();
+        }
+    }
+
+    // 다른 사용자가 나에게 공유한 일정
+    public List<Schedule> getSharedSchedules(UserSession session) {
+        String userId = requireUserId(session);
+        routingLock.readLock().lock();
+        try {
+            return resolveSharedRefs(userId);
+        } finally {
+            routingLock.readLock().unlock();
+        }
+    }
+
+    public void shareSchedule(UserSession session, String scheduleId, String targetUserId, String permission) {
+        String userId = requireUserId(session);
+        routingLock.readLock().lock();
+        try {
+            Schedule schedule = shardFor(userId).getSchedule(userId, scheduleId);
+            if (schedule == null) {
+                throw new IllegalArgumentException(isSharedWith(userId, scheduleId)
+                    ? "다른 사용자의 일정을 공유할 수 없습니다." : "존재하지 않는 일정입니다.");
+            }
+            schedule.shareWithUser(targetUserId, permission);
+            shardFor(targetUserId).addSharedRef(targetUserId, new ScheduleShard.SharedRef(userId, scheduleId));
+        } finally {
+            routingLock.readLock().unlock();
+        }
+    }
+
+    public void removeSharedUser(UserSession session, String scheduleId, String targetUserId) {
+        String userId = requireUserId(session);
+        routingLock.readLock().lock();
+        try {
+            Schedule schedule = shardFor(userId).getSchedule(userId, scheduleId);
+            if (schedule == null) {
+                throw new IllegalArgumentException(isSharedWith(userId, scheduleId)
+                    ? "다른 사용자의 일정 공유를 수정할 수 없습니다." : "존재하지 않는 일정입니다.");
+            }
+            schedule.removeSharedUser(targetUserId);
+            shardFor(targetUserId).removeSharedRef(targetUserId, scheduleId);
+        } finally {
+            routingLock.readLock().unlock();
+        }
+    }
+
+    // 아래는 읽기 잠금 안에서 호출
+
+    private Object lockFor(String userId) {
+        return userLocks[Math.floorMod(userId.hashCode(), userLocks.length)];
+    }
+
+    private ScheduleShard shardFor(String userId) {
+        return shards.get(ring.nodeFor(userId));
+    }
+
+    private List<Schedule> visibleSchedules(String userId) {
+        List<Schedule> visible = shardFor(userId).getSchedules(userId);
+        visible.addAll(resolveSharedRefs(userId));
+        return visible;
+    }
+
+    // 참조를 따라 소유자 노드에서 일정 본문을 가져온다 (이미 지워졌거나 공유가 풀린 참조는 건너뜀)
+    private List<Schedule> resolveSharedRefs(String userId) {
+        List<Schedule> shared = new ArrayList<>();
+        for (ScheduleShard.SharedRef ref : shardFor(userId).getSharedRefs(userId)) {
+            Schedule schedule = shardFor(ref.getOwnerUserId()).getSchedule(ref.getOwnerUserId(), ref.getScheduleId());
+            if (schedule != null && schedule.canUserView(userId)) {
+                shared.add(schedule);
+            }
+        }
+        return shared;
+    }
+
+    private boolean isSharedWith(String userId, String scheduleId) {
+        for (ScheduleShard.SharedRef ref : shardFor(userId).getSharedRefs(userId)) {
+            if (ref.getScheduleId().equals(scheduleId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 수정된 일정의 공유 대상이 바뀌었으면 참조를 맞춘다 (빠진 사용자의 참조는 지우고 새 사용자에게는 만든다)
+    private void syncSharedRefs(Set<String> previousTargets, Schedule schedule) {
+        Set<String> targets = schedule.getSharedUsers().keySet();
+        for (String targetUserId : previousTargets) {
+            if (!targets.contains(targetUserId)) {
+                shardFor(targetUserId).removeSharedRef(targetUserId, schedule.getScheduleId());
+            }
+        }
+        for (String targetUserId : targets) {
+            shardFor(targetUserId).addSharedRef(targetUserId,
+                new ScheduleShard.SharedRef(schedule.getUserId(), schedule.getScheduleId()));
+        }
+    }
+
+    private static String requireUserId(UserSession session) {
+        if (session == null) {
+            throw new IllegalStateException("로그인이 필요합니다.");
+        }
+        return session.getUserId();
+    }
+}
@@ -0,0 +1,108 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 사용자 샤딩(ShardedScheduleManager) 분산과 재분배 측정
+// 같은 JVM 안의 노드 3개에 사용자 N명의 일정을 나눠 넣고 노드별 일정 수를 보여 준다.
+// 노드 하나를 더하면 옮겨진 사용자 수와 비율(이상적으로는 1/4), 걸린 시간을 보여 주고,
+// 노드 하나를 빼면 그 노드의 사용자만 옮겨지는지 확인한다.
+// 다른 노드의 사용자에게 공유한 일정이 두 번의 재분배 뒤에도 보이는지,
+// 공유를 뺀 일정은 "존재하지 않는 일정"이 되는지, 소유자가 지우면 사라지는지도 확인한다.
+// 사용자 ID(user0, user1, ...)와 노드 이름(node0, node1, ...)이 정해져 있으므로 옮겨지는 사용자 수는 매번 같다.
+// 실행: java ShardingBenchmark [사용자 수 (기본 10000)] [사용자당 일정 수 (기본 3)]
+public class ShardingBenchmark {
+    public static void main(String[] args) throws IOException {
+        int userCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int perUser = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        Path directory = Files.createTempDirectory("schedule-bench");
+        System.setProperty("schedule.log.dir", directory.resolve("logs").toString());
+
+        ShardedScheduleManager manager = new ShardedScheduleManager();
+        for (int i = 0; i < 3; i++) {
+            manager.addShard(new ScheduleShard("node" + i));
+        }
+        LocalDateTime base = LocalDateTime.of(2025, 3, 3, 9, 0);
+        long start = System.nanoTime();
+        for (int u = 0; u < userCount; u++) {
+            UserSession session = new UserSession("user" + u);
+            for (int i = 0; i < perUser; i++) {
+                LocalDateTime scheduleStart = base.plusDays(i);
+                manager.addSchedule(session, new Schedule(IdGenerator.newId(), "일정 " + i, "", scheduleStart,
+                    scheduleStart.plusHours(1), "", "업무", false, session.getUserId()));
+            }
+        }
+        System.out.printf("노드 3개에 일정 %d개 추가: %.0f ms, 노드별 %s%n", userCount * perUser,
+            (System.nanoTime() - start) / 1e6, manager.getScheduleCounts());
+
+        // 다른 노드에 있는 두 사용자 사이의 공유 일정
+        UserSession owner = new UserSession("user0");
+        String recipientId = findUserOnOtherNode(manager, owner.getUserId(), userCount);
+        UserSession recipient = new UserSession(recipientId);
+        Schedule sharedSchedule = new Schedule(IdGenerator.newId(), "공유 회의", "", base.minusDays(1),
+            base.minusDays(1).plusHours(1), "", "업무", false, owner.getUserId());
+        manager.addSchedule(owner, sharedSchedule);
+        manager.shareSchedule(owner, sharedSchedule.getScheduleId(), recipientId, "READ");
+
+        start = System.nanoTime();
+        int moved = manager.addShard(new ScheduleShard("node3"));
+        System.out.printf("node3 추가: 사용자 %d명 이동 (%.1f%%, 이상적으로는 25%%), %.0f ms, 노드별 %s%n", moved,
+            moved * 100.0 / userCount, (System.nanoTime() - start) / 1e6, manager.getScheduleCounts());
+
+        int onNode0 = 0;
+        for (int u = 0; u < userCount; u++) {
+            if (manager.getNodeFor("user" + u).equals("node0")) {
+                onNode0++;
+            }
+        }
+        start = System.nanoTime();
+        moved = manager.removeShard("node0");
+        System.out.printf("node0 제거: 사용자 %d명 이동 (node0 사용자 %d명), %.0f ms, 노드별 %s%n", moved, onNode0,
+            (System.nanoTime() - start) / 1e6, manager.getScheduleCounts());
+
+        boolean visibleAfterRebalance = containsSchedule(manager.getSharedSchedules(recipient), sharedSchedule);
+        // 수정으로 공유 대상에서 빠지면 받는 사람에게는 없는 일정이 된다
+        Schedule unshared = manager.getSchedule(owner, sharedSchedule.getScheduleId()).copy();
+        unshared.removeSharedUser(recipientId);
+        manager.updateSchedule(owner, sharedSchedule.getScheduleId(), unshared);
+        String afterUnshare = readError(manager, recipient, sharedSchedule.getScheduleId());
+        // 다시 공유했다가 소유자가 지우면 사라진다
+        manager.shareSchedule(owner, sharedSchedule.getScheduleId(), recipientId, "READ");
+        manager.deleteSchedule(owner, sharedSchedule.getScheduleId());
+        boolean visibleAfterDelete = containsSchedule(manager.getSharedSchedules(recipient), sharedSchedule);
+        System.out.println("노드를 넘는 공유: 재분배 뒤 보임 " + visibleAfterRebalance
+            + ", 공유를 뺀 뒤 조회 오류 \"" + afterUnshare + "\", 삭제 뒤 보임 " + visibleAfterDelete);
+
+        boolean ok = visibleAfterRebalance && !visibleAfterDelete && "존재하지 않는 일정입니다.".equals(afterUnshare);
+        System.exit(ok ? 0 : 1);
+    }
+
+    private static String findUserOnOtherNode(ShardedScheduleManager manager, String userId, int userCount) {
+        String node = manager.getNodeFor(userId);
+        for (int u = 1; u < userCount; u++) {
+            if (!manager.getNodeFor("user" + u).equals(node)) {
+                return "user" + u;
+            }
+        }
+        throw new IllegalStateException("모든 사용자가 같은 노드에 있습니다.");
+    }
+
+    private static boolean containsSchedule(List<Schedule> schedules, Schedule target) {
+        for (Schedule schedule : schedules) {
+            if (schedule.getScheduleId().equals(target.getScheduleId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String readError(ShardedScheduleManager manager, UserSession session, String scheduleId) {
+        try {
+            manager.getSchedule(session, scheduleId);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+}
@@ -7,9 +7,16 @@ import java.time.DayOfWeek;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class StatisticsPanel extends JPanel {
+    private static final Log LOG = Log.get(StatisticsPanel.class);
+
     private final ScheduleManager scheduleManager;
     private final UserManager userManager;
     private final ScheduleGUI parent;
@@ -22,6 +29,13 @@ public class StatisticsPanel extends JPanel {
     private JPanel priorityPanel;
     private JPanel completionPanel;
     private JComboBox<String> periodComboBox;
+    // 통계 계산은 EDT 밖의 전용 스레드에서 수행
+    private final ExecutorService statisticsExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "statistics-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private StatisticsWorker currentWorker;
 
     public StatisticsPanel(ScheduleGUI parent, ScheduleManager scheduleManager, UserManager userManager) {
         this.parent = parent;
@@ -97,6 +111,12 @@ public class StatisticsPanel extends JPanel {
     }
 
     private void updateStatistics() {
+        // 이전 계산이 진행 중이면 취소 (기간 변경 시 오래된 결과가 그려지지 않도록)
+        if (currentWorker != null) {
+            currentWorker.cancel(true);
+            currentWorker = null;
+        }
+
         try {
             User currentUser = userManager.getCurrentUser();
             if (currentUser == null) {
@@ -114,37 +134,102 @@ public class StatisticsPanel extends JPanel {
             LocalDateTime start = getStartDate(period);
             LocalDateTime end = LocalDateTime.now();
             
-            // 해당 기간의 현재 사용자 일정만 가져오기
-            List<Schedule> userSchedules = getFilteredSchedules(userId, start, end);
-            
-            // 각 패널 업데이트
-            updateOverview(userSchedules);
-            updateDailySummary(userSchedules);
-            updateWeeklyReview(userSchedules);
-            updateMonthlyReport(userSchedules);
-            updateCategoryStatistics(userSchedules);
-            updatePriorityStatistics(userSchedules);
-            updateCompletionStatistics(userSchedules);
+            // 일정 목록은 EDT에서 스냅샷으로 복사하고, 필터링과 집계는 백그라운드에서 수행
+            List<Schedule> snapshot = scheduleManager.getAllSchedules();
+            currentWorker = new StatisticsWorker(userId, snapshot, start, end);
+            statisticsExecutor.execute(currentWorker);
             
         } catch (Exception e) {
-            System.err.println("통계 업데이트 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("통계 업데이트 중 오류 발생: " + e.getMessage(), e);
             showErrorMessage("통계 업데이트 중 오류가 발생했습니다.");
         }
     }
 
-    private List<Schedule> getFilteredSchedules(String userId, LocalDateTime start, LocalDateTime end) {
+    // 각 탭의 통계를 백그라운드에서 계산하고, 완료되는 대로 EDT에서 해당 탭만 그린다
+    private class StatisticsWorker extends SwingWorker<Void, Runnable> {
+        private final String userId;
+        private final List<Schedule> snapshot;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final long triggeredAt;
+        private boolean firstPainted;
+
+        StatisticsWorker(String userId, List<Schedule> snapshot, LocalDateTime start, LocalDateTime end) {
+            this.userId = userId;
+            this.snapshot = snapshot;
+            this.start = start;
+            this.end = end;
+            this.triggeredAt = System.nanoTime();
+        }
+
+        @Override
+        protected Void doInBackground() {
+            // 해당 기간의 현재 사용자 일정만 가져오기
+            List<Schedule> userSchedules = getFilteredSchedules(snapshot, userId, start, end);
+
+            List<Function<List<Schedule>, Runnable>> steps = List.of(
+                StatisticsPanel.this::computeOverview,
+                StatisticsPanel.this::computeDailySummary,
+                StatisticsPanel.this::computeWeeklyReview,
+                StatisticsPanel.this::computeMonthlyReport,
+                StatisticsPanel.this::computeCategoryStatistics,
+                StatisticsPanel.this::computePriorityStatistics,
+                StatisticsPanel.this::computeCompletionStatistics
+            );
+
+            for (Function<List<Schedule>, Runnable> step : steps) {
+                if (isCancelled()) {
+                    return null;
+                }
+                publish(step.apply(userSchedules));
+            }
+            return null;
+        }
+
+        @Override
+        protected void process(List<Runnable> renders) {
+            // 취소된 작업의 결과는 버린다
+            if (isCancelled() || currentWorker != this) {
+                return;
+            }
+            for (Runnable render : renders) {
+                render.run();
+            }
+            if (!firstPainted) {
+                firstPainted = true;
+                long elapsedMillis = (System.nanoTime() - triggeredAt) / 1_000_000;
+                LOG.debug(() -> "통계 첫 화면 표시까지 걸린 시간: " + elapsedMillis + "ms");
+            }
+        }
+
+        @Override
+        protected void done() {
+            if (currentWorker == this) {
+                currentWorker = null;
+            }
+            try {
+                get();
+            } catch (CancellationException | InterruptedException e) {
+                // 새 계산으로 대체되어 취소된 경우
+            } catch (ExecutionException e) {
+                LOG.error("통계 업데이트 중 오류 발생: " + e.getCause().getMessage(), e.getCause());
+                showErrorMessage("통계 업데이트 중 오류가 발생했습니다.");
+            }
+        }
+    }
+
+    private List<Schedule> getFilteredSchedules(List<Schedule> allSchedules, String userId, LocalDateTime start, LocalDateTime end) {
         try {
-            List<Schedule> allSchedules = scheduleManager.getSchedulesByUserId(userId);
-            if (allSchedules == null) {
+            if (allSchedules == null || userId == null) {
                 return new ArrayList<>();
             }
             return allSchedules.stream()
-                .filter(s -> s != null && s.getStartTime() != null && s.getEndTime() != null)
+                .filter(s -> s != null && userId.equals(s.getUserId()))
+                .filter(s -> s.getStartTime() != null && s.getEndTime() != null)
                 .filter(s -> !s.getStartTime().isAfter(end) && !s.getEndTime().isBefore(start))
                 .collect(Collectors.toList());
         } catch (Exception e) {
-            System.err.println("일정 필터링 중 오류: " + e.getMessage());
+            LOG.error("일정 필터링 중 오류: " + e.getMessage());
             return new ArrayList<>();
         }
     }
@@ -173,15 +258,42 @@ public class StatisticsPanel extends JPanel {
                     return LocalDateTime.of(2020, 1, 1, 0, 0);
             }
         } catch (Exception e) {
-            System.err.println("시작 날짜 계산 중 오류: " + e.getMessage());
+            LOG.error("시작 날짜 계산 중 오류: " + e.getMessage());
             return LocalDateTime.of(2020, 1, 1, 0, 0);
         }
     }
 
-    private void updateOverview(List<Schedule> schedules) {
+    // 날짜별로 일정을 묶는다 (시작일과 종료일이 다르면 두 날짜 모두에 포함)
+    private Map<LocalDate, List<Schedule>> groupByDate(List<Schedule> schedules) {
+        Map<LocalDate, List<Schedule>> byDate = new HashMap<>();
+        for (Schedule schedule : schedules) {
+            if (schedule == null || schedule.getStartTime() == null) {
+                continue;
+            }
+            LocalDate startDate = schedule.getStartTime().toLocalDate();
+            byDate.computeIfAbsent(startDate, _ -> new ArrayList<>()).add(schedule);
+            if (schedule.getEndTime() != null) {
+                LocalDate endDate = schedule.getEndTime().toLocalDate();
+                if (!endDate.isEqual(startDate)) {
+                    byDate.computeIfAbsent(endDate, _ -> new ArrayList<>()).add(schedule);
+                }
+            }
+        }
+        return byDate;
+    }
+
+    // 해당 탭을 안내 문구 하나로 교체 (EDT에서 실행)
+    private Runnable messageRender(JPanel panel, String message) {
+        return () -> {
+            panel.removeAll();
+            panel.add(new JLabel(message, SwingConstants.CENTER));
+            panel.revalidate();
+            panel.repaint();
+        };
+    }
+
+    private Runnable computeOverview(List<Schedule> schedules) {
         try {
-            overviewPanel.removeAll();
-            
             // 총 일정 수
             int totalSchedules = schedules.size();
             
@@ -204,27 +316,26 @@ public class StatisticsPanel extends JPanel {
                 .average()
                 .orElse(0.0);
             
-            // 통계 카드 생성
-            overviewPanel.add(createStatCard("총 일정", String.valueOf(totalSchedules), Color.BLUE));
-            overviewPanel.add(createStatCard("완료된 일정", String.valueOf(completedSchedules), Color.GREEN));
-            overviewPanel.add(createStatCard("카테고리 수", String.valueOf(categoryCount), Color.ORANGE));
-            overviewPanel.add(createStatCard("평균 우선순위", String.format("%.1f", avgPriority), Color.RED));
-            
-            overviewPanel.revalidate();
-            overviewPanel.repaint();
+            return () -> {
+                overviewPanel.removeAll();
+                
+                // 통계 카드 생성
+                overviewPanel.add(createStatCard("총 일정", String.valueOf(totalSchedules), Color.BLUE));
+                overviewPanel.add(createStatCard("완료된 일정", String.valueOf(completedSchedules), Color.GREEN));
+                overviewPanel.add(createStatCard("카테고리 수", String.valueOf(categoryCount), Color.ORANGE));
+                overviewPanel.add(createStatCard("평균 우선순위", String.format("%.1f", avgPriority), Color.RED));
+                
+                overviewPanel.revalidate();
+                overviewPanel.repaint();
+            };
         } catch (Exception e) {
-            System.err.println("개요 업데이트 중 오류: " + e.getMessage());
-            overviewPanel.removeAll();
-            overviewPanel.add(new JLabel("개요 데이터를 불러올 수 없습니다.", SwingConstants.CENTER));
-            overviewPanel.revalidate();
-            overviewPanel.repaint();
+            LOG.error("개요 업데이트 중 오류: " + e.getMessage());
+            return messageRender(overviewPanel, "개요 데이터를 불러올 수 없습니다.");
         }
     }
 
-    private void updateDailySummary(List<Schedule> allSchedules) {
+    private Runnable computeDailySummary(List<Schedule> allSchedules) {
         try {
-            dailySummaryPanel.removeAll();
-            
             LocalDate today = LocalDate.now();
             
             List<Schedule> todaySchedules = allSchedules.stream()
@@ -233,10 +344,6 @@ public class StatisticsPanel extends JPanel {
                                   schedule.getStartTime().toLocalDate().equals(today))
                 .collect(Collectors.toList());
             
-            // 일일 요약 정보
-            JPanel summaryPanel = new JPanel(new GridLayout(3, 1, 5, 5));
-            summaryPanel.setBorder(BorderFactory.createTitledBorder("오늘의 일정 요약"));
-            
             // 오늘의 일정 수
             int totalToday = todaySchedules.size();
             int completedToday = (int) todaySchedules.stream()
@@ -244,318 +351,282 @@ public class StatisticsPanel extends JPanel {
                 .count();
             int remainingToday = totalToday - completedToday;
             
-            summaryPanel.add(createInfoPanel("총 일정", String.valueOf(totalToday)));
-            summaryPanel.add(createInfoPanel("완료된 일정", String.valueOf(completedToday)));
-            summaryPanel.add(createInfoPanel("남은 일정", String.valueOf(remainingToday)));
-            
             // 오늘의 일정 목록
-            JPanel scheduleListPanel = new JPanel(new BorderLayout());
-            scheduleListPanel.setBorder(BorderFactory.createTitledBorder("오늘의 일정 목록"));
-            
-            String[] columnNames = {"시간", "제목", "카테고리", "상태"};
-            DefaultTableModel model = new DefaultTableModel(columnNames, 0);
-            
+            DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
+            List<Object[]> rows = new ArrayList<>();
             for (Schedule schedule : todaySchedules) {
                 if (schedule != null) {
                     String time = schedule.getStartTime() != null ? 
-                        schedule.getStartTime().format(DateTimeFormatter.ofPattern("HH:mm")) : "시간 미정";
+                        schedule.getStartTime().format(timeFormatter) : "시간 미정";
                     String status = schedule.isCompleted() ? "완료" : "대기중";
                     String category = schedule.getCategory() != null ? schedule.getCategory() : "미분류";
                     
-                    model.addRow(new Object[]{time, schedule.getTitle(), category, status});
+                    rows.add(new Object[]{time, schedule.getTitle(), category, status});
                 }
             }
             
-            JTable table = new JTable(model);
-            scheduleListPanel.add(new JScrollPane(table), BorderLayout.CENTER);
-            
-            // 레이아웃 구성
-            JPanel mainPanel = new JPanel(new BorderLayout());
-            mainPanel.add(summaryPanel, BorderLayout.NORTH);
-            mainPanel.add(scheduleListPanel, BorderLayout.CENTER);
-            
-            dailySummaryPanel.add(mainPanel, BorderLayout.CENTER);
-            dailySummaryPanel.revalidate();
-            dailySummaryPanel.repaint();
+            return () -> {
+                dailySummaryPanel.removeAll();
+                
+                // 일일 요약 정보
+                JPanel summaryPanel = new JPanel(new GridLayout(3, 1, 5, 5));
+                summaryPanel.setBorder(BorderFactory.createTitledBorder("오늘의 일정 요약"));
+                summaryPanel.add(createInfoPanel("총 일정", String.valueOf(totalToday)));
+                summaryPanel.add(createInfoPanel("완료된 일정", String.valueOf(completedToday)));
+                summaryPanel.add(createInfoPanel("남은 일정", String.valueOf(remainingToday)));
+                
+                JPanel scheduleListPanel = new JPanel(new BorderLayout());
+                scheduleListPanel.setBorder(BorderFactory.createTitledBorder("오늘의 일정 목록"));
+                
+                String[] columnNames = {"시간", "제목", "카테고리", "상태"};
+                DefaultTableModel model = new DefaultTableModel(rows.toArray(new Object[0][]), columnNames);
+                
+                JTable table = new JTable(model);
+                scheduleListPanel.add(new JScrollPane(table), BorderLayout.CENTER);
+                
+                // 레이아웃 구성
+                JPanel mainPanel = new JPanel(new BorderLayout());
+                mainPanel.add(summaryPanel, BorderLayout.NORTH);
+                mainPanel.add(scheduleListPanel, BorderLayout.CENTER);
+                
+                dailySummaryPanel.add(mainPanel, BorderLayout.CENTER);
+                dailySummaryPanel.revalidate();
+                dailySummaryPanel.repaint();
+            };
         } catch (Exception e) {
-            System.err.println("일일 요약 업데이트 중 오류: " + e.getMessage());
-            dailySummaryPanel.removeAll();
-            dailySummaryPanel.add(new JLabel("일일 요약 데이터를 불러올 수 없습니다.", SwingConstants.CENTER));
-            dailySummaryPanel.revalidate();
-            dailySummaryPanel.repaint();
+            LOG.error("일일 요약 업데이트 중 오류: " + e.getMessage());
+            return messageRender(dailySummaryPanel, "일일 요약 데이터를 불러올 수 없습니다.");
         }
     }
     
-    private void updateWeeklyReview(List<Schedule> allSchedules) {
+    private Runnable computeWeeklyReview(List<Schedule> allSchedules) {
         try {
-            weeklyReviewPanel.removeAll();
-            
             LocalDate today = LocalDate.now();
             LocalDate startOfWeek = today.with(DayOfWeek.MONDAY);
-            LocalDate endOfWeek = today.with(DayOfWeek.SUNDAY);
             
-            // 주간 요약 정보
-            JPanel summaryPanel = new JPanel(new GridLayout(3, 1, 5, 5));
-            summaryPanel.setBorder(BorderFactory.createTitledBorder("이번 주 요약"));
-            
-            List<LocalDate> weekDates = new ArrayList<>();
-            for (int i = 0; i < 7; i++) {
-                weekDates.add(startOfWeek.plusDays(i));
-            }
+            Map<LocalDate, List<Schedule>> byDate = groupByDate(allSchedules);
+            String[] dayNames = {"월요일", "화요일", "수요일", "목요일", "금요일", "토요일", "일요일"};
 
             int totalWeekly = 0;
             int completedWeekly = 0;
-            
-            for (LocalDate date : weekDates) {
-                List<Schedule> daySchedules = allSchedules.stream()
-                    .filter(schedule -> schedule != null && 
-                                      schedule.getStartTime() != null &&
-                                      (schedule.getStartTime().toLocalDate().isEqual(date) || 
-                                       (schedule.getEndTime() != null && schedule.getEndTime().toLocalDate().isEqual(date))))
-                    .collect(Collectors.toList());
-                totalWeekly += daySchedules.size();
-                completedWeekly += daySchedules.stream()
-                    .filter(schedule -> schedule != null && schedule.isCompleted())
-                    .count();
-            }
-            
-            summaryPanel.add(createInfoPanel("총 일정", String.valueOf(totalWeekly)));
-            summaryPanel.add(createInfoPanel("완료된 일정", String.valueOf(completedWeekly)));
-            summaryPanel.add(createInfoPanel("완료율", String.format("%.1f%%", 
-                totalWeekly > 0 ? (double) completedWeekly / totalWeekly * 100 : 0)));
+            List<Object[]> rows = new ArrayList<>();
             
             // 요일별 일정
-            JPanel dailyPanel = new JPanel(new BorderLayout());
-            dailyPanel.setBorder(BorderFactory.createTitledBorder("요일별 일정"));
-            
-            String[] columnNames = {"요일", "일정 수", "완료 수", "완료율"};
-            DefaultTableModel model = new DefaultTableModel(columnNames, 0);
-            
-            String[] dayNames = {"월요일", "화요일", "수요일", "목요일", "금요일", "토요일", "일요일"};
-            
-            for (int i = 0; i < weekDates.size(); i++) {
-                LocalDate date = weekDates.get(i);
-                List<Schedule> daySchedules = allSchedules.stream()
-                    .filter(schedule -> schedule != null && 
-                                      schedule.getStartTime() != null &&
-                                      (schedule.getStartTime().toLocalDate().isEqual(date) || 
-                                       (schedule.getEndTime() != null && schedule.getEndTime().toLocalDate().isEqual(date))))
-                    .collect(Collectors.toList());
+            for (int i = 0; i < 7; i++) {
+                List<Schedule> daySchedules = byDate.getOrDefault(startOfWeek.plusDays(i), Collections.emptyList());
                 int dayTotal = daySchedules.size();
                 int dayCompleted = (int) daySchedules.stream()
-                    .filter(schedule -> schedule != null && schedule.isCompleted())
+                    .filter(Schedule::isCompleted)
                     .count();
                 double dayCompletionRate = dayTotal > 0 ? (double) dayCompleted / dayTotal * 100 : 0;
+                totalWeekly += dayTotal;
+                completedWeekly += dayCompleted;
                 
-                model.addRow(new Object[]{dayNames[i], dayTotal, dayCompleted, 
+                rows.add(new Object[]{dayNames[i], dayTotal, dayCompleted, 
                     String.format("%.1f%%", dayCompletionRate)});
             }
             
-            JTable table = new JTable(model);
-            dailyPanel.add(new JScrollPane(table), BorderLayout.CENTER);
-            
-            // 레이아웃 구성
-            JPanel mainPanel = new JPanel(new BorderLayout());
-            mainPanel.add(summaryPanel, BorderLayout.NORTH);
-            mainPanel.add(dailyPanel, BorderLayout.CENTER);
-            
-            weeklyReviewPanel.add(mainPanel, BorderLayout.CENTER);
-            weeklyReviewPanel.revalidate();
-            weeklyReviewPanel.repaint();
+            int total = totalWeekly;
+            int completed = completedWeekly;
+            return () -> {
+                weeklyReviewPanel.removeAll();
+                
+                // 주간 요약 정보
+                JPanel summaryPanel = new JPanel(new GridLayout(3, 1, 5, 5));
+                summaryPanel.setBorder(BorderFactory.createTitledBorder("이번 주 요약"));
+                summaryPanel.add(createInfoPanel("총 일정", String.valueOf(total)));
+                summaryPanel.add(createInfoPanel("완료된 일정", String.valueOf(completed)));
+                summaryPanel.add(createInfoPanel("완료율", String.format("%.1f%%", 
+                    total > 0 ? (double) completed / total * 100 : 0)));
+                
+                JPanel dailyPanel = new JPanel(new BorderLayout());
+                dailyPanel.setBorder(BorderFactory.createTitledBorder("요일별 일정"));
+                
+                String[] columnNames = {"요일", "일정 수", "완료 수", "완료율"};
+                DefaultTableModel model = new DefaultTableModel(rows.toArray(new Object[0][]), columnNames);
+                
+                JTable table = new JTable(model);
+                dailyPanel.add(new JScrollPane(table), BorderLayout.CENTER);
+                
+                // 레이아웃 구성
+                JPanel mainPanel = new JPanel(new BorderLayout());
+                mainPanel.add(summaryPanel, BorderLayout.NORTH);
+                mainPanel.add(dailyPanel, BorderLayout.CENTER);
+                
+                weeklyReviewPanel.add(mainPanel, BorderLayout.CENTER);
+                weeklyReviewPanel.revalidate();
+                weeklyReviewPanel.repaint();
+            };
         } catch (Exception e) {
-            System.err.println("주간 리뷰 업데이트 중 오류: " + e.getMessage());
-            weeklyReviewPanel.removeAll();
-            weeklyReviewPanel.add(new JLabel("주간 리뷰 데이터를 불러올 수 없습니다.", SwingConstants.CENTER));
-            weeklyReviewPanel.revalidate();
-            weeklyReviewPanel.repaint();
+            LOG.error("주간 리뷰 업데이트 중 오류: " + e.getMessage());
+            return messageRender(weeklyReviewPanel, "주간 리뷰 데이터를 불러올 수 없습니다.");
         }
     }
     
-    private void updateMonthlyReport(List<Schedule> allSchedules) {
+    private Runnable computeMonthlyReport(List<Schedule> allSchedules) {
         try {
-            monthlyReportPanel.removeAll();
-            
             LocalDate today = LocalDate.now();
             LocalDate startOfMonth = today.withDayOfMonth(1);
-            LocalDate endOfMonth = today.withDayOfMonth(today.lengthOfMonth());
-            
-            // 월간 통계
-            JPanel statsPanel = new JPanel(new GridLayout(2, 2, 5, 5));
-            statsPanel.setBorder(BorderFactory.createTitledBorder("이번 달 통계"));
             
             int totalMonthly = 0;
             int completedMonthly = 0;
             Map<String, Integer> categoryCount = new HashMap<>();
-            
-            List<LocalDate> monthDates = new ArrayList<>();
-            long totalDaysInMonth = startOfMonth.lengthOfMonth();
-            for (long i = 0; i < totalDaysInMonth; i++) {
-                monthDates.add(startOfMonth.plusDays(i));
-            }
+            Map<LocalDate, List<Schedule>> byDate = groupByDate(allSchedules);
 
-            for (LocalDate date : monthDates) {
-                List<Schedule> daySchedules = allSchedules.stream()
-                    .filter(schedule -> schedule != null && 
-                                      schedule.getStartTime() != null &&
-                                      (schedule.getStartTime().toLocalDate().isEqual(date) || 
-                                       (schedule.getEndTime() != null && schedule.getEndTime().toLocalDate().isEqual(date))))
-                    .collect(Collectors.toList());
+            for (int i = 0; i < startOfMonth.lengthOfMonth(); i++) {
+                List<Schedule> daySchedules = byDate.getOrDefault(startOfMonth.plusDays(i), Collections.emptyList());
                 totalMonthly += daySchedules.size();
                 completedMonthly += daySchedules.stream()
-                    .filter(schedule -> schedule != null && schedule.isCompleted())
+                    .filter(Schedule::isCompleted)
                     .count();
                 
                 // 카테고리별 카운트
                 for (Schedule schedule : daySchedules) {
-                    if (schedule != null && schedule.getCategory() != null) {
-                        String category = schedule.getCategory();
-                        categoryCount.put(category, categoryCount.getOrDefault(category, 0) + 1);
+                    if (schedule.getCategory() != null) {
+                        categoryCount.merge(schedule.getCategory(), 1, Integer::sum);
                     }
                 }
             }
             
-            statsPanel.add(createInfoPanel("총 일정", String.valueOf(totalMonthly)));
-            statsPanel.add(createInfoPanel("완료된 일정", String.valueOf(completedMonthly)));
-            statsPanel.add(createInfoPanel("완료율", String.format("%.1f%%", 
-                totalMonthly > 0 ? (double) completedMonthly / totalMonthly * 100 : 0)));
-            statsPanel.add(createInfoPanel("평균 일일 일정", String.format("%.1f", 
-                (double) totalMonthly / today.lengthOfMonth())));
-            
             // 카테고리별 통계
-            JPanel categoryPanel = new JPanel(new BorderLayout());
-            categoryPanel.setBorder(BorderFactory.createTitledBorder("카테고리별 통계"));
-            
-            String[] columnNames = {"카테고리", "일정 수", "비율"};
-            DefaultTableModel model = new DefaultTableModel(columnNames, 0);
-            
+            List<Object[]> rows = new ArrayList<>();
             for (Map.Entry<String, Integer> entry : categoryCount.entrySet()) {
-                String category = entry.getKey();
                 int count = entry.getValue();
                 double ratio = totalMonthly > 0 ? (double) count / totalMonthly * 100 : 0;
-                model.addRow(new Object[]{category, count, String.format("%.1f%%", ratio)});
+                rows.add(new Object[]{entry.getKey(), count, String.format("%.1f%%", ratio)});
             }
             
-            JTable table = new JTable(model);
-            categoryPanel.add(new JScrollPane(table), BorderLayout.CENTER);
-            
-            // 레이아웃 구성
-            JPanel mainPanel = new JPanel(new BorderLayout());
-            mainPanel.add(statsPanel, BorderLayout.NORTH);
-            mainPanel.add(categoryPanel, BorderLayout.CENTER);
-            
-            monthlyReportPanel.add(mainPanel, BorderLayout.CENTER);
-            monthlyReportPanel.revalidate();
-            monthlyReportPanel.repaint();
+            int total = totalMonthly;
+            int completed = completedMonthly;
+            return () -> {
+                monthlyReportPanel.removeAll();
+                
+                // 월간 통계
+                JPanel statsPanel = new JPanel(new GridLayout(2, 2, 5, 5));
+                statsPanel.setBorder(BorderFactory.createTitledBorder("이번 달 통계"));
+                statsPanel.add(createInfoPanel("총 일정", String.valueOf(total)));
+                statsPanel.add(createInfoPanel("완료된 일정", String.valueOf(completed)));
+                statsPanel.add(createInfoPanel("완료율", String.format("%.1f%%", 
+                    total > 0 ? (double) completed / total * 100 : 0)));
+                statsPanel.add(createInfoPanel("평균 일일 일정", String.format("%.1f", 
+                    (double) total / today.lengthOfMonth())));
+                
+                JPanel categoryPanel = new JPanel(new BorderLayout());
+                categoryPanel.setBorder(BorderFactory.createTitledBorder("카테고리별 통계"));
+                
+                String[] columnNames = {"카테고리", "일정 수", "비율"};
+                DefaultTableModel model = new DefaultTableModel(rows.toArray(new Object[0][]), columnNames);
+                
+                JTable table = new JTable(model);
+                categoryPanel.add(new JScrollPane(table), BorderLayout.CENTER);
+                
+                // 레이아웃 구성
+                JPanel mainPanel = new JPanel(new BorderLayout());
+                mainPanel.add(statsPanel, BorderLayout.NORTH);
+                mainPanel.add(categoryPanel, BorderLayout.CENTER);
+                
+                monthlyReportPanel.add(mainPanel, BorderLayout.CENTER);
+                monthlyReportPanel.revalidate();
+                monthlyReportPanel.repaint();
+            };
         } catch (Exception e) {
-            System.err.println("월간 리포트 업데이트 중 오류: " + e.getMessage());
-            monthlyReportPanel.removeAll();
-            monthlyReportPanel.add(new JLabel("월간 리포트 데이터를 불러올 수 없습니다.", SwingConstants.CENTER));
-            monthlyReportPanel.revalidate();
-            monthlyReportPanel.repaint();
+            LOG.error("월간 리포트 업데이트 중 오류: " + e.getMessage());
+            return messageRender(monthlyReportPanel, "월간 리포트 데이터를 불러올 수 없습니다.");
         }
     }
 
-    private void updateCategoryStatistics(List<Schedule> allSchedules) {
+    private Runnable computeCategoryStatistics(List<Schedule> allSchedules) {
         try {
-            categoryPanel.removeAll();
-            
             Map<String, Integer> categoryStats = new HashMap<>();
             for (Schedule schedule : allSchedules) {
                 if (schedule != null && schedule.getCategory() != null) {
-                    String category = schedule.getCategory();
-                    categoryStats.put(category, categoryStats.getOrDefault(category, 0) + 1);
+                    categoryStats.merge(schedule.getCategory(), 1, Integer::sum);
                 }
             }
             
-            // 테이블 생성
-            String[] columnNames = {"카테고리", "일정 수"};
-            DefaultTableModel model = new DefaultTableModel(columnNames, 0);
-            
-            categoryStats.forEach((category, count) -> {
-                model.addRow(new Object[]{category, count});
-            });
+            List<Object[]> rows = new ArrayList<>();
+            categoryStats.forEach((category, count) -> rows.add(new Object[]{category, count}));
             
-            JTable table = new JTable(model);
-            categoryPanel.add(new JScrollPane(table), BorderLayout.CENTER);
-            
-            categoryPanel.revalidate();
-            categoryPanel.repaint();
+            return () -> {
+                categoryPanel.removeAll();
+                
+                // 테이블 생성
+                String[] columnNames = {"카테고리", "일정 수"};
+                DefaultTableModel model = new DefaultTableModel(rows.toArray(new Object[0][]), columnNames);
+                
+                JTable table = new JTable(model);
+                categoryPanel.add(new JScrollPane(table), BorderLayout.CENTER);
+                
+                categoryPanel.revalidate();
+                categoryPanel.repaint();
+            };
         } catch (Exception e) {
-            System.err.println("카테고리 통계 업데이트 중 오류: " + e.getMessage());
-            categoryPanel.removeAll();
-            categoryPanel.add(new JLabel("카테고리 통계를 불러올 수 없습니다.", SwingConstants.CENTER));
-            categoryPanel.revalidate();
-            categoryPanel.repaint();
+            LOG.error("카테고리 통계 업데이트 중 오류: " + e.getMessage());
+            return messageRender(categoryPanel, "카테고리 통계를 불러올 수 없습니다.");
         }
     }
 
-    private void updatePriorityStatistics(List<Schedule> allSchedules) {
+    private Runnable computePriorityStatistics(List<Schedule> allSchedules) {
         try {
-            priorityPanel.removeAll();
-            
             Map<Integer, Integer> priorityStats = new HashMap<>();
             for (Schedule schedule : allSchedules) {
                 if (schedule != null) {
-                    int priority = schedule.getPriority();
-                    priorityStats.put(priority, priorityStats.getOrDefault(priority, 0) + 1);
+                    priorityStats.merge(schedule.getPriority(), 1, Integer::sum);
                 }
             }
             
-            // 테이블 생성
-            String[] columnNames = {"우선순위", "일정 수"};
-            DefaultTableModel model = new DefaultTableModel(columnNames, 0);
-            
-            priorityStats.forEach((priority, count) -> {
-                model.addRow(new Object[]{priority, count});
-            });
-            
-            JTable table = new JTable(model);
-            priorityPanel.add(new JScrollPane(table), BorderLayout.CENTER);
+            List<Object[]> rows = new ArrayList<>();
+            priorityStats.forEach((priority, count) -> rows.add(new Object[]{priority, count}));
             
-            priorityPanel.revalidate();
-            priorityPanel.repaint();
+            return () -> {
+                priorityPanel.removeAll();
+                
+                // 테이블 생성
+                String[] columnNames = {"우선순위", "일정 수"};
+                DefaultTableModel model = new DefaultTableModel(rows.toArray(new Object[0][]), columnNames);
+                
+                JTable table = new JTable(model);
+                priorityPanel.add(new JScrollPane(table), BorderLayout.CENTER);
+                
+                priorityPanel.revalidate();
+                priorityPanel.repaint();
+            };
         } catch (Exception e) {
-            System.err.println("우선순위 통계 업데이트 중 오류: " + e.getMessage());
-            priorityPanel.removeAll();
-            priorityPanel.add(new JLabel("우선순위 통계를 불러올 수 없습니다.", SwingConstants.CENTER));
-            priorityPanel.revalidate();
-            priorityPanel.repaint();
+            LOG.error("우선순위 통계 업데이트 중 오류: " + e.getMessage());
+            return messageRender(priorityPanel, "우선순위 통계를 불러올 수 없습니다.");
         }
     }
 
-    private void updateCompletionStatistics(List<Schedule> allSchedules) {
+    private Runnable computeCompletionStatistics(List<Schedule> allSchedules) {
         try {
-            completionPanel.removeAll();
-            
             if (allSchedules.isEmpty()) {
-                completionPanel.add(new JLabel("완료율을 계산할 일정이 없습니다.", SwingConstants.CENTER));
-                completionPanel.revalidate();
-                completionPanel.repaint();
-                return;
+                return messageRender(completionPanel, "완료율을 계산할 일정이 없습니다.");
             }
             
             long completedCount = allSchedules.stream()
                 .filter(schedule -> schedule != null && schedule.isCompleted())
                 .count();
-            double completionRate = (double) completedCount / allSchedules.size() * 100;
+            int totalCount = allSchedules.size();
+            double completionRate = (double) completedCount / totalCount * 100;
             
-            // 완료율 표시
-            JPanel completionInfoPanel = new JPanel(new GridLayout(3, 1, 5, 5));
-            completionInfoPanel.setBorder(BorderFactory.createTitledBorder("완료율 통계"));
-            
-            completionInfoPanel.add(createInfoPanel("총 일정", String.valueOf(allSchedules.size())));
-            completionInfoPanel.add(createInfoPanel("완료된 일정", String.valueOf(completedCount)));
-            completionInfoPanel.add(createInfoPanel("완료율", String.format("%.1f%%", completionRate)));
-            
-            completionPanel.add(completionInfoPanel, BorderLayout.CENTER);
-            completionPanel.revalidate();
-            completionPanel.repaint();
+            return () -> {
+                completionPanel.removeAll();
+                
+                // 완료율 표시
+                JPanel completionInfoPanel = new JPanel(new GridLayout(3, 1, 5, 5));
+                completionInfoPanel.setBorder(BorderFactory.createTitledBorder("완료율 통계"));
+                
+                completionInfoPanel.add(createInfoPanel("총 일정", String.valueOf(totalCount)));
+                completionInfoPanel.add(createInfoPanel("완료된 일정", String.valueOf(completedCount)));
+                completionInfoPanel.add(createInfoPanel("완료율", String.format("%.1f%%", completionRate)));
+                
+                completionPanel.add(completionInfoPanel, BorderLayout.CENTER);
+                completionPanel.revalidate();
+                completionPanel.repaint();
+            };
         } catch (Exception e) {
-            System.err.println("완료율 통계 업데이트 중 오류: " + e.getMessage());
-            completionPanel.removeAll();
-            completionPanel.add(new JLabel("완료율 통계를 불러올 수 없습니다.", SwingConstants.CENTER));
-            completionPanel.revalidate();
-            completionPanel.repaint();
+            LOG.error("완료율 통계 업데이트 중 오류: " + e.getMessage());
+            return messageRender(completionPanel, "완료율 통계를 불러올 수 없습니다.");
         }
     }
 
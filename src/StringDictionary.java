@@ -0,0 +1,37 @@
+import java.util.concurrent.ConcurrentHashMap;
+
+// 여러 일정에 반복되는 문자열(카테고리, 장소, 색상, 사용자 ID, 태그)을 한 벌만 두는 사전
+// 같은 내용이면 늘 같은 String 객체를 돌려주므로 일정마다 따로 문자열을 들고 있지 않아도 되고,
+// 같은 객체끼리의 equals는 참조 비교에서 바로 끝난다.
+// 장소나 태그처럼 HTTP API나 동기화로 들어오는 값은 종류가 끝없이 늘 수 있으므로 크기를 MAX_SIZE로 제한한다.
+// 사전이 다 차면 새 문자열은 넣지 않고 받은 그대로 돌려준다 (값은 같고 메모리만 덜 아낀다).
+// 한 번 들어간 문자열은 빠지지 않는다.
+public final class StringDictionary {
+    // 여러 스레드가 동시에 넣으면 그 수만큼 넘을 수 있다
+    static final int MAX_SIZE = 1 << 16;
+
+    private static final ConcurrentHashMap<String, String> values = new ConcurrentHashMap<>();
+
+    private StringDictionary() {
+    }
+
+    // value와 같은 내용의 공용 String (null은 null, 사전이 다 찼고 처음 보는 문자열이면 value 그대로)
+    public static String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String canonical = values.get(value);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (values.size() >= MAX_SIZE) {
+            return value;
+        }
+        canonical = values.putIfAbsent(value, value);
+        return canonical != null ? canonical : value;
+    }
+
+    public static int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,114 @@
+import java.io.*;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 반복 문자열 사전(StringDictionary)으로 아끼는 힙 측정
+// 일정 N개를 파일에 쓰고 다시 읽듯이 직렬화했다가 읽어 들인다 (DataStorage.loadSchedules와 같은 경로).
+// 읽을 때 장소/카테고리/색상/사용자 ID/태그가 일정마다 새 String으로 만들어지는데, Schedule.readObject가 사전의 공용 문자열로 바꾼다.
+// 사전이 없을 때 일정마다 남았을 문자열 사본의 크기를 직접 만들어 재서 아낀 양으로 보여 주고, 100만 개 기준으로 환산한다.
+// 마지막으로 처음 보는 문자열을 사전 크기보다 많이 넣어 사전이 MAX_SIZE에서 더 늘지 않는지 확인한다.
+// 실행: java StringDictionaryBenchmark [일정 수 (기본 200000)]
+public class StringDictionaryBenchmark {
+    private static final String[] CATEGORIES = {"업무", "개인", "운동", "공부", "기타"};
+    private static final String[] LOCATIONS = {"회의실 A", "회의실 B", "본사 3층 대회의실", "카페", "집"};
+    private static final String[] COLORS = {"#4A90E2", "#E24A4A", "#4AE28C"};
+    private static final String[] TAGS = {"팀", "정기", "중요", "외부"};
+
+    public static void main(String[] args) throws Exception {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        // 직렬화된 바이트는 로드 크기를 잴 때까지 살아 있다가 그다음 측정 전에 놓는다
+        byte[][] data = {serialize(createSchedules(count))};
+
+        long before = usedHeap();
+        Map<String, Schedule> loaded = deserialize(data[0]);
+        long loadedBytes = usedHeap() - before;
+        data[0] = null;
+        System.out.printf("일정 %d개 로드: %.1f bytes/일정, 사전 문자열 %d개%n",
+            loaded.size(), (double) loadedBytes / count, StringDictionary.size());
+
+        // 사전이 없었다면 일정마다 남았을 반복 문자열 사본
+        before = usedHeap();
+        List<String> copies = new ArrayList<>();
+        for (Schedule schedule : loaded.values()) {
+            copies.add(copyOf(schedule.getLocation()));
+            copies.add(copyOf(schedule.getCategory()));
+            copies.add(copyOf(schedule.getColor()));
+            copies.add(copyOf(schedule.getUserId()));
+            for (String tag : schedule.getTags()) {
+                copies.add(copyOf(tag));
+            }
+        }
+        // 사본을 담은 리스트 자체는 빼고 센다
+        long listBytes = (long) copies.size() * 4 + 16;
+        long savedBytes = usedHeap() - before - listBytes;
+        System.out.printf("사전으로 아낀 문자열 사본 %d개: %.1f bytes/일정, 100만 개면 약 %.0f MB%n",
+            copies.size(), (double) savedBytes / count, (double) savedBytes / count * 1_000_000 / (1024 * 1024));
+
+        // 처음 보는 문자열이 끝없이 들어와도 사전은 MAX_SIZE 근처에서 멈춰야 한다
+        for (int i = 0; i < StringDictionary.MAX_SIZE * 2; i++) {
+            StringDictionary.intern("client-location-" + i);
+        }
+        System.out.println("처음 보는 문자열 " + StringDictionary.MAX_SIZE * 2 + "개를 넣은 뒤 사전 크기: "
+            + StringDictionary.size() + " (상한 " + StringDictionary.MAX_SIZE + ")");
+
+        if (loaded.isEmpty() || copies.isEmpty()) {
+            throw new IllegalStateException();
+        }
+        System.exit(0);
+    }
+
+    // 역직렬화처럼 내용 배열까지 따로 가진 사본 (new String(String)은 배열을 나눠 쓴다)
+    private static String copyOf(String value) {
+        return new String(value.toCharArray());
+    }
+
+    private static Map<String, Schedule> createSchedules(int count) {
+        Map<String, Schedule> schedules = new HashMap<>();
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime start = base.plusHours(i);
+            Schedule schedule = new Schedule("SCH" + i, "일정 " + i, "", start, start.plusHours(1),
+                LOCATIONS[i % LOCATIONS.length], CATEGORIES[i % CATEGORIES.length], false, "user" + (i % 200));
+            schedule.setColor(COLORS[i % COLORS.length]);
+            schedule.setTags(new HashSet<>(Arrays.asList(TAGS[i % TAGS.length], TAGS[(i + 1) % TAGS.length])));
+            schedules.put(schedule.getScheduleId(), schedule);
+        }
+        return schedules;
+    }
+
+    private static byte[] serialize(Map<String, Schedule> schedules) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(schedules);
+        }
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Schedule> deserialize(byte[] data) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            return (Map<String, Schedule>) in.readObject();
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        // 한 번의 GC로는 다 치워지지 않을 수 있으므로 더 줄지 않을 때까지 반복
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long current = runtime.totalMemory() - runtime.freeMemory();
+            if (current >= used) {
+                return current;
+            }
+            used = current;
+        }
+        return used;
+    }
+}
@@ -0,0 +1,355 @@
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.*;
+import java.util.concurrent.Executor;
+
+// 데스크톱 클라이언트 쪽 동기화
+// 로컬 일정(ScheduleManager)을 복제본으로 두고, 일정이 바뀔 때마다 바뀐 필드에 스탬프를 찍어 둔다.
+// sync()는 마지막 동기화 이후 바뀐 필드만 서버로 보내고, 서버에서 받은 변경분을 필드 단위로 병합해 반영한다.
+// 전체 schedules.dat를 주고받지 않으므로 전송량은 데이터 크기가 아니라 변경량에 비례한다.
+public class SyncClient implements ScheduleManager.ScheduleUpdateListener {
+    private static final Log LOG = Log.get(SyncClient.class);
+
+    private static final String STATE_FILE = "sync-client.dat";
+
+    private final ScheduleManager scheduleManager;
+    private final Executor applyExecutor;
+    private final boolean persistent;
+    private final State state;
+    // 서버 변경분을 반영하는 중에는 그 변경을 로컬 변경으로 기록하지 않는다
+    private volatile boolean applyingRemote;
+
+    // 서버와 주고받는 방법 (같은 JVM의 SyncServer::handle 또는 SocketTransport)
+    public interface SyncTransport {
+        byte[] exchange(byte[] request) throws IOException;
+    }
+
+    // 클라이언트 상태 (파일로 저장)
+    private static class State implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final String nodeId = UUID.randomUUID().toString();
+        long lamport;
+        // 마지막으로 받은 서버 순번
+        long cursor;
+        // 일정별 필드 값과 스탬프 (마지막으로 알고 있는 상태)
+        final Map<String, SyncProtocol.Document> documents = new HashMap<>();
+        // 아직 서버로 보내지 않은 필드
+        final Map<String, Set<String>> dirty = new HashMap<>();
+        // 서버 값을 병합했지만 아직 로컬 일정에 반영하지 못한 일정 (반영에 실패하면 다음 동기화 때 다시 반영한다)
+        Set<String> pendingApply = new HashSet<>();
+
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            // 반영 대기 목록이 없던 때 저장한 상태
+            if (pendingApply == null) {
+                pendingApply = new HashSet<>();
+            }
+        }
+    }
+
+    // 동기화 한 번의 결과
+    public static class SyncResult {
+        private final int sentDocuments;
+        private final int receivedDocuments;
+        private final int sentBytes;
+        private final int receivedBytes;
+
+        SyncResult(int sentDocuments, int receivedDocuments, int sentBytes, int receivedBytes) {
+            this.sentDocuments = sentDocuments;
+            this.receivedDocuments = receivedDocuments;
+            this.sentBytes = sentBytes;
+            this.receivedBytes = receivedBytes;
+        }
+
+        public int getSentDocuments() { return sentDocuments; }
+        public int getReceivedDocuments() { return receivedDocuments; }
+        public int getSentBytes() { return sentBytes; }
+        public int getReceivedBytes() { return receivedBytes; }
+    }
+
+    // applyExecutor: 서버 변경분을 ScheduleManager에 반영할 스레드 (화면에서는 EDT, 그 외에는 Runnable::run)
+    // persistent가 false면 상태를 파일로 저장하지 않는다 (테스트, 같은 JVM 안의 여러 복제본용)
+    public SyncClient(ScheduleManager scheduleManager, Executor applyExecutor, boolean persistent) {
+        this.scheduleManager = scheduleManager;
+        this.applyExecutor = applyExecutor;
+        this.persistent = persistent;
+        Object loaded = persistent ? DataStorage.loadSyncState(STATE_FILE) : null;
+        this.state = loaded instanceof State loadedState ? loadedState : new State();
+        reconcile();
+        scheduleManager.addScheduleUpdateListener(this);
+    }
+
+    public String getNodeId() {
+        return state.nodeId;
+    }
+
+    // 앱이 꺼져 있는 동안 (또는 처음 연결할 때) 바뀐 로컬 일정을 변경으로 기록
+    // 반영하지 못한 서버 값이 남은 일정은 로컬과 다른 것이 당연하므로 건너뛰고 다음 동기화 때 다시 반영한다
+    private synchronized void reconcile() {
+        Set<String> present = new HashSet<>();
+        for (Schedule schedule : scheduleManager.getAllSchedules()) {
+            present.add(schedule.getScheduleId());
+            if (!state.pendingApply.contains(schedule.getScheduleId())) {
+                recordFields(schedule, schedule.getUpdatedAtMillis());
+            }
+        }
+        for (SyncProtocol.Document document : state.documents.values()) {
+            if (!present.contains(document.scheduleId) && !document.isDeleted()
+                    && !state.pendingApply.contains(document.scheduleId)) {
+                recordDeletion(document.scheduleId);
+            }
+        }
+        save();
+    }
+
+    @Override
+    public void onScheduleUpdated(Schedule before, Schedule after) {
+        if (applyingRemote) {
+            return;
+        }
+        synchronized (this) {
+            if (after != null && state.pendingApply.contains(after.getScheduleId())) {
+                recordEditedFields(before, after, System.currentTimeMillis());
+            } else if (after != null) {
+                recordFields(after, System.currentTimeMillis());
+            } else if (before != null) {
+                recordDeletion(before.getScheduleId());
+            }
+            save();
+        }
+    }
+
+    // 알고 있는 값과 다른 필드만 새 스탬프로 기록
+    private void recordFields(Schedule schedule, long updatedAtMillis) {
+        SyncProtocol.Document document = state.documents.computeIfAbsent(
+            schedule.getScheduleId(), SyncProtocol.Document::new);
+        boolean wasDeleted = document.isDeleted();
+        Map<String, String> values = SyncProtocol.readFields(schedule);
+        // 문서에는 있는데 일정에서 빠진 집합 원소는 null로 기록한다
+        for (Map.Entry<String, SyncProtocol.FieldValue> entry : document.fields.entrySet()) {
+            if (entry.getValue().value != null && SyncProtocol.isElementField(entry.getKey())) {
+                values.putIfAbsent(entry.getKey(), null);
+            }
+        }
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            SyncProtocol.FieldValue current = document.fields.get(entry.getKey());
+            if (wasDeleted || current == null || !Objects.equals(current.value, entry.getValue())) {
+                // 삭제 표시보다 나중 시각이어야 다시 살아난 일정으로 본다
+                long stampMillis = Math.max(updatedAtMillis, latestMillis(document) + 1);
+                document.fields.put(entry.getKey(), new SyncProtocol.FieldValue(entry.getValue(), nextStamp(stampMillis)));
+                markDirty(document.scheduleId, entry.getKey());
+            }
+        }
+    }
+
+    // 서버 값을 아직 반영하지 못한 일정이 수정되면 이번에 바뀐 필드만 기록한다
+    // (문서와 다른 나머지 필드는 로컬 변경이 아니라 아직 반영하지 못한 서버 값이다)
+    private void recordEditedFields(Schedule before, Schedule after, long updatedAtMillis) {
+        SyncProtocol.Document document = state.documents.computeIfAbsent(
+            after.getScheduleId(), SyncProtocol.Document::new);
+        Map<String, String> previous = before != null ? SyncProtocol.readFields(before) : Collections.emptyMap();
+        Map<String, String> values = SyncProtocol.readFields(after);
+        for (String field : previous.keySet()) {
+            if (SyncProtocol.isElementField(field)) {
+                values.putIfAbsent(field, null);
+            }
+        }
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            if (!Objects.equals(previous.get(entry.getKey()), entry.getValue())) {
+                long stampMillis = Math.max(updatedAtMillis, latestMillis(document) + 1);
+                document.fields.put(entry.getKey(), new SyncProtocol.FieldValue(entry.getValue(), nextStamp(stampMillis)));
+                markDirty(document.scheduleId, entry.getKey());
+            }
+        }
+    }
+
+    private void recordDeletion(String scheduleId) {
+        SyncProtocol.Document document = state.documents.computeIfAbsent(scheduleId, SyncProtocol.Document::new);
+        long stampMillis = Math.max(System.currentTimeMillis(), latestMillis(document) + 1);
+        document.fields.put(SyncProtocol.DELETED_FIELD, new SyncProtocol.FieldValue("true", nextStamp(stampMillis)));
+        markDirty(scheduleId, SyncProtocol.DELETED_FIELD);
+    }
+
+    private static long latestMillis(SyncProtocol.Document document) {
+        long latest = Long.MIN_VALUE + 1;
+        for (SyncProtocol.FieldValue value : document.fields.values()) {
+            latest = Math.max(latest, value.stamp.updatedAtMillis);
+        }
+        return latest;
+    }
+
+    private SyncProtocol.Stamp nextStamp(long updatedAtMillis) {
+        state.lamport++;
+        return new SyncProtocol.Stamp(updatedAtMillis, state.lamport, state.nodeId);
+    }
+
+    private void markDirty(String scheduleId, String field) {
+        state.dirty.computeIfAbsent(scheduleId, _ -> new HashSet<>()).add(field);
+    }
+
+    // 서버와 한 번 동기화 (네트워크 대기 중에는 잠금을 잡지 않아 화면의 일정 수정을 막지 않는다)
+    public SyncResult sync(SyncTransport transport) throws IOException {
+        SyncProtocol.Batch request;
+        synchronized (this) {
+            List<SyncProtocol.Document> outgoing = new ArrayList<>();
+            for (Map.Entry<String, Set<String>> entry : state.dirty.entrySet()) {
+                SyncProtocol.Document document = state.documents.get(entry.getKey());
+                SyncProtocol.Document delta = new SyncProtocol.Document(entry.getKey());
+                for (String field : entry.getValue()) {
+                    delta.fields.put(field, document.fields.get(field));
+                }
+                outgoing.add(delta);
+            }
+            request = new SyncProtocol.Batch(state.nodeId, state.cursor, state.lamport, outgoing);
+        }
+
+        byte[] requestBytes = SyncProtocol.encode(request);
+        byte[] responseBytes = transport.exchange(requestBytes);
+        SyncProtocol.Batch response = SyncProtocol.decode(responseBytes);
+
+        Map<String, SyncProtocol.Document> changed = new LinkedHashMap<>();
+        synchronized (this) {
+            // 보내는 동안 다시 바뀌지 않은 필드만 보낸 것으로 처리
+            for (SyncProtocol.Document sent : request.documents) {
+                Set<String> dirtyFields = state.dirty.get(sent.scheduleId);
+                if (dirtyFields == null) {
+                    continue;
+                }
+                SyncProtocol.Document current = state.documents.get(sent.scheduleId);
+                for (Map.Entry<String, SyncProtocol.FieldValue> field : sent.fields.entrySet()) {
+                    if (current.fields.get(field.getKey()) == field.getValue()) {
+                        dirtyFields.remove(field.getKey());
+                    }
+                }
+                if (dirtyFields.isEmpty()) {
+                    state.dirty.remove(sent.scheduleId);
+                }
+            }
+
+            state.lamport = Math.max(state.lamport, response.lamport);
+            for (SyncProtocol.Document incoming : response.documents) {
+                SyncProtocol.Document document = state.documents.computeIfAbsent(
+                    incoming.scheduleId, SyncProtocol.Document::new);
+                boolean merged = false;
+                for (Map.Entry<String, SyncProtocol.FieldValue> field : incoming.fields.entrySet()) {
+                    if (document.merge(field.getKey(), field.getValue())) {
+                        merged = true;
+                        // 서버 값이 이긴 필드는 더 이상 보낼 필요가 없다
+                        Set<String> dirtyFields = state.dirty.get(incoming.scheduleId);
+                        if (dirtyFields != null) {
+                            dirtyFields.remove(field.getKey());
+                        }
+                    }
+                }
+                if (merged) {
+                    state.pendingApply.add(incoming.scheduleId);
+                }
+            }
+            // 이번에 받은 변경과 지난번에 반영하지 못한 변경을 함께 반영한다
+            for (String scheduleId : state.pendingApply) {
+                changed.put(scheduleId, copyOf(state.documents.get(scheduleId)));
+            }
+            state.dirty.values().removeIf(Set::isEmpty);
+            state.cursor = response.cursor;
+            save();
+        }
+
+        if (!changed.isEmpty()) {
+            List<SyncProtocol.Document> documents = new ArrayList<>(changed.values());
+            applyExecutor.execute(() -> applyRemote(documents));
+        }
+        return new SyncResult(request.documents.size(), response.documents.size(),
+            requestBytes.length, responseBytes.length);
+    }
+
+    private static SyncProtocol.Document copyOf(SyncProtocol.Document document) {
+        SyncProtocol.Document copy = new SyncProtocol.Document(document.scheduleId);
+        copy.fields.putAll(document.fields);
+        return copy;
+    }
+
+    // 일정마다 따로 반영해 하나가 실패해도 나머지는 반영하고, 실패한 일정은 반영 대기 목록에 남겨 다음 동기화 때 다시 반영한다
+    private void applyRemote(List<SyncProtocol.Document> documents) {
+        List<SyncProtocol.Document> applied = new ArrayList<>();
+        applyingRemote = true;
+        try {
+            for (SyncProtocol.Document document : documents) {
+                try {
+                    applyDocument(document);
+                    applied.add(document);
+                } catch (RuntimeException e) {
+                    LOG.error("동기화 변경 반영 중 오류 발생 (일정 " + document.scheduleId
+                        + ", 다음 동기화 때 다시 반영): " + e.getMessage(), e);
+                }
+            }
+        } finally {
+            applyingRemote = false;
+        }
+        synchronized (this) {
+            for (SyncProtocol.Document document : applied) {
+                // 반영하는 동안 더 새로운 서버 값이 병합됐으면 그 값도 반영할 때까지 남겨 둔다
+                SyncProtocol.Document current = state.documents.get(document.scheduleId);
+                if (current != null && current.fields.equals(document.fields)) {
+                    state.pendingApply.remove(document.scheduleId);
+                }
+            }
+            save();
+        }
+    }
+
+    private void applyDocument(SyncProtocol.Document document) {
+        Schedule existing = scheduleManager.findScheduleById(document.scheduleId);
+        if (document.isDeleted()) {
+            if (existing != null) {
+                scheduleManager.removeSchedule(document.scheduleId);
+            }
+        } else if (existing != null) {
+            // 반영하다 실패해도 지금 일정이 반쯤 바뀌지 않도록 복사본에 반영해서 바꿔 끼운다
+            Schedule updated = existing.copy();
+            SyncProtocol.applyFields(document, updated);
+            scheduleManager.updateSchedule(updated);
+        } else {
+            Schedule created = SyncProtocol.newSchedule(document);
+            if (created != null) {
+                scheduleManager.createSchedule(created);
+            }
+        }
+    }
+
+    private void save() {
+        if (persistent) {
+            DataStorage.saveSyncState(STATE_FILE, state);
+        }
+    }
+
+    // 로컬 TCP로 SyncServer에 연결 (요청마다 연결을 새로 연다)
+    public static class SocketTransport implements SyncTransport {
+        private static final int TIMEOUT_MILLIS = 10000;
+
+        private final String host;
+        private final int port;
+
+        public SocketTransport(String host, int port) {
+            this.host = host;
+            this.port = port;
+        }
+
+        @Override
+        public byte[] exchange(byte[] request) throws IOException {
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress(host, port), TIMEOUT_MILLIS);
+                socket.setSoTimeout(TIMEOUT_MILLIS);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+                DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                SyncServer.writeFrame(out, request);
+                byte[] response = SyncServer.readFrame(in);
+                if (response == null) {
+                    throw new EOFException("동기화 서버가 응답 없이 연결을 닫았습니다.");
+                }
+                return response;
+            }
+        }
+    }
+}
@@ -0,0 +1,449 @@
+import java.io.*;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+// 데스크톱 클라이언트와 동기화 서버가 주고받는 변경분 형식
+// 일정은 필드 단위로 (값, 스탬프)를 가지며, 스탬프는 수정 시각(updatedAt) -> 램포트 시계 -> 노드 ID 순으로
+// 비교해 큰 쪽이 이긴다. 어느 쪽에서 병합해도 같은 결과가 나오도록 비교 규칙은 여기 한 곳에만 둔다.
+// 배치는 DataOutputStream으로 쓴 뒤 Deflate로 압축해 보낸다.
+public final class SyncProtocol {
+    private static final int MAGIC = 0x53594e43; // "SYNC"
+    private static final int FORMAT_VERSION = 1;
+    // 삭제 표시용 필드 (값이 있으면 삭제된 일정)
+    public static final String DELETED_FIELD = "_deleted";
+
+    private SyncProtocol() {
+    }
+
+    // 필드 값을 마지막으로 바꾼 시점
+    public static final class Stamp implements Serializable, Comparable<Stamp> {
+        private static final long serialVersionUID = 1L;
+
+        public final long updatedAtMillis;
+        public final long lamport;
+        public final String nodeId;
+
+        public Stamp(long updatedAtMillis, long lamport, String nodeId) {
+            this.updatedAtMillis = updatedAtMillis;
+            this.lamport = lamport;
+            this.nodeId = nodeId;
+        }
+
+        @Override
+        public int compareTo(Stamp other) {
+            int result = Long.compare(updatedAtMillis, other.updatedAtMillis);
+            if (result == 0) {
+                result = Long.compare(lamport, other.lamport);
+            }
+            if (result == 0) {
+                result = nodeId.compareTo(other.nodeId);
+            }
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Stamp other && compareTo(other) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(updatedAtMillis, lamport, nodeId);
+        }
+    }
+
+    // 필드 하나의 값과 스탬프 (value가 null이면 빈 값)
+    public static final class FieldValue implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        public final String value;
+        public final Stamp stamp;
+
+        public FieldValue(String value, Stamp stamp) {
+            this.value = value;
+            this.stamp = stamp;
+        }
+    }
+
+    // 일정 하나의 필드별 상태
+    public static final class Document implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        public final String scheduleId;
+        public final Map<String, FieldValue> fields = new HashMap<>();
+
+        public Document(String scheduleId) {
+            this.scheduleId = scheduleId;
+        }
+
+        // 들어온 필드가 더 새로우면 반영하고 true
+        public boolean merge(String field, FieldValue incoming) {
+            FieldValue current = fields.get(field);
+            if (current != null && current.stamp.compareTo(incoming.stamp) >= 0) {
+                return false;
+            }
+            fields.put(field, incoming);
+            return true;
+        }
+
+        public String get(String field) {
+            FieldValue value = fields.get(field);
+            return value != null ? value.value : null;
+        }
+
+        // 삭제 표시가 다른 모든 필드보다 나중이면 삭제된 일정
+        public boolean isDeleted() {
+            FieldValue deleted = fields.get(DELETED_FIELD);
+            if (deleted == null || deleted.value == null) {
+                return false;
+            }
+            for (Map.Entry<String, FieldValue> entry : fields.entrySet()) {
+                if (!entry.getKey().equals(DELETED_FIELD) && entry.getValue().stamp.compareTo(deleted.stamp) > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    // 한 번에 주고받는 변경분
+    // 요청: 보낸 노드, 마지막으로 받은 서버 순번, 보낼 변경분
+    // 응답: 현재 서버 순번, 서버가 본 가장 큰 램포트 값, 그 순번 이후의 변경분
+    public static final class Batch {
+        public final String nodeId;
+        public final long cursor;
+        public final long lamport;
+        public final List<Document> documents;
+
+        public Batch(String nodeId, long cursor, long lamport, List<Document> documents) {
+            this.nodeId = nodeId;
+            this.cursor = cursor;
+            this.lamport = lamport;
+            this.documents = documents;
+        }
+    }
+
+    // 동기화하는 일정 필드 (이름, 문자열로 꺼내기, 문자열에서 넣기)
+    private static final class Field {
+        final String name;
+        final Function<Schedule, String> getter;
+        final BiConsumer<Schedule, String> setter;
+
+        Field(String name, Function<Schedule, String> getter, BiConsumer<Schedule, String> setter) {
+            this.name = name;
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+
+    // 원소마다 따로 병합하는 집합 필드
+    // 문서에는 "접두어:원소" 필드가 원소마다 하나씩 들어가고, 값이 null이면 빠진 원소다.
+    // 그래서 두 노드가 서로 다른 원소를 넣고 빼도 둘 다 남고, 같은 원소를 두고 다투면 나중 스탬프가 이긴다.
+    private static final class SetField {
+        final String prefix;
+        // 일정의 현재 원소 (원소 -> 값)
+        final Function<Schedule, Map<String, String>> getter;
+        final BiConsumer<Schedule, Map<String, String>> setter;
+
+        SetField(String name, Function<Schedule, Map<String, String>> getter,
+                 BiConsumer<Schedule, Map<String, String>> setter) {
+            this.prefix = name + ":";
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+
+    // 완료 여부는 상태가 COMPLETED인지로 정하므로 상태 하나로만 주고받는다
+    // 반복 설정(반복 여부, 유형, 간격, 종료일)은 서로 맞아야 하는 값이라 한 필드로 묶는다
+    private static final List<Field> FIELDS = List.of(
+        new Field("userId", Schedule::getUserId, (schedule, value) -> { }),
+        new Field("title", Schedule::getTitle, Schedule::setTitle),
+        new Field("description", Schedule::getDescription, Schedule::setDescription),
+        new Field("startTime", schedule -> formatDateTime(schedule.getStartTime()),
+            (schedule, value) -> schedule.setStartTime(parseDateTime(value))),
+        new Field("endTime", schedule -> formatDateTime(schedule.getEndTime()),
+            (schedule, value) -> schedule.setEndTime(parseDateTime(value))),
+        new Field("location", Schedule::getLocation, Schedule::setLocation),
+        new Field("category", Schedule::getCategory, Schedule::setCategory),
+        new Field("important", schedule -> String.valueOf(schedule.isImportant()),
+            (schedule, value) -> schedule.setImportant(Boolean.parseBoolean(value))),
+        // 시작 시각이 지나 진행 중으로 보이는 것은 노드마다 스스로 정하므로 사용자가 정한 상태만 주고받는다
+        new Field("status", schedule -> schedule.getEditedStatus().getCode(), (schedule, value) -> {
+            Schedule.Status status = Schedule.Status.fromCode(value);
+            if (status != null && status != schedule.getEditedStatus()) {
+                schedule.setStatus(status);
+            }
+        }),
+        new Field("priority", schedule -> String.valueOf(schedule.getPriority()),
+            (schedule, value) -> schedule.setPriority(value != null ? Integer.parseInt(value) : 0)),
+        new Field("color", Schedule::getColor, Schedule::setColor),
+        new Field("reminderMinutes", schedule -> String.valueOf(schedule.getReminderMinutes()),
+            (schedule, value) -> schedule.setReminderMinutes(value != null ? Integer.parseInt(value) : 30)),
+        new Field("tags", schedule -> joinSorted(schedule.getTags()),
+            (schedule, value) -> schedule.setTags(new HashSet<>(splitList(value)))),
+        new Field("recurrence", SyncProtocol::formatRecurrence, SyncProtocol::applyRecurrence)
+    );
+
+    private static final List<SetField> SET_FIELDS = List.of(
+        new SetField("exceptionDate", schedule -> {
+            Map<String, String> elements = new HashMap<>();
+            for (LocalDateTime date : schedule.getExceptionDates()) {
+                elements.put(date.toString(), "true");
+            }
+            return elements;
+        }, (schedule, elements) -> {
+            Set<LocalDateTime> dates = new HashSet<>();
+            for (String date : elements.keySet()) {
+                dates.add(LocalDateTime.parse(date));
+            }
+            schedule.setExceptionDates(dates);
+        }),
+        // 공유받은 사용자 -> 권한
+        new SetField("sharedUser", schedule -> new HashMap<>(schedule.getSharedUsers()),
+            Schedule::setSharedUsers),
+        new SetField("sharedWith", schedule -> {
+            Map<String, String> elements = new HashMap<>();
+            for (String userId : schedule.getSharedWith()) {
+                elements.put(userId, "true");
+            }
+            return elements;
+        }, (schedule, elements) -> schedule.setSharedWith(elements.keySet())),
+        // 하위 작업 ID -> 완료 여부(1/0) + 제목
+        new SetField("subTask", schedule -> {
+            Map<String, String> elements = new HashMap<>();
+            for (Schedule.SubTask subTask : schedule.getSubTasks()) {
+                elements.put(subTask.getId(), (subTask.isCompleted() ? "1" : "0") + subTask.getTitle());
+            }
+            return elements;
+        }, SyncProtocol::applySubTasks)
+    );
+
+    public static List<String> fieldNames() {
+        List<String> names = new ArrayList<>(FIELDS.size());
+        for (Field field : FIELDS) {
+            names.add(field.name);
+        }
+        return names;
+    }
+
+    // 집합 필드의 원소 하나를 나타내는 필드 이름인지
+    public static boolean isElementField(String name) {
+        for (SetField field : SET_FIELDS) {
+            if (name.startsWith(field.prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 일정의 현재 필드 값 (필드 이름 -> 문자열, 집합 필드는 지금 들어 있는 원소만)
+    public static Map<String, String> readFields(Schedule schedule) {
+        Map<String, String> values = new HashMap<>();
+        for (Field field : FIELDS) {
+            values.put(field.name, field.getter.apply(schedule));
+        }
+        for (SetField field : SET_FIELDS) {
+            for (Map.Entry<String, String> element : field.getter.apply(schedule).entrySet()) {
+                values.put(field.prefix + element.getKey(), element.getValue());
+            }
+        }
+        return values;
+    }
+
+    // 문서의 필드 값을 일정에 반영 (문서에 없는 필드는 그대로 둔다)
+    public static void applyFields(Document document, Schedule schedule) {
+        for (Field field : FIELDS) {
+            FieldValue value = document.fields.get(field.name);
+            if (value != null && !Objects.equals(value.value, field.getter.apply(schedule))) {
+                field.setter.accept(schedule, value.value);
+            }
+        }
+        for (SetField field : SET_FIELDS) {
+            // 원소 필드가 하나도 없으면 (이 필드를 모르는 노드가 만든 문서) 그대로 둔다
+            boolean known = false;
+            Map<String, String> elements = new HashMap<>();
+            for (Map.Entry<String, FieldValue> entry : document.fields.entrySet()) {
+                if (entry.getKey().startsWith(field.prefix)) {
+                    known = true;
+                    if (entry.getValue().value != null) {
+                        elements.put(entry.getKey().substring(field.prefix.length()), entry.getValue().value);
+                    }
+                }
+            }
+            if (known && !elements.equals(field.getter.apply(schedule))) {
+                field.setter.accept(schedule, elements);
+            }
+        }
+    }
+    // 문서에서 새 일정 만들기 (시간이나 소유자가 아직 없으면 null)
+    public static Schedule newSchedule(Document document) {
+        String userId = document.get("userId");
+        LocalDateTime startTime = parseDateTime(document.get("startTime"));
+        LocalDateTime endTime = parseDateTime(document.get("endTime"));
+        if (userId == null || startTime == null || endTime == null) {
+            return null;
+        }
+        Schedule schedule = new Schedule(document.scheduleId,
+            Objects.requireNonNullElse(document.get("title"), ""),
+            Objects.requireNonNullElse(document.get("description"), ""), startTime, endTime,
+            Objects.requireNonNullElse(document.get("location"), ""),
+            Objects.requireNonNullElse(document.get("category"), "기타"),
+            Boolean.parseBoolean(document.get("important")), userId);
+        applyFields(document, schedule);
+        return schedule;
+    }
+
+    // 배치를 압축된 바이트로
+    public static byte[] encode(Batch batch) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new DeflaterOutputStream(bytes, new Deflater(Deflater.BEST_SPEED))))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            writeString(out, batch.nodeId);
+            out.writeLong(batch.cursor);
+            out.writeLong(batch.lamport);
+            out.writeInt(batch.documents.size());
+            for (Document document : batch.documents) {
+                writeString(out, document.scheduleId);
+                out.writeInt(document.fields.size());
+                for (Map.Entry<String, FieldValue> entry : document.fields.entrySet()) {
+                    FieldValue value = entry.getValue();
+                    writeString(out, entry.getKey());
+                    writeString(out, value.value);
+                    out.writeLong(value.stamp.updatedAtMillis);
+                    out.writeLong(value.stamp.lamport);
+                    writeString(out, value.stamp.nodeId);
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    public static Batch decode(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(data))))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("알 수 없는 동기화 데이터 형식입니다.");
+            }
+            String nodeId = readString(in);
+            long cursor = in.readLong();
+            long lamport = in.readLong();
+            int count = in.readInt();
+            List<Document> documents = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Document document = new Document(readString(in));
+                int fieldCount = in.readInt();
+                for (int j = 0; j < fieldCount; j++) {
+                    String name = readString(in);
+                    String value = readString(in);
+                    long updatedAtMillis = in.readLong();
+                    long fieldLamport = in.readLong();
+                    String fieldNodeId = readString(in);
+                    document.fields.put(name, new FieldValue(value, new Stamp(updatedAtMillis, fieldLamport, fieldNodeId)));
+                }
+                documents.add(document);
+            }
+            return new Batch(nodeId, cursor, lamport, documents);
+        }
+    }
+
+    // writeUTF는 64KB를 넘는 설명을 쓸 수 없으므로 길이(-1은 null) + UTF-8 바이트로 쓴다
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, java.nio.charset.StandardCharsets.UTF_8);
+    }
+
+    private static String formatDateTime(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toString() : null;
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        return value != null ? LocalDateTime.parse(value) : null;
+    }
+
+    // 반복 여부/유형/간격/종료일 (종료일이 없으면 빈 칸)
+    private static String formatRecurrence(Schedule schedule) {
+        LocalDateTime end = schedule.getRecurrenceEnd();
+        return schedule.isRecurring() + "|" + schedule.getRecurrenceType() + "|"
+            + schedule.getRecurrenceInterval() + "|" + (end != null ? end : "");
+    }
+
+    private static void applyRecurrence(Schedule schedule, String value) {
+        if (value == null) {
+            return;
+        }
+        String[] parts = value.split("\\|", -1);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("반복 설정 형식이 올바르지 않습니다: " + value);
+        }
+        schedule.setRecurring(Boolean.parseBoolean(parts[0]));
+        // 시작 시각과 함께 바뀌는 중일 수 있으므로 종료일 검사 없이 넣는다
+        schedule.setRecurrence(Schedule.RecurrenceType.valueOf(parts[1]),
+            parts[3].isEmpty() ? null : LocalDateTime.parse(parts[3]));
+        schedule.setRecurrenceInterval(Integer.parseInt(parts[2]));
+    }
+
+    // 하위 작업은 ID로 맞춰 완료 여부를 바꾸고, 제목이 바뀐 것은 새로 넣는다 (새 하위 작업은 ID 순으로 뒤에 붙는다)
+    private static void applySubTasks(Schedule schedule, Map<String, String> elements) {
+        Map<String, Schedule.SubTask> current = new HashMap<>();
+        for (Schedule.SubTask subTask : schedule.getSubTasks()) {
+            current.put(subTask.getId(), subTask);
+        }
+        for (Schedule.SubTask subTask : current.values()) {
+            String value = elements.get(subTask.getId());
+            if (value == null || !value.substring(1).equals(subTask.getTitle())) {
+                schedule.removeSubTask(subTask.getId());
+            }
+        }
+        for (String id : new TreeSet<>(elements.keySet())) {
+            String value = elements.get(id);
+            boolean completed = value.startsWith("1");
+            Schedule.SubTask subTask = current.get(id);
+            if (subTask == null || !value.substring(1).equals(subTask.getTitle())) {
+                subTask = new Schedule.SubTask(id, value.substring(1));
+                schedule.addSubTask(subTask);
+            }
+            if (subTask.isCompleted() != completed) {
+                subTask.setCompleted(completed);
+            }
+        }
+    }
+
+    // 태그 목록은 정렬해 줄바꿈으로 잇는다 (순서만 다른 경우 변경으로 보지 않도록)
+    private static String joinSorted(Collection<String> values) {
+        if (values == null || values.isEmpty()) {
+            return "";
+        }
+        List<String> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return String.join("\n", sorted);
+    }
+
+    private static List<String> splitList(String value) {
+        if (value == null || value.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(Arrays.asList(value.split("\n")));
+    }
+}
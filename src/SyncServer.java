@@ -0,0 +1,219 @@
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 여러 데스크톱 클라이언트가 일정을 맞추는 동기화 서버
+// 필드마다 서버 순번(seq)을 매겨 두고, 클라이언트가 보낸 마지막 순번 이후에 바뀐 필드만 돌려준다.
+// 같은 JVM 안에서는 handle()을 바로 호출하고, 다른 프로세스와는 listen()으로 연 로컬 TCP 포트를 쓴다.
+// 실행: java Main --sync-server [포트] (기본 9090)
+public class SyncServer {
+    private static final Log LOG = Log.get(SyncServer.class);
+
+    public static final int DEFAULT_PORT = 9090;
+    private static final String STATE_FILE = "sync-server.dat";
+    // 한 번에 받을 요청의 최대 크기 (압축된 바이트 기준)
+    private static final int MAX_FRAME_BYTES = 16 * 1024 * 1024;
+
+    private final boolean persistent;
+    private State state;
+    private ServerSocket serverSocket;
+    private ExecutorService connections;
+
+    // 서버 상태 (파일로 저장)
+    private static class State implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final Map<String, SyncProtocol.Document> documents = new HashMap<>();
+        // 일정 ID -> 필드 -> 그 필드가 마지막으로 바뀐 서버 순번
+        final Map<String, Map<String, Long>> fieldSeqs = new HashMap<>();
+        // 서버 순번 -> 그 순번에 바뀐 일정 (일정마다 가장 최근 순번만 남김)
+        final TreeMap<Long, String> changeLog = new TreeMap<>();
+        final Map<String, Long> lastSeqs = new HashMap<>();
+        long seq;
+        long lamport;
+    }
+
+    // persistent가 false면 메모리에만 둔다 (테스트, 같은 JVM 안의 서버용)
+    public SyncServer(boolean persistent) {
+        this.persistent = persistent;
+        Object loaded = persistent ? DataStorage.loadSyncState(STATE_FILE) : null;
+        this.state = loaded instanceof State loadedState ? loadedState : new State();
+    }
+
+    // 요청 배치 하나를 처리하고 응답 배치를 돌려준다 (둘 다 압축된 바이트)
+    public byte[] handle(byte[] request) throws IOException {
+        SyncProtocol.Batch batch = SyncProtocol.decode(request);
+        SyncProtocol.Batch response;
+        synchronized (this) {
+            boolean changed = false;
+            state.lamport = Math.max(state.lamport, batch.lamport);
+            for (SyncProtocol.Document incoming : batch.documents) {
+                changed |= merge(incoming);
+            }
+            response = changesSince(batch.cursor, batch.nodeId);
+            if (changed && persistent) {
+                DataStorage.saveSyncState(STATE_FILE, state);
+            }
+        }
+        return SyncProtocol.encode(response);
+    }
+
+    private boolean merge(SyncProtocol.Document incoming) {
+        SyncProtocol.Document document = state.documents.computeIfAbsent(
+            incoming.scheduleId, SyncProtocol.Document::new);
+        Map<String, Long> seqs = state.fieldSeqs.computeIfAbsent(incoming.scheduleId, _ -> new HashMap<>());
+        boolean changed = false;
+        for (Map.Entry<String, SyncProtocol.FieldValue> entry : incoming.fields.entrySet()) {
+            SyncProtocol.FieldValue value = entry.getValue();
+            state.lamport = Math.max(state.lamport, value.stamp.lamport);
+            if (document.merge(entry.getKey(), value)) {
+                if (!changed) {
+                    state.seq++;
+                    changed = true;
+                }
+                seqs.put(entry.getKey(), state.seq);
+            }
+        }
+        if (changed) {
+            Long previous = state.lastSeqs.put(incoming.scheduleId, state.seq);
+            if (previous != null) {
+                state.changeLog.remove(previous);
+            }
+            state.changeLog.put(state.seq, incoming.scheduleId);
+        }
+        return changed;
+    }
+
+    // cursor 이후에 바뀐 필드만 담은 응답 (요청한 노드가 보낸 값 그대로인 필드는 되돌려 보내지 않음)
+    private SyncProtocol.Batch changesSince(long cursor, String nodeId) {
+        List<SyncProtocol.Document> documents = new ArrayList<>();
+        for (String scheduleId : state.changeLog.tailMap(cursor, false).values()) {
+            SyncProtocol.Document document = state.documents.get(scheduleId);
+            Map<String, Long> seqs = state.fieldSeqs.get(scheduleId);
+            SyncProtocol.Document delta = new SyncProtocol.Document(scheduleId);
+            for (Map.Entry<String, SyncProtocol.FieldValue> entry : document.fields.entrySet()) {
+                Long fieldSeq = seqs.get(entry.getKey());
+                if (fieldSeq != null && fieldSeq > cursor && !entry.getValue().stamp.nodeId.equals(nodeId)) {
+                    delta.fields.put(entry.getKey(), entry.getValue());
+                }
+            }
+            if (!delta.fields.isEmpty()) {
+                documents.add(delta);
+            }
+        }
+        return new SyncProtocol.Batch("server", state.seq, state.lamport, documents);
+    }
+
+    public synchronized long getSequence() {
+        return state.seq;
+    }
+
+    // 로컬 TCP 포트에서 요청을 받기 시작 (연결마다 가상 스레드 하나)
+    // 프레임 형식: [길이(int)][압축된 배치], 응답도 같은 형식
+    public synchronized void listen(int port) throws IOException {
+        if (serverSocket != null) {
+            throw new IllegalStateException("이미 실행 중인 동기화 서버입니다.");
+        }
+        serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        connections = Executors.newVirtualThreadPerTaskExecutor();
+        ServerSocket socket = serverSocket;
+        Thread acceptor = new Thread(() -> acceptLoop(socket), "sync-server-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        LOG.info("동기화 서버 시작: 127.0.0.1:" + socket.getLocalPort());
+    }
+
+    public synchronized int getPort() {
+        return serverSocket != null ? serverSocket.getLocalPort() : -1;
+    }
+
+    public synchronized void close() {
+        if (serverSocket == null) {
+            return;
+        }
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            LOG.error("동기화 서버 종료 중 오류 발생: " + e.getMessage());
+        }
+        connections.shutdownNow();
+        serverSocket = null;
+    }
+
+    private void acceptLoop(ServerSocket socket) {
+        while (!socket.isClosed()) {
+            try {
+                Socket client = socket.accept();
+                connections.execute(() -> serve(client));
+            } catch (SocketException e) {
+                return; // close()로 닫힘
+            } catch (IOException e) {
+                LOG.error("동기화 연결 수락 중 오류 발생: " + e.getMessage());
+            }
+        }
+    }
+
+    private void serve(Socket client) {
+        try (client;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(client.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(client.getOutputStream()))) {
+            while (true) {
+                byte[] request = readFrame(in);
+                if (request == null) {
+                    return;
+                }
+                writeFrame(out, handle(request));
+            }
+        } catch (IOException e) {
+            LOG.warn("동기화 요청 처리 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    // 스트림이 프레임 경계에서 끝났으면 null
+    static byte[] readFrame(DataInputStream in) throws IOException {
+        int length;
+        try {
+            length = in.readInt();
+        } catch (EOFException e) {
+            return null;
+        }
+        if (length < 0 || length > MAX_FRAME_BYTES) {
+            throw new IOException("동기화 데이터 크기가 올바르지 않습니다: " + length);
+        }
+        byte[] frame = new byte[length];
+        in.readFully(frame);
+        return frame;
+    }
+
+    static void writeFrame(DataOutputStream out, byte[] frame) throws IOException {
+        out.writeInt(frame.length);
+        out.write(frame);
+        out.flush();
+    }
+
+    public static void main(String[] args) {
+        int port = DEFAULT_PORT;
+        if (args.length > 1) {
+            try {
+                port = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                System.err.println("포트 값이 올바른 숫자가 아닙니다: " + args[1]);
+                System.exit(1);
+            }
+        }
+        try {
+            new SyncServer(true).listen(port);
+            Thread.currentThread().join();
+        } catch (IOException e) {
+            LOG.error("동기화 서버 시작 중 오류 발생: " + e.getMessage());
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
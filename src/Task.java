@@ -1,9 +1,15 @@
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
-import java.util.UUID;
 
-public class Task {
+public class Task implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     public enum Priority {
         LOW("낮음"),
         MEDIUM("중간"),
@@ -38,14 +44,18 @@ public class Task {
     }
 
     // 체크리스트 아이템 클래스
-    public static class ChecklistItem {
+    public static class ChecklistItem implements Serializable {
+        private static final long serialVersionUID = 1L;
+
         private String id;
         private String text;
         private boolean completed;
         private LocalDateTime completedAt;
+        // 이 아이템이 들어 있는 할 일 (완료 수를 맞추는 데 사용, 저장하지 않음)
+        private transient Task owner;
 
         public ChecklistItem(String text) {
-            this.id = UUID.randomUUID().toString();
+            this.id = IdGenerator.newId();
             this.text = text;
             this.completed = false;
         }
@@ -56,8 +66,12 @@ public class Task {
         public void setText(String text) { this.text = text; }
         public boolean isCompleted() { return completed; }
         public void setCompleted(boolean completed) { 
+            boolean changed = this.completed != completed;
             this.completed = completed;
             this.completedAt = completed ? LocalDateTime.now() : null;
+            if (changed && owner != null) {
+                owner.completedChecklistCount += completed ? 1 : -1;
+            }
         }
         public LocalDateTime getCompletedAt() { return completedAt; }
     }
@@ -73,10 +87,13 @@ public class Task {
     private String userId;
     private List<String> tags;
     private boolean isImportant;
+    private int estimatedMinutes; // 예상 소요 시간 (분)
     private List<ChecklistItem> checklistItems; // 체크리스트 아이템들
+    // 완료된 체크리스트 아이템 수 (아이템이 추가/삭제/완료될 때마다 맞춘다, 파일에는 저장하지 않음)
+    private transient int completedChecklistCount;
 
     public Task(String title, String description, Priority priority, LocalDateTime dueDate, String userId) {
-        this.taskId = UUID.randomUUID().toString();
+        this.taskId = IdGenerator.newId();
         this.title = title;
         this.description = description;
         this.priority = priority;
@@ -87,6 +104,7 @@ public class Task {
         this.updatedAt = LocalDateTime.now();
         this.tags = new ArrayList<>();
         this.isImportant = false;
+        this.estimatedMinutes = 60;
         this.checklistItems = new ArrayList<>();
     }
 
@@ -138,17 +156,38 @@ public class Task {
         this.updatedAt = LocalDateTime.now();
     }
 
+    public int getEstimatedMinutes() { return estimatedMinutes; }
+    public void setEstimatedMinutes(int estimatedMinutes) {
+        if (estimatedMinutes <= 0) {
+            throw new IllegalArgumentException("예상 소요 시간은 0분보다 커야 합니다.");
+        }
+        this.estimatedMinutes = estimatedMinutes;
+        this.updatedAt = LocalDateTime.now();
+    }
+
     // 체크리스트 관련 메서드들
-    public List<ChecklistItem> getChecklistItems() { return checklistItems; }
+    // 바꿀 수 없는 목록 (바꾸려면 add/remove/toggleChecklistItem 사용)
+    public List<ChecklistItem> getChecklistItems() { return Collections.unmodifiableList(checklistItems); }
     
     public void addChecklistItem(String text) {
         ChecklistItem item = new ChecklistItem(text);
+        item.owner = this;
         checklistItems.add(item);
         this.updatedAt = LocalDateTime.now();
     }
     
     public void removeChecklistItem(String itemId) {
-        checklistItems.removeIf(item -> item.getId().equals(itemId));
+        Iterator<ChecklistItem> iterator = checklistItems.iterator();
+        while (iterator.hasNext()) {
+            ChecklistItem item = iterator.next();
+            if (item.getId().equals(itemId)) {
+                iterator.remove();
+                item.owner = null;
+                if (item.isCompleted()) {
+                    completedChecklistCount--;
+                }
+            }
+        }
         this.updatedAt = LocalDateTime.now();
     }
     
@@ -174,17 +213,12 @@ public class Task {
             }
         } else {
             // 체크리스트 기반 진행률 계산
-            long completedCount = checklistItems.stream()
-                .filter(ChecklistItem::isCompleted)
-                .count();
-            return (double) completedCount / checklistItems.size() * 100.0;
+            return (double) completedChecklistCount / checklistItems.size() * 100.0;
         }
     }
     
     public int getCompletedChecklistCount() {
-        return (int) checklistItems.stream()
-            .filter(ChecklistItem::isCompleted)
-            .count();
+        return completedChecklistCount;
     }
     
     public int getTotalChecklistCount() {
@@ -209,6 +243,20 @@ public class Task {
         return this.status == Status.COMPLETED;
     }
 
+    // 저장된 아이템에 소속 할 일을 다시 연결하고 완료 수를 센다
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (checklistItems == null) {
+            checklistItems = new ArrayList<>();
+        }
+        for (ChecklistItem item : checklistItems) {
+            item.owner = this;
+            if (item.isCompleted()) {
+                completedChecklistCount++;
+            }
+        }
+    }
+
     @Override
     public String toString() {
         return String.format("%s (우선순위: %s, 상태: %s, 진행률: %.1f%%, 마감일: %s)",
@@ -3,7 +3,6 @@ import java.awt.*;
 import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.UUID;
 
 public class TaskDialog extends JDialog {
     private JTextField titleField;
@@ -213,7 +212,7 @@ public class TaskDialog extends JDialog {
         if (schedule == null) {
             String userId = UserManager.getInstance().getCurrentUser().getUserId();
             schedule = new Schedule(
-                UUID.randomUUID().toString(),
+                IdGenerator.newId(),
                 titleField.getText().trim(),
                 descriptionArea.getText().trim(),
                 startTime,
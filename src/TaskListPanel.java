@@ -3,26 +3,30 @@ import javax.swing.table.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 
 public class TaskListPanel extends JPanel {
+    private static final Log LOG = Log.get(TaskListPanel.class);
+    // "거의 완료" 필터에 드는 최소 진행률 (%)
+    private static final double NEARLY_DONE_PROGRESS = 80.0;
+
     private final ScheduleGUI parent;
     private final ScheduleManager scheduleManager;
     private JTable taskTable;
-    private DefaultTableModel tableModel;
+    private ScheduleTableModel tableModel;
     private JComboBox<String> filterCombo;
+    private JComboBox<String> sortCombo;
     private JTextField searchField;
     private JComboBox<String> tagFilterCombo;
     private JCheckBox importantFilterCheckBox;
     private Font koreanFont;
-    private List<Schedule> displayedSchedules;
 
     public TaskListPanel(ScheduleGUI parent, ScheduleManager scheduleManager) {
         this.parent = parent;
         this.scheduleManager = scheduleManager;
-        this.displayedSchedules = new ArrayList<>();
         
         // 한글 폰트 설정
         koreanFont = new Font("Malgun Gothic", Font.PLAIN, 12);
@@ -47,9 +51,14 @@ public class TaskListPanel extends JPanel {
         searchField.addActionListener(e -> applyFilters());
         
         // 상태 필터
-        filterCombo = new JComboBox<>(new String[]{"전체", "대기중", "진행중", "완료", "중요", "지연"});
+        filterCombo = new JComboBox<>(new String[]{"전체", "대기중", "진행중", "완료", "중요", "지연", "거의 완료"});
         filterCombo.setFont(koreanFont);
         filterCombo.addActionListener(e -> applyFilters());
+
+        // 정렬
+        sortCombo = new JComboBox<>(new String[]{"기본", "진행률 높은 순", "진행률 낮은 순"});
+        sortCombo.setFont(koreanFont);
+        sortCombo.addActionListener(e -> applyFilters());
         
         // 태그 필터
         tagFilterCombo = new JComboBox<>();
@@ -65,6 +74,8 @@ public class TaskListPanel extends JPanel {
         panel.add(searchField);
         panel.add(new JLabel("상태:"));
         panel.add(filterCombo);
+        panel.add(new JLabel("정렬:"));
+        panel.add(sortCombo);
         panel.add(new JLabel("태그:"));
         panel.add(tagFilterCombo);
         panel.add(importantFilterCheckBox);
@@ -73,13 +84,14 @@ public class TaskListPanel extends JPanel {
     }
 
     private JPanel createTablePanel() {
-        String[] columnNames = {"제목", "마감일", "상태", "우선순위", "진행률", "체크리스트"};
-        tableModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        tableModel = new ScheduleTableModel(List.of(
+            new ScheduleTableModel.Column("제목", Schedule::getTitle),
+            new ScheduleTableModel.Column("마감일", schedule -> ScheduleTableModel.formatDateTime(schedule.getEndTime())),
+            new ScheduleTableModel.Column("상태", this::getStatusText),
+            new ScheduleTableModel.Column("우선순위", this::getPriorityText),
+            new ScheduleTableModel.Column("진행률", schedule -> String.format("%.1f%%", schedule.getProgress())),
+            new ScheduleTableModel.Column("체크리스트", this::getChecklistInfo)
+        ));
         
         taskTable = new JTable(tableModel);
         taskTable.setFont(koreanFont);
@@ -94,7 +106,7 @@ public class TaskListPanel extends JPanel {
                 if (e.getClickCount() == 2) {
                     int selectedRow = taskTable.getSelectedRow();
                     if (selectedRow != -1) {
-                        showScheduleDetail(displayedSchedules.get(selectedRow));
+                        showScheduleDetail(tableModel.getScheduleAt(selectedRow));
                     }
                 }
             }
@@ -169,8 +181,8 @@ public class TaskListPanel extends JPanel {
             return;
         }
         
-        Schedule scheduleToEdit = displayedSchedules.get(selectedRow);
-        System.out.println("수정할 일정: " + scheduleToEdit.getTitle() + " (ID: " + scheduleToEdit.getScheduleId() + ")");
+        Schedule scheduleToEdit = tableModel.getScheduleAt(selectedRow);
+        LOG.debug(() -> "수정할 일정: " + scheduleToEdit.getTitle() + " (ID: " + scheduleToEdit.getScheduleId() + ")");
         
         ScheduleDialog dialog = new ScheduleDialog(
             (Frame) SwingUtilities.getWindowAncestor(this), 
@@ -180,7 +192,7 @@ public class TaskListPanel extends JPanel {
             this::loadSchedules
         );
         dialog.setVisible(true);
-        System.out.println("수정 다이얼로그가 닫힘");
+        LOG.debug("수정 다이얼로그가 닫힘");
     }
 
     private void deleteSchedule() {
@@ -193,8 +205,8 @@ public class TaskListPanel extends JPanel {
             return;
         }
 
-        Schedule scheduleToDelete = displayedSchedules.get(selectedRow);
-        System.out.println("삭제할 일정: " + scheduleToDelete.getTitle() + " (ID: " + scheduleToDelete.getScheduleId() + ")");
+        Schedule scheduleToDelete = tableModel.getScheduleAt(selectedRow);
+        LOG.debug(() -> "삭제할 일정: " + scheduleToDelete.getTitle() + " (ID: " + scheduleToDelete.getScheduleId() + ")");
         
         int confirm = JOptionPane.showConfirmDialog(this,
             "선택한 일정 '"+ scheduleToDelete.getTitle() +"'를 삭제하시겠습니까?",
@@ -203,14 +215,13 @@ public class TaskListPanel extends JPanel {
 
         if (confirm == JOptionPane.YES_OPTION) {
             try {
-                System.out.println("일정 삭제 시도: " + scheduleToDelete.getScheduleId());
+                LOG.debug(() -> "일정 삭제 시도: " + scheduleToDelete.getScheduleId());
                 scheduleManager.deleteSchedule(scheduleToDelete.getScheduleId());
-                System.out.println("일정 삭제 성공");
+                LOG.debug("일정 삭제 성공");
                 loadSchedules();
                 JOptionPane.showMessageDialog(this, "일정이 삭제되었습니다.", "성공", JOptionPane.INFORMATION_MESSAGE);
             } catch (Exception e) {
-                System.err.println("삭제 오류: " + e.getMessage());
-                e.printStackTrace();
+                LOG.error("삭제 오류: " + e.getMessage(), e);
                 JOptionPane.showMessageDialog(this, "삭제 중 오류 발생: " + e.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
             }
         }
@@ -226,7 +237,7 @@ public class TaskListPanel extends JPanel {
             return;
         }
 
-        Schedule scheduleToComplete = displayedSchedules.get(selectedRow);
+        Schedule scheduleToComplete = tableModel.getScheduleAt(selectedRow);
         try {
             scheduleToComplete.setStatus("COMPLETED");
             scheduleToComplete.setCompleted(true);
@@ -248,30 +259,14 @@ public class TaskListPanel extends JPanel {
             return;
         }
         
-        Schedule schedule = displayedSchedules.get(selectedRow);
+        Schedule schedule = tableModel.getScheduleAt(selectedRow);
         ChecklistDialog dialog = new ChecklistDialog(parent, schedule);
         dialog.setVisible(true);
         loadSchedules();
     }
 
     private void loadSchedules() {
-        tableModel.setRowCount(0);
-        displayedSchedules.clear();
-        
-        List<Schedule> allSchedules = scheduleManager.getUserSchedules();
-        displayedSchedules.addAll(allSchedules);
-
-        for (Schedule schedule : displayedSchedules) {
-            Object[] rowData = {
-                schedule.getTitle(),
-                schedule.getEndTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
-                getStatusText(schedule),
-                getPriorityText(schedule),
-                String.format("%.1f%%", schedule.getProgress()),
-                getChecklistInfo(schedule)
-            };
-            tableModel.addRow(rowData);
-        }
+        tableModel.setSchedules(new ArrayList<>(scheduleManager.getUserSchedules()));
         
         updateTagFilter();
     }
@@ -288,12 +283,11 @@ public class TaskListPanel extends JPanel {
         String searchText = searchField.getText().toLowerCase();
         String selectedFilter = (String) filterCombo.getSelectedItem();
         String selectedTag = (String) tagFilterCombo.getSelectedItem();
+        String selectedSort = (String) sortCombo.getSelectedItem();
         boolean importantOnly = importantFilterCheckBox.isSelected();
 
-        tableModel.setRowCount(0);
-        displayedSchedules.clear();
-        
-        List<Schedule> allSchedules = scheduleManager.getUserSchedules();
+        List<Schedule> allSchedules = loadBaseSchedules(selectedFilter, selectedSort);
+        List<Schedule> filteredSchedules = new ArrayList<>();
 
         for (Schedule schedule : allSchedules) {
             boolean matches = true;
@@ -321,6 +315,9 @@ public class TaskListPanel extends JPanel {
                     case "지연":
                         if (!isOverdue(schedule)) matches = false;
                         break;
+                    case "거의 완료":
+                        // 진행률 색인에서 이미 골라 왔다
+                        break;
                 }
             }
             
@@ -337,31 +334,72 @@ public class TaskListPanel extends JPanel {
             }
 
             if (matches) {
-                displayedSchedules.add(schedule);
-                Object[] rowData = {
-                    schedule.getTitle(),
-                    schedule.getEndTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
-                    getStatusText(schedule),
-                    getPriorityText(schedule),
-                    String.format("%.1f%%", schedule.getProgress()),
-                    getChecklistInfo(schedule)
-                };
-                tableModel.addRow(rowData);
+                filteredSchedules.add(schedule);
             }
         }
+        
+        // 필터 결과는 한 번에 교체 (셀 값은 보이는 행만 그릴 때 계산)
+        tableModel.setSchedules(filteredSchedules);
+    }
+
+    // 진행률 순 정렬과 "거의 완료" 필터는 본인 일정을 진행률 색인에서 해당 구간만 꺼내 온다
+    // 색인은 소유자별이므로 공유받은 일정은 따로 골라 진행률 자리에 끼워 넣는다 (정렬을 바꿔도 보이는 행은 같다)
+    private List<Schedule> loadBaseSchedules(String selectedFilter, String selectedSort) {
+        UserSession session = scheduleManager.getCurrentSession();
+        boolean nearlyDone = "거의 완료".equals(selectedFilter);
+        if (session == null || (!nearlyDone && "기본".equals(selectedSort))) {
+            return scheduleManager.getUserSchedules();
+        }
+        ProgressIndex progressIndex = scheduleManager.getProgressIndex();
+        boolean descending = !"진행률 낮은 순".equals(selectedSort);
+        List<Schedule> owned;
+        if (nearlyDone) {
+            owned = progressIndex.getNearlyDoneSchedules(session.getUserId(), NEARLY_DONE_PROGRESS);
+            if (!descending) {
+                Collections.reverse(owned);
+            }
+        } else {
+            owned = progressIndex.getSchedulesByProgress(session.getUserId(), descending);
+        }
+
+        Comparator<Schedule> byProgress = Comparator.comparingDouble(Schedule::getProgress);
+        if (descending) {
+            byProgress = byProgress.reversed();
+        }
+        List<Schedule> shared = new ArrayList<>();
+        for (Schedule schedule : scheduleManager.getSharedSchedules(session)) {
+            double progress = schedule.getProgress();
+            if (!nearlyDone || (progress >= NEARLY_DONE_PROGRESS && progress < 100.0)) {
+                shared.add(schedule);
+            }
+        }
+        shared.sort(byProgress);
+        return merge(owned, shared, byProgress);
+    }
+
+    // 둘 다 order 순인 목록을 하나로 (같은 진행률이면 본인 일정 먼저)
+    private static List<Schedule> merge(List<Schedule> first, List<Schedule> second, Comparator<Schedule> order) {
+        List<Schedule> result = new ArrayList<>(first.size() + second.size());
+        int i = 0;
+        int j = 0;
+        while (i < first.size() && j < second.size()) {
+            if (order.compare(second.get(j), first.get(i)) < 0) {
+                result.add(second.get(j++));
+            } else {
+                result.add(first.get(i++));
+            }
+        }
+        result.addAll(first.subList(i, first.size()));
+        result.addAll(second.subList(j, second.size()));
+        return result;
     }
 
     private boolean isOverdue(Schedule schedule) {
-        return !schedule.isCompleted() && java.time.LocalDateTime.now().isAfter(schedule.getEndTime());
+        return schedule.isOverdue();
     }
     
     private String getChecklistInfo(Schedule schedule) {
-        List<Schedule.SubTask> subTasks = schedule.getSubTasks();
-        if (subTasks.isEmpty()) {
-            return "0/0";
-        }
-        long completedCount = subTasks.stream().filter(Schedule.SubTask::isCompleted).count();
-        return completedCount + "/" + subTasks.size();
+        return schedule.getCompletedSubTaskCount() + "/" + schedule.getSubTaskCount();
     }
     
     private String getStatusText(Schedule schedule) {
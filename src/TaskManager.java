@@ -1,73 +1,170 @@
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
+// 할 일 저장소 (data/tasks.dat에 저장)
+// 모든 메서드는 UserSession을 받는 버전이 기본이고, 인자 없는 버전은 setCurrentSession으로 정한 세션으로 실행한다.
+// 사용자마다 색인을 두어 조회할 때 전체를 훑지 않는다:
+// - 마감일 순 색인 (전체, 완료되지 않은 것) -> 날짜 범위, 마감 지난 할 일은 해당 구간만 본다
+// - 우선순위별, 상태별 묶음과 태그별 목록
+// - 진행률 순 색인 -> 진행률 순 목록, 거의 끝난 할 일
+// 색인은 추가/수정 시점의 값으로 만들므로, 할 일을 바꾼 뒤에는 updateTask를 불러야 색인에 반영된다.
+// 조회는 잠금 없이 여러 스레드에서 동시에 해도 되고, 변경은 한 번에 하나씩 한다.
 public class TaskManager {
-    private Map<String, Task> tasks;
-    private String currentUserId;
+    private final Map<String, Task> tasks = new ConcurrentHashMap<>();
+    // 할 일 ID -> 색인에 넣을 때의 값 (색인에서 뺄 때 사용)
+    private final Map<String, IndexedValues> indexedValues = new HashMap<>();
+    // 사용자 ID -> 그 사용자의 색인
+    private final Map<String, UserIndex> userIndexes = new ConcurrentHashMap<>();
+    private volatile UserSession currentSession;
+
+    // 색인에 넣은 시점의 값
+    private static final class IndexedValues {
+        final String userId;
+        final LocalDateTime dueDate;
+        final Task.Priority priority;
+        final Task.Status status;
+        final List<String> tags;
+        final double progress;
+
+        IndexedValues(Task task) {
+            this.userId = task.getUserId();
+            this.dueDate = task.getDueDate();
+            this.priority = task.getPriority();
+            this.status = task.getStatus();
+            this.tags = task.getTags() != null ? new ArrayList<>(task.getTags()) : new ArrayList<>();
+            this.progress = task.getProgressPercentage();
+        }
+    }
+
+    // 사용자 한 명의 색인 (ID 목록은 ID 순, IdGenerator ID라면 만든 순서)
+    private static final class UserIndex {
+        final Set<String> all = new ConcurrentSkipListSet<>();
+        final ConcurrentSkipListMap<LocalDateTime, Set<String>> byDueDate = new ConcurrentSkipListMap<>();
+        // 완료되지 않은 할 일만 (마감 지난 할 일 조회용)
+        final ConcurrentSkipListMap<LocalDateTime, Set<String>> openByDueDate = new ConcurrentSkipListMap<>();
+        final Map<Task.Priority, Set<String>> byPriority = new EnumMap<>(Task.Priority.class);
+        final Map<Task.Status, Set<String>> byStatus = new EnumMap<>(Task.Status.class);
+        final Map<String, Set<String>> byTag = new ConcurrentHashMap<>();
+        final ConcurrentSkipListMap<Double, Set<String>> byProgress = new ConcurrentSkipListMap<>();
+
+        UserIndex() {
+            // EnumMap은 여기서만 채우고 이후에는 안의 집합만 바꾼다
+            for (Task.Priority priority : Task.Priority.values()) {
+                byPriority.put(priority, new ConcurrentSkipListSet<>());
+            }
+            for (Task.Status status : Task.Status.values()) {
+                byStatus.put(status, new ConcurrentSkipListSet<>());
+            }
+        }
+    }
 
     public TaskManager() {
-        this.tasks = new HashMap<>();
+        DataStorage.loadTasks().forEach((taskId, task) -> {
+            if (taskId != null && task != null && task.getUserId() != null) {
+                tasks.put(taskId, task);
+                index(task);
+            }
+        });
+    }
+
+    public void setCurrentSession(UserSession session) {
+        this.currentSession = session;
+    }
+
+    public void saveTasks() {
+        DataStorage.saveTasks(tasks);
     }
 
-    public void setCurrentUser(String userId) {
-        this.currentUserId = userId;
+    private static String requireUserId(UserSession session) {
+        if (session == null) {
+            throw new IllegalStateException("로그인이 필요합니다.");
+        }
+        return session.getUserId();
     }
 
     public void addTask(Task task) {
+        addTask(currentSession, task);
+    }
+
+    public synchronized void addTask(UserSession session, Task task) {
         if (task == null) {
             throw new IllegalArgumentException("태스크가 null입니다.");
         }
-        if (currentUserId == null) {
-            throw new IllegalStateException("로그인이 필요합니다.");
-        }
+        String currentUserId = requireUserId(session);
         if (!task.getUserId().equals(currentUserId)) {
             throw new SecurityException("다른 사용자의 태스크를 추가할 수 없습니다.");
         }
-        tasks.put(task.getTaskId(), task);
+        Task previous = tasks.put(task.getTaskId(), task);
+        if (previous != null) {
+            unindex(task.getTaskId());
+        }
+        index(task);
+        saveTasks();
     }
 
     public void updateTask(String taskId, Task updatedTask) {
+        updateTask(currentSession, taskId, updatedTask);
+    }
+
+    public synchronized void updateTask(UserSession session, String taskId, Task updatedTask) {
         if (taskId == null || updatedTask == null) {
             throw new IllegalArgumentException("태스크 ID 또는 업데이트할 태스크가 null입니다.");
         }
-        if (currentUserId == null) {
-            throw new IllegalStateException("로그인이 필요합니다.");
-        }
+        String currentUserId = requireUserId(session);
         Task existingTask = tasks.get(taskId);
         if (existingTask == null) {
             throw new IllegalArgumentException("존재하지 않는 태스크입니다.");
         }
-        if (!existingTask.getUserId().equals(currentUserId)) {
+        // 같은 객체를 고친 뒤 넘길 수도 있으므로 소유자는 색인에 넣을 때의 값으로 확인
+        if (!indexedValues.get(taskId).userId.equals(currentUserId)) {
             throw new SecurityException("다른 사용자의 태스크를 수정할 수 없습니다.");
         }
+        // 다른 ID나 다른 사용자의 할 일로 바꿔 끼우면 색인과 저장 파일의 키가 어긋난다
+        if (!taskId.equals(updatedTask.getTaskId())) {
+            throw new IllegalArgumentException("태스크 ID가 일치하지 않습니다.");
+        }
+        if (!currentUserId.equals(updatedTask.getUserId())) {
+            throw new SecurityException("다른 사용자의 태스크로 바꿀 수 없습니다.");
+        }
         tasks.put(taskId, updatedTask);
+        unindex(taskId);
+        index(taskId, updatedTask);
+        saveTasks();
     }
 
     public void deleteTask(String taskId) {
+        deleteTask(currentSession, taskId);
+    }
+
+    public synchronized void deleteTask(UserSession session, String taskId) {
         if (taskId == null) {
             throw new IllegalArgumentException("태스크 ID가 null입니다.");
         }
-        if (currentUserId == null) {
-            throw new IllegalStateException("로그인이 필요합니다.");
-        }
+        String currentUserId = requireUserId(session);
         Task task = tasks.get(taskId);
         if (task == null) {
             throw new IllegalArgumentException("존재하지 않는 태스크입니다.");
         }
-        if (!task.getUserId().equals(currentUserId)) {
+        if (!indexedValues.get(taskId).userId.equals(currentUserId)) {
             throw new SecurityException("다른 사용자의 태스크를 삭제할 수 없습니다.");
         }
         tasks.remove(taskId);
+        unindex(taskId);
+        saveTasks();
     }
 
     public Task getTask(String taskId) {
+        return getTask(currentSession, taskId);
+    }
+
+    public Task getTask(UserSession session, String taskId) {
         if (taskId == null) {
             throw new IllegalArgumentException("태스크 ID가 null입니다.");
         }
-        if (currentUserId == null) {
-            throw new IllegalStateException("로그인이 필요합니다.");
-        }
+        String currentUserId = requireUserId(session);
         Task task = tasks.get(taskId);
         if (task == null) {
             throw new IllegalArgumentException("존재하지 않는 태스크입니다.");
@@ -79,90 +176,211 @@ public class TaskManager {
     }
 
     public List<Task> getUserTasks() {
-        if (currentUserId == null) {
-            return new ArrayList<>();
-        }
-        return tasks.values().stream()
-            .filter(task -> task != null && task.getUserId() != null && task.getUserId().equals(currentUserId))
-            .collect(Collectors.toList());
+        return getUserTasks(currentSession);
+    }
+
+    public List<Task> getUserTasks(UserSession session) {
+        UserIndex index = indexFor(session);
+        return index != null ? resolve(index.all) : new ArrayList<>();
     }
 
     public List<Task> getTasksByStatus(Task.Status status) {
-        if (currentUserId == null || status == null) {
+        return getTasksByStatus(currentSession, status);
+    }
+
+    public List<Task> getTasksByStatus(UserSession session, Task.Status status) {
+        UserIndex index = indexFor(session);
+        if (index == null || status == null) {
             return new ArrayList<>();
         }
-        return tasks.values().stream()
-            .filter(task -> task != null && task.getUserId() != null && 
-                          task.getUserId().equals(currentUserId) && task.getStatus() == status)
-            .collect(Collectors.toList());
+        return resolve(index.byStatus.get(status));
     }
 
     public List<Task> getTasksByPriority(Task.Priority priority) {
-        if (currentUserId == null || priority == null) {
+        return getTasksByPriority(currentSession, priority);
+    }
+
+    public List<Task> getTasksByPriority(UserSession session, Task.Priority priority) {
+        UserIndex index = indexFor(session);
+        if (index == null || priority == null) {
             return new ArrayList<>();
         }
-        return tasks.values().stream()
-            .filter(task -> task != null && task.getUserId() != null && 
-                          task.getUserId().equals(currentUserId) && task.getPriority() == priority)
-            .collect(Collectors.toList());
+        return resolve(index.byPriority.get(priority));
     }
 
     public List<Task> getTasksByDueDate(LocalDateTime date) {
-        if (currentUserId == null || date == null) {
+        return getTasksByDueDate(currentSession, date);
+    }
+
+    // 마감일이 date와 같은 날인 할 일
+    public List<Task> getTasksByDueDate(UserSession session, LocalDateTime date) {
+        if (date == null) {
             return new ArrayList<>();
         }
-        return tasks.values().stream()
-            .filter(task -> task != null && task.getUserId() != null && 
-                          task.getUserId().equals(currentUserId) && 
-                          task.getDueDate() != null &&
-                          task.getDueDate().toLocalDate().equals(date.toLocalDate()))
-            .collect(Collectors.toList());
+        LocalDateTime dayStart = date.toLocalDate().atStartOfDay();
+        return getTasksDueBetween(session, dayStart, dayStart.plusDays(1));
+    }
+
+    // 마감일이 [from, to) 인 할 일 (마감일 순)
+    public List<Task> getTasksDueBetween(UserSession session, LocalDateTime from, LocalDateTime to) {
+        UserIndex index = indexFor(session);
+        if (index == null || from == null || to == null || !from.isBefore(to)) {
+            return new ArrayList<>();
+        }
+        return resolveAll(index.byDueDate.subMap(from, true, to, false).values());
     }
 
     public List<Task> getTasksByTag(String tag) {
-        if (currentUserId == null || tag == null) {
+        return getTasksByTag(currentSession, tag);
+    }
+
+    public List<Task> getTasksByTag(UserSession session, String tag) {
+        UserIndex index = indexFor(session);
+        if (index == null || tag == null) {
             return new ArrayList<>();
         }
-        return tasks.values().stream()
-            .filter(task -> task != null && task.getUserId() != null && 
-                          task.getUserId().equals(currentUserId) && 
-                          task.getTags() != null && task.getTags().contains(tag))
-            .collect(Collectors.toList());
+        Set<String> taskIds = index.byTag.get(tag);
+        return taskIds != null ? resolve(taskIds) : new ArrayList<>();
     }
 
     public List<Task> getImportantTasks() {
-        if (currentUserId == null) {
+        return getImportantTasks(currentSession);
+    }
+
+    public List<Task> getImportantTasks(UserSession session) {
+        List<Task> importantTasks = getUserTasks(session);
+        importantTasks.removeIf(task -> !task.isImportant());
+        return importantTasks;
+    }
+
+    public List<Task> getOverdueTasks() {
+        return getOverdueTasks(currentSession);
+    }
+
+    // 마감이 지났고 완료되지 않은 할 일 (마감일 순, 해당하는 할 일 수만큼만 본다)
+    public List<Task> getOverdueTasks(UserSession session) {
+        UserIndex index = indexFor(session);
+        if (index == null) {
             return new ArrayList<>();
         }
-        return tasks.values().stream()
-            .filter(task -> task != null && task.getUserId() != null && 
-                          task.getUserId().equals(currentUserId) && task.isImportant())
-            .collect(Collectors.toList());
+        return resolveAll(index.openByDueDate.headMap(LocalDateTime.now(), false).values());
     }
 
-    public List<Task> getOverdueTasks() {
-        if (currentUserId == null) {
+    // 진행률 순 (descending이면 높은 것부터)
+    public List<Task> getTasksByProgress(UserSession session, boolean descending) {
+        UserIndex index = indexFor(session);
+        if (index == null) {
             return new ArrayList<>();
         }
-        LocalDateTime now = LocalDateTime.now();
-        return tasks.values().stream()
-            .filter(task -> task != null && task.getUserId() != null && 
-                          task.getUserId().equals(currentUserId) && 
-                          task.getDueDate() != null &&
-                          task.getDueDate().isBefore(now) &&
-                          task.getStatus() != Task.Status.COMPLETED)
-            .collect(Collectors.toList());
+        return resolveAll(descending ? index.byProgress.descendingMap().values() : index.byProgress.values());
     }
 
-    public List<String> getAllTags() {
-        if (currentUserId == null) {
+    // 진행률이 minProgress 이상이지만 아직 100%가 아닌 할 일 (진행률 높은 것부터)
+    public List<Task> getNearlyDoneTasks(UserSession session, double minProgress) {
+        UserIndex index = indexFor(session);
+        if (index == null || minProgress >= 100.0) {
             return new ArrayList<>();
         }
-        return tasks.values().stream()
-            .filter(task -> task != null && task.getUserId() != null && 
-                          task.getUserId().equals(currentUserId) && task.getTags() != null)
-            .flatMap(task -> task.getTags().stream())
-            .distinct()
-            .collect(Collectors.toList());
+        return resolveAll(index.byProgress.subMap(minProgress, true, 100.0, false).descendingMap().values());
+    }
+
+    public List<String> getAllTags() {
+        return getAllTags(currentSession);
+    }
+
+    public List<String> getAllTags(UserSession session) {
+        UserIndex index = indexFor(session);
+        return index != null ? new ArrayList<>(index.byTag.keySet()) : new ArrayList<>();
+    }
+
+    private UserIndex indexFor(UserSession session) {
+        return session != null ? userIndexes.get(session.getUserId()) : null;
+    }
+
+    private List<Task> resolve(Set<String> taskIds) {
+        List<Task> result = new ArrayList<>(taskIds.size());
+        for (String taskId : taskIds) {
+            Task task = tasks.get(taskId);
+            if (task != null) {
+                result.add(task);
+            }
+        }
+        return result;
+    }
+
+    private List<Task> resolveAll(Collection<Set<String>> buckets) {
+        List<Task> result = new ArrayList<>();
+        for (Set<String> taskIds : buckets) {
+            result.addAll(resolve(taskIds));
+        }
+        return result;
+    }
+
+    // 아래는 변경 중(synchronized 또는 생성자)에만 호출
+
+    private void index(Task task) {
+        index(task.getTaskId(), task);
+    }
+
+    private void index(String taskId, Task task) {
+        IndexedValues values = new IndexedValues(task);
+        indexedValues.put(taskId, values);
+        UserIndex index = userIndexes.computeIfAbsent(values.userId, _ -> new UserIndex());
+        index.all.add(taskId);
+        if (values.dueDate != null) {
+            addTo(index.byDueDate, values.dueDate, taskId);
+            if (values.status != Task.Status.COMPLETED) {
+                addTo(index.openByDueDate, values.dueDate, taskId);
+            }
+        }
+        if (values.priority != null) {
+            index.byPriority.get(values.priority).add(taskId);
+        }
+        if (values.status != null) {
+            index.byStatus.get(values.status).add(taskId);
+        }
+        for (String tag : values.tags) {
+            if (tag != null) {
+                index.byTag.computeIfAbsent(tag, _ -> new ConcurrentSkipListSet<>()).add(taskId);
+            }
+        }
+        addTo(index.byProgress, values.progress, taskId);
+    }
+
+    private void unindex(String taskId) {
+        IndexedValues values = indexedValues.remove(taskId);
+        if (values == null) {
+            return;
+        }
+        UserIndex index = userIndexes.get(values.userId);
+        index.all.remove(taskId);
+        if (values.dueDate != null) {
+            removeFrom(index.byDueDate, values.dueDate, taskId);
+            removeFrom(index.openByDueDate, values.dueDate, taskId);
+        }
+        if (values.priority != null) {
+            index.byPriority.get(values.priority).remove(taskId);
+        }
+        if (values.status != null) {
+            index.byStatus.get(values.status).remove(taskId);
+        }
+        for (String tag : values.tags) {
+            if (tag != null) {
+                removeFrom(index.byTag, tag, taskId);
+            }
+        }
+        removeFrom(index.byProgress, values.progress, taskId);
+    }
+
+    private static <K> void addTo(Map<K, Set<String>> buckets, K key, String taskId) {
+        buckets.computeIfAbsent(key, _ -> new ConcurrentSkipListSet<>()).add(taskId);
+    }
+
+    // 비게 된 묶음은 지운다 (빈 날짜가 쌓여 범위 조회가 느려지지 않도록)
+    private static <K> void removeFrom(Map<K, Set<String>> buckets, K key, String taskId) {
+        Set<String> taskIds = buckets.get(key);
+        if (taskIds != null && taskIds.remove(taskId) && taskIds.isEmpty()) {
+            buckets.remove(key, taskIds);
+        }
     }
-} 
\ No newline at end of file
+}
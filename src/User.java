@@ -3,6 +3,8 @@ import java.util.HashSet;
 import java.util.Set;
 
 public class User implements Serializable {
+    private static final Log LOG = Log.get(User.class);
+
     private static final long serialVersionUID = 1L;
     
     private String userId;
@@ -61,25 +63,18 @@ public class User implements Serializable {
     
     public boolean validatePassword(String password) {
         if (password == null) {
-            System.out.println("입력된 비밀번호가 null입니다.");
+            LOG.debug("입력된 비밀번호가 null입니다.");
             return false;
         }
         if (this.password == null) {
-            System.out.println("저장된 비밀번호가 null입니다.");
+            LOG.warn("저장된 비밀번호가 null입니다: " + userId);
             return false;
         }
         
-        String trimmedInput = password.trim();
-        String trimmedStored = this.password.trim();
-        
-        System.out.println("입력된 비밀번호 길이: " + trimmedInput.length());
-        System.out.println("저장된 비밀번호 길이: " + trimmedStored.length());
-        
-        boolean matches = trimmedStored.equals(trimmedInput);
+        // 비밀번호와 그 길이는 로그에 남기지 않는다
+        boolean matches = this.password.trim().equals(password.trim());
         if (!matches) {
-            System.out.println("비밀번호가 일치하지 않습니다.");
-            System.out.println("입력된 비밀번호: [" + trimmedInput + "]");
-            System.out.println("저장된 비밀번호: [" + trimmedStored + "]");
+            LOG.debug(() -> "비밀번호가 일치하지 않습니다: " + userId);
         }
         
         return matches;
@@ -1,15 +1,19 @@
-import java.util.HashMap;
 import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class UserManager {
+    private static final Log LOG = Log.get(UserManager.class);
+
     private static UserManager instance;
     private Map<String, User> users;
     private User currentUser;
+    // 데스크톱 화면의 로그인 세션
+    private UserSession currentSession;
 
     private UserManager() {
-        users = new HashMap<>();
+        users = new ConcurrentHashMap<>();
         loadUsers();
         // 테스트용 관리자 계정 추가
         if (!users.containsKey("admin")) {
@@ -19,7 +23,7 @@ public class UserManager {
         }
     }
 
-    public static UserManager getInstance() {
+    public static synchronized UserManager getInstance() {
         if (instance == null) {
             instance = new UserManager();
         }
@@ -27,32 +31,32 @@ public class UserManager {
     }
 
     private void loadUsers() {
-        users = DataStorage.loadUsers();
-        System.out.println("로드된 사용자 목록:");
+        users = new ConcurrentHashMap<>(DataStorage.loadUsers());
+        LOG.debug("로드된 사용자 목록:");
         
         // 데이터 검증 및 복구
         List<String> corruptedUsers = new ArrayList<>();
         for (String userId : users.keySet()) {
             User user = users.get(userId);
             if (user.getUserId() == null || user.getPassword() == null || user.getName() == null) {
-                System.out.println("손상된 사용자 데이터 발견: " + userId);
+                LOG.warn("손상된 사용자 데이터 발견: " + userId);
                 corruptedUsers.add(userId);
             } else {
-                System.out.println("- " + userId + " (" + user.getName() + ")");
+                LOG.debug(() -> "- " + userId + " (" + user.getName() + ")");
             }
         }
         
         // 손상된 사용자 데이터 제거
         for (String userId : corruptedUsers) {
             users.remove(userId);
-            System.out.println("손상된 사용자 데이터 제거: " + userId);
+            LOG.warn("손상된 사용자 데이터 제거: " + userId);
         }
         
         // 관리자 계정 확인 및 추가
         if (!users.containsKey("admin")) {
             User admin = new User("admin", "admin123", "관리자");
             users.put(admin.getUserId(), admin);
-            System.out.println("관리자 계정 생성: admin");
+            LOG.info("관리자 계정 생성: admin");
         }
         
         // 변경사항 저장
@@ -69,7 +73,7 @@ public class UserManager {
         if (userId == null || userId.trim().isEmpty() ||
             password == null || password.trim().isEmpty() ||
             name == null || name.trim().isEmpty()) {
-            System.out.println("사용자 정보가 올바르지 않습니다.");
+            LOG.debug("사용자 정보가 올바르지 않습니다.");
             return false;
         }
         
@@ -78,10 +82,10 @@ public class UserManager {
             // 기존 사용자 데이터가 손상된 경우 재등록 허용
             User existingUser = users.get(trimmedUserId);
             if (existingUser.getUserId() == null || existingUser.getPassword() == null || existingUser.getName() == null) {
-                System.out.println("손상된 사용자 데이터를 재등록합니다: " + trimmedUserId);
+                LOG.warn("손상된 사용자 데이터를 재등록합니다: " + trimmedUserId);
                 users.remove(trimmedUserId);
             } else {
-                System.out.println("이미 존재하는 사용자 ID입니다: " + trimmedUserId);
+                LOG.debug(() -> "이미 존재하는 사용자 ID입니다: " + trimmedUserId);
                 return false;
             }
         }
@@ -90,10 +94,10 @@ public class UserManager {
             User user = new User(trimmedUserId, password, name);
             users.put(trimmedUserId, user);
             saveUsers();
-            System.out.println("사용자 등록 성공: " + trimmedUserId);
+            LOG.info("사용자 등록 성공: " + trimmedUserId);
             return true;
         } catch (IllegalArgumentException e) {
-            System.out.println("사용자 등록 실패: " + e.getMessage());
+            LOG.warn("사용자 등록 실패: " + e.getMessage());
             return false;
         }
     }
@@ -101,7 +105,7 @@ public class UserManager {
     public boolean login(String userId, String password) {
         if (userId == null || userId.trim().isEmpty() ||
             password == null || password.trim().isEmpty()) {
-            System.out.println("아이디 또는 비밀번호가 비어있습니다.");
+            LOG.debug("아이디 또는 비밀번호가 비어있습니다.");
             return false;
         }
         
@@ -109,33 +113,31 @@ public class UserManager {
         User user = users.get(trimmedUserId);
         
         if (user == null) {
-            System.out.println("사용자를 찾을 수 없습니다: " + trimmedUserId);
+            LOG.debug(() -> "사용자를 찾을 수 없습니다: " + trimmedUserId);
             return false;
         }
         
         // 사용자 데이터 검증
         if (user.getUserId() == null || user.getPassword() == null || user.getName() == null) {
-            System.out.println("손상된 사용자 데이터입니다. 다시 등록해주세요.");
+            LOG.warn("손상된 사용자 데이터입니다. 다시 등록해주세요: " + trimmedUserId);
             users.remove(trimmedUserId);
             saveUsers();
             return false;
         }
         
-        System.out.println("로그인 시도: " + trimmedUserId);
-        System.out.println("사용자 정보:");
-        System.out.println("- 이름: " + user.getName());
-        System.out.println("- 비밀번호 존재: " + (user.getPassword() != null));
+        LOG.debug(() -> "로그인 시도: " + trimmedUserId);
         
         boolean isValid = user.validatePassword(password);
         
         if (isValid) {
             user.setLoggedIn(true);
             currentUser = user;
-            ScheduleManager.getInstance().setCurrentUser(trimmedUserId);
-            System.out.println("로그인 성공: " + trimmedUserId);
+            currentSession = new UserSession(trimmedUserId);
+            ScheduleManager.getInstance().setCurrentSession(currentSession);
+            LOG.info(() -> "로그인 성공: " + trimmedUserId);
             return true;
         } else {
-            System.out.println("로그인 실패: " + trimmedUserId);
+            LOG.info(() -> "로그인 실패: " + trimmedUserId);
             return false;
         }
     }
@@ -144,10 +146,29 @@ public class UserManager {
         if (currentUser != null) {
             currentUser.setLoggedIn(false);
             currentUser = null;
-            ScheduleManager.getInstance().setCurrentUser(null);
+            currentSession = null;
+            ScheduleManager.getInstance().setCurrentSession(null);
         }
     }
 
+    // 화면의 로그인 상태와 별개로 새 세션을 연다 (서버 모드에서 요청별 사용자용)
+    // 아이디나 비밀번호가 맞지 않으면 null
+    public UserSession openSession(String userId, String password) {
+        if (userId == null || password == null) {
+            return null;
+        }
+        String trimmedUserId = userId.trim();
+        User user = users.get(trimmedUserId);
+        if (user == null || !user.validatePassword(password)) {
+            return null;
+        }
+        return new UserSession(trimmedUserId);
+    }
+
+    public UserSession getCurrentSession() {
+        return currentSession;
+    }
+
     public String getCurrentUserId() {
         return currentUser != null ? currentUser.getUserId() : null;
     }
@@ -0,0 +1,61 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 로그인한 사용자 한 명의 세션
+// ScheduleManager, TaskManager, NotificationManager 호출에 넘겨 "누구로서" 실행하는지 정한다.
+// 데스크톱 화면은 로그인 시 만든 세션 하나를 쓰고, API 서버는 토큰마다 세션을 따로 둔다.
+// 세션별 캐시는 관리자 쪽 변경 번호(version)가 같을 동안만 재사용하므로 다른 세션과 공유하는 필드가 없다.
+public final class UserSession {
+    private final String userId;
+    private final long createdAtMillis;
+    private final Map<String, CacheEntry> caches = new ConcurrentHashMap<>();
+
+    private static final class CacheEntry {
+        final long version;
+        final Object value;
+
+        CacheEntry(long version, Object value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+
+    public UserSession(String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("사용자 ID가 올바르지 않습니다.");
+        }
+        this.userId = userId;
+        this.createdAtMillis = System.currentTimeMillis();
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+
+    // key의 캐시 값이 같은 version에서 만든 것이면 그대로, 아니면 loader로 다시 만들어 보관
+    // (캐시 값은 여러 스레드가 함께 읽으므로 바꿀 수 없는 값이어야 한다)
+    @SuppressWarnings("unchecked")
+    public <T> T cached(String key, long version, Supplier<T> loader) {
+        CacheEntry entry = caches.get(key);
+        if (entry != null && entry.version == version) {
+            return (T) entry.value;
+        }
+        T value = loader.get();
+        caches.put(key, new CacheEntry(version, value));
+        return value;
+    }
+
+    public void clearCaches() {
+        caches.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "UserSession[" + userId + "]";
+    }
+}